@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+plugins {
+    java
+    id("me.champeau.gradle.jmh") version "0.5.3"
+}
+
+description = "julian-http-client JMH benchmarks"
+
+repositories {
+    mavenLocal()
+    mavenCentral()
+}
+
+configure<JavaPluginConvention> {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+dependencies {
+    jmh(project(":core"))
+
+    jmh(project(":json-jackson"))
+    jmh(project(":json-gson"))
+    jmh(project(":json-jsonb"))
+    jmh(project(":json-jsonp"))
+    jmh(project(":xml-jackson"))
+    jmh(project(":xml-jaxb"))
+
+    jmh(project(":http-client-okhttp"))
+    jmh(project(":http-client-reactor-netty"))
+    jmh(project(":http-client-vertx"))
+    jmh(project(":http-client-ktor"))
+}
+
+jmh {
+    jmhVersion = "1.35"
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    resultFormat = "JSON"
+    includes = (project.findProperty("jmh.includes") as String?)?.split(",") ?: listOf(".*")
+}
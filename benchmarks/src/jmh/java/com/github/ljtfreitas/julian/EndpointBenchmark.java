@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.ljtfreitas.julian;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import com.github.ljtfreitas.julian.contract.Body;
+import com.github.ljtfreitas.julian.contract.Contract;
+import com.github.ljtfreitas.julian.contract.DefaultContractReader;
+import com.github.ljtfreitas.julian.contract.GET;
+import com.github.ljtfreitas.julian.contract.Header;
+import com.github.ljtfreitas.julian.contract.POST;
+import com.github.ljtfreitas.julian.contract.Path;
+import com.github.ljtfreitas.julian.contract.QueryParameter;
+import com.github.ljtfreitas.julian.http.HTTPEndpoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * Endpoint.http and Definition are package-private, so this benchmark lives in the core package.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class EndpointBenchmark {
+
+    public interface Catalog {
+
+        @GET("/catalog/{category}/products/{id}?lang=en")
+        String product(@Path(name = "category") String category, @Path(name = "id") long id,
+                       @QueryParameter(name = "fields") String fields, @Header(name = "X-Tenant") String tenant);
+
+        @POST("/catalog/products")
+        String create(@Body("application/json") String product);
+
+        @GET("/catalog")
+        String all();
+    }
+
+    private Endpoint product;
+    private Endpoint create;
+    private Endpoint all;
+
+    private Arguments productArguments;
+    private Arguments createArguments;
+
+    @Setup
+    public void setup() throws NoSuchMethodException, MalformedURLException {
+        Contract contract = new DefaultContractReader().read(new Definition(Catalog.class, new URL("http://localhost:8080")));
+
+        product = contract.endpoints().select(Catalog.class.getMethod("product", String.class, long.class, String.class, String.class)).orElseThrow();
+        create = contract.endpoints().select(Catalog.class.getMethod("create", String.class)).orElseThrow();
+        all = contract.endpoints().select(Catalog.class.getMethod("all")).orElseThrow();
+
+        productArguments = Arguments.create("books & comics", 42L, "name,price", "julian");
+        createArguments = Arguments.create("{\"name\":\"julian\"}");
+    }
+
+    @Benchmark
+    public URI expandStaticPath() {
+        return all.path().expand(Arguments.empty()).unsafe();
+    }
+
+    @Benchmark
+    public URI expandDynamicPath() {
+        return product.path().expand(productArguments).unsafe();
+    }
+
+    @Benchmark
+    public HTTPEndpoint httpWithoutParameters() {
+        return all.http(Arguments.empty(), all.returnType());
+    }
+
+    @Benchmark
+    public HTTPEndpoint httpWithParameters() {
+        return product.http(productArguments, product.returnType());
+    }
+
+    @Benchmark
+    public HTTPEndpoint httpWithBody() {
+        return create.http(createArguments, create.returnType());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.ljtfreitas.julian.benchmarks;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.http.MediaType;
+import com.github.ljtfreitas.julian.http.codec.ByteArrayHTTPMessageCodec;
+import com.github.ljtfreitas.julian.http.codec.ByteBufferHTTPMessageCodec;
+import com.github.ljtfreitas.julian.http.codec.DownloadHTTPResponseReader;
+import com.github.ljtfreitas.julian.http.codec.HTTPMessageCodec;
+import com.github.ljtfreitas.julian.http.codec.HTTPRequestWriter;
+import com.github.ljtfreitas.julian.http.codec.HTTPRequestWriters;
+import com.github.ljtfreitas.julian.http.codec.HTTPResponseReader;
+import com.github.ljtfreitas.julian.http.codec.HTTPResponseReaders;
+import com.github.ljtfreitas.julian.http.codec.InputStreamHTTPMessageCodec;
+import com.github.ljtfreitas.julian.http.codec.ScalarHTTPMessageCodec;
+import com.github.ljtfreitas.julian.http.codec.StringHTTPMessageCodec;
+import com.github.ljtfreitas.julian.http.codec.UnprocessableHTTPMessageCodec;
+import com.github.ljtfreitas.julian.http.codec.json.jackson.JacksonJsonHTTPMessageCodec;
+import com.github.ljtfreitas.julian.http.codec.xml.jaxb.JaxBHTTPMessageCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static java.util.stream.Collectors.toUnmodifiableList;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CodecSelectionBenchmark {
+
+    private static final JavaType STRING = JavaType.valueOf(String.class);
+    private static final JavaType PERSON = JavaType.valueOf(Person.class);
+
+    private static final MediaType TEXT_PLAIN_UTF_8 = MediaType.valueOf("text/plain; charset=UTF-8");
+
+    @Param({"0", "256"})
+    private int cacheSize;
+
+    private HTTPResponseReaders readers;
+    private HTTPRequestWriters writers;
+
+    @Setup
+    public void setup() {
+        List<HTTPMessageCodec> codecs = List.of(
+                ByteArrayHTTPMessageCodec.get(),
+                ByteBufferHTTPMessageCodec.get(),
+                InputStreamHTTPMessageCodec.get(),
+                UnprocessableHTTPMessageCodec.get(),
+                ScalarHTTPMessageCodec.get(),
+                StringHTTPMessageCodec.get(),
+                DownloadHTTPResponseReader.get(),
+                new JacksonJsonHTTPMessageCodec(),
+                new JaxBHTTPMessageCodec());
+
+        readers = new HTTPResponseReaders(codecs.stream()
+                .filter(HTTPResponseReader.class::isInstance)
+                .map(c -> (HTTPResponseReader<?>) c)
+                .collect(toUnmodifiableList()), cacheSize);
+
+        writers = new HTTPRequestWriters(codecs.stream()
+                .filter(HTTPRequestWriter.class::isInstance)
+                .map(this::writer)
+                .collect(toUnmodifiableList()), cacheSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private HTTPRequestWriter<? super Object> writer(HTTPMessageCodec codec) {
+        return (HTTPRequestWriter<? super Object>) codec;
+    }
+
+    @Benchmark
+    public Optional<HTTPResponseReader<?>> readerForString() {
+        return readers.select(TEXT_PLAIN_UTF_8, STRING);
+    }
+
+    @Benchmark
+    public Optional<HTTPResponseReader<?>> readerForJson() {
+        return readers.select(MediaType.APPLICATION_JSON, PERSON);
+    }
+
+    @Benchmark
+    public Optional<HTTPResponseReader<?>> readerForXml() {
+        return readers.select(MediaType.APPLICATION_XML, PERSON);
+    }
+
+    @Benchmark
+    public Optional<HTTPResponseReader<?>> readerNotFound() {
+        return readers.select(MediaType.valueOf("application/x-unknown"), PERSON);
+    }
+
+    @Benchmark
+    public Optional<HTTPRequestWriter<? super Object>> writerForJson() {
+        return writers.select(MediaType.APPLICATION_JSON, PERSON);
+    }
+}
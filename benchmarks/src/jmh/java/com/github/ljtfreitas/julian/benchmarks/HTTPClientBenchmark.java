@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.ljtfreitas.julian.benchmarks;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.github.ljtfreitas.julian.ProxyBuilder;
+import com.github.ljtfreitas.julian.http.client.DefaultHTTPClient;
+import com.github.ljtfreitas.julian.http.client.HTTPClient;
+import com.github.ljtfreitas.julian.http.client.okhttp.OkHTTPClient;
+import com.github.ljtfreitas.julian.http.client.reactor.ReactorNettyHTTPClient;
+import com.github.ljtfreitas.julian.http.client.vertx.VertxHTTPClient;
+import com.github.ljtfreitas.julian.k.http.client.ktor.KtorHTTPClient;
+import io.vertx.core.Vertx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class HTTPClientBenchmark {
+
+    @Param({"jdk", "okhttp", "reactor-netty", "vertx", "ktor"})
+    private String client;
+
+    private LoopbackServer server;
+    private Vertx vertx;
+    private HTTPClient httpClient;
+    private SmallAPI api;
+
+    @Setup
+    public void setup() throws IOException {
+        server = LoopbackServer.start("ok");
+
+        httpClient = httpClient();
+
+        api = new ProxyBuilder()
+                .http()
+                    .client()
+                        .with(httpClient)
+                    .and()
+                .build(SmallAPI.class, server.address());
+    }
+
+    private HTTPClient httpClient() {
+        switch (client) {
+            case "jdk":
+                return new DefaultHTTPClient();
+            case "okhttp":
+                return new OkHTTPClient();
+            case "reactor-netty":
+                return new ReactorNettyHTTPClient();
+            case "vertx":
+                vertx = Vertx.vertx();
+                return new VertxHTTPClient(vertx);
+            case "ktor":
+                return KtorHTTPClient.Companion.invoke();
+            default:
+                throw new IllegalArgumentException("Unsupported HTTP client: " + client);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (httpClient instanceof Closeable) ((Closeable) httpClient).close();
+        if (vertx != null) vertx.close();
+        server.close();
+    }
+
+    @Benchmark
+    public String get() {
+        return api.method0();
+    }
+}
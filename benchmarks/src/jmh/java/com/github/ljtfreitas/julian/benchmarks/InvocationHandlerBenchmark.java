@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.github.ljtfreitas.julian.ProxyBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class InvocationHandlerBenchmark {
+
+    @Param({"4", "16", "64"})
+    private int methods;
+
+    private Supplier<String> first;
+    private Supplier<String> last;
+
+    @Setup
+    public void setup() {
+        ProxyBuilder builder = new ProxyBuilder().http().with(new LoopbackHTTP("ok"));
+
+        switch (methods) {
+            case 4: {
+                SmallAPI api = builder.build(SmallAPI.class, "http://localhost:8080");
+                first = api::method0;
+                last = api::method3;
+                break;
+            }
+            case 16: {
+                MediumAPI api = builder.build(MediumAPI.class, "http://localhost:8080");
+                first = api::method0;
+                last = api::method15;
+                break;
+            }
+            case 64: {
+                LargeAPI api = builder.build(LargeAPI.class, "http://localhost:8080");
+                first = api::method0;
+                last = api::method63;
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Unsupported interface size: " + methods);
+        }
+    }
+
+    @Benchmark
+    public String invokeFirstMethod() {
+        return first.get();
+    }
+
+    @Benchmark
+    public String invokeLastMethod() {
+        return last.get();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.ljtfreitas.julian.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.http.HTTPResponseBody;
+import com.github.ljtfreitas.julian.http.codec.JsonHTTPMessageCodec;
+import com.github.ljtfreitas.julian.http.codec.json.gson.GsonJsonHTTPMessageCodec;
+import com.github.ljtfreitas.julian.http.codec.json.jackson.JacksonJsonHTTPMessageCodec;
+import com.github.ljtfreitas.julian.http.codec.json.jsonb.JsonBHTTPMessageCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JsonCodecBenchmark {
+
+    private static final JavaType PERSON = JavaType.valueOf(Person.class);
+
+    @Param({"jackson", "gson", "jsonb"})
+    private String codec;
+
+    private JsonHTTPMessageCodec<Object> json;
+    private Person person;
+    private byte[] serialized;
+
+    @Setup
+    public void setup() {
+        switch (codec) {
+            case "jackson":
+                json = new JacksonJsonHTTPMessageCodec();
+                break;
+            case "gson":
+                json = new GsonJsonHTTPMessageCodec();
+                break;
+            case "jsonb":
+                json = new JsonBHTTPMessageCodec();
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported JSON codec: " + codec);
+        }
+
+        person = Person.sample();
+        serialized = write();
+    }
+
+    @Benchmark
+    public Object read() {
+        return json.read(HTTPResponseBody.some(serialized), PERSON).orElseThrow().join();
+    }
+
+    @Benchmark
+    public byte[] write() {
+        return Bodies.bytes(json.write(person, StandardCharsets.UTF_8).serialize());
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.benchmarks;
+
+import com.github.ljtfreitas.julian.contract.GET;
+
+public interface LargeAPI {
+
+    @GET("/resource/0")
+    String method0();
+
+    @GET("/resource/1")
+    String method1();
+
+    @GET("/resource/2")
+    String method2();
+
+    @GET("/resource/3")
+    String method3();
+
+    @GET("/resource/4")
+    String method4();
+
+    @GET("/resource/5")
+    String method5();
+
+    @GET("/resource/6")
+    String method6();
+
+    @GET("/resource/7")
+    String method7();
+
+    @GET("/resource/8")
+    String method8();
+
+    @GET("/resource/9")
+    String method9();
+
+    @GET("/resource/10")
+    String method10();
+
+    @GET("/resource/11")
+    String method11();
+
+    @GET("/resource/12")
+    String method12();
+
+    @GET("/resource/13")
+    String method13();
+
+    @GET("/resource/14")
+    String method14();
+
+    @GET("/resource/15")
+    String method15();
+
+    @GET("/resource/16")
+    String method16();
+
+    @GET("/resource/17")
+    String method17();
+
+    @GET("/resource/18")
+    String method18();
+
+    @GET("/resource/19")
+    String method19();
+
+    @GET("/resource/20")
+    String method20();
+
+    @GET("/resource/21")
+    String method21();
+
+    @GET("/resource/22")
+    String method22();
+
+    @GET("/resource/23")
+    String method23();
+
+    @GET("/resource/24")
+    String method24();
+
+    @GET("/resource/25")
+    String method25();
+
+    @GET("/resource/26")
+    String method26();
+
+    @GET("/resource/27")
+    String method27();
+
+    @GET("/resource/28")
+    String method28();
+
+    @GET("/resource/29")
+    String method29();
+
+    @GET("/resource/30")
+    String method30();
+
+    @GET("/resource/31")
+    String method31();
+
+    @GET("/resource/32")
+    String method32();
+
+    @GET("/resource/33")
+    String method33();
+
+    @GET("/resource/34")
+    String method34();
+
+    @GET("/resource/35")
+    String method35();
+
+    @GET("/resource/36")
+    String method36();
+
+    @GET("/resource/37")
+    String method37();
+
+    @GET("/resource/38")
+    String method38();
+
+    @GET("/resource/39")
+    String method39();
+
+    @GET("/resource/40")
+    String method40();
+
+    @GET("/resource/41")
+    String method41();
+
+    @GET("/resource/42")
+    String method42();
+
+    @GET("/resource/43")
+    String method43();
+
+    @GET("/resource/44")
+    String method44();
+
+    @GET("/resource/45")
+    String method45();
+
+    @GET("/resource/46")
+    String method46();
+
+    @GET("/resource/47")
+    String method47();
+
+    @GET("/resource/48")
+    String method48();
+
+    @GET("/resource/49")
+    String method49();
+
+    @GET("/resource/50")
+    String method50();
+
+    @GET("/resource/51")
+    String method51();
+
+    @GET("/resource/52")
+    String method52();
+
+    @GET("/resource/53")
+    String method53();
+
+    @GET("/resource/54")
+    String method54();
+
+    @GET("/resource/55")
+    String method55();
+
+    @GET("/resource/56")
+    String method56();
+
+    @GET("/resource/57")
+    String method57();
+
+    @GET("/resource/58")
+    String method58();
+
+    @GET("/resource/59")
+    String method59();
+
+    @GET("/resource/60")
+    String method60();
+
+    @GET("/resource/61")
+    String method61();
+
+    @GET("/resource/62")
+    String method62();
+
+    @GET("/resource/63")
+    String method63();
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.benchmarks;
+
+import com.github.ljtfreitas.julian.Promise;
+import com.github.ljtfreitas.julian.http.HTTP;
+import com.github.ljtfreitas.julian.http.HTTPEndpoint;
+import com.github.ljtfreitas.julian.http.HTTPHeaders;
+import com.github.ljtfreitas.julian.http.HTTPResponse;
+import com.github.ljtfreitas.julian.http.HTTPStatus;
+import com.github.ljtfreitas.julian.http.HTTPStatusCode;
+
+class LoopbackHTTP implements HTTP {
+
+    private static final HTTPStatus OK = new HTTPStatus(HTTPStatusCode.OK);
+
+    private final Object body;
+
+    LoopbackHTTP(Object body) {
+        this.body = body;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Promise<HTTPResponse<T>> run(HTTPEndpoint request) {
+        return Promise.done(HTTPResponse.success(OK, HTTPHeaders.empty(), (T) body));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.ljtfreitas.julian.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.github.ljtfreitas.julian.Promise;
+import com.github.ljtfreitas.julian.http.HTTPHeader;
+import com.github.ljtfreitas.julian.http.HTTPHeaders;
+import com.github.ljtfreitas.julian.http.HTTPRequestDefinition;
+import com.github.ljtfreitas.julian.http.HTTPResponseBody;
+import com.github.ljtfreitas.julian.http.HTTPStatus;
+import com.github.ljtfreitas.julian.http.HTTPStatusCode;
+import com.github.ljtfreitas.julian.http.client.HTTPClient;
+import com.github.ljtfreitas.julian.http.client.HTTPClientRequest;
+import com.github.ljtfreitas.julian.http.client.HTTPClientResponse;
+
+class LoopbackHTTPClient implements HTTPClient, AutoCloseable {
+
+    private static final HTTPStatus OK = new HTTPStatus(HTTPStatusCode.OK);
+    private static final HTTPHeaders HEADERS = HTTPHeaders.create(new HTTPHeader(HTTPHeader.CONTENT_TYPE, "text/plain"));
+
+    private final byte[] body;
+    private final ExecutorService io = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "loopback-io");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    LoopbackHTTPClient(String body) {
+        this.body = body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public HTTPClientRequest request(HTTPRequestDefinition request) {
+        return () -> Promise.pending(CompletableFuture.supplyAsync(this::response, io));
+    }
+
+    private HTTPClientResponse response() {
+        return HTTPClientResponse.create(OK, HEADERS, HTTPResponseBody.some(body));
+    }
+
+    @Override
+    public void close() {
+        io.shutdownNow();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.benchmarks;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.github.ljtfreitas.julian.http.MediaType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import static java.util.stream.Collectors.toMap;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MediaTypeBenchmark {
+
+    @Param({"application/json", "application/json; charset=UTF-8", "multipart/form-data; charset=UTF-8;boundary=abc1234"})
+    private String contentType;
+
+    private long sequence = 0;
+
+    @Benchmark
+    public MediaType valueOf() {
+        return MediaType.valueOf(contentType);
+    }
+
+    @Benchmark
+    public MediaType parameterizedValueOf() {
+        return MediaType.valueOf("application/json; charset=utf-8");
+    }
+
+    @Benchmark
+    public MediaType uniqueValueOf() {
+        return MediaType.valueOf(contentType + ";boundary=" + (sequence++));
+    }
+
+    @Benchmark
+    public Object legacy() {
+        return LegacyMimeType.valueOf(contentType);
+    }
+
+    @Benchmark
+    public boolean compatible() {
+        return MediaType.APPLICATION_JSON.compatible(MediaType.valueOf(contentType));
+    }
+
+    /**
+     * The split/stream based parser used by MediaType before the hand-written one; kept here as the baseline.
+     */
+    private static class LegacyMimeType {
+
+        private final String type;
+        private final String subType;
+        private final Map<String, String> parameters;
+
+        private LegacyMimeType(String type, String subType, Map<String, String> parameters) {
+            this.type = type;
+            this.subType = subType;
+            this.parameters = parameters;
+        }
+
+        static LegacyMimeType valueOf(String value) {
+            String[] values = value.split(";");
+
+            String type = values[0].substring(0, values[0].indexOf("/")).toLowerCase();
+            String subtype = values[0].substring(values[0].indexOf("/") + 1).toLowerCase();
+
+            Map<String, String> parameters = Arrays.stream(Arrays.copyOfRange(values, 1, values.length))
+                    .map(parameter -> parameter.split("="))
+                    .filter(parameter -> parameter.length == 2)
+                    .collect(toMap(parameter -> parameter[0].trim(), parameter -> parameter[1].trim(), (a, b) -> b, LinkedHashMap::new));
+
+            return new LegacyMimeType(type, subtype, parameters);
+        }
+    }
+}
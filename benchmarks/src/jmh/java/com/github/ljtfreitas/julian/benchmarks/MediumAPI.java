@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.benchmarks;
+
+import com.github.ljtfreitas.julian.contract.GET;
+
+public interface MediumAPI {
+
+    @GET("/resource/0")
+    String method0();
+
+    @GET("/resource/1")
+    String method1();
+
+    @GET("/resource/2")
+    String method2();
+
+    @GET("/resource/3")
+    String method3();
+
+    @GET("/resource/4")
+    String method4();
+
+    @GET("/resource/5")
+    String method5();
+
+    @GET("/resource/6")
+    String method6();
+
+    @GET("/resource/7")
+    String method7();
+
+    @GET("/resource/8")
+    String method8();
+
+    @GET("/resource/9")
+    String method9();
+
+    @GET("/resource/10")
+    String method10();
+
+    @GET("/resource/11")
+    String method11();
+
+    @GET("/resource/12")
+    String method12();
+
+    @GET("/resource/13")
+    String method13();
+
+    @GET("/resource/14")
+    String method14();
+
+    @GET("/resource/15")
+    String method15();
+}
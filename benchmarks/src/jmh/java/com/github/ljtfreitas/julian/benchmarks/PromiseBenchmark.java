@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.ljtfreitas.julian.benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.github.ljtfreitas.julian.Promise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PromiseBenchmark {
+
+    @Param({"ASYNC", "DIRECT"})
+    private Promise.Execution execution;
+
+    @Benchmark
+    public Integer thenChain() {
+        return pending(1)
+                .then(i -> i + 1)
+                .then(i -> i * 2)
+                .then(i -> i - 1)
+                .join().unsafe();
+    }
+
+    @Benchmark
+    public Integer bindChain() {
+        return pending(1)
+                .bind(i -> pending(i + 1))
+                .bind(i -> pending(i * 2))
+                .join().unsafe();
+    }
+
+    @Benchmark
+    public Integer zip() {
+        return pending(1)
+                .zip(pending(2), Integer::sum)
+                .join().unsafe();
+    }
+
+    @Benchmark
+    public Integer recoverChain() {
+        return Promise.pending(CompletableFuture.<Integer> failedFuture(new IllegalStateException("failed")), null, execution)
+                .failure(IllegalArgumentException::new)
+                .recover(IllegalArgumentException.class, e -> 0)
+                .then(i -> i + 1)
+                .join().unsafe();
+    }
+
+    @Benchmark
+    public Integer donePromise() {
+        return Promise.done(1)
+                .then(i -> i + 1)
+                .bind(i -> Promise.done(i * 2))
+                .join().unsafe();
+    }
+
+    private Promise<Integer> pending(int value) {
+        return Promise.pending(CompletableFuture.completedFuture(value), null, execution);
+    }
+}
@@ -45,14 +45,14 @@ tasks.register("cleanAll") {
 
 tasks.register("publishAllToMavenLocal") {
     description = "Publish all projects to Maven local."
-    subprojects {
-        dependsOn(":${project.name}:publishToMavenLocal")
+    subprojects.filter { it.name != "benchmarks" }.forEach {
+        dependsOn(":${it.name}:publishToMavenLocal")
     }
 }
 
 tasks.register("publishAll") {
     description = "Publish all projects to Maven central."
-    subprojects {
-        dependsOn(":${project.name}:publish")
+    subprojects.filter { it.name != "benchmarks" }.forEach {
+        dependsOn(":${it.name}:publish")
     }
 }
\ No newline at end of file
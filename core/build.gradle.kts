@@ -29,3 +29,69 @@ description = "julian-http-client core module"
 tasks.compileTestJava.configure {
     options.compilerArgs.add("-parameters")
 }
+
+dependencies {
+    testImplementation("org.eclipse.jetty.http2:http2-server:10.0.13")
+}
+
+// the Java 21 classes (src/main/java21) are packaged as a multi-release jar only when the build runs with -Pjava21=true,
+// since they require a Java 21 toolchain (and a Gradle version able to use it)
+val multiRelease = (findProperty("java21") as String?)?.toBoolean() ?: false
+
+if (multiRelease) {
+    val java21: SourceSet by sourceSets.creating {
+        java.srcDir("src/main/java21")
+        compileClasspath += sourceSets.main.get().output
+    }
+
+    val java21Test: SourceSet by sourceSets.creating {
+        java.srcDir("src/test/java21")
+        compileClasspath = java21.output + sourceSets.main.get().output + compileClasspath
+        runtimeClasspath = output + compileClasspath + runtimeClasspath
+    }
+
+    configurations[java21Test.implementationConfigurationName].extendsFrom(configurations.testImplementation.get())
+    configurations[java21Test.runtimeOnlyConfigurationName].extendsFrom(configurations.testRuntimeOnly.get())
+
+    tasks.named<JavaCompile>(java21.compileJavaTaskName).configure {
+        javaCompiler.set(javaToolchains.compilerFor {
+            languageVersion.set(JavaLanguageVersion.of(21))
+        })
+        options.release.set(21)
+    }
+
+    tasks.named<JavaCompile>(java21Test.compileJavaTaskName).configure {
+        javaCompiler.set(javaToolchains.compilerFor {
+            languageVersion.set(JavaLanguageVersion.of(21))
+        })
+        options.release.set(21)
+    }
+
+    val java21TestTask = tasks.register<Test>("java21Test") {
+        description = "Runs the tests of the Java 21 classes."
+        group = "verification"
+
+        testClassesDirs = java21Test.output.classesDirs
+        classpath = java21Test.runtimeClasspath
+
+        javaLauncher.set(javaToolchains.launcherFor {
+            languageVersion.set(JavaLanguageVersion.of(21))
+        })
+
+        useJUnitPlatform()
+    }
+
+    tasks.check {
+        dependsOn(java21TestTask)
+    }
+
+    tasks.jar {
+        into("META-INF/versions/21") {
+            from(java21.output)
+        }
+
+        manifest {
+            attributes("Multi-Release" to "true")
+        }
+    }
+}
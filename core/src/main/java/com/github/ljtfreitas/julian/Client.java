@@ -22,27 +22,69 @@
 
 package com.github.ljtfreitas.julian;
 
+import java.util.Arrays;
+import java.util.stream.Stream;
+
 import com.github.ljtfreitas.julian.http.HTTP;
 import com.github.ljtfreitas.julian.http.HTTPEndpoint;
 import com.github.ljtfreitas.julian.http.HTTPResponse;
+import com.github.ljtfreitas.julian.http.MediaType;
+import com.github.ljtfreitas.julian.http.codec.HTTPMessageCodecs;
+
+import static com.github.ljtfreitas.julian.http.HTTPHeader.ACCEPT;
+import static com.github.ljtfreitas.julian.http.HTTPHeader.CONTENT_TYPE;
 
 class Client {
 
 	private final Responses responses;
 	private final HTTP http;
+	private final HTTPMessageCodecs codecs;
 
-	Client(Responses responses, HTTP http) {
+	Client(Responses responses, HTTP http, HTTPMessageCodecs codecs) {
 		this.responses = responses;
 		this.http = http;
+		this.codecs = codecs;
 	}
 
-	<T> T run(Endpoint endpoint, Arguments arguments) {
-		ResponseFn<Object, T> responseFn = responses.select(endpoint);
+	<T> CompiledEndpoint<T> compile(Endpoint endpoint) {
+		ResponseFn<Object, T> responseFn;
+
+		try {
+			responseFn = responses.select(endpoint);
+		} catch (RuntimeException e) {
+			// an unsupported return type must fail only the method, when it is called; not the whole proxy
+			return CompiledEndpoint.lazy(endpoint, () -> responses.select(endpoint));
+		}
+
+		if (codecs != null) warm(endpoint, responseFn.returnType());
+
+		return new CompiledEndpoint<>(endpoint, responseFn);
+	}
+
+	private void warm(Endpoint endpoint, JavaType returnType) {
+		mediaTypes(endpoint, ACCEPT).map(MediaType::valueOf).forEach(mediaType -> codecs.readers().select(mediaType, returnType));
+
+		endpoint.parameters().body().ifPresent(body -> body.contentType()
+				.map(Stream::of)
+				.orElseGet(() -> mediaTypes(endpoint, CONTENT_TYPE))
+				.map(MediaType::valueOf)
+				.forEach(mediaType -> codecs.writers().select(mediaType, body.javaType())));
+	}
+
+	private Stream<String> mediaTypes(Endpoint endpoint, String name) {
+		return endpoint.headers().all().stream()
+				.filter(h -> h.name().equalsIgnoreCase(name))
+				.flatMap(h -> h.values().stream())
+				.flatMap(v -> Arrays.stream(v.split(",")))
+				.map(String::trim)
+				.filter(v -> v.indexOf('/') > 0);
+	}
 
-		HTTPEndpoint endpointAsHTTP = endpoint.http(arguments, responseFn.returnType());
+	<T> T run(CompiledEndpoint<T> endpoint, Arguments arguments) {
+		HTTPEndpoint endpointAsHTTP = endpoint.http(arguments);
 
 		Promise<HTTPResponse<Object>> response = http.run(endpointAsHTTP);
 
-		return responseFn.join(response, arguments);
+		return endpoint.responseFn().join(response, arguments);
 	}
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian;
+
+import java.util.function.Supplier;
+
+import com.github.ljtfreitas.julian.http.HTTPEndpoint;
+
+class CompiledEndpoint<T> {
+
+	private final Endpoint endpoint;
+	private final Supplier<ResponseFn<Object, T>> responseFn;
+
+	CompiledEndpoint(Endpoint endpoint, ResponseFn<Object, T> responseFn) {
+		this(endpoint, () -> responseFn);
+	}
+
+	private CompiledEndpoint(Endpoint endpoint, Supplier<ResponseFn<Object, T>> responseFn) {
+		this.endpoint = endpoint;
+		this.responseFn = responseFn;
+	}
+
+	ResponseFn<Object, T> responseFn() {
+		return responseFn.get();
+	}
+
+	HTTPEndpoint http(Arguments arguments) {
+		return endpoint.http(arguments, responseFn().returnType());
+	}
+
+	static <T> CompiledEndpoint<T> lazy(Endpoint endpoint, Supplier<ResponseFn<Object, T>> responseFn) {
+		return new CompiledEndpoint<>(endpoint, responseFn);
+	}
+}
@@ -24,27 +24,27 @@ package com.github.ljtfreitas.julian;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.util.Optional;
+import java.util.Map;
 
 import com.github.ljtfreitas.julian.contract.Contract;
 
 class DefaultInvocationHandler implements InvocationHandler {
 
-	private final Contract contract;
 	private final Client client;
+	private final Map<Method, CompiledEndpoint<?>> endpoints;
 
 	DefaultInvocationHandler(Contract contract, Client client) {
-		this.contract = contract;
 		this.client = client;
+		this.endpoints = contract.endpoints().compile(client::compile);
 	}
 
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) {
-		Optional<? extends Endpoint> endpoint = contract.endpoints().select(method);
-		return endpoint.isEmpty() ? runAsMethod(proxy, method, args) : runAsEndpoint(endpoint.get(), args);
+		CompiledEndpoint<?> endpoint = endpoints.get(method);
+		return endpoint == null ? runAsMethod(proxy, method, args) : runAsEndpoint(endpoint, args);
 	}
 
-	private Object runAsEndpoint(Endpoint endpoint, Object[] args) {
+	private Object runAsEndpoint(CompiledEndpoint<?> endpoint, Object[] args) {
 		return client.run(endpoint, Arguments.create(args));
 	}
 
@@ -19,13 +19,14 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
  * SOFTWARE.
  */
-
 package com.github.ljtfreitas.julian;
 
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -34,56 +35,83 @@ import java.util.function.Predicate;
 
 class DefaultPromise<T> implements Promise<T> {
 
+	private static final Disposable NONE = () -> Attempt.success(null);
+
 	private final CompletableFuture<T> future;
 	private final Executor executor;
+	private final Execution execution;
+	private final Disposable upstream;
 
 	DefaultPromise(CompletableFuture<T> future) {
 		this(future, future.defaultExecutor());
 	}
 
 	DefaultPromise(CompletableFuture<T> future, Executor executor) {
+		this(future, executor, Execution.ASYNC);
+	}
+
+	DefaultPromise(CompletableFuture<T> future, Executor executor, Execution execution) {
+		this(future, executor, execution, NONE);
+	}
+
+	private DefaultPromise(CompletableFuture<T> future, Executor executor, Execution execution, Disposable upstream) {
 		this.future = future;
-		this.executor = executor;
+		this.executor = executor == null ? future.defaultExecutor() : executor;
+		this.execution = execution;
+		this.upstream = upstream;
 	}
 
 	@Override
 	public Promise<T> onSuccess(Consumer<? super T> fn) {
-		return new DefaultPromise<>(future.whenCompleteAsync((r, e) -> { if (e == null) fn.accept(r); }, executor), executor);
+		return next(future.whenCompleteAsync((r, e) -> { if (e == null) fn.accept(r); }, executor));
 	}
 
 	@Override
 	public <R> Promise<R> then(Function<? super T, R> fn) {
-		return new DefaultPromise<>(future.thenApplyAsync(fn, executor), executor);
+		return next(direct() ? future.thenApply(fn) : future.thenApplyAsync(fn, executor));
 	}
 
 	@Override
 	public <R> R fold(Function<? super T, R> success, Function<? super Throwable, R> failure) {
-		return new DefaultPromise<R>(future.handleAsync((r, e) -> {
+		return next(handle((r, e) -> {
 			if (e != null)
 				return failure.apply(e);
 			else
 				return success.apply(r);
-		}, executor), executor).join().unsafe();
+		})).join().unsafe();
 	}
 
 	@Override
 	public <R> Promise<R> bind(Function<? super T, Promise<R>> fn) {
-		return new DefaultPromise<>(future.thenComposeAsync(t -> fn.apply(t).future(), executor), executor);
+		AtomicReference<Promise<R>> bound = new AtomicReference<>();
+
+		Function<T, CompletableFuture<R>> compose = t -> {
+			Promise<R> promise = fn.apply(t);
+			bound.set(promise);
+			return promise.future();
+		};
+
+		CompletableFuture<R> next = direct() ? future.thenCompose(compose) : future.thenComposeAsync(compose, executor);
+
+		return new DefaultPromise<>(next, executor, execution, () -> Attempt.just(() -> {
+			dispose();
+			Optional.ofNullable(bound.get()).ifPresent(Promise::dispose);
+		}));
 	}
 
 	@Override
 	public <T2, R> Promise<R> zip(Promise<T2> other, BiFunction<? super T, ? super T2, R> fn) {
-		return new DefaultPromise<>(future.thenCombineAsync(other.future(), fn, executor), executor);
+		return next(direct() ? future.thenCombine(other.future(), fn) : future.thenCombineAsync(other.future(), fn, executor));
 	}
 
 	@Override
 	public Promise<T> recover(Function<? super Throwable, T> fn) {
-		return new DefaultPromise<>(future.exceptionally(fn::apply), executor);
+		return next(future.exceptionally(fn::apply));
 	}
 
 	@Override
 	public <Err extends Throwable> Promise<T> recover(Class<? extends Err> expected, Function<? super Err, T> fn) {
-		return new DefaultPromise<>(future.handleAsync((r, e) -> {
+		return next(handle((r, e) -> {
 			if (e != null) {
 				Throwable cause = deep(e);
 				if (expected.isInstance(cause))
@@ -94,12 +122,12 @@ class DefaultPromise<T> implements Promise<T> {
 			} else
 				return r;
 
-		}, executor), executor);
+		}));
 	}
 
 	@Override
 	public Promise<T> recover(Predicate<? super Throwable> p, Function<? super Throwable, T> fn) {
-		return new DefaultPromise<>(future.handleAsync((r, e) -> {
+		return next(handle((r, e) -> {
 			if (e != null) {
 				Throwable cause = deep(e);
 				if (cause != null && p.test(cause))
@@ -109,27 +137,49 @@ class DefaultPromise<T> implements Promise<T> {
 			} else
 				return r;
 
-		}, executor), executor);
+		}));
 	}
 
 	@Override
 	public <Err extends Throwable> Promise<T> failure(Function<? super Throwable, Err> fn) {
-		return new DefaultPromise<>(future.handleAsync((r, e) -> {
+		return next(handle((r, e) -> {
 			Throwable cause = deep(e);
 			if (cause != null)
 				throw failure(fn.apply(cause));
 			else
 				return r;
-		}, executor), executor);
+		}));
 	}
 
 	@Override
 	public Promise<T> onFailure(Consumer<? super Throwable> fn) {
-		return new DefaultPromise<>(future.whenCompleteAsync((r, e) -> {
+		return next(future.whenCompleteAsync((r, e) -> {
 			Throwable cause = deep(e);
 			if (cause != null)
 				fn.accept(cause);
-		}, executor), executor);
+		}, executor));
+	}
+
+	// the promise handed to the user goes back to the executor; only the internal stages run on the completing thread
+	static <T> Promise<T> async(Promise<T> promise) {
+		if (promise instanceof DefaultPromise && ((DefaultPromise<T>) promise).direct()) {
+			DefaultPromise<T> direct = (DefaultPromise<T>) promise;
+			return new DefaultPromise<>(direct.future, direct.executor, Execution.ASYNC, direct.upstream);
+		}
+		return promise;
+	}
+
+	private boolean direct() {
+		return execution == Execution.DIRECT;
+	}
+
+	private <R> CompletableFuture<R> handle(BiFunction<? super T, Throwable, ? extends R> fn) {
+		return direct() ? future.handle(fn) : future.handleAsync(fn, executor);
+	}
+
+	// disposing a derived promise disposes the one it came from, up to the source (an HTTP call, for instance)
+	private <R> DefaultPromise<R> next(CompletableFuture<R> future) {
+		return new DefaultPromise<>(future, executor, execution, this);
 	}
 
 	private RuntimeException failure(Throwable e) {
@@ -156,11 +206,12 @@ class DefaultPromise<T> implements Promise<T> {
 	public Promise<T> subscribe(Subscriber<? super T, Throwable> subscriber) {
 		BiConsumer<T, Throwable> handle = (r, e) -> { if (e == null) subscriber.success(r); else subscriber.failure(e); };
 		BiConsumer<T, Throwable> done = (r, e) -> subscriber.done();
-		return new DefaultPromise<>(future.whenCompleteAsync(handle, executor).whenCompleteAsync(done, executor), executor);
+		CompletableFuture<T> handled = future.whenCompleteAsync(handle, executor);
+		return next(direct() ? handled.whenComplete(done) : handled.whenCompleteAsync(done, executor));
 	}
 
 	@Override
 	public Attempt<Void> dispose() {
-		return Attempt.just(() -> future.cancel(true));
+		return Attempt.just(() -> future.cancel(true)).bind(none -> upstream.dispose());
 	}
 }
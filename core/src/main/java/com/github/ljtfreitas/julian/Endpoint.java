@@ -26,9 +26,9 @@ import com.github.ljtfreitas.julian.Preconditions.Precondition;
 import com.github.ljtfreitas.julian.contract.ParameterSerializer;
 import com.github.ljtfreitas.julian.http.HTTPEndpoint;
 import com.github.ljtfreitas.julian.http.HTTPEndpoint.Body;
-import com.github.ljtfreitas.julian.http.HTTPHeader;
 import com.github.ljtfreitas.julian.http.HTTPHeaders;
 import com.github.ljtfreitas.julian.http.HTTPMethod;
+import com.github.ljtfreitas.julian.http.MediaType;
 
 import java.net.URI;
 import java.util.Arrays;
@@ -40,9 +40,6 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.regex.MatchResult;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import static com.github.ljtfreitas.julian.Message.format;
@@ -51,7 +48,6 @@ import static com.github.ljtfreitas.julian.Preconditions.isTrue;
 import static com.github.ljtfreitas.julian.Preconditions.nonNull;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableCollection;
-import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.toUnmodifiableList;
 
 public class Endpoint {
@@ -62,6 +58,7 @@ public class Endpoint {
     private final Cookies cookies;
     private final Parameters parameters;
     private final JavaType returnType;
+    private final Template template;
 
     Endpoint(Path path) {
         this(path, "GET");
@@ -102,6 +99,7 @@ public class Endpoint {
         this.cookies = cookies;
         this.parameters = parameters;
         this.returnType = returnType;
+        this.template = new Template(this);
     }
 
     protected Endpoint(Endpoint that) {
@@ -111,6 +109,17 @@ public class Endpoint {
         this.cookies = that.cookies;
         this.parameters = that.parameters;
         this.returnType = that.returnType;
+        this.template = that.template;
+    }
+
+    private Endpoint(Endpoint that, JavaType returnType) {
+        this.path = that.path;
+        this.method = that.method;
+        this.headers = that.headers;
+        this.cookies = that.cookies;
+        this.parameters = that.parameters;
+        this.returnType = returnType;
+        this.template = that.template;
     }
 
     public Path path() {
@@ -138,56 +147,14 @@ public class Endpoint {
     }
 
     public Endpoint returns(JavaType adapted) {
-        return new Endpoint(path, method, headers, cookies, parameters, adapted);
+        return new Endpoint(this, adapted);
     }
 
     HTTPEndpoint http(Arguments arguments, JavaType returnType) {
         URI uri = path.expand(arguments)
                 .prop(cause -> new IllegalArgumentException(path.show(), cause));
 
-        HTTPMethod httpMethod = HTTPMethod.select(method)
-				.orElseThrow(() -> new IllegalArgumentException(format("Unsupported HTTP method: {0}", method)));
-
-        HTTPHeaders headers = headers(arguments).merge(cookies(arguments)).all().stream()
-                .map(h -> new HTTPHeader(h.name(), h.values()))
-                .reduce(HTTPHeaders.empty(), HTTPHeaders::join, (a, b) -> b);
-
-        Body content = content(arguments);
-
-        return new HTTPEndpoint(uri, httpMethod, headers, content, returnType);
-    }
-
-    private Body content(Arguments arguments) {
-        return parameters.body()
-                .flatMap(p -> arguments.of(p.position())
-                        .map(value -> new Body(value, p.javaType(), p.contentType().orElse(null))))
-                .orElse(null);
-    }
-
-    private Headers headers(Arguments arguments) {
-        Stream<Headers> bodyContentType = parameters.body()
-                .flatMap(BodyParameter::contentType)
-                .map(c -> new Header("Content-Type", c))
-                .map(Headers::create)
-                .stream();
-
-        Stream<Headers> headerParameters = parameters.headers()
-                .flatMap(header -> arguments.of(header.position())
-                        .flatMap(header::resolve)
-                        .stream());
-
-        return headers.merge(Stream.concat(bodyContentType, headerParameters)
-                .reduce(Headers::merge).orElseGet(Headers::empty));
-    }
-
-    private Stream<Header> cookies(Arguments arguments) {
-        return cookies.merge(parameters.cookies()
-                .flatMap(cookie -> arguments.of(cookie.position())
-                        .flatMap(cookie::resolve)
-                        .stream())
-                .reduce(Cookies::merge).orElseGet(Cookies::empty))
-                .header()
-                .stream();
+        return template.http(uri, arguments, returnType);
     }
 
     @Override
@@ -239,8 +206,8 @@ public class Endpoint {
     public static class Path implements Content {
 
         private final String path;
-        private final QueryParameters queryParameters;
         private final Collection<Parameter> parameters;
+        private final URITemplate template;
 
         public Path(String path) {
             this(path, QueryParameters.empty(), Parameters.empty());
@@ -256,15 +223,16 @@ public class Endpoint {
 
         public Path(String path, QueryParameters queryParameters, Parameters parameters) {
             this.path = nonNull(path);
-            this.queryParameters = nonNull(queryParameters);
             this.parameters = check(parameters, bindable()).just(PathParameter.class, QueryParameter.class).collect(toUnmodifiableList());
+            this.template = new URITemplate(path, nonNull(queryParameters), this.parameters);
         }
 
         private Precondition<Parameters, Parameters> bindable() {
             return parameters -> {
                 if (parameters.all().isEmpty()) return parameters;
 
-                Collection<String> unbindable = DynamicParameters.find(path)
+                Collection<String> unbindable = URITemplate.DYNAMIC_PARAMETER_PATTERN.matcher(path).results()
+                        .map(m -> m.group(1))
                         .filter(m -> parameters.just(PathParameter.class).noneMatch(p -> p.is(m))).collect(toUnmodifiableList());
 
                 return isTrue(parameters, p -> unbindable.isEmpty(),
@@ -277,16 +245,7 @@ public class Endpoint {
         }
 
         public Attempt<URI> expand(Arguments arguments) {
-            return Attempt.run(() -> {
-                URI source = URI.create(new DynamicParameters(path, parameters.stream().filter(PathParameter.class::isInstance).collect(toUnmodifiableList()))
-                        .interpolate(arguments));
-
-                String query = new QueryStringBuilder(source.getQuery(), queryParameters, parameters.stream().filter(QueryParameter.class::isInstance).collect(toUnmodifiableList()))
-                        .interpolate(arguments);
-
-                return new URI(source.getScheme(), source.getUserInfo(), source.getHost(), source.getPort(), source.getPath(),
-                        query == null || query.isEmpty() ? null : query, source.getFragment());
-            });
+            return Attempt.run(() -> template.expand(arguments));
         }
 
         @Override
@@ -570,65 +529,65 @@ public class Endpoint {
         }
     }
 
-    static class QueryStringBuilder {
+    private static class Template {
 
-        private final String source;
-        private final QueryParameters queryParameters;
-        private final Collection<Parameter> parameters;
+        private final String method;
+        private final HTTPMethod httpMethod;
+        private final Headers headers;
+        private final Cookies cookies;
+        private final Collection<HeaderParameter> headerParameters;
+        private final Collection<CookieParameter> cookieParameters;
+        private final BodyParameter body;
+        private final MediaType bodyContentType;
+        private final HTTPHeaders httpHeaders;
 
-        QueryStringBuilder(String source, QueryParameters queryParameters, Collection<Parameter> parameters) {
-            this.source = source;
-            this.queryParameters = queryParameters;
-            this.parameters = parameters;
+        private Template(Endpoint endpoint) {
+            this.method = endpoint.method;
+            this.httpMethod = HTTPMethod.select(endpoint.method).orElse(null);
+            this.body = endpoint.parameters.body().orElse(null);
+            this.bodyContentType = body == null ? null : body.contentType().map(MediaType::valueOf).orElse(null);
+            this.headers = body == null ? endpoint.headers : body.contentType()
+                    .map(c -> endpoint.headers.join(new Header("Content-Type", c)))
+                    .orElse(endpoint.headers);
+            this.cookies = endpoint.cookies;
+            this.headerParameters = endpoint.parameters.headers().collect(toUnmodifiableList());
+            this.cookieParameters = endpoint.parameters.cookies().collect(toUnmodifiableList());
+            this.httpHeaders = headerParameters.isEmpty() && cookieParameters.isEmpty() ?
+                    HTTPHeaders.create(cookies.header().map(headers::join).orElse(headers)) :
+                    null;
         }
 
-        String interpolate(Arguments arguments) {
-            return Stream.concat(Stream.of(source), dynamic(arguments))
-                    .filter(not(Objects::isNull))
-                    .filter(not(String::isEmpty))
-                    .reduce(queryParameters, (q, s) -> q.join(QueryParameters.parse(s)), (a, b) -> b)
-                    .serialize();
-        }
+        private HTTPEndpoint http(URI uri, Arguments arguments, JavaType returnType) {
+            if (httpMethod == null)
+                throw new IllegalArgumentException(format("Unsupported HTTP method: {0}", method));
 
-        private Stream<String> dynamic(Arguments arguments) {
-            return parameters.stream()
-                    .map(QueryParameter.class::cast)
-                    .flatMap(p -> arguments.of(p.position()).flatMap(p::resolve).map(QueryParameters::serialize).map(String::trim).stream());
+            return new HTTPEndpoint(uri, httpMethod, headers(arguments), content(arguments), returnType);
         }
-    }
-
-    static class DynamicParameters {
 
-        private static final Pattern DYNAMIC_PARAMETER_PATTERN = Pattern.compile("\\{([a-zA-Z0-9\\-_]+)}");
+        private HTTPHeaders headers(Arguments arguments) {
+            if (httpHeaders != null) return httpHeaders;
 
-        private final String input;
-        private final Collection<Parameter> parameters;
+            Headers headers = this.headers;
 
-        private DynamicParameters(String input, Collection<Parameter> parameters) {
-            this.input = input;
-            this.parameters = parameters;
-        }
+            for (HeaderParameter parameter : headerParameters) {
+                Optional<Headers> resolved = arguments.of(parameter.position()).flatMap(parameter::resolve);
+                if (resolved.isPresent()) headers = headers.merge(resolved.get());
+            }
 
-        String interpolate(Arguments arguments) {
-            Matcher matcher = DYNAMIC_PARAMETER_PATTERN.matcher(input);
+            Cookies cookies = this.cookies;
 
-            Function<MatchResult, String> group = m -> m.group(1);
+            for (CookieParameter parameter : cookieParameters) {
+                Optional<Cookies> resolved = arguments.of(parameter.position()).flatMap(parameter::resolve);
+                if (resolved.isPresent()) cookies = cookies.merge(resolved.get());
+            }
 
-            return matcher.replaceAll(group.andThen(name -> parameters.stream()
-                    .filter(p -> p.is(name))
-                    .filter(StringSerializableParameter.class::isInstance)
-                    .map(StringSerializableParameter.class::cast)
-                    .findFirst()
-                    .map(p -> arguments.of(p.position())
-                            .flatMap(p::resolve)
-                            .orElseThrow(() -> new IllegalArgumentException("The argument [" + name + "] cannot be null.")))
-                    .orElse(name)));
+            return HTTPHeaders.create(cookies.header().map(headers::join).orElse(headers));
         }
 
-        static Stream<String> find(String input) {
-            Matcher matcher = DYNAMIC_PARAMETER_PATTERN.matcher(input);
-            return matcher.results().map(match -> match.group(1));
+        private Body content(Arguments arguments) {
+            return body == null ? null : arguments.of(body.position())
+                    .map(value -> new Body(value, body.javaType(), bodyContentType))
+                    .orElse(null);
         }
     }
-
 }
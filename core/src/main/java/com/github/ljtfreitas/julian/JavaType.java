@@ -333,7 +333,7 @@ public class JavaType {
 		
 	    @Override
 	    public int hashCode() {
-	        return Objects.hash(rawType, ownerType, arguments);
+	        return Arrays.hashCode(arguments) ^ Objects.hashCode(ownerType) ^ Objects.hashCode(rawType);
 	    }
 
 	    @Override
@@ -389,7 +389,7 @@ public class JavaType {
 
 		@Override
 		public int hashCode() {
-			return Objects.hash(upperBounds, lowerBounds);
+			return Arrays.hashCode(lowerBounds) ^ Arrays.hashCode(upperBounds);
 		}
 
 		@Override
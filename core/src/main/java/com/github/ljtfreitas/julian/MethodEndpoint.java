@@ -34,6 +34,10 @@ public class MethodEndpoint extends Endpoint implements Predicate<Method> {
 		this.source = source;
 	}
 
+	public Method source() {
+		return source;
+	}
+
 	@Override
 	public boolean test(Method t) {
 		return source.equals(t);
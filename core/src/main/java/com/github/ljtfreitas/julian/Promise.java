@@ -93,6 +93,10 @@ public interface Promise<T> extends Disposable {
 		return new DefaultPromise<>(future, executor);
 	}
 
+	static <T> Promise<T> pending(CompletableFuture<T> future, Executor executor, Execution execution) {
+		return new DefaultPromise<>(future, executor, execution);
+	}
+
 	static <T> Promise<T> pending(Supplier<T> fn) {
 		return new DefaultPromise<>(supplyAsync(fn));
 	}
@@ -101,4 +105,9 @@ public interface Promise<T> extends Disposable {
 		CompletableFuture<T> future = executor == null ? supplyAsync(fn) : PromiseCompletableFuture.pending(fn, executor);
 		return new DefaultPromise<>(future);
 	}
+
+	enum Execution {
+
+		ASYNC, DIRECT
+	}
 }
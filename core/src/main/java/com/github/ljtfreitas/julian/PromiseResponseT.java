@@ -10,7 +10,7 @@ class PromiseResponseT implements ResponseT<Object, Promise<Object>> {
 
             @Override
             public Promise<Object> join(Promise<? extends Response<A, ? extends Throwable>> response, Arguments arguments) {
-                return next.run(response, arguments);
+                return DefaultPromise.async(next.run(response, arguments));
             }
 
             @Override
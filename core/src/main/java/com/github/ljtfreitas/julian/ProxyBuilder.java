@@ -24,6 +24,7 @@ package com.github.ljtfreitas.julian;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLParameters;
+import java.lang.System.Logger.Level;
 import java.lang.reflect.InvocationHandler;
 import java.net.InetSocketAddress;
 import java.net.URL;
@@ -46,7 +47,9 @@ import com.github.ljtfreitas.julian.contract.DefaultContractReader;
 import com.github.ljtfreitas.julian.contract.DefaultEndpointMetadata;
 import com.github.ljtfreitas.julian.contract.EndpointMetadata;
 import com.github.ljtfreitas.julian.http.ConditionalHTTPResponseFailure;
+import com.github.ljtfreitas.julian.http.ContentNegotiationHTTPRequestInterceptor;
 import com.github.ljtfreitas.julian.http.DefaultHTTP;
+import com.github.ljtfreitas.julian.http.EventPublisherResponseT;
 import com.github.ljtfreitas.julian.http.HTTP;
 import com.github.ljtfreitas.julian.http.HTTPHeadersResponseT;
 import com.github.ljtfreitas.julian.http.HTTPRequestInterceptor;
@@ -81,6 +84,8 @@ import static java.util.stream.Collectors.toUnmodifiableList;
 
 public class ProxyBuilder {
 
+    private static final System.Logger log = System.getLogger("ProxyBuilder");
+
     private final ContractSpec contractSpec = new ContractSpec();
     private final HTTPSpec httpSpec = new HTTPSpec();
     private final ResponsesTs responseTs = new ResponsesTs();
@@ -214,6 +219,7 @@ public class ProxyBuilder {
 
         private Map<? extends Class<? extends ResponseT>, ResponseT<?, ?>> async() {
             return asMap(List.of(
+                    EventPublisherResponseT.get(),
                     async.executor == null ? PublisherResponseT.get() : new PublisherResponseT(async.executor),
                     new SubscriberCallbackResponseT()
             ));
@@ -228,6 +234,7 @@ public class ProxyBuilder {
         private final HTTPRequestInterceptors interceptors = new HTTPRequestInterceptors();
         private final HTTPResponseFailureSpec failure = new HTTPResponseFailureSpec();
         private final Encoding encoding = new Encoding();
+        private final ContentNegotiation negotiation = new ContentNegotiation();
 
         public ProxyBuilder with(HTTP http) {
             this.http = http;
@@ -248,17 +255,16 @@ public class ProxyBuilder {
             return encoding;
         }
 
-        public ProxyBuilder and() {
-            return ProxyBuilder.this;
+        public ContentNegotiation negotiation() {
+            return negotiation;
         }
 
-        private HTTP build() {
-            com.github.ljtfreitas.julian.http.codec.HTTPMessageCodecs codecs = ProxyBuilder.this.codecs.build();
-            return http == null ? build(codecs) : http;
+        public ProxyBuilder and() {
+            return ProxyBuilder.this;
         }
 
         private HTTP build(com.github.ljtfreitas.julian.http.codec.HTTPMessageCodecs codecs) {
-            return new DefaultHTTP(client.build(), interceptors.build(), codecs, failure.build(codecs.readers()), encoding.charset, async.executor);
+            return http == null ? new DefaultHTTP(client.build(), interceptors.build(negotiation.add(new ArrayList<>(), codecs.readers())), codecs, failure.build(codecs.readers()), encoding.charset, async.executor, async.execution) : http;
         }
 
         public class HTTPClientSpec {
@@ -285,24 +291,36 @@ public class ProxyBuilder {
 
             private HTTPClient build() {
                 HTTPClient client = this.httpClient == null ? new DefaultHTTPClient(configuration.specification) : this.httpClient;
-                return extensions.apply(client);
+                return extensions.build(client);
             }
 
             public class Extensions {
 
                 private final Debug debug = new Debug();
+                private final Map<String, Function<HTTPClient, HTTPClient>> decorators = new LinkedHashMap<>();
 
                 public Extensions.Debug debug() {
                     return debug;
                 }
 
+                public Extensions apply(String name, Function<HTTPClient, HTTPClient> decorator) {
+                    decorators.put(requireNonNull(name), requireNonNull(decorator));
+                    return this;
+                }
+
+                public Extensions remove(String name) {
+                    decorators.remove(name);
+                    return this;
+                }
+
                 public HTTPClientSpec and() {
                     return HTTPClientSpec.this;
                 }
 
-                private HTTPClient apply(HTTPClient client) {
-                    Collection<Function<HTTPClient, HTTPClient>> constructors = new ArrayList<>();
-                    return new ComposedHTTPClient(client, debug.add(constructors));
+                private HTTPClient build(HTTPClient client) {
+                    Collection<Function<HTTPClient, HTTPClient>> constructors = debug.add(new ArrayList<>());
+                    constructors.addAll(decorators.values());
+                    return constructors.isEmpty() ? client : new ComposedHTTPClient(client, constructors);
                 }
 
                 public class Debug {
@@ -474,7 +492,8 @@ public class ProxyBuilder {
                 return HTTPSpec.this;
             }
 
-            private HTTPRequestInterceptor build() {
+            private HTTPRequestInterceptor build(Collection<HTTPRequestInterceptor> interceptors) {
+                interceptors.addAll(this.interceptors);
                 return new HTTPRequestInterceptorChain(unmodifiableCollection(interceptors));
             }
         }
@@ -543,6 +562,35 @@ public class ProxyBuilder {
                 return HTTPSpec.this;
             }
         }
+
+        public class ContentNegotiation {
+
+            private boolean enabled = false;
+
+            public ContentNegotiation enabled() {
+                this.enabled = true;
+                return this;
+            }
+
+            public ContentNegotiation disabled() {
+                this.enabled = false;
+                return this;
+            }
+
+            public ContentNegotiation enabled(boolean enabled) {
+                this.enabled = enabled;
+                return this;
+            }
+
+            public HTTPSpec and() {
+                return HTTPSpec.this;
+            }
+
+            private Collection<HTTPRequestInterceptor> add(Collection<HTTPRequestInterceptor> interceptors, HTTPResponseReaders readers) {
+                if (enabled) interceptors.add(new ContentNegotiationHTTPRequestInterceptor(readers));
+                return interceptors;
+            }
+        }
     }
 
     public class ContractSpec {
@@ -602,12 +650,27 @@ public class ProxyBuilder {
     public class Async {
 
         private Executor executor = null;
+        private Promise.Execution execution = Promise.Execution.ASYNC;
 
         public Async executor(Executor executor) {
             this.executor = executor;
             return this;
         }
 
+        public Async virtualThreads() {
+            this.executor = VirtualThreads.executor().orElseGet(() -> {
+                log.log(Level.WARNING, "Virtual threads are not available; using the default executor. " +
+                        "They require a Java 21 runtime and the multi-release jar (built with -Pjava21=true).");
+                return null;
+            });
+            return this;
+        }
+
+        public Async execution(Promise.Execution execution) {
+            this.execution = requireNonNull(execution);
+            return this;
+        }
+
         public ProxyBuilder and() {
             return ProxyBuilder.this;
         }
@@ -667,7 +730,8 @@ public class ProxyBuilder {
     }
 
     private Client client() {
-        HTTP http = httpSpec.build();
-        return new Client(responseTs.build(), http);
+        com.github.ljtfreitas.julian.http.codec.HTTPMessageCodecs codecs = this.codecs.build();
+        HTTP http = httpSpec.build(codecs);
+        return new Client(responseTs.build(), http, codecs);
     }
 }
\ No newline at end of file
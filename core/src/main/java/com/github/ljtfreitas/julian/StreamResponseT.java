@@ -22,21 +22,19 @@
 
 package com.github.ljtfreitas.julian;
 
-import java.util.Collection;
-import java.util.Optional;
 import java.util.stream.Stream;
 
-public class StreamResponseT implements ResponseT<Collection<Object>, Stream<Object>> {
+public class StreamResponseT implements ResponseT<Stream<Object>, Stream<Object>> {
 
 	private static final StreamResponseT SINGLE_INSTANCE = new StreamResponseT();
 
 	@Override
-	public <A> ResponseFn<A, Stream<Object>> bind(Endpoint endpoint, ResponseFn<A, Collection<Object>> next) {
+	public <A> ResponseFn<A, Stream<Object>> bind(Endpoint endpoint, ResponseFn<A, Stream<Object>> next) {
 		return new ResponseFn<>() {
 
 			@Override
 			public Promise<Stream<Object>> run(Promise<? extends Response<A, ? extends Throwable>> response, Arguments arguments) {
-				return next.run(response, arguments).then(c -> Optional.ofNullable(c).stream().flatMap(Collection::stream));
+				return next.run(response, arguments).then(s -> s == null ? Stream.empty() : s);
 			}
 
 			@Override
@@ -53,7 +51,7 @@ public class StreamResponseT implements ResponseT<Collection<Object>, Stream<Obj
 
 	@Override
 	public JavaType adapted(Endpoint endpoint) {
-		return JavaType.parameterized(Collection.class, endpoint.returnType().parameterized().map(JavaType.Parameterized::firstArg).orElse(Object.class));
+		return JavaType.parameterized(Stream.class, endpoint.returnType().parameterized().map(JavaType.Parameterized::firstArg).orElse(Object.class));
 	}
 
 	public static StreamResponseT get() {
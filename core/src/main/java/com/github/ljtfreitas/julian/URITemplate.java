@@ -0,0 +1,299 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.github.ljtfreitas.julian.Endpoint.Parameter;
+import com.github.ljtfreitas.julian.Endpoint.PathParameter;
+import com.github.ljtfreitas.julian.Endpoint.QueryParameter;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toUnmodifiableList;
+
+class URITemplate {
+
+    static final Pattern DYNAMIC_PARAMETER_PATTERN = Pattern.compile("\\{([a-zA-Z0-9\\-_]+)}");
+
+    private static final boolean[] PATH_CHARACTERS = allowed("-._~!$&'()*+,;=:@/");
+    private static final boolean[] FRAGMENT_CHARACTERS = allowed("-._~!$&'()*+,;=:@/?");
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final Segment[] path;
+    private final QueryPair[] query;
+    private final Segment[] fragment;
+    private final QueryParameters queryParameters;
+    private final QueryParameter[] dynamicQueryParameters;
+    private final int capacity;
+
+    URITemplate(String source, QueryParameters queryParameters, Collection<Parameter> parameters) {
+        int queryStart = source.indexOf('?');
+        int fragmentStart = source.indexOf('#', queryStart < 0 ? 0 : queryStart);
+
+        int pathEnd = queryStart >= 0 ? queryStart : fragmentStart >= 0 ? fragmentStart : source.length();
+
+        Collection<PathParameter> pathParameters = parameters.stream()
+                .filter(PathParameter.class::isInstance)
+                .map(PathParameter.class::cast)
+                .collect(toUnmodifiableList());
+
+        this.path = compile(source.substring(0, pathEnd), pathParameters);
+
+        String queryString = queryStart < 0 ? null : source.substring(queryStart + 1, fragmentStart >= 0 ? fragmentStart : source.length());
+
+        // the literal parts of the query string are decoded once, whether the pair has variables or not; the final query is encoded only when it's serialized
+        List<QueryPair> query = new ArrayList<>();
+
+        if (queryString != null) {
+            for (String pair : queryString.split("&")) {
+                int separator = pair.indexOf('=');
+
+                if (separator <= 0 || separator == pair.length() - 1) continue;
+
+                QueryPair compiled = new QueryPair(compile(pair.substring(0, separator), pathParameters), compile(pair.substring(separator + 1), pathParameters));
+
+                if (compiled.dynamic())
+                    query.add(compiled);
+                else
+                    queryParameters = compiled.join(queryParameters, Arguments.empty());
+            }
+        }
+
+        this.query = query.toArray(QueryPair[]::new);
+        this.queryParameters = queryParameters;
+
+        this.fragment = fragmentStart < 0 ? null : compile(source.substring(fragmentStart + 1), pathParameters);
+
+        this.dynamicQueryParameters = parameters.stream()
+                .filter(QueryParameter.class::isInstance)
+                .map(QueryParameter.class::cast)
+                .toArray(QueryParameter[]::new);
+
+        this.capacity = source.length() + (16 * parameters.size());
+    }
+
+    URI expand(Arguments arguments) {
+        StringBuilder target = new StringBuilder(capacity);
+
+        for (Segment segment : path) segment.expand(arguments, target, PATH_CHARACTERS);
+
+        QueryParameters queryParameters = this.queryParameters;
+
+        for (QueryPair pair : query) queryParameters = pair.join(queryParameters, arguments);
+
+        for (QueryParameter parameter : dynamicQueryParameters) {
+            Optional<QueryParameters> resolved = arguments.of(parameter.position()).flatMap(parameter::resolve);
+            if (resolved.isPresent()) queryParameters = queryParameters.join(resolved.get());
+        }
+
+        String serialized = queryParameters.serialize();
+
+        if (!serialized.isEmpty()) target.append('?').append(serialized);
+
+        if (fragment != null) {
+            target.append('#');
+            for (Segment segment : fragment) segment.expand(arguments, target, FRAGMENT_CHARACTERS);
+        }
+
+        return URI.create(target.toString());
+    }
+
+    static void encode(String value, StringBuilder target, boolean[] allowed) {
+        int length = value.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+
+            if (c < 128 && allowed[c]) {
+                target.append(c);
+
+            } else if (c == '%' && i + 2 < length && isHex(value.charAt(i + 1)) && isHex(value.charAt(i + 2))) {
+                target.append(c);
+
+            } else if (c < 0x80) {
+                escape(target, c);
+
+            } else {
+                int codePoint = value.codePointAt(i);
+
+                if (Character.isSurrogate(c) && codePoint == c) {
+                    escape(target, '?');
+
+                } else if (codePoint < 0x800) {
+                    escape(target, 0xC0 | (codePoint >> 6));
+                    escape(target, 0x80 | (codePoint & 0x3F));
+
+                } else if (codePoint < 0x10000) {
+                    escape(target, 0xE0 | (codePoint >> 12));
+                    escape(target, 0x80 | ((codePoint >> 6) & 0x3F));
+                    escape(target, 0x80 | (codePoint & 0x3F));
+
+                } else {
+                    escape(target, 0xF0 | (codePoint >> 18));
+                    escape(target, 0x80 | ((codePoint >> 12) & 0x3F));
+                    escape(target, 0x80 | ((codePoint >> 6) & 0x3F));
+                    escape(target, 0x80 | (codePoint & 0x3F));
+                    i++;
+                }
+            }
+        }
+    }
+
+    private static void escape(StringBuilder target, int b) {
+        target.append('%').append(HEX[(b >> 4) & 0x0F]).append(HEX[b & 0x0F]);
+    }
+
+    private static boolean isHex(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static boolean[] allowed(String symbols) {
+        boolean[] allowed = new boolean[128];
+
+        for (char c = 'a'; c <= 'z'; c++) allowed[c] = true;
+        for (char c = 'A'; c <= 'Z'; c++) allowed[c] = true;
+        for (char c = '0'; c <= '9'; c++) allowed[c] = true;
+        for (char c : symbols.toCharArray()) allowed[c] = true;
+
+        return allowed;
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value.replace("+", "%2B"), UTF_8);
+    }
+
+    private static boolean hasVariables(Segment[] segments) {
+        for (Segment segment : segments) {
+            if (segment instanceof Variable) return true;
+        }
+        return false;
+    }
+
+    private static Segment[] compile(String source, Collection<PathParameter> parameters) {
+        List<Segment> segments = new ArrayList<>();
+
+        Matcher matcher = DYNAMIC_PARAMETER_PATTERN.matcher(source);
+
+        int position = 0;
+
+        while (matcher.find()) {
+            if (matcher.start() > position) segments.add(new Literal(source.substring(position, matcher.start())));
+
+            String name = matcher.group(1);
+
+            segments.add(parameters.stream()
+                    .filter(p -> p.is(name))
+                    .findFirst()
+                    .<Segment> map(p -> new Variable(name, p))
+                    .orElseGet(() -> new Literal(name)));
+
+            position = matcher.end();
+        }
+
+        if (position < source.length()) segments.add(new Literal(source.substring(position)));
+
+        return segments.toArray(Segment[]::new);
+    }
+
+    private static class QueryPair {
+
+        private final Segment[] name;
+        private final Segment[] value;
+
+        private QueryPair(Segment[] name, Segment[] value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        private boolean dynamic() {
+            return hasVariables(name) || hasVariables(value);
+        }
+
+        private QueryParameters join(QueryParameters queryParameters, Arguments arguments) {
+            return queryParameters.join(expand(name, arguments), expand(value, arguments));
+        }
+
+        private String expand(Segment[] segments, Arguments arguments) {
+            StringBuilder target = new StringBuilder();
+
+            for (Segment segment : segments) {
+                if (segment instanceof Literal)
+                    target.append(decode(((Literal) segment).value));
+                else
+                    segment.expand(arguments, target, null);
+            }
+
+            return target.toString();
+        }
+    }
+
+    private interface Segment {
+
+        void expand(Arguments arguments, StringBuilder target, boolean[] allowed);
+    }
+
+    private static class Literal implements Segment {
+
+        private final String value;
+
+        private Literal(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public void expand(Arguments arguments, StringBuilder target, boolean[] allowed) {
+            target.append(value);
+        }
+    }
+
+    private static class Variable implements Segment {
+
+        private final String name;
+        private final PathParameter parameter;
+
+        private Variable(String name, PathParameter parameter) {
+            this.name = name;
+            this.parameter = parameter;
+        }
+
+        @Override
+        public void expand(Arguments arguments, StringBuilder target, boolean[] allowed) {
+            String value = arguments.of(parameter.position())
+                    .flatMap(parameter::resolve)
+                    .orElseThrow(() -> new IllegalArgumentException("The argument [" + name + "] cannot be null."));
+
+            if (allowed == null)
+                target.append(value);
+            else
+                encode(value, target, allowed);
+        }
+    }
+}
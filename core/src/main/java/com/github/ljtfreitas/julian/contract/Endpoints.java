@@ -24,25 +24,51 @@ package com.github.ljtfreitas.julian.contract;
 
 import java.lang.reflect.Method;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import com.github.ljtfreitas.julian.Endpoint;
 import com.github.ljtfreitas.julian.MethodEndpoint;
 
+import static java.util.Collections.unmodifiableCollection;
+
 public class Endpoints {
 
 	private final Collection<Endpoint> endpoints;
+	private final Map<Method, MethodEndpoint> index;
 
 	public Endpoints(Collection<Endpoint> endpoints) {
 		this.endpoints = endpoints;
+		this.index = index(endpoints);
+	}
+
+	public Collection<Endpoint> all() {
+		return unmodifiableCollection(endpoints);
 	}
 
 	public Optional<? extends Endpoint> select(Method method) {
-		return endpoints.stream()
+		return Optional.ofNullable(index.get(method));
+	}
+
+	public <T> Map<Method, T> compile(Function<? super MethodEndpoint, ? extends T> fn) {
+		Map<Method, T> compiled = new LinkedHashMap<>();
+
+		index.forEach((method, endpoint) -> compiled.put(method, fn.apply(endpoint)));
+
+		return Map.copyOf(compiled);
+	}
+
+	private static Map<Method, MethodEndpoint> index(Collection<Endpoint> endpoints) {
+		Map<Method, MethodEndpoint> index = new LinkedHashMap<>();
+
+		endpoints.stream()
 				.filter(MethodEndpoint.class::isInstance)
 				.map(MethodEndpoint.class::cast)
-				.filter(e -> e.test(method))
-				.findFirst();
+				.forEach(e -> index.putIfAbsent(e.source(), e));
+
+		return Map.copyOf(index);
 	}
 
 }
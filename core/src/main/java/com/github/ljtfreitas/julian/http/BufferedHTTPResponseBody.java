@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Publisher;
+import java.util.function.Function;
+
+class BufferedHTTPResponseBody implements HTTPResponseBody {
+
+    private final HTTPResponseBody body;
+    private final HTTPResponseBody source;
+
+    BufferedHTTPResponseBody(byte[] bodyAsBytes, HTTPResponseBody source) {
+        this.body = HTTPResponseBody.some(bodyAsBytes);
+        this.source = source;
+    }
+
+    @Override
+    public <T> Optional<CompletableFuture<T>> readAsInputStream(Function<InputStream, T> fn) {
+        return body.readAsInputStream(fn);
+    }
+
+    @Override
+    public <T> Optional<CompletableFuture<T>> readAsBytes(Function<byte[], T> fn) {
+        return body.readAsBytes(fn);
+    }
+
+    @Override
+    public Optional<Publisher<List<ByteBuffer>>> content() {
+        return body.content();
+    }
+
+    @Override
+    public OptionalLong contentLength() {
+        return source.contentLength();
+    }
+
+    @Override
+    public Optional<Charset> charset() {
+        return source.charset();
+    }
+}
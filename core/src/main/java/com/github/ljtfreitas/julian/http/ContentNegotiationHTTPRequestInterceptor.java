@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.Promise;
+import com.github.ljtfreitas.julian.http.codec.BinaryHTTPMessageCodec;
+import com.github.ljtfreitas.julian.http.codec.HTTPResponseReader;
+import com.github.ljtfreitas.julian.http.codec.HTTPResponseReaders;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static com.github.ljtfreitas.julian.http.HTTPHeader.ACCEPT;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toUnmodifiableList;
+
+public class ContentNegotiationHTTPRequestInterceptor implements HTTPRequestInterceptor {
+
+    private static final int MAX_SIZE = 256;
+
+    private final HTTPResponseReaders readers;
+    private final ConcurrentHashMap<JavaType, Optional<HTTPHeader>> accepts = new ConcurrentHashMap<>();
+
+    public ContentNegotiationHTTPRequestInterceptor(HTTPResponseReaders readers) {
+        this.readers = readers;
+    }
+
+    @Override
+    public <T> Promise<HTTPRequest<T>> intercepts(Promise<HTTPRequest<T>> request) {
+        return request.then(r -> r.headers().select(ACCEPT).isPresent() || r.returnType().isNone() ? r :
+                accept(r.returnType())
+                        .map(a -> r.headers(r.headers().join(a)))
+                        .orElse(r));
+    }
+
+    private Optional<HTTPHeader> accept(JavaType javaType) {
+        Optional<HTTPHeader> accept = accepts.get(javaType);
+
+        if (accept != null) return accept;
+
+        Optional<HTTPHeader> negotiated = negotiate(javaType);
+
+        if (accepts.size() < MAX_SIZE) accepts.putIfAbsent(javaType, negotiated);
+
+        return negotiated;
+    }
+
+    private Optional<HTTPHeader> negotiate(JavaType javaType) {
+        if (raw(javaType)) return Optional.empty();
+
+        List<MediaType> binary = mediaTypes(readers.all().stream().filter(BinaryHTTPMessageCodec.class::isInstance), javaType);
+
+        if (binary.isEmpty()) return Optional.empty();
+
+        List<MediaType> others = mediaTypes(readers.all().stream().filter(r -> !(r instanceof BinaryHTTPMessageCodec)), javaType);
+
+        String value = Stream.concat(binary.stream().map(MediaType::mime), others.stream().map(m -> m.mime() + ";q=0.9"))
+                .collect(joining(", "));
+
+        return Optional.of(new HTTPHeader(ACCEPT, value));
+    }
+
+    private List<MediaType> mediaTypes(Stream<HTTPResponseReader<?>> candidates, JavaType javaType) {
+        return candidates.map(HTTPResponseReader::contentTypes)
+                .flatMap(Collection::stream)
+                .filter(m -> !wildcard(m))
+                .distinct()
+                .filter(m -> readers.select(m, javaType).isPresent())
+                .collect(toUnmodifiableList());
+    }
+
+    private boolean raw(JavaType javaType) {
+        return readers.all().stream()
+                .filter(r -> r.contentTypes().stream().anyMatch(this::wildcard))
+                .anyMatch(r -> r.readable(MediaType.ALL, javaType));
+    }
+
+    private boolean wildcard(MediaType mediaType) {
+        return mediaType.mime().indexOf('*') >= 0;
+    }
+}
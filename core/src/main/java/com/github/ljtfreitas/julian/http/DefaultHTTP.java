@@ -30,6 +30,7 @@ import com.github.ljtfreitas.julian.http.codec.HTTPRequestWriterException;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
 import static com.github.ljtfreitas.julian.Message.format;
@@ -43,6 +44,7 @@ public class DefaultHTTP implements HTTP {
 	private final HTTPResponseFailure failure;
 	private final Charset encoding;
 	private final Executor executor;
+	private final Promise.Execution execution;
 
 	public DefaultHTTP(HTTPClient httpClient, HTTPMessageCodecs codecs) {
 		this(httpClient, codecs, HTTPRequestInterceptor.none());
@@ -57,12 +59,18 @@ public class DefaultHTTP implements HTTP {
 	}
 
 	public DefaultHTTP(HTTPClient httpClient, HTTPRequestInterceptor interceptor, HTTPMessageCodecs codecs, HTTPResponseFailure failure, Charset encoding, Executor executor) {
+		this(httpClient, interceptor, codecs, failure, encoding, executor, Promise.Execution.ASYNC);
+	}
+
+	public DefaultHTTP(HTTPClient httpClient, HTTPRequestInterceptor interceptor, HTTPMessageCodecs codecs, HTTPResponseFailure failure, Charset encoding, Executor executor,
+					   Promise.Execution execution) {
 		this.httpClient = httpClient;
 		this.interceptor = interceptor;
 		this.codecs = codecs;
 		this.failure = failure;
 		this.encoding = encoding;
 		this.executor = executor;
+		this.execution = execution;
 	}
 
 	@Override
@@ -70,9 +78,15 @@ public class DefaultHTTP implements HTTP {
 		HTTPRequestBody body = endpoint.body().map(b -> body(b, endpoint.headers())).orElse(null);
 
 		HTTPRequest<T> request = new DefaultHTTPRequest<>(endpoint.path(), endpoint.method(), body, endpoint.headers(),
-				endpoint.returnType(), httpClient, codecs, failure);
+				endpoint.returnType(), httpClient, codecs, failure, executor, execution);
+
+		return intercepts(pending(request)).bind(HTTPRequest::execute);
+	}
 
-		return intercepts(Promise.pending(() -> request, executor)).bind(HTTPRequest::execute);
+	private <T> Promise<HTTPRequest<T>> pending(HTTPRequest<T> request) {
+		return execution == Promise.Execution.DIRECT ?
+				Promise.pending(CompletableFuture.completedFuture(request), executor, execution) :
+				Promise.pending(() -> request, executor);
 	}
 
 	private <T> Promise<HTTPRequest<T>> intercepts(Promise<HTTPRequest<T>> request) {
@@ -24,6 +24,7 @@ package com.github.ljtfreitas.julian.http;
 
 import java.net.URI;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import com.github.ljtfreitas.julian.JavaType;
 import com.github.ljtfreitas.julian.Promise;
@@ -41,12 +42,18 @@ class DefaultHTTPRequest<T> implements HTTPRequest<T> {
 
 	public DefaultHTTPRequest(URI path, HTTPMethod method, HTTPRequestBody body, HTTPHeaders headers, JavaType returnType,
 							  HTTPClient httpClient, HTTPMessageCodecs codecs, HTTPResponseFailure failure) {
+		this(path, method, body, headers, returnType, httpClient, codecs, failure, null, Promise.Execution.ASYNC);
+	}
+
+	public DefaultHTTPRequest(URI path, HTTPMethod method, HTTPRequestBody body, HTTPHeaders headers, JavaType returnType,
+							  HTTPClient httpClient, HTTPMessageCodecs codecs, HTTPResponseFailure failure,
+							  Executor executor, Promise.Execution execution) {
 		this.returnType = returnType;
 		this.path = path;
 		this.method = method;
 		this.body = body;
 		this.headers = headers;
-		this.io = new DefaultHTTPRequestIO<>(this, httpClient, codecs, failure);
+		this.io = new DefaultHTTPRequestIO<>(this, httpClient, codecs, failure, executor, execution);
 	}
 
 	private DefaultHTTPRequest(URI path, HTTPMethod method, HTTPRequestBody body, HTTPHeaders headers, JavaType returnType, DefaultHTTPRequestIO<T> io) {
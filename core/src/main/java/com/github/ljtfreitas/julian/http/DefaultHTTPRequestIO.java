@@ -35,7 +35,9 @@ import java.io.IOException;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 
 import static com.github.ljtfreitas.julian.Message.format;
 import static com.github.ljtfreitas.julian.http.HTTPHeader.CONTENT_TYPE;
@@ -46,25 +48,36 @@ class DefaultHTTPRequestIO<T> implements HTTPRequestIO<T> {
 	private final HTTPClient httpClient;
 	private final HTTPMessageCodecs codecs;
 	private final HTTPResponseFailure failure;
+	private final Executor executor;
+	private final Promise.Execution execution;
 	
-	DefaultHTTPRequestIO(HTTPRequest<T> source, HTTPClient httpClient, HTTPMessageCodecs codecs, HTTPResponseFailure failure) {
+	DefaultHTTPRequestIO(HTTPRequest<T> source, HTTPClient httpClient, HTTPMessageCodecs codecs, HTTPResponseFailure failure,
+						 Executor executor, Promise.Execution execution) {
 		this.source = source;
 		this.httpClient = httpClient;
 		this.codecs = codecs;
 		this.failure = failure;
+		this.executor = executor;
+		this.execution = execution;
 	}
 
 	DefaultHTTPRequestIO<T> source(HTTPRequest<T> source) {
-		return new DefaultHTTPRequestIO<>(source, httpClient, codecs, failure);
+		return new DefaultHTTPRequestIO<>(source, httpClient, codecs, failure, executor, execution);
 	}
 
 	@Override
 	public Promise<HTTPResponse<T>> execute() {
-		return httpClient.request(source).execute()
+		return response()
 				.failure(e -> exceptionally(deep(e)))
 				.then(this::read);
 	}
 
+	private Promise<HTTPClientResponse> response() {
+		Promise<HTTPClientResponse> response = httpClient.request(source).execute();
+		source.body().ifPresent(body -> response.future().whenComplete((r, e) -> body.release()));
+		return execution == Promise.Execution.ASYNC && executor == null ? response : Promise.pending(response.future(), executor, execution);
+	}
+
 	private HTTPException exceptionally(Throwable e) {
 		if (e instanceof HTTPClientException) {
 			return (HTTPClientException) e;
@@ -96,7 +109,7 @@ class DefaultHTTPRequestIO<T> implements HTTPRequestIO<T> {
 
 	private HTTPResponse<T> success(HTTPClientResponse response) {
 		Optional<HTTPResponse<T>> success = deserialize(response)
-				.map(bodyAsFuture -> HTTPResponse.lazy(response.status(), response.headers(), Promise.pending(bodyAsFuture)));
+				.map(bodyAsFuture -> HTTPResponse.lazy(response.status(), response.headers(), Promise.pending(bodyAsFuture, executor, execution)));
 
 		return success.orElseGet(() -> empty(response));
 	}
@@ -113,8 +126,15 @@ class DefaultHTTPRequestIO<T> implements HTTPRequestIO<T> {
 		HTTPResponseReader<?> reader = codecs.readers().select(mediaType, source.returnType())
 				.orElseThrow(() -> new HTTPResponseReaderException(format("There is no a HTTPResponseReader able to convert {0} to {1}", mediaType, source.returnType())));
 
-		return reader.read(response.body(), source.returnType())
-				.map(c -> c.handleAsync(this::handle).toCompletableFuture());
+		return reader.read(body(response), source.returnType())
+				.map(c -> execution == Promise.Execution.DIRECT ? c.handle(this::handle) : c.handleAsync(this::handle))
+				.map(CompletionStage::toCompletableFuture);
+	}
+
+	private HTTPResponseBody body(HTTPClientResponse response) {
+		return execution == Promise.Execution.DIRECT ?
+				new DispatchedHTTPResponseBody(response.body(), executor) :
+				response.body();
 	}
 
 	@SuppressWarnings("unchecked")
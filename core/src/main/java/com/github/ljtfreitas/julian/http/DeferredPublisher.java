@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class DeferredPublisher<T> implements Publisher<T> {
+
+	private final CompletableFuture<? extends Publisher<T>> source;
+	private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+	DeferredPublisher(CompletableFuture<? extends Publisher<T>> source) {
+		this.source = source;
+	}
+
+	@Override
+	public void subscribe(Subscriber<? super T> subscriber) {
+		if (!subscribed.compareAndSet(false, true)) {
+			subscriber.onSubscribe(new EmptySubscription());
+			subscriber.onError(new IllegalStateException("This publisher only accepts a single subscriber."));
+			return;
+		}
+
+		source.whenComplete((publisher, e) -> {
+			if (e != null) {
+				subscriber.onSubscribe(new EmptySubscription());
+				subscriber.onError(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+
+			} else if (publisher == null) {
+				subscriber.onSubscribe(new EmptySubscription());
+				subscriber.onComplete();
+
+			} else
+				publisher.subscribe(subscriber);
+		});
+	}
+
+	private static class EmptySubscription implements Subscription {
+
+		@Override
+		public void request(long n) {}
+
+		@Override
+		public void cancel() {}
+	}
+}
@@ -28,9 +28,14 @@ import com.github.ljtfreitas.julian.Subscriber;
 
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import static com.github.ljtfreitas.julian.Preconditions.isTrue;
 
 public interface Download {
 
@@ -40,8 +45,81 @@ public interface Download {
 
     Promise<ByteBuffer> readAsBuffer();
 
+    Promise<ByteBuffer> readAsDirectBuffer();
+
+    Promise<MappedByteBuffer> readAsMappedBuffer(Path file, OpenOption...openOptions);
+
     Disposable subscribe(Subscriber<List<ByteBuffer>, Throwable> subscriber);
 
     Promise<Path> writeTo(Path file, OpenOption...openOptions);
 
+    Promise<Path> writeTo(Path file, Options options, OpenOption...openOptions);
+
+    @FunctionalInterface
+    interface Progress {
+
+        void transferred(long bytes, OptionalLong contentLength);
+
+    }
+
+    enum Force {
+
+        NEVER, ON_COMPLETE, ON_EACH_WRITE
+
+    }
+
+    class Options {
+
+        private final boolean preallocate;
+        private final Force force;
+        private final Progress progress;
+        private final long position;
+
+        public Options() {
+            this(false, Force.NEVER, null, 0);
+        }
+
+        private Options(boolean preallocate, Force force, Progress progress, long position) {
+            this.preallocate = preallocate;
+            this.force = force;
+            this.progress = progress;
+            this.position = position;
+        }
+
+        public Options preallocate() {
+            return preallocate(true);
+        }
+
+        public Options preallocate(boolean preallocate) {
+            return new Options(preallocate, force, progress, position);
+        }
+
+        public boolean preallocated() {
+            return preallocate;
+        }
+
+        public Options force(Force force) {
+            return new Options(preallocate, force, progress, position);
+        }
+
+        public Force force() {
+            return force;
+        }
+
+        public Options progress(Progress progress) {
+            return new Options(preallocate, force, progress, position);
+        }
+
+        public Optional<Progress> progress() {
+            return Optional.ofNullable(progress);
+        }
+
+        public Options position(long position) {
+            return new Options(preallocate, force, progress, isTrue(position, p -> p >= 0, () -> "the position must be a non-negative number: " + position));
+        }
+
+        public long position() {
+            return position;
+        }
+    }
 }
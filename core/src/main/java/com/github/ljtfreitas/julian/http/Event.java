@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static com.github.ljtfreitas.julian.Message.format;
+
+public class Event<T> {
+
+	public static final String DEFAULT_EVENT = "message";
+
+	private final String id;
+	private final String event;
+	private final T data;
+	private final Duration retry;
+
+	public Event(T data) {
+		this(null, DEFAULT_EVENT, data, null);
+	}
+
+	public Event(String id, String event, T data, Duration retry) {
+		this.id = id;
+		this.event = event == null || event.isEmpty() ? DEFAULT_EVENT : event;
+		this.data = data;
+		this.retry = retry;
+	}
+
+	public Optional<String> id() {
+		return Optional.ofNullable(id);
+	}
+
+	public String event() {
+		return event;
+	}
+
+	public T data() {
+		return data;
+	}
+
+	public Optional<Duration> retry() {
+		return Optional.ofNullable(retry);
+	}
+
+	public <R> Event<R> map(Function<? super T, R> fn) {
+		return new Event<>(id, event, fn.apply(data), retry);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, event, data, retry);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) return true;
+
+		if (obj instanceof Event) {
+			Event<?> that = (Event<?>) obj;
+
+			return Objects.equals(id, that.id)
+				&& event.equals(that.event)
+				&& Objects.equals(data, that.data)
+				&& Objects.equals(retry, that.retry);
+
+		} else {
+			return false;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format("Event: id={0}, event={1}, data={2}, retry={3}", id, event, data, retry);
+	}
+}
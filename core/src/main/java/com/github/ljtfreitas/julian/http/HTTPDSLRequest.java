@@ -69,8 +69,7 @@ public class HTTPDSLRequest {
 
     public HTTPDSLRequest header(String name, String... values) {
         return new HTTPDSLRequest(http, path, method, parameters,
-                headers.join(Arrays.stream(values)
-                        .reduce(HTTPHeaders.empty(), (h, value) -> h.join(new HTTPHeader(name, value)), (a, b) -> b)),
+                headers.join(HTTPHeaders.builder().add(name, Arrays.asList(values)).build()),
                 body);
     }
 
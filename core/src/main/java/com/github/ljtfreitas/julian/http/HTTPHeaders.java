@@ -19,27 +19,30 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
  * SOFTWARE.
  */
-
 package com.github.ljtfreitas.julian.http;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 
+import com.github.ljtfreitas.julian.Header;
 import com.github.ljtfreitas.julian.Headers;
 
-import static java.util.Arrays.asList;
+import static com.github.ljtfreitas.julian.Preconditions.nonNull;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableCollection;
 import static java.util.Collections.unmodifiableMap;
-import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toMap;
-import static java.util.stream.Collectors.toUnmodifiableList;
 
 public class HTTPHeaders implements Iterable<HTTPHeader> {
 
+	private static final HTTPHeaders EMPTY = new HTTPHeaders();
+
 	private final Map<String, HTTPHeader> headers;
 
 	public HTTPHeaders() {
@@ -47,40 +50,54 @@ public class HTTPHeaders implements Iterable<HTTPHeader> {
 	}
 
 	public HTTPHeaders(Map<String, HTTPHeader> headers) {
-		this.headers = unmodifiableMap(headers);
+		this(headers.values());
 	}
 
 	public HTTPHeaders(Collection<HTTPHeader> headers) {
-		this(headers.stream().collect(toMap(HTTPHeader::name, identity(), HTTPHeader::join)));
+		this(index(headers));
+	}
+
+	private HTTPHeaders(LinkedHashMap<String, HTTPHeader> indexed) {
+		this.headers = unmodifiableMap(indexed);
 	}
 
 	public Optional<HTTPHeader> select(String name) {
-		return headers.entrySet().stream()
-				.filter(e -> e.getKey().equalsIgnoreCase(name))
-				.map(Map.Entry::getValue)
-				.findFirst();
+		return Optional.ofNullable(headers.get(key(name)));
 	}
 
 	public Collection<HTTPHeader> all() {
-		return headers.values().stream().collect(toUnmodifiableList());
+		return unmodifiableCollection(headers.values());
 	}
 
 	public Map<String, HTTPHeader> asMap() {
-		return headers;
+		Map<String, HTTPHeader> byName = new LinkedHashMap<>();
+		headers.values().forEach(h -> byName.put(h.name(), h));
+		return unmodifiableMap(byName);
+	}
+
+	public boolean isEmpty() {
+		return headers.isEmpty();
 	}
 
 	public HTTPHeaders join(HTTPHeader header) {
-		Map<String, HTTPHeader> headers = new LinkedHashMap<>(this.headers);
-		headers.put(header.name(), header);
+		LinkedHashMap<String, HTTPHeader> headers = new LinkedHashMap<>(this.headers);
+		headers.put(key(header.name()), header);
 		return new HTTPHeaders(headers);
 	}
 
 	public HTTPHeaders join(HTTPHeaders headers) {
-		Map<String, HTTPHeader> joined = new LinkedHashMap<>(this.headers);
+		if (headers.isEmpty()) return this;
+		if (this.isEmpty()) return headers;
+
+		LinkedHashMap<String, HTTPHeader> joined = new LinkedHashMap<>(this.headers);
 		joined.putAll(headers.headers);
 		return new HTTPHeaders(joined);
 	}
 
+	public Builder toBuilder() {
+		return new Builder(this);
+	}
+
 	@Override
 	public String toString() {
 		return headers.values().stream().map(HTTPHeader::toString).collect(joining(", "));
@@ -88,19 +105,105 @@ public class HTTPHeaders implements Iterable<HTTPHeader> {
 
 	@Override
 	public Iterator<HTTPHeader> iterator() {
-		return headers.values().iterator();
+		return all().iterator();
 	}
 
 	public static HTTPHeaders empty() {
-		return new HTTPHeaders();
+		return EMPTY;
 	}
 
 	public static HTTPHeaders create(HTTPHeader... headers) {
-		return new HTTPHeaders(asList(headers));
+		Builder builder = new Builder();
+		for (HTTPHeader header : headers) builder.add(header);
+		return builder.build();
 	}
 
 	public static HTTPHeaders create(Headers headers) {
-		return headers.all().stream()
-				.reduce(HTTPHeaders.empty(), (a, b) -> a.join(new HTTPHeader(b.name(), b.values())), (a, b) -> b);
+		Builder builder = new Builder();
+		for (Header header : headers) builder.put(header.name(), header.values());
+		return builder.build();
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	private static LinkedHashMap<String, HTTPHeader> index(Collection<HTTPHeader> headers) {
+		LinkedHashMap<String, HTTPHeader> indexed = new LinkedHashMap<>();
+		headers.forEach(h -> indexed.merge(key(h.name()), h, HTTPHeader::join));
+		return indexed;
+	}
+
+	private static String key(String name) {
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (c >= 'A' && c <= 'Z') return name.toLowerCase(Locale.ROOT);
+		}
+		return name;
+	}
+
+	public static class Builder {
+
+		private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+		private Builder() {}
+
+		private Builder(HTTPHeaders headers) {
+			headers.headers.forEach((key, header) -> entries.put(key, new Entry(header.name(), header.values())));
+		}
+
+		public Builder add(String name, String value) {
+			entries.computeIfAbsent(key(nonNull(name)), k -> new Entry(name)).values.add(nonNull(value));
+			return this;
+		}
+
+		public Builder add(String name, Collection<String> values) {
+			entries.computeIfAbsent(key(nonNull(name)), k -> new Entry(name)).values.addAll(values);
+			return this;
+		}
+
+		public Builder add(HTTPHeader header) {
+			return add(header.name(), header.values());
+		}
+
+		public Builder put(String name, Collection<String> values) {
+			entries.put(key(nonNull(name)), new Entry(name, values));
+			return this;
+		}
+
+		public Builder put(HTTPHeader header) {
+			return put(header.name(), header.values());
+		}
+
+		public Builder remove(String name) {
+			entries.remove(key(name));
+			return this;
+		}
+
+		public HTTPHeaders build() {
+			if (entries.isEmpty()) return EMPTY;
+
+			LinkedHashMap<String, HTTPHeader> headers = new LinkedHashMap<>(entries.size() * 4 / 3 + 1);
+			entries.forEach((key, entry) -> {
+				if (!entry.values.isEmpty()) headers.put(key, new HTTPHeader(entry.name, List.copyOf(entry.values)));
+			});
+			return new HTTPHeaders(headers);
+		}
+
+		private static class Entry {
+
+			private final String name;
+			private final List<String> values;
+
+			private Entry(String name) {
+				this.name = name;
+				this.values = new ArrayList<>(1);
+			}
+
+			private Entry(String name, Collection<String> values) {
+				this.name = name;
+				this.values = new ArrayList<>(values);
+			}
+		}
 	}
 }
@@ -25,6 +25,7 @@ package com.github.ljtfreitas.julian.http;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.nio.ByteBuffer;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.Flow.Publisher;
 
 public interface HTTPRequestBody {
@@ -33,6 +34,13 @@ public interface HTTPRequestBody {
 
     Publisher<ByteBuffer> serialize();
 
+    default OptionalLong contentLength() {
+        return OptionalLong.empty();
+    }
+
+    // called when the exchange that sent this body is over (the response arrived, or the request failed)
+    default void release() {}
+
     static HTTPRequestBody create(MediaType contentType, Publisher<ByteBuffer> content) {
         return new DefaultHTTPRequestBody(contentType, () -> content);
     }
@@ -24,8 +24,10 @@ package com.github.ljtfreitas.julian.http;
 
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscription;
@@ -40,6 +42,14 @@ public interface HTTPResponseBody {
 
     Optional<Publisher<List<ByteBuffer>>> content();
 
+    default OptionalLong contentLength() {
+        return OptionalLong.empty();
+    }
+
+    default Optional<Charset> charset() {
+        return Optional.empty();
+    }
+
     static HTTPResponseBody empty() {
         return new EmptyHTTPResponseBody();
     }
@@ -52,6 +62,10 @@ public interface HTTPResponseBody {
         return new PublisherHTTPResponseBody(publisher);
     }
 
+    static HTTPResponseBody some(byte[] bodyAsBytes, HTTPResponseBody source) {
+        return new BufferedHTTPResponseBody(bodyAsBytes, source);
+    }
+
     static HTTPResponseBody some(byte[] bodyAsBytes) {
         return new PublisherHTTPResponseBody(subscriber -> subscriber.onSubscribe(new Subscription() {
 
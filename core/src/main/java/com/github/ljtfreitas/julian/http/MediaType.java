@@ -25,17 +25,17 @@ package com.github.ljtfreitas.julian.http;
 import com.github.ljtfreitas.julian.Content;
 
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.github.ljtfreitas.julian.Message.format;
 import static com.github.ljtfreitas.julian.Preconditions.nonNull;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toMap;
 
 public class MediaType implements Content {
 
@@ -75,9 +75,18 @@ public class MediaType implements Content {
 	public static final MediaType APPLICATION_RSS_XML;
 	public static final String APPLICATION_RSS_XML_VALUE = "application/rss+xml";
 
+	public static final MediaType APPLICATION_MSGPACK;
+	public static final String APPLICATION_MSGPACK_VALUE = "application/x-msgpack";
+
 	public static final MediaType APPLICATION_NDJSON;
 	public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
 
+	public static final MediaType APPLICATION_PROTOBUF;
+	public static final String APPLICATION_PROTOBUF_VALUE = "application/x-protobuf";
+
+	public static final MediaType APPLICATION_SMILE;
+	public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
 	public static final MediaType APPLICATION_STREAM_JSON;
 	public static final String APPLICATION_STREAM_JSON_VALUE = "application/stream+json";
 
@@ -120,6 +129,9 @@ public class MediaType implements Content {
 	public static final MediaType TEXT_XML;
 	public static final String TEXT_XML_VALUE = "text/xml";
 
+	private static final int INTERNED_MAX_SIZE = 1024;
+	private static final ConcurrentHashMap<String, MediaType> INTERNED = new ConcurrentHashMap<>();
+
 	static {
 		ALL = new MediaType("*", "*");
 		APPLICATION_ATOM_XML = new MediaType("application", "atom+xml");
@@ -127,13 +139,16 @@ public class MediaType implements Content {
 		APPLICATION_FORM_URLENCODED = new MediaType("application", "x-www-form-urlencoded");
 		APPLICATION_JSON = new MediaType("application", "json");
 		APPLICATION_JSON_UTF8 = new MediaType("application", "json", Map.of("charset", StandardCharsets.UTF_8.name()));
+		APPLICATION_MSGPACK = new MediaType("application", "x-msgpack");
 		APPLICATION_NDJSON = new MediaType("application", "x-ndjson");
 		APPLICATION_OCTET_STREAM = new MediaType("application", "octet-stream");
 		APPLICATION_PDF = new MediaType("application", "pdf");
 		APPLICATION_PROBLEM_JSON = new MediaType("application", "problem+json");
 		APPLICATION_PROBLEM_JSON_UTF8 = new MediaType("application", "problem+json", Map.of("charset", StandardCharsets.UTF_8.name()));
 		APPLICATION_PROBLEM_XML = new MediaType("application", "problem+xml");
+		APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
 		APPLICATION_RSS_XML = new MediaType("application", "rss+xml");
+		APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
 		APPLICATION_STREAM_JSON = new MediaType("application", "stream+json");
 		APPLICATION_XHTML_XML = new MediaType("application", "xhtml+xml");
 		APPLICATION_XML = new MediaType("application", "xml");
@@ -148,6 +163,39 @@ public class MediaType implements Content {
 		TEXT_MARKDOWN = new MediaType("text", "markdown");
 		TEXT_PLAIN = new MediaType("text", "plain");
 		TEXT_XML = new MediaType("text", "xml");
+
+		intern(ALL_VALUE, ALL);
+		intern(APPLICATION_ATOM_XML_VALUE, APPLICATION_ATOM_XML);
+		intern(APPLICATION_CBOR_VALUE, APPLICATION_CBOR);
+		intern(APPLICATION_FORM_URLENCODED_VALUE, APPLICATION_FORM_URLENCODED);
+		intern(APPLICATION_JSON_VALUE, APPLICATION_JSON);
+		intern(APPLICATION_JSON_UTF8_VALUE, APPLICATION_JSON_UTF8);
+		intern(APPLICATION_MSGPACK_VALUE, APPLICATION_MSGPACK);
+		intern(APPLICATION_NDJSON_VALUE, APPLICATION_NDJSON);
+		intern(APPLICATION_OCTET_STREAM_VALUE, APPLICATION_OCTET_STREAM);
+		intern(APPLICATION_PDF_VALUE, APPLICATION_PDF);
+		intern(APPLICATION_PROBLEM_JSON_VALUE, APPLICATION_PROBLEM_JSON);
+		intern(APPLICATION_PROBLEM_JSON_UTF8_VALUE, APPLICATION_PROBLEM_JSON_UTF8);
+		intern(APPLICATION_PROBLEM_XML_VALUE, APPLICATION_PROBLEM_XML);
+		intern(APPLICATION_PROTOBUF_VALUE, APPLICATION_PROTOBUF);
+		intern(APPLICATION_RSS_XML_VALUE, APPLICATION_RSS_XML);
+		intern(APPLICATION_SMILE_VALUE, APPLICATION_SMILE);
+		intern(APPLICATION_STREAM_JSON_VALUE, APPLICATION_STREAM_JSON);
+		intern(APPLICATION_XHTML_XML_VALUE, APPLICATION_XHTML_XML);
+		intern(APPLICATION_XML_VALUE, APPLICATION_XML);
+		intern(IMAGE_GIF_VALUE, IMAGE_GIF);
+		intern(IMAGE_JPEG_VALUE, IMAGE_JPEG);
+		intern(IMAGE_PNG_VALUE, IMAGE_PNG);
+		intern(MULTIPART_FORM_DATA_VALUE, MULTIPART_FORM_DATA);
+		intern(MULTIPART_MIXED_VALUE, MULTIPART_MIXED);
+		intern(MULTIPART_RELATED_VALUE, MULTIPART_RELATED);
+		intern(TEXT_EVENT_STREAM_VALUE, TEXT_EVENT_STREAM);
+		intern(TEXT_HTML_VALUE, TEXT_HTML);
+		intern(TEXT_MARKDOWN_VALUE, TEXT_MARKDOWN);
+		intern(TEXT_PLAIN_VALUE, TEXT_PLAIN);
+		intern(TEXT_XML_VALUE, TEXT_XML);
+		intern(APPLICATION_JSON_UTF8.toString(), APPLICATION_JSON_UTF8);
+		intern(APPLICATION_PROBLEM_JSON_UTF8.toString(), APPLICATION_PROBLEM_JSON_UTF8);
 	}
 
 	private final MimeType mediaType;
@@ -165,7 +213,7 @@ public class MediaType implements Content {
 	}
 
 	public boolean compatible(MediaType candidate) {
-		return mediaType.compatible(candidate.mediaType);
+		return this == candidate || mediaType.compatible(candidate.mediaType);
 	}
 
 	public String mime() {
@@ -210,7 +258,23 @@ public class MediaType implements Content {
 	}
 
 	public static MediaType valueOf(String value) {
-		return new MediaType(MimeType.valueOf(value));
+		MediaType mediaType = INTERNED.get(nonNull(value));
+
+		if (mediaType != null) return mediaType;
+
+		MediaType parsed = new MediaType(MimeType.valueOf(value));
+
+		return unique(parsed) ? parsed : intern(value, parsed);
+	}
+
+	// a multipart boundary is generated per message; interning it would just fill the cache with values never seen again
+	private static boolean unique(MediaType mediaType) {
+		return mediaType.mediaType.parameters.keySet().stream().anyMatch("boundary"::equalsIgnoreCase);
+	}
+
+	private static MediaType intern(String value, MediaType mediaType) {
+		if (INTERNED.size() < INTERNED_MAX_SIZE) INTERNED.putIfAbsent(value, mediaType);
+		return mediaType;
 	}
 
 	public static MediaType wildcard() {
@@ -222,16 +286,24 @@ public class MediaType implements Content {
 		private final String type;
 		private final String subType;
 		private final Map<String, String> parameters;
+		private final String value;
+		private final String description;
+		private final boolean wildcard;
 
 		private MimeType(String type, String subType, Map<String, String> parameters) {
 			this.type = nonNull(type);
 			this.subType = nonNull(subType);
-			this.parameters = parameters;
+			this.parameters = parameters.isEmpty() ? emptyMap() : unmodifiableMap(parameters);
+			this.value = type + "/" + subType;
+			this.description = parameters.isEmpty() ? value : value + "; " + parameters.entrySet().stream()
+					.map(e -> e.getKey() + "=" + e.getValue())
+					.collect(joining(";"));
+			this.wildcard = Wildcard.is(type);
 		}
 		
 		boolean compatible(MimeType mimeType) {
 			return equals(mimeType)
-				|| (Wildcard.is(type) || Wildcard.is(mimeType.type))
+				|| (wildcard || mimeType.wildcard)
 				|| (Type.compatible(this.type, mimeType.type) && SubType.compatible(this.subType, mimeType.subType));
 		}
 
@@ -242,16 +314,18 @@ public class MediaType implements Content {
 		}
 
 		String value() {
-			return format("{0}/{1}", type, subType);
+			return value;
 		}
 
 		@Override
 		public int hashCode() {
-			return Objects.hash(type, subType);
+			return value.hashCode();
 		}
 
 		@Override
 		public boolean equals(Object obj) {
+			if (this == obj) return true;
+
 			if (! (obj instanceof MimeType)) return false;
 			
 			MimeType that = (MimeType) obj;
@@ -262,25 +336,55 @@ public class MediaType implements Content {
 
 		@Override
 		public String toString() {
-			return parameters.isEmpty() ? format("{0}/{1}", type, subType) 
-										: format("{0}/{1}; {2}", type, subType, parameters.entrySet().stream()
-												.map(e -> e.getKey() + "=" + e.getValue())
-												.collect(joining(";")));
-			
+			return description;
 		}
 
 		static MimeType valueOf(String value) {
-			String[] values = value.split(";");
+			int length = value.length();
+
+			int end = value.indexOf(';');
+			if (end < 0) end = length;
 
-			String type = values[0].substring(0, values[0].indexOf("/")).toLowerCase();
-			String subtype = values[0].substring(values[0].indexOf("/") + 1).toLowerCase();
+			int separator = value.indexOf('/');
+			if (separator < 0 || separator > end)
+				throw new IllegalArgumentException(format("Invalid media type: {0}", value));
 
-			Map<String, String> parameters = Arrays.stream(Arrays.copyOfRange(values, 1, values.length))
-					.map(parameter -> parameter.split("="))
-					.filter(parameter -> parameter.length == 2)
-					.collect(toMap(parameter -> parameter[0].trim(), parameter -> parameter[1].trim(), (a, b) -> b, LinkedHashMap::new));
+			String type = lowerCase(trim(value, 0, separator));
+			String subType = lowerCase(trim(value, separator + 1, end));
 
-			return new MimeType(type, subtype, parameters);
+			Map<String, String> parameters = emptyMap();
+
+			int start = end + 1;
+
+			while (start < length) {
+				int next = value.indexOf(';', start);
+				if (next < 0) next = length;
+
+				int equals = value.indexOf('=', start);
+
+				if (equals >= 0 && equals < next - 1 && (value.indexOf('=', equals + 1) < 0 || value.indexOf('=', equals + 1) >= next)) {
+					if (parameters.isEmpty()) parameters = new LinkedHashMap<>();
+
+					parameters.put(trim(value, start, equals), trim(value, equals + 1, next));
+				}
+
+				start = next + 1;
+			}
+
+			return new MimeType(type, subType, parameters);
+		}
+
+		private static String trim(String value, int start, int end) {
+			while (start < end && value.charAt(start) <= ' ') start++;
+			while (end > start && value.charAt(end - 1) <= ' ') end--;
+			return value.substring(start, end);
+		}
+
+		private static String lowerCase(String value) {
+			for (int i = 0; i < value.length(); i++) {
+				if (Character.isUpperCase(value.charAt(i))) return value.toLowerCase();
+			}
+			return value;
 		}
 	}
 	
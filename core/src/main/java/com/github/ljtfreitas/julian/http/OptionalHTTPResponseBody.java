@@ -22,10 +22,14 @@
 
 package com.github.ljtfreitas.julian.http;
 
+import com.github.ljtfreitas.julian.Attempt;
+
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow.Publisher;
 import java.util.function.Function;
@@ -58,12 +62,29 @@ class OptionalHTTPResponseBody implements HTTPResponseBody {
         return readable() ? body.get().content() : Optional.empty();
     }
 
+    @Override
+    public OptionalLong contentLength() {
+        return headers.select(HTTPHeader.CONTENT_LENGTH).map(HTTPHeader::value).map(String::trim)
+                .flatMap(length -> Attempt.run(() -> Long.parseLong(length)).op())
+                .filter(length -> length >= 0)
+                .map(OptionalLong::of)
+                .orElseGet(OptionalLong::empty);
+    }
+
+    @Override
+    public Optional<Charset> charset() {
+        return headers.select(HTTPHeader.CONTENT_TYPE).map(HTTPHeader::value)
+                .map(MediaType::valueOf)
+                .flatMap(contentType -> contentType.parameter("charset"))
+                .map(charset -> charset.replace("\"", "").trim())
+                .flatMap(charset -> Attempt.run(() -> Charset.forName(charset)).op());
+    }
+
     private boolean readable() {
         return status.readable() && hasContentLength();
     }
 
     private boolean hasContentLength() {
-        int length = headers.select("Content-Length").map(HTTPHeader::value).map(Integer::valueOf).orElse(-1);
-        return length != 0;
+        return contentLength().orElse(-1) != 0;
     }
 }
@@ -0,0 +1,316 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.Promise;
+import com.github.ljtfreitas.julian.StreamingPublisher;
+import com.github.ljtfreitas.julian.http.codec.EventStream;
+import com.github.ljtfreitas.julian.http.codec.PublisherStream;
+
+import static com.github.ljtfreitas.julian.http.HTTPHeader.CONTENT_TYPE;
+import static com.github.ljtfreitas.julian.http.HTTPHeader.LAST_EVENT_ID;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+class ReconnectEventStreamHTTPRequest<T> implements HTTPRequest<T> {
+
+    private final HTTPRequest<T> request;
+    private final Duration retry;
+    private final int attempts;
+
+    ReconnectEventStreamHTTPRequest(HTTPRequest<T> request, Duration retry, int attempts) {
+        this.request = request;
+        this.retry = retry;
+        this.attempts = attempts;
+    }
+
+    @Override
+    public JavaType returnType() {
+        return request.returnType();
+    }
+
+    @Override
+    public HTTPRequest<T> path(URI path) {
+        return new ReconnectEventStreamHTTPRequest<>(request.path(path), retry, attempts);
+    }
+
+    @Override
+    public HTTPRequest<T> method(HTTPMethod method) {
+        return new ReconnectEventStreamHTTPRequest<>(request.method(method), retry, attempts);
+    }
+
+    @Override
+    public HTTPRequest<T> headers(HTTPHeaders headers) {
+        return new ReconnectEventStreamHTTPRequest<>(request.headers(headers), retry, attempts);
+    }
+
+    @Override
+    public HTTPRequest<T> body(HTTPRequestBody body) {
+        return new ReconnectEventStreamHTTPRequest<>(request.body(body), retry, attempts);
+    }
+
+    @Override
+    public URI path() {
+        return request.path();
+    }
+
+    @Override
+    public HTTPMethod method() {
+        return request.method();
+    }
+
+    @Override
+    public HTTPHeaders headers() {
+        return request.headers();
+    }
+
+    @Override
+    public Optional<HTTPRequestBody> body() {
+        return request.body();
+    }
+
+    @Override
+    public Promise<HTTPResponse<T>> execute() {
+        return request.execute().then(this::reconnectable);
+    }
+
+    @SuppressWarnings("unchecked")
+    private HTTPResponse<T> reconnectable(HTTPResponse<T> response) {
+        return eventStream(response) ? response.map(body -> body instanceof EventStream ? (T) reconnectable((EventStream) body) : body) : response;
+    }
+
+    private boolean eventStream(HTTPResponse<?> response) {
+        return response.headers().select(CONTENT_TYPE)
+                .map(h -> MediaType.valueOf(h.value()))
+                .filter(MediaType.TEXT_EVENT_STREAM::compatible)
+                .isPresent();
+    }
+
+    private Object reconnectable(EventStream events) {
+        Reconnection reconnection = new Reconnection(events);
+
+        return request.returnType().is(Stream.class) ? PublisherStream.of(reconnection) : reconnection;
+    }
+
+    private class Reconnection implements StreamingPublisher<Object> {
+
+        private final EventStream events;
+        private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+        private Reconnection(EventStream events) {
+            this.events = events;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super Object> subscriber) {
+            if (subscribed.compareAndSet(false, true)) {
+                Events subscription = new Events(subscriber);
+                subscriber.onSubscribe(subscription);
+                subscription.connect(events);
+
+            } else {
+                subscriber.onSubscribe(new Subscription() {
+
+                    @Override
+                    public void request(long n) {}
+
+                    @Override
+                    public void cancel() {}
+                });
+                subscriber.onError(new IllegalStateException("This publisher only accepts a single subscriber."));
+            }
+        }
+    }
+
+    private class Events implements Subscription, Subscriber<Object> {
+
+        private final Subscriber<? super Object> subscriber;
+
+        private Subscription current = null;
+        private long demand = 0;
+
+        private volatile boolean cancelled = false;
+
+        private EventStream events;
+        private String lastEventId = null;
+        private Duration delay = retry;
+        private int remaining = attempts;
+        private boolean received = false;
+        private Throwable failure = null;
+
+        private Events(Subscriber<? super Object> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private void connect(EventStream events) {
+            this.events = events;
+            this.received = false;
+
+            events.events().subscribe(this);
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException("Subscription request must be positive: " + n));
+                return;
+            }
+
+            Subscription s;
+            synchronized (this) {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                s = current;
+            }
+
+            if (s != null)
+                s.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+
+            Subscription s;
+            synchronized (this) {
+                s = current;
+            }
+
+            if (s != null)
+                s.cancel();
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            long requested;
+            synchronized (this) {
+                current = subscription;
+                requested = demand;
+            }
+
+            if (cancelled)
+                subscription.cancel();
+
+            else if (requested > 0)
+                subscription.request(requested);
+        }
+
+        @Override
+        public void onNext(Object item) {
+            synchronized (this) {
+                if (demand != Long.MAX_VALUE) demand--;
+            }
+
+            // a connection that delivers events is healthy again, so it gets the whole budget back
+            if (!received) {
+                received = true;
+                remaining = attempts;
+            }
+
+            if (!cancelled)
+                subscriber.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            ended();
+
+            if (received)
+                reconnect();
+
+            else if (!cancelled)
+                subscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            ended();
+            reconnect();
+        }
+
+        private void ended() {
+            synchronized (this) {
+                current = null;
+            }
+
+            events.lastEventId().ifPresent(id -> lastEventId = id);
+            events.retry().ifPresent(r -> delay = r);
+        }
+
+        private void reconnect() {
+            if (cancelled)
+                return;
+
+            if (remaining-- <= 0) {
+                if (failure != null)
+                    subscriber.onError(failure);
+                else
+                    subscriber.onComplete();
+                return;
+            }
+
+            HTTPRequest<T> reconnection = lastEventId == null || lastEventId.isEmpty() ? request :
+                    request.headers(request.headers().join(new HTTPHeader(LAST_EVENT_ID, lastEventId)));
+
+            // the timer only starts the request; nothing waits for the delay or the response
+            CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(delay.toMillis(), MILLISECONDS, Runnable::run))
+                    .thenCompose(none -> reconnection.execute().future())
+                    .whenComplete(this::reconnected);
+        }
+
+        private void reconnected(HTTPResponse<T> response, Throwable e) {
+            Object body;
+
+            try {
+                if (e != null)
+                    throw e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+
+                body = eventStream(response) ? response.body().unsafe() : null;
+
+            } catch (Throwable t) {
+                failure = t;
+                received = false;
+                reconnect();
+                return;
+            }
+
+            if (!(body instanceof EventStream)) {
+                if (!cancelled) subscriber.onComplete();
+                return;
+            }
+
+            failure = null;
+            connect((EventStream) body);
+        }
+    }
+}
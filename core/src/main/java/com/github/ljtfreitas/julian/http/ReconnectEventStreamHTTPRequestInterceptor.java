@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.Promise;
+import com.github.ljtfreitas.julian.StreamingPublisher;
+
+import static com.github.ljtfreitas.julian.Preconditions.nonNull;
+
+public class ReconnectEventStreamHTTPRequestInterceptor implements HTTPRequestInterceptor {
+
+    private static final Duration DEFAULT_RETRY = Duration.ofSeconds(3);
+    private static final int DEFAULT_ATTEMPTS = 5;
+
+    private final Duration retry;
+    private final int attempts;
+
+    public ReconnectEventStreamHTTPRequestInterceptor() {
+        this(DEFAULT_RETRY);
+    }
+
+    public ReconnectEventStreamHTTPRequestInterceptor(Duration retry) {
+        this(retry, DEFAULT_ATTEMPTS);
+    }
+
+    public ReconnectEventStreamHTTPRequestInterceptor(Duration retry, int attempts) {
+        this.retry = nonNull(retry);
+        this.attempts = attempts;
+    }
+
+    @Override
+    public <T> Promise<HTTPRequest<T>> intercepts(Promise<HTTPRequest<T>> request) {
+        return request.then(r -> streaming(r.returnType()) ? new ReconnectEventStreamHTTPRequest<>(r, retry, attempts) : r);
+    }
+
+    private boolean streaming(JavaType returnType) {
+        return returnType.is(Stream.class) || returnType.is(StreamingPublisher.class);
+    }
+}
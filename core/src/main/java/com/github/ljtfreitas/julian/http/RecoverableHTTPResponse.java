@@ -58,7 +58,7 @@ public class RecoverableHTTPResponse<T> implements HTTPResponse<T> {
         Promise<Expected> recovered = contentTypeAsPromise.bind(contentType -> response.asException().bodyAsPromise()
                         .bind(bodyAsBytes -> readers.select(contentType, expectedJavaType)
                             .orElseThrow(() -> new HTTPResponseReaderException(format("There is no a HTTPResponseReader able to convert {0} to {1}", contentType, expectedJavaType)))
-                            .read(HTTPResponseBody.some(bodyAsBytes), expectedJavaType)
+                            .read(HTTPResponseBody.some(bodyAsBytes, HTTPResponseBody.optional(response.status(), response.headers(), HTTPResponseBody::empty)), expectedJavaType)
                             .map(Promise::pending)
                             .orElseGet(Promise::empty))
                 .then(value -> expectedJavaType.<Expected> cast(value).orElseThrow()))
@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.ljtfreitas.julian.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import com.github.ljtfreitas.julian.Attempt;
+import com.github.ljtfreitas.julian.Disposable;
+import com.github.ljtfreitas.julian.Promise;
+import com.github.ljtfreitas.julian.Subscriber;
+
+import static com.github.ljtfreitas.julian.http.HTTPHeader.CONTENT_RANGE;
+import static com.github.ljtfreitas.julian.http.HTTPHeader.IF_RANGE;
+import static com.github.ljtfreitas.julian.http.HTTPHeader.RANGE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+class SegmentedDownload implements Download {
+
+    private static final Duration RETRY_DELAY = Duration.ofMillis(250);
+
+    private final HTTPRequest<?> request;
+    private final long length;
+    private final int segments;
+    private final int attempts;
+    private final String validator;
+
+    SegmentedDownload(HTTPRequest<?> request, long length, int segments, int attempts, String validator) {
+        this.request = request;
+        this.length = length;
+        this.segments = segments;
+        this.attempts = attempts;
+        this.validator = validator;
+    }
+
+    @Override
+    public Promise<InputStream> readAsInputStream() {
+        return download().bind(Download::readAsInputStream);
+    }
+
+    @Override
+    public Promise<byte[]> readAsBytes() {
+        return download().bind(Download::readAsBytes);
+    }
+
+    @Override
+    public Promise<ByteBuffer> readAsBuffer() {
+        return download().bind(Download::readAsBuffer);
+    }
+
+    @Override
+    public Promise<ByteBuffer> readAsDirectBuffer() {
+        return download().bind(Download::readAsDirectBuffer);
+    }
+
+    @Override
+    public Disposable subscribe(Subscriber<List<ByteBuffer>, Throwable> subscriber) {
+        Promise<Disposable> disposable = download().then(d -> d.subscribe(subscriber));
+        return () -> disposable.join().bind(Disposable::dispose);
+    }
+
+    private Promise<Download> download() {
+        return request.execute().then(response -> (Download) response.body().unsafe());
+    }
+
+    @Override
+    public Promise<MappedByteBuffer> readAsMappedBuffer(Path file, OpenOption... openOptions) {
+        return writeTo(file, openOptions).then(f -> Attempt.run(() -> map(f)).unsafe());
+    }
+
+    private MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    @Override
+    public Promise<Path> writeTo(Path file, OpenOption... openOptions) {
+        return writeTo(file, new Options(), openOptions);
+    }
+
+    @Override
+    public Promise<Path> writeTo(Path file, Options options, OpenOption... openOptions) {
+        return Attempt.just(() -> allocate(file, options, openOptions))
+                .map(none -> segments(file, options))
+                .map(Promise::pending)
+                .recover(Promise::failed)
+                .unsafe();
+    }
+
+    private void allocate(Path file, Options options, OpenOption[] openOptions) throws IOException {
+        Set<OpenOption> allocation = new HashSet<>(Arrays.asList(openOptions));
+        if (allocation.isEmpty()) {
+            allocation.add(CREATE);
+            allocation.add(TRUNCATE_EXISTING);
+        }
+        allocation.add(WRITE);
+        allocation.remove(StandardOpenOption.APPEND);
+
+        try (FileChannel channel = FileChannel.open(file, allocation)) {
+            long size = options.position() + length;
+            if (options.preallocated() && channel.size() < size)
+                channel.write(ByteBuffer.allocate(1), size - 1);
+        }
+    }
+
+    private CompletableFuture<Path> segments(Path file, Options options) {
+        Transfer transfer = new Transfer(options);
+
+        long size = (length + segments - 1) / segments;
+
+        List<CompletableFuture<Void>> futures = LongStream.range(0, segments)
+                .mapToObj(i -> new Segment(file, i * size, Math.min(length, (i + 1) * size) - 1, options.position(), transfer))
+                .map(segment -> segment.download(attempts))
+                .collect(Collectors.toList());
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(none -> Attempt.just(() -> force(file, options)).map(n -> file).unsafe());
+    }
+
+    private void force(Path file, Options options) throws IOException {
+        if (options.force() == Force.NEVER) return;
+
+        try (FileChannel channel = FileChannel.open(file, WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    private class Transfer {
+
+        private final Options options;
+        private final AtomicLong transferred = new AtomicLong();
+
+        private Transfer(Options options) {
+            this.options = options;
+        }
+
+        private void add(long bytes) {
+            long current = transferred.addAndGet(bytes);
+            options.progress().ifPresent(p -> p.transferred(current, OptionalLong.of(length)));
+        }
+    }
+
+    private class Segment {
+
+        private final Path file;
+        private final long start;
+        private final long end;
+        private final long offset;
+        private final Transfer transfer;
+
+        private volatile long written = 0;
+
+        private Segment(Path file, long start, long end, long offset, Transfer transfer) {
+            this.file = file;
+            this.start = start;
+            this.end = end;
+            this.offset = offset;
+            this.transfer = transfer;
+        }
+
+        private CompletableFuture<Void> download(int attempts) {
+            return fetch().handle((none, e) -> {
+                if (e == null)
+                    return CompletableFuture.<Void> completedFuture(null);
+                else if (attempts > 1 && start + written <= end)
+                    return retry(attempts - 1);
+                else
+                    return CompletableFuture.<Void> failedFuture(e);
+            }).thenCompose(f -> f);
+        }
+
+        private CompletableFuture<Void> retry(int attempts) {
+            long delay = RETRY_DELAY.toMillis() << Math.min(SegmentedDownload.this.attempts - attempts - 1, 6);
+
+            // the delayed task only starts the next request, so it may run on the timer thread itself
+            return CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(delay, MILLISECONDS, Runnable::run))
+                    .thenCompose(none -> download(attempts));
+        }
+
+        private CompletableFuture<Void> fetch() {
+            long from = start + written;
+
+            HTTPHeaders headers = request.headers().join(new HTTPHeader(RANGE, "bytes=" + from + "-" + end));
+            if (validator != null)
+                headers = headers.join(new HTTPHeader(IF_RANGE, validator));
+
+            long[] received = { 0 };
+
+            Options options = new Options().position(offset + from).progress((bytes, length) -> {
+                long delta = bytes - received[0];
+                received[0] = bytes;
+                written += delta;
+                transfer.add(delta);
+            });
+
+            return request.headers(headers).execute()
+                    .then(response -> partial(response, from))
+                    .bind(download -> download.writeTo(file, options, WRITE))
+                    .future()
+                    .thenApply(path -> null);
+        }
+
+        private Download partial(HTTPResponse<?> response, long from) {
+            boolean partial = response.status().is(HTTPStatusCode.PARTIAL_CONTENT) && response.headers().select(CONTENT_RANGE)
+                    .map(HTTPHeader::value)
+                    .filter(range -> range.trim().startsWith("bytes " + from + "-"))
+                    .isPresent();
+
+            if (!partial)
+                throw new HTTPException("The server did not answer the range request of bytes " + from + "-" + end + " with the expected partial content: " + response.status());
+
+            return (Download) response.body().unsafe();
+        }
+    }
+}
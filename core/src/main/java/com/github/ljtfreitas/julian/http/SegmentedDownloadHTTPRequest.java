@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.ljtfreitas.julian.http;
+
+import java.net.URI;
+import java.util.Optional;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.Promise;
+
+import static com.github.ljtfreitas.julian.http.HTTPHeader.ACCEPT_RANGES;
+import static com.github.ljtfreitas.julian.http.HTTPHeader.CONTENT_LENGTH;
+import static com.github.ljtfreitas.julian.http.HTTPHeader.ETAG;
+import static com.github.ljtfreitas.julian.http.HTTPHeader.LAST_MODIFIED;
+
+class SegmentedDownloadHTTPRequest<T> implements HTTPRequest<T> {
+
+    private final HTTPRequest<T> request;
+    private final int segments;
+    private final long minimumSegmentSize;
+    private final int attempts;
+
+    SegmentedDownloadHTTPRequest(HTTPRequest<T> request, int segments, long minimumSegmentSize, int attempts) {
+        this.request = request;
+        this.segments = segments;
+        this.minimumSegmentSize = minimumSegmentSize;
+        this.attempts = attempts;
+    }
+
+    @Override
+    public JavaType returnType() {
+        return request.returnType();
+    }
+
+    @Override
+    public HTTPRequest<T> path(URI path) {
+        return new SegmentedDownloadHTTPRequest<>(request.path(path), segments, minimumSegmentSize, attempts);
+    }
+
+    @Override
+    public HTTPRequest<T> method(HTTPMethod method) {
+        return new SegmentedDownloadHTTPRequest<>(request.method(method), segments, minimumSegmentSize, attempts);
+    }
+
+    @Override
+    public HTTPRequest<T> headers(HTTPHeaders headers) {
+        return new SegmentedDownloadHTTPRequest<>(request.headers(headers), segments, minimumSegmentSize, attempts);
+    }
+
+    @Override
+    public HTTPRequest<T> body(HTTPRequestBody body) {
+        return new SegmentedDownloadHTTPRequest<>(request.body(body), segments, minimumSegmentSize, attempts);
+    }
+
+    @Override
+    public URI path() {
+        return request.path();
+    }
+
+    @Override
+    public HTTPMethod method() {
+        return request.method();
+    }
+
+    @Override
+    public HTTPHeaders headers() {
+        return request.headers();
+    }
+
+    @Override
+    public Optional<HTTPRequestBody> body() {
+        return request.body();
+    }
+
+    @Override
+    public Promise<HTTPResponse<T>> execute() {
+        return request.method(HTTPMethod.HEAD).execute()
+                .then(Optional::of)
+                .recover(e -> Optional.empty())
+                .bind(head -> head.filter(this::ranges).map(this::segmented).orElseGet(request::execute));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Promise<HTTPResponse<T>> segmented(HTTPResponse<T> head) {
+        long length = head.headers().select(CONTENT_LENGTH).map(HTTPHeader::value).map(String::trim).map(Long::parseLong).orElse(0L);
+
+        int count = (int) Math.min(segments, (length + minimumSegmentSize - 1) / minimumSegmentSize);
+
+        if (count < 2)
+            return request.execute();
+
+        // If-Range only accepts strong validators; a weak ETag would make every range request answer the full content
+        Optional<String> validator = head.headers().select(ETAG).map(HTTPHeader::value).map(String::trim).filter(etag -> !etag.startsWith("W/"))
+                .or(() -> head.headers().select(LAST_MODIFIED).map(HTTPHeader::value));
+
+        return Promise.done(head.map(none -> (T) new SegmentedDownload(request, length, count, attempts, validator.orElse(null))));
+    }
+
+    private boolean ranges(HTTPResponse<T> head) {
+        HTTPHeaders headers = head.headers();
+        return head.status().is(HTTPStatusCode.OK)
+            && headers.select(ACCEPT_RANGES).map(HTTPHeader::values)
+                .filter(values -> values.stream().anyMatch("bytes"::equalsIgnoreCase))
+                .isPresent()
+            && headers.select(CONTENT_LENGTH).isPresent();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.ljtfreitas.julian.http;
+
+import com.github.ljtfreitas.julian.Promise;
+
+import static com.github.ljtfreitas.julian.Preconditions.isTrue;
+
+public class SegmentedDownloadHTTPRequestInterceptor implements HTTPRequestInterceptor {
+
+    private static final long DEFAULT_MINIMUM_SEGMENT_SIZE = 1024 * 1024 * 8; // 8mb
+    private static final int DEFAULT_ATTEMPTS = 3;
+
+    private final int segments;
+    private final long minimumSegmentSize;
+    private final int attempts;
+
+    public SegmentedDownloadHTTPRequestInterceptor(int segments) {
+        this(segments, DEFAULT_MINIMUM_SEGMENT_SIZE);
+    }
+
+    public SegmentedDownloadHTTPRequestInterceptor(int segments, long minimumSegmentSize) {
+        this(segments, minimumSegmentSize, DEFAULT_ATTEMPTS);
+    }
+
+    public SegmentedDownloadHTTPRequestInterceptor(int segments, long minimumSegmentSize, int attempts) {
+        this.segments = isTrue(segments, s -> s > 0, () -> "the number of segments must be positive: " + segments);
+        this.minimumSegmentSize = isTrue(minimumSegmentSize, s -> s > 0, () -> "the minimum segment size must be positive: " + minimumSegmentSize);
+        this.attempts = isTrue(attempts, a -> a > 0, () -> "the number of attempts must be positive: " + attempts);
+    }
+
+    @Override
+    public <T> Promise<HTTPRequest<T>> intercepts(Promise<HTTPRequest<T>> request) {
+        return request.then(r -> segmentable(r) ? new SegmentedDownloadHTTPRequest<>(r, segments, minimumSegmentSize, attempts) : r);
+    }
+
+    private boolean segmentable(HTTPRequest<?> request) {
+        return request.returnType().is(Download.class)
+                && request.method() == HTTPMethod.GET
+                && request.headers().select(HTTPHeader.RANGE).isEmpty();
+    }
+}
@@ -27,21 +27,17 @@ import com.github.ljtfreitas.julian.http.HTTPRequestDefinition;
 import java.util.Collection;
 import java.util.function.Function;
 
-import static java.util.Collections.unmodifiableCollection;
-
 public class ComposedHTTPClient implements HTTPClient {
 
     private final HTTPClient client;
-    private final Collection<Function<HTTPClient, HTTPClient>> constructors;
 
     public ComposedHTTPClient(HTTPClient client, Collection<Function<HTTPClient, HTTPClient>> constructors) {
-        this.client = client;
-        this.constructors = unmodifiableCollection(constructors);
+        this.client = constructors.stream().reduce(client, (a, b) -> b.apply(a), (a, b) -> b);
     }
 
     @Override
     public HTTPClientRequest request(HTTPRequestDefinition request) {
-        return constructors.stream().reduce(client, (a, b) -> b.apply(a), (a, b) -> b)
-                .request(request);
+        return client.request(request);
     }
+
 }
@@ -46,6 +46,7 @@ import java.util.concurrent.Flow.Subscription;
 import java.util.concurrent.SubmissionPublisher;
 import java.util.function.Function;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.function.Function.identity;
 
 public class DebugHTTPClient implements HTTPClient {
@@ -154,7 +155,7 @@ public class DebugHTTPClient implements HTTPClient {
 
                 @Override
                 public HTTPResponseBody body() {
-                    return HTTPResponseBody.some(bodyAsBytes);
+                    return HTTPResponseBody.some(bodyAsBytes, response.body());
                 }
 
                 @Override
@@ -171,7 +172,7 @@ public class DebugHTTPClient implements HTTPClient {
 
         private void info(HTTPClientResponse response, byte[] bodyAsBytes) {
             String headers = response.headers().toString();
-            String body = new String(bodyAsBytes);
+            String body = new String(bodyAsBytes, response.body().charset().orElse(UTF_8));
 
             String message = new StringBuilder()
                     .append("HTTP response <<<<<-")
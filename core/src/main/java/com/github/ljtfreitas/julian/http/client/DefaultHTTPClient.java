@@ -25,8 +25,11 @@ package com.github.ljtfreitas.julian.http.client;
 import java.net.ProxySelector;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpRequest.BodyPublishers;
+import java.util.OptionalLong;
 
+import com.github.ljtfreitas.julian.http.HTTPRequestBody;
 import com.github.ljtfreitas.julian.http.HTTPRequestDefinition;
 
 import static java.net.http.HttpRequest.BodyPublishers.fromPublisher;
@@ -63,7 +66,7 @@ public class DefaultHTTPClient implements HTTPClient {
 	@Override
 	public HTTPClientRequest request(HTTPRequestDefinition request) {
 		HttpRequest.Builder builder = HttpRequest.newBuilder(request.path())
-				.method(request.method().name(), request.body().map(b -> fromPublisher(b.serialize())).orElseGet(BodyPublishers::noBody));
+				.method(request.method().name(), request.body().map(this::publisher).orElseGet(BodyPublishers::noBody));
 
 		request.headers().forEach(header -> header.values().forEach(value -> builder.header(header.name(), value)));
 
@@ -71,4 +74,9 @@ public class DefaultHTTPClient implements HTTPClient {
 
 		return new DefaultHTTPClientRequest(client, builder.build());
 	}
+
+	private BodyPublisher publisher(HTTPRequestBody body) {
+		OptionalLong length = body.contentLength();
+		return length.isPresent() && length.getAsLong() > 0 ? fromPublisher(body.serialize(), length.getAsLong()) : fromPublisher(body.serialize());
+	}
 }
@@ -23,7 +23,6 @@
 package com.github.ljtfreitas.julian.http.client;
 
 import com.github.ljtfreitas.julian.Response;
-import com.github.ljtfreitas.julian.http.HTTPHeader;
 import com.github.ljtfreitas.julian.http.HTTPHeaders;
 import com.github.ljtfreitas.julian.http.HTTPResponseBody;
 import com.github.ljtfreitas.julian.http.HTTPStatus;
@@ -77,9 +76,9 @@ class DefaultHTTPClientResponse implements HTTPClientResponse {
 		HTTPStatus status = HTTPStatusCode.select(response.statusCode()).map(HTTPStatus::new)
 				.orElseGet(() -> HTTPStatus.valueOf(response.statusCode()));
 
-		HTTPHeaders headers = response.headers().map().entrySet().stream()
-				.map(e -> HTTPHeader.create(e.getKey(), e.getValue()))
-				.reduce(HTTPHeaders.empty(), HTTPHeaders::join, (a, b) -> b);
+		HTTPHeaders.Builder builder = HTTPHeaders.builder();
+		response.headers().map().forEach(builder::add);
+		HTTPHeaders headers = builder.build();
 
 		HTTPResponseBody body = HTTPResponseBody.optional(status, headers, () -> HTTPResponseBody.lazy(response.body()));
 
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.ljtfreitas.julian.http.codec;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import static com.github.ljtfreitas.julian.Preconditions.isTrue;
+
+public class ByteBufferPool {
+
+	private static final int DEFAULT_SEGMENT_SIZE = 1024 * 16; // 16kb
+	private static final int DEFAULT_CAPACITY = 256;
+
+	private static final ByteBufferPool SINGLE_INSTANCE = new ByteBufferPool();
+
+	private final int segmentSize;
+	private final BlockingQueue<ByteBuffer> segments;
+
+	public ByteBufferPool() {
+		this(DEFAULT_SEGMENT_SIZE, DEFAULT_CAPACITY);
+	}
+
+	public ByteBufferPool(int segmentSize, int capacity) {
+		this.segmentSize = isTrue(segmentSize, s -> s > 0, () -> "the segment size must be positive: " + segmentSize);
+		this.segments = new ArrayBlockingQueue<>(isTrue(capacity, c -> c > 0, () -> "the capacity must be positive: " + capacity));
+	}
+
+	public int segmentSize() {
+		return segmentSize;
+	}
+
+	public ByteBuffer acquire() {
+		ByteBuffer segment = segments.poll();
+		return segment == null ? ByteBuffer.allocate(segmentSize) : segment;
+	}
+
+	public void release(ByteBuffer segment) {
+		if (segment.capacity() == segmentSize && segment.hasArray() && !segment.isReadOnly())
+			segments.offer(segment.clear());
+	}
+
+	public static ByteBufferPool get() {
+		return SINGLE_INSTANCE;
+	}
+}
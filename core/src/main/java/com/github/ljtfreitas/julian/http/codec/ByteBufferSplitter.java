@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http.codec;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+abstract class ByteBufferSplitter {
+
+	private final Deque<ByteBuffer> chunks = new ArrayDeque<>();
+
+	private ByteBuffer partial;
+
+	void add(Collection<ByteBuffer> buffers) {
+		buffers.stream().filter(ByteBuffer::hasRemaining).forEach(chunks::add);
+	}
+
+	ByteBuffer next() {
+		while (!chunks.isEmpty()) {
+			ByteBuffer chunk = chunks.peek();
+
+			int start = chunk.position();
+			int delimiter = delimiter(chunk);
+
+			if (delimiter == -1) {
+				append(chunk);
+				chunks.poll();
+				continue;
+			}
+
+			ByteBuffer bytes = chunk.duplicate().position(start).limit(delimiter).slice();
+
+			chunk.position(delimiter + 1);
+			if (!chunk.hasRemaining())
+				chunks.poll();
+
+			if (partial != null) {
+				append(bytes);
+				bytes = partial.flip();
+				partial = null;
+			}
+
+			ByteBuffer token = token(bytes);
+			if (token != null)
+				return token;
+		}
+		return null;
+	}
+
+	ByteBuffer last() {
+		if (partial == null)
+			return null;
+
+		ByteBuffer bytes = partial.flip();
+		partial = null;
+		return token(bytes);
+	}
+
+	void clear() {
+		chunks.clear();
+		partial = null;
+	}
+
+	abstract int delimiter(ByteBuffer chunk);
+
+	abstract ByteBuffer token(ByteBuffer bytes);
+
+	private void append(ByteBuffer bytes) {
+		if (partial == null)
+			partial = ByteBuffer.allocate(Math.max(bytes.remaining() * 2, 256));
+
+		else if (partial.remaining() < bytes.remaining())
+			partial = ByteBuffer.allocate(Math.max(partial.capacity() * 2, partial.position() + bytes.remaining())).put(partial.flip());
+
+		partial.put(bytes);
+	}
+
+	static ByteBufferSplitter lines() {
+		return new Lines();
+	}
+
+	static ByteBufferSplitter arrayElements() {
+		return new ArrayElements();
+	}
+
+	private static class Lines extends ByteBufferSplitter {
+
+		private static final byte LF = '\n';
+		private static final byte CR = '\r';
+
+		@Override
+		int delimiter(ByteBuffer chunk) {
+			for (int i = chunk.position(); i < chunk.limit(); i++)
+				if (chunk.get(i) == LF) return i;
+
+			return -1;
+		}
+
+		@Override
+		ByteBuffer token(ByteBuffer line) {
+			int limit = line.limit();
+
+			if (limit > line.position() && line.get(limit - 1) == CR)
+				line.limit(limit - 1);
+
+			return line;
+		}
+	}
+
+	private static class ArrayElements extends ByteBufferSplitter {
+
+		private int depth = 0;
+		private boolean array = false;
+		private boolean string = false;
+		private boolean escaped = false;
+
+		@Override
+		int delimiter(ByteBuffer chunk) {
+			for (int i = chunk.position(); i < chunk.limit(); i++) {
+				byte b = chunk.get(i);
+
+				if (string) {
+					if (escaped) escaped = false;
+					else if (b == '\\') escaped = true;
+					else if (b == '"') string = false;
+					continue;
+				}
+
+				switch (b) {
+					case '"':
+						string = true;
+						break;
+
+					case '[':
+					case '{':
+						if (depth++ == 0 && b == '[') {
+							array = true;
+							return i;
+						}
+						break;
+
+					case ']':
+					case '}':
+						if (--depth == 0 && array) return i;
+						break;
+
+					case ',':
+						if (depth == 1 && array) return i;
+						break;
+
+					default:
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		ByteBuffer token(ByteBuffer element) {
+			int position = element.position();
+			int limit = element.limit();
+
+			while (position < limit && whitespace(element.get(position))) position++;
+			while (limit > position && whitespace(element.get(limit - 1))) limit--;
+
+			return position == limit ? null : element.limit(limit).position(position);
+		}
+
+		private boolean whitespace(byte b) {
+			return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.ljtfreitas.julian.http.codec;
+
+import java.net.http.HttpResponse.BodySubscriber;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+class DirectBufferBodySubscriber implements BodySubscriber<ByteBuffer> {
+
+    private static final int DEFAULT_CAPACITY = 1024 * 64; // 64kb
+
+    private final CompletableFuture<ByteBuffer> body = new CompletableFuture<>();
+
+    private ByteBuffer buffer;
+    private Flow.Subscription subscription;
+
+    DirectBufferBodySubscriber(OptionalLong contentLength) {
+        this.buffer = ByteBuffer.allocateDirect(capacity(contentLength.orElse(DEFAULT_CAPACITY)));
+    }
+
+    private int capacity(long length) {
+        if (length > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("A response body of " + length + " bytes does not fit in a single ByteBuffer; write it to a file instead.");
+        return (int) length;
+    }
+
+    @Override
+    public CompletionStage<ByteBuffer> getBody() {
+        return body;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+        } else {
+            this.subscription = subscription;
+            this.subscription.request(1);
+        }
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> item) {
+        if (body.isDone()) return;
+
+        try {
+            for (ByteBuffer b : item) {
+                ensure(b.remaining());
+                buffer.put(b);
+            }
+
+            subscription.request(1);
+
+        } catch (RuntimeException e) {
+            subscription.cancel();
+            body.completeExceptionally(e);
+        }
+    }
+
+    private void ensure(int length) {
+        if (buffer.remaining() >= length) return;
+
+        long required = (long) buffer.position() + length;
+        ByteBuffer expanded = ByteBuffer.allocateDirect(capacity(Math.min(Math.max(required, (long) buffer.capacity() * 2), Integer.MAX_VALUE - 8)));
+        if (expanded.capacity() < required)
+            throw new IllegalArgumentException("A response body of more than " + expanded.capacity() + " bytes does not fit in a single ByteBuffer; write it to a file instead.");
+
+        expanded.put(buffer.flip());
+        buffer = expanded;
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        body.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        body.complete(buffer.flip());
+    }
+}
@@ -31,12 +31,16 @@ import com.github.ljtfreitas.julian.http.Download;
 import com.github.ljtfreitas.julian.http.HTTPResponseBody;
 import com.github.ljtfreitas.julian.http.MediaType;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.http.HttpResponse.BodySubscriber;
 import java.net.http.HttpResponse.BodySubscribers;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -94,6 +98,24 @@ public class DownloadHTTPResponseReader implements HTTPResponseReader<Download>
                     .orElseGet(() -> Promise.done(ByteBuffer.wrap(new byte[0])));
         }
 
+        @Override
+        public Promise<ByteBuffer> readAsDirectBuffer() {
+            return body.content().map(publisher -> subscribed(publisher, new DirectBufferBodySubscriber(body.contentLength())))
+                    .map(Promise::pending)
+                    .orElseGet(() -> Promise.done(ByteBuffer.allocateDirect(0)));
+        }
+
+        @Override
+        public Promise<MappedByteBuffer> readAsMappedBuffer(Path file, OpenOption... openOptions) {
+            return writeTo(file, openOptions).then(f -> Attempt.run(() -> map(f)).unsafe());
+        }
+
+        private MappedByteBuffer map(Path file) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+
         @Override
         public Disposable subscribe(Subscriber<List<ByteBuffer>, Throwable> subscriber) {
             return body.content().map(publisher -> subscribedDisposable(publisher, flowSubscriber(subscriber)))
@@ -140,7 +162,12 @@ public class DownloadHTTPResponseReader implements HTTPResponseReader<Download>
 
         @Override
         public Promise<Path> writeTo(Path file, OpenOption...openOptions) {
-            return body.content().map(publisher -> subscribed(publisher, BodySubscribers.ofFile(file, openOptions)))
+            return writeTo(file, new Download.Options(), openOptions);
+        }
+
+        @Override
+        public Promise<Path> writeTo(Path file, Download.Options options, OpenOption... openOptions) {
+            return body.content().map(publisher -> subscribed(publisher, new FileChannelBodySubscriber(file, options, body.contentLength(), openOptions)))
                     .map(Promise::pending)
                     .orElseGet(() -> Promise.done(file));
         }
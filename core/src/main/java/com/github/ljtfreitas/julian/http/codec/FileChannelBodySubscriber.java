@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.ljtfreitas.julian.http.codec;
+
+import com.github.ljtfreitas.julian.http.Download;
+
+import java.io.IOException;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+class FileChannelBodySubscriber implements BodySubscriber<Path> {
+
+    private final Path file;
+    private final Set<OpenOption> openOptions;
+    private final Download.Options options;
+    private final OptionalLong contentLength;
+    private final CompletableFuture<Path> body = new CompletableFuture<>();
+
+    private FileChannel channel;
+    private Flow.Subscription subscription;
+    private long transferred = 0;
+    private boolean preallocated = false;
+
+    FileChannelBodySubscriber(Path file, Download.Options options, OptionalLong contentLength, OpenOption... openOptions) {
+        this.file = file;
+        this.options = options;
+        this.contentLength = contentLength;
+        this.openOptions = openOptions(openOptions);
+    }
+
+    private Set<OpenOption> openOptions(OpenOption[] openOptions) {
+        Set<OpenOption> options = new HashSet<>(Arrays.asList(openOptions));
+        if (options.contains(StandardOpenOption.READ) || options.contains(StandardOpenOption.DELETE_ON_CLOSE))
+            throw new IllegalArgumentException("Invalid open options to write a file: " + options);
+
+        if (options.isEmpty()) {
+            options.add(CREATE);
+            options.add(TRUNCATE_EXISTING);
+        }
+        options.add(WRITE);
+
+        return options;
+    }
+
+    @Override
+    public CompletionStage<Path> getBody() {
+        return body;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+
+        this.subscription = subscription;
+
+        try {
+            this.channel = FileChannel.open(file, openOptions);
+
+            if (options.position() > 0)
+                channel.position(options.position());
+
+            if (options.preallocated() && !openOptions.contains(APPEND))
+                preallocate();
+
+            progress();
+
+            subscription.request(1);
+
+        } catch (IOException | RuntimeException e) {
+            subscription.cancel();
+            failure(e);
+        }
+    }
+
+    private void preallocate() throws IOException {
+        long length = options.position() + contentLength.orElse(0);
+        if (length > channel.size()) {
+            channel.write(ByteBuffer.allocate(1), length - 1);
+            preallocated = true;
+        }
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> item) {
+        if (body.isDone()) return;
+
+        try {
+            ByteBuffer[] buffers = item.toArray(ByteBuffer[]::new);
+
+            long remaining = 0;
+            for (ByteBuffer buffer : buffers) remaining += buffer.remaining();
+
+            while (remaining > 0) {
+                long written = channel.write(buffers);
+                remaining -= written;
+                transferred += written;
+            }
+
+            if (options.force() == Download.Force.ON_EACH_WRITE)
+                channel.force(false);
+
+            progress();
+
+            subscription.request(1);
+
+        } catch (IOException | RuntimeException e) {
+            subscription.cancel();
+            failure(e);
+        }
+    }
+
+    private void progress() {
+        options.progress().ifPresent(p -> p.transferred(transferred, contentLength));
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        failure(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        if (body.isDone()) return;
+
+        try (FileChannel channel = this.channel) {
+            if (preallocated)
+                channel.truncate(channel.position());
+
+            if (options.force() != Download.Force.NEVER)
+                channel.force(true);
+
+            body.complete(file);
+
+        } catch (IOException e) {
+            body.completeExceptionally(e);
+        }
+    }
+
+    private void failure(Throwable failure) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                failure.addSuppressed(e);
+            }
+        }
+        body.completeExceptionally(failure);
+    }
+}
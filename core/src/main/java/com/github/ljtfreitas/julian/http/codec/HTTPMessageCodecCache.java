@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http.codec;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.http.MediaType;
+
+import static com.github.ljtfreitas.julian.Message.format;
+
+public class HTTPMessageCodecCache<T extends HTTPMessageCodec> {
+
+	static final int DEFAULT_MAX_SIZE = 256;
+
+	private final int maxSize;
+	private final ConcurrentHashMap<Key, Optional<T>> entries = new ConcurrentHashMap<>();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	HTTPMessageCodecCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	Optional<T> select(MediaType mediaType, JavaType javaType, BiFunction<MediaType, JavaType, Optional<T>> fn) {
+		Key key = new Key(mediaType, javaType);
+
+		Optional<T> codec = entries.get(key);
+
+		if (codec != null) {
+			hits.increment();
+			return codec;
+		}
+
+		misses.increment();
+
+		Optional<T> selected = fn.apply(mediaType, javaType);
+
+		if (entries.size() < maxSize) entries.putIfAbsent(key, selected);
+
+		return selected;
+	}
+
+	public long hits() {
+		return hits.sum();
+	}
+
+	public long misses() {
+		return misses.sum();
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	@Override
+	public String toString() {
+		return format("size: {0}, hits: {1}, misses: {2}", size(), hits(), misses());
+	}
+
+	private static class Key {
+
+		private final MediaType mediaType;
+		private final JavaType javaType;
+		private final int hashCode;
+
+		private Key(MediaType mediaType, JavaType javaType) {
+			this.mediaType = mediaType;
+			this.javaType = javaType;
+			this.hashCode = Objects.hash(mediaType, javaType);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) return true;
+
+			if (obj instanceof Key) {
+				Key that = (Key) obj;
+				return mediaType.equals(that.mediaType) && javaType.equals(that.javaType);
+
+			} else {
+				return false;
+			}
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
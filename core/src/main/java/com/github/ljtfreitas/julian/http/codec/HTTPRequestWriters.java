@@ -33,13 +33,27 @@ import static java.util.Collections.unmodifiableCollection;
 public class HTTPRequestWriters {
 
 	private final Collection<HTTPRequestWriter<? super Object>> writers;
+	private final HTTPMessageCodecCache<HTTPRequestWriter<? super Object>> cache;
 
 	public HTTPRequestWriters(Collection<HTTPRequestWriter<? super Object>> collect) {
+		this(collect, HTTPMessageCodecCache.DEFAULT_MAX_SIZE);
+	}
+
+	public HTTPRequestWriters(Collection<HTTPRequestWriter<? super Object>> collect, int cacheSize) {
 		this.writers = unmodifiableCollection(collect);
+		this.cache = new HTTPMessageCodecCache<>(cacheSize);
 	}
 
 	public Optional<HTTPRequestWriter<? super Object>> select(MediaType mediaType, JavaType javaType) {
+		return cache.select(mediaType, javaType, this::find);
+	}
+
+	private Optional<HTTPRequestWriter<? super Object>> find(MediaType mediaType, JavaType javaType) {
 		return writers.stream().filter(w -> w.writable(mediaType, javaType)).findFirst();
 	}
 
+	public HTTPMessageCodecCache<HTTPRequestWriter<? super Object>> cache() {
+		return cache;
+	}
+
 }
@@ -23,23 +23,101 @@
 package com.github.ljtfreitas.julian.http.codec;
 
 import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.StreamingPublisher;
 import com.github.ljtfreitas.julian.http.MediaType;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static java.util.Collections.unmodifiableCollection;
 
 public class HTTPResponseReaders {
 
 	private final Collection<HTTPResponseReader<?>> readers;
+	private final HTTPMessageCodecCache<HTTPResponseReader<?>> cache;
 
 	public HTTPResponseReaders(Collection<HTTPResponseReader<?>> collect) {
-		this.readers = unmodifiableCollection(collect);
+		this(collect, HTTPMessageCodecCache.DEFAULT_MAX_SIZE);
+	}
+
+	public HTTPResponseReaders(Collection<HTTPResponseReader<?>> collect, int cacheSize) {
+		this(withEventStream(collect, cacheSize), new HTTPMessageCodecCache<>(cacheSize));
+	}
+
+	private HTTPResponseReaders(Collection<HTTPResponseReader<?>> readers, HTTPMessageCodecCache<HTTPResponseReader<?>> cache) {
+		this.readers = unmodifiableCollection(readers);
+		this.cache = cache;
+	}
+
+	private static Collection<HTTPResponseReader<?>> withEventStream(Collection<HTTPResponseReader<?>> readers, int cacheSize) {
+		if (readers.stream().anyMatch(ServerSentEventHTTPResponseReader.class::isInstance))
+			return readers;
+
+		// event data is decoded by a separate, fully built instance, so this one never escapes its constructor
+		HTTPResponseReaders data = new HTTPResponseReaders(readers, new HTTPMessageCodecCache<>(cacheSize));
+
+		Collection<HTTPResponseReader<?>> all = new ArrayList<>(readers);
+		all.add(new ServerSentEventHTTPResponseReader(data));
+		return all;
 	}
 
 	public Optional<HTTPResponseReader<?>> select(MediaType mediaType, JavaType javaType) {
-		return readers.stream().filter(w -> w.readable(mediaType, javaType)).findFirst();
+		return cache.select(mediaType, javaType, this::find);
+	}
+
+	private Optional<HTTPResponseReader<?>> find(MediaType mediaType, JavaType javaType) {
+		if (javaType.is(Stream.class))
+			return stream(mediaType, javaType);
+
+		else if (javaType.is(StreamingPublisher.class))
+			return publisher(mediaType, javaType);
+
+		else
+			return readers.stream().filter(w -> w.readable(mediaType, javaType)).findFirst();
+	}
+
+	private Optional<HTTPResponseReader<?>> stream(MediaType mediaType, JavaType javaType) {
+		JavaType elementType = StreamHTTPResponseReader.elementType(javaType);
+		JavaType collectionType = JavaType.parameterized(Collection.class, elementType);
+
+		Optional<HTTPResponseReader<?>> elements = streaming(mediaType, elementType)
+				.map(StreamHTTPResponseReader::elements);
+
+		return elements.or(() -> readers.stream()
+				.filter(r -> r.readable(mediaType, collectionType))
+				.findFirst()
+				.map(StreamHTTPResponseReader::collection));
+	}
+
+	private Optional<HTTPResponseReader<?>> publisher(MediaType mediaType, JavaType javaType) {
+		JavaType elementType = StreamHTTPResponseReader.elementType(javaType);
+		JavaType collectionType = JavaType.parameterized(Collection.class, elementType);
+
+		Optional<HTTPResponseReader<?>> elements = streaming(mediaType, elementType)
+				.map(PublisherHTTPResponseReader::elements);
+
+		return elements.or(() -> readers.stream()
+				.filter(r -> r.readable(mediaType, collectionType))
+				.findFirst()
+				.map(PublisherHTTPResponseReader::collection));
+	}
+
+	private Optional<StreamingHTTPResponseReader<?>> streaming(MediaType mediaType, JavaType elementType) {
+		return readers.stream()
+				.filter(StreamingHTTPResponseReader.class::isInstance)
+				.<StreamingHTTPResponseReader<?>> map(r -> (StreamingHTTPResponseReader<?>) r)
+				.filter(r -> r.streamable(mediaType, elementType))
+				.findFirst();
+	}
+
+	public Collection<HTTPResponseReader<?>> all() {
+		return readers;
+	}
+
+	public HTTPMessageCodecCache<HTTPResponseReader<?>> cache() {
+		return cache;
 	}
 
 }
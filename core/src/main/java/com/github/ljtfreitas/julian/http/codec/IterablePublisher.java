@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http.codec;
+
+import java.util.Iterator;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class IterablePublisher<T> implements Publisher<T> {
+
+	private final Iterable<T> elements;
+
+	IterablePublisher(Iterable<T> elements) {
+		this.elements = elements;
+	}
+
+	@Override
+	public void subscribe(Subscriber<? super T> subscriber) {
+		subscriber.onSubscribe(new IteratorSubscription(subscriber, elements.iterator()));
+	}
+
+	private class IteratorSubscription implements Subscription {
+
+		private final Subscriber<? super T> subscriber;
+		private final Iterator<T> iterator;
+
+		private final AtomicLong demand = new AtomicLong(0);
+		private final AtomicInteger wip = new AtomicInteger(0);
+
+		private volatile boolean cancelled = false;
+
+		private IteratorSubscription(Subscriber<? super T> subscriber, Iterator<T> iterator) {
+			this.subscriber = subscriber;
+			this.iterator = iterator;
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				cancel();
+				subscriber.onError(new IllegalArgumentException("Subscription request must be positive: " + n));
+				return;
+			}
+
+			demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+		}
+
+		private void drain() {
+			if (wip.getAndIncrement() != 0)
+				return;
+
+			int missed = 1;
+
+			do {
+				long requested = demand.get();
+				long emitted = 0;
+
+				while (!cancelled) {
+					if (!iterator.hasNext()) {
+						cancelled = true;
+						subscriber.onComplete();
+						return;
+					}
+
+					if (emitted == requested)
+						break;
+
+					subscriber.onNext(iterator.next());
+					emitted++;
+				}
+
+				if (emitted > 0)
+					demand.addAndGet(-emitted);
+
+				missed = wip.addAndGet(-missed);
+
+			} while (missed != 0 && !cancelled);
+		}
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http.codec;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Publisher;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.http.HTTPResponseBody;
+import com.github.ljtfreitas.julian.http.MediaType;
+
+public interface NDJsonHTTPResponseReader extends StreamingHTTPResponseReader<Object> {
+
+	Collection<MediaType> NDJSON_MEDIA_TYPES = List.of(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_STREAM_JSON);
+
+	boolean decodable(JavaType elementType);
+
+	Object decode(ByteBuffer line, JavaType elementType);
+
+	@Override
+	default Collection<MediaType> contentTypes() {
+		return NDJSON_MEDIA_TYPES;
+	}
+
+	@Override
+	default boolean streamable(MediaType candidate, JavaType elementType) {
+		return supports(candidate) && decodable(elementType);
+	}
+
+	@Override
+	default Optional<CompletableFuture<Stream<Object>>> stream(HTTPResponseBody body, JavaType elementType) {
+		return body.content()
+				.map(JsonLines::split)
+				.map(lines -> lines.map(line -> decode(line, elementType)))
+				.map(CompletableFuture::completedFuture);
+	}
+
+	@Override
+	default Optional<Publisher<Object>> publisher(HTTPResponseBody body, JavaType elementType) {
+		return body.content()
+				.map(content -> SplitPublisher.lines(content, line -> line.hasRemaining() ? decode(line, elementType) : null));
+	}
+
+	@Override
+	default boolean readable(MediaType candidate, JavaType javaType) {
+		return (javaType.is(Collection.class) || javaType.is(List.class))
+				&& streamable(candidate, StreamHTTPResponseReader.elementType(javaType));
+	}
+
+	@Override
+	default Optional<CompletableFuture<Object>> read(HTTPResponseBody body, JavaType javaType) {
+		return stream(body, StreamHTTPResponseReader.elementType(javaType))
+				.map(f -> f.thenApply(elements -> {
+					try (elements) {
+						return elements.collect(Collectors.toList());
+					}
+				}));
+	}
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.ljtfreitas.julian.http.codec;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import com.github.ljtfreitas.julian.http.HTTPRequestBody;
+import com.github.ljtfreitas.julian.http.MediaType;
+
+import static com.github.ljtfreitas.julian.Preconditions.nonNull;
+
+public class PooledHTTPRequestBody implements HTTPRequestBody {
+
+	private final MediaType mediaType;
+	private final ByteBufferPool pool;
+	private final Consumer<OutputStream> writer;
+
+	private final AtomicReference<Segments> serialized = new AtomicReference<>();
+	private final Queue<Segments> sent = new ConcurrentLinkedQueue<>();
+
+	private volatile long length = -1;
+
+	public PooledHTTPRequestBody(MediaType mediaType, ByteBufferPool pool, Consumer<OutputStream> writer) {
+		this.mediaType = mediaType;
+		this.pool = nonNull(pool);
+		this.writer = nonNull(writer);
+	}
+
+	@Override
+	public Optional<MediaType> contentType() {
+		return Optional.ofNullable(mediaType);
+	}
+
+	@Override
+	public OptionalLong contentLength() {
+		if (length < 0) {
+			Segments segments = serialize(pool, writer);
+			if (!serialized.compareAndSet(null, segments))
+				segments.release();
+		}
+		return OptionalLong.of(length);
+	}
+
+	@Override
+	public Publisher<ByteBuffer> serialize() {
+		return subscriber -> {
+			Segments segments;
+			try {
+				segments = Optional.ofNullable(serialized.getAndSet(null)).orElseGet(() -> serialize(pool, writer));
+
+			} catch (RuntimeException e) {
+				subscriber.onSubscribe(new Subscription() {
+
+					@Override
+					public void request(long n) {}
+
+					@Override
+					public void cancel() {}
+				});
+				subscriber.onError(e);
+				return;
+			}
+
+			sent.add(segments);
+
+			subscriber.onSubscribe(new SegmentsSubscription(subscriber, segments));
+		};
+	}
+
+	@Override
+	public void release() {
+		Optional.ofNullable(serialized.getAndSet(null)).ifPresent(Segments::release);
+
+		Segments segments;
+		while ((segments = sent.poll()) != null)
+			segments.unhold();
+	}
+
+	private Segments serialize(ByteBufferPool pool, Consumer<OutputStream> writer) {
+		Segments segments = new Segments(pool);
+		try {
+			writer.accept(segments);
+		} catch (RuntimeException e) {
+			segments.release();
+			throw e;
+		}
+		length = segments.size;
+		return segments;
+	}
+
+	private static class Segments extends OutputStream {
+
+		private final ByteBufferPool pool;
+		private final List<ByteBuffer> buffers = new ArrayList<>();
+
+		// an emitted segment belongs to the transport until the exchange is over and the subscription is finished,
+		// so the segments go back to the pool only when both let them go
+		private final AtomicInteger holds = new AtomicInteger(2);
+
+		private ByteBuffer current = null;
+		private long size = 0;
+
+		private Segments(ByteBufferPool pool) {
+			this.pool = pool;
+		}
+
+		@Override
+		public void write(int b) {
+			next().put((byte) b);
+			size++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			while (len > 0) {
+				ByteBuffer segment = next();
+				int count = Math.min(len, segment.remaining());
+				segment.put(b, off, count);
+				off += count;
+				len -= count;
+				size += count;
+			}
+		}
+
+		private ByteBuffer next() {
+			if (current == null || !current.hasRemaining()) {
+				current = pool.acquire();
+				buffers.add(current);
+			}
+			return current;
+		}
+
+		private void unhold() {
+			if (holds.decrementAndGet() == 0)
+				release();
+		}
+
+		private void release() {
+			buffers.forEach(pool::release);
+			buffers.clear();
+		}
+	}
+
+	private static class SegmentsSubscription implements Subscription {
+
+		private final Subscriber<? super ByteBuffer> subscriber;
+		private final Segments segments;
+		private final Iterator<ByteBuffer> buffers;
+
+		private final AtomicLong demand = new AtomicLong();
+		private final AtomicInteger wip = new AtomicInteger();
+
+		private volatile boolean done = false;
+
+		private SegmentsSubscription(Subscriber<? super ByteBuffer> subscriber, Segments segments) {
+			this.subscriber = subscriber;
+			this.segments = segments;
+			this.buffers = List.copyOf(segments.buffers).iterator();
+		}
+
+		@Override
+		public void request(long n) {
+			if (done) return;
+
+			if (n <= 0) {
+				done = true;
+				drain();
+				subscriber.onError(new IllegalArgumentException("non-positive subscription request: " + n));
+				return;
+			}
+
+			demand.getAndAccumulate(n, (current, requested) -> current + requested < 0 ? Long.MAX_VALUE : current + requested);
+
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			done = true;
+			drain();
+		}
+
+		private void drain() {
+			if (wip.getAndIncrement() != 0) return;
+
+			do {
+				if (done) {
+					segments.unhold();
+					return;
+				}
+
+				while (!done && demand.get() > 0) {
+					if (!buffers.hasNext()) {
+						done = true;
+						segments.unhold();
+						subscriber.onComplete();
+						return;
+					}
+
+					ByteBuffer buffer = buffers.next().flip();
+
+					demand.decrementAndGet();
+					subscriber.onNext(buffer);
+				}
+			} while (wip.decrementAndGet() != 0);
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http.codec;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Publisher;
+import java.util.function.BiFunction;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.StreamingPublisher;
+import com.github.ljtfreitas.julian.http.HTTPResponseBody;
+import com.github.ljtfreitas.julian.http.MediaType;
+
+import static java.util.Collections.emptyList;
+
+class PublisherHTTPResponseReader implements HTTPResponseReader<StreamingPublisher<Object>> {
+
+	private final HTTPMessageCodec codec;
+	private final BiFunction<HTTPResponseBody, JavaType, Optional<CompletableFuture<Publisher<Object>>>> fn;
+
+	private PublisherHTTPResponseReader(HTTPMessageCodec codec, BiFunction<HTTPResponseBody, JavaType, Optional<CompletableFuture<Publisher<Object>>>> fn) {
+		this.codec = codec;
+		this.fn = fn;
+	}
+
+	@Override
+	public Collection<MediaType> contentTypes() {
+		return codec.contentTypes();
+	}
+
+	@Override
+	public boolean readable(MediaType candidate, JavaType javaType) {
+		return codec.supports(candidate) && javaType.is(StreamingPublisher.class);
+	}
+
+	@Override
+	public Optional<CompletableFuture<StreamingPublisher<Object>>> read(HTTPResponseBody body, JavaType javaType) {
+		return fn.apply(body, StreamHTTPResponseReader.elementType(javaType)).map(f -> f.thenApply(StreamingPublisher::of));
+	}
+
+	static PublisherHTTPResponseReader elements(StreamingHTTPResponseReader<?> reader) {
+		return new PublisherHTTPResponseReader(reader, (body, elementType) -> reader.publisher(body, elementType).map(CompletableFuture::completedFuture));
+	}
+
+	@SuppressWarnings("unchecked")
+	static PublisherHTTPResponseReader collection(HTTPResponseReader<?> reader) {
+		return new PublisherHTTPResponseReader(reader, (body, elementType) -> reader.read(body, JavaType.parameterized(Collection.class, elementType))
+				.map(f -> f.thenApply(c -> new IterablePublisher<>(c == null ? emptyList() : (Collection<Object>) c))));
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http.codec;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class PublisherStream<T> implements Iterator<T>, AutoCloseable {
+
+	private static final Object COMPLETE = new Object();
+	private static final Object CLOSED = new Object();
+
+	private final Publisher<T> publisher;
+
+	private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+	private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+	private volatile Subscription subscription;
+	private volatile boolean closed = false;
+
+	private T next;
+	private boolean done = false;
+
+	private PublisherStream(Publisher<T> publisher) {
+		this.publisher = publisher;
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (next == null) {
+			if (closed || done)
+				return false;
+
+			receive();
+		}
+		return true;
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+
+		T value = next;
+		next = null;
+		return value;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void receive() {
+		subscribe();
+
+		try {
+			Object signal = signals.take();
+
+			if (signal == COMPLETE)
+				done = true;
+
+			else if (signal instanceof Throwable) {
+				close();
+				throw signal instanceof HTTPResponseReaderException ?
+						(HTTPResponseReaderException) signal :
+						new HTTPResponseReaderException("Failed to read the response body.", (Throwable) signal);
+
+			} else if (signal != CLOSED) {
+				next = (T) signal;
+				subscription.request(1);
+			}
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			close();
+			throw new HTTPResponseReaderException("Interrupted while waiting for the response body.", e);
+		}
+	}
+
+	private void subscribe() {
+		if (subscribed.compareAndSet(false, true))
+			publisher.subscribe(new QueueSubscriber());
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+
+		// a stream closed before it was read still subscribes, so the source can release the body
+		subscribe();
+
+		Subscription s = subscription;
+		if (s != null)
+			s.cancel();
+
+		signals.add(CLOSED);
+	}
+
+	private class QueueSubscriber implements Subscriber<T> {
+
+		@Override
+		public void onSubscribe(Subscription subscription) {
+			PublisherStream.this.subscription = subscription;
+
+			if (closed)
+				subscription.cancel();
+			else
+				subscription.request(1);
+		}
+
+		@Override
+		public void onNext(T item) {
+			signals.add(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			signals.add(throwable);
+		}
+
+		@Override
+		public void onComplete() {
+			signals.add(COMPLETE);
+		}
+	}
+
+	public static <T> Stream<T> of(Publisher<T> publisher) {
+		PublisherStream<T> elements = new PublisherStream<>(publisher);
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(elements, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(elements::close);
+	}
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http.codec;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.StreamingPublisher;
+import com.github.ljtfreitas.julian.http.Event;
+import com.github.ljtfreitas.julian.http.HTTPResponseBody;
+import com.github.ljtfreitas.julian.http.MediaType;
+
+import static com.github.ljtfreitas.julian.Message.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class ServerSentEventHTTPResponseReader implements StreamingHTTPResponseReader<Object> {
+
+	private static final Collection<MediaType> EVENT_STREAM_MEDIA_TYPES = List.of(MediaType.TEXT_EVENT_STREAM);
+
+	private static final Collection<MediaType> DATA_MEDIA_TYPES = List.of(MediaType.APPLICATION_JSON, MediaType.TEXT_PLAIN);
+
+	private final HTTPResponseReaders readers;
+
+	public ServerSentEventHTTPResponseReader(HTTPResponseReaders readers) {
+		this.readers = readers;
+	}
+
+	@Override
+	public Collection<MediaType> contentTypes() {
+		return EVENT_STREAM_MEDIA_TYPES;
+	}
+
+	@Override
+	public boolean streamable(MediaType candidate, JavaType elementType) {
+		return supports(candidate) && decoder(dataType(elementType)).isPresent();
+	}
+
+	@Override
+	public Optional<CompletableFuture<Stream<Object>>> stream(HTTPResponseBody body, JavaType elementType) {
+		Function<Event<String>, Object> fn = mapper(elementType);
+
+		return body.content()
+				.map(content -> stream(new EventStreamPublisher(content, fn)))
+				.map(CompletableFuture::completedFuture);
+	}
+
+	@Override
+	public Optional<Publisher<Object>> publisher(HTTPResponseBody body, JavaType elementType) {
+		Function<Event<String>, Object> fn = mapper(elementType);
+
+		return body.content().map(content -> new EventStreamPublisher(content, fn));
+	}
+
+	@Override
+	public boolean readable(MediaType candidate, JavaType javaType) {
+		return (javaType.is(Collection.class) || javaType.is(List.class))
+				&& streamable(candidate, StreamHTTPResponseReader.elementType(javaType));
+	}
+
+	@Override
+	public Optional<CompletableFuture<Object>> read(HTTPResponseBody body, JavaType javaType) {
+		return stream(body, StreamHTTPResponseReader.elementType(javaType))
+				.map(f -> f.thenApply(events -> {
+					try (events) {
+						return events.collect(Collectors.toList());
+					}
+				}));
+	}
+
+	private Function<Event<String>, Object> mapper(JavaType elementType) {
+		JavaType dataType = dataType(elementType);
+
+		Function<String, Object> decoder = decoder(dataType)
+				.orElseThrow(() -> new HTTPResponseReaderException(format("There is no a HTTPResponseReader able to convert event data to {0}", dataType)));
+
+		return elementType.is(Event.class) ? e -> e.map(decoder) : e -> decoder.apply(e.data());
+	}
+
+	private JavaType dataType(JavaType elementType) {
+		return elementType.is(Event.class) ? StreamHTTPResponseReader.elementType(elementType) : elementType;
+	}
+
+	private Optional<Function<String, Object>> decoder(JavaType dataType) {
+		if (dataType.is(String.class) || dataType.is(Object.class))
+			return Optional.of(data -> data);
+
+		return DATA_MEDIA_TYPES.stream()
+				.flatMap(mediaType -> readers.select(mediaType, dataType).stream())
+				.findFirst()
+				.map(reader -> data -> decode(reader, data, dataType));
+	}
+
+	private Object decode(HTTPResponseReader<?> reader, String data, JavaType dataType) {
+		try {
+			return reader.read(HTTPResponseBody.some(data.getBytes(UTF_8)), dataType)
+					.map(CompletableFuture::join)
+					.orElse(null);
+
+		} catch (CompletionException e) {
+			throw e.getCause() instanceof HTTPResponseReaderException ?
+					(HTTPResponseReaderException) e.getCause() :
+					new HTTPResponseReaderException(format("Event data deserialization failed. The target type was: {0}", dataType), e.getCause());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Stream<Object> stream(EventStreamPublisher events) {
+		Stream<Object> stream = PublisherStream.of(events);
+
+		// the stream also answers as an EventStream, so a reconnection can resume from the parser state
+		return (Stream<Object>) Proxy.newProxyInstance(EventStream.class.getClassLoader(), new Class<?>[] { Stream.class, EventStream.class },
+				(proxy, method, args) -> {
+					try {
+						return method.invoke(method.getDeclaringClass() == EventStream.class ? events : stream, args);
+					} catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				});
+	}
+
+	private static class EventStreamPublisher implements StreamingPublisher<Object>, EventStream {
+
+		private final Publisher<List<ByteBuffer>> content;
+		private final Function<Event<String>, Object> fn;
+		private final EventParser parser = new EventParser();
+
+		private EventStreamPublisher(Publisher<List<ByteBuffer>> content, Function<Event<String>, Object> fn) {
+			this.content = content;
+			this.fn = fn;
+		}
+
+		@Override
+		public void subscribe(Subscriber<? super Object> subscriber) {
+			SplitPublisher.lines(content, line -> parser.parse(line).map(fn).orElse(null)).subscribe(subscriber);
+		}
+
+		@Override
+		public StreamingPublisher<Object> events() {
+			return this;
+		}
+
+		@Override
+		public Optional<String> lastEventId() {
+			return Optional.ofNullable(parser.lastEventId);
+		}
+
+		@Override
+		public Optional<Duration> retry() {
+			return Optional.ofNullable(parser.reconnectionTime);
+		}
+	}
+
+	private static class EventParser {
+
+		private volatile String lastEventId = null;
+		private volatile Duration reconnectionTime = null;
+
+		private String event = null;
+		private StringBuilder data = null;
+		private Duration retry = null;
+
+		private boolean first = true;
+
+		private Optional<Event<String>> parse(ByteBuffer line) {
+			return Optional.ofNullable(field(UTF_8.decode(line).toString()));
+		}
+
+		private Event<String> field(String line) {
+			if (first) {
+				first = false;
+				if (line.startsWith("\uFEFF")) line = line.substring(1);
+			}
+
+			if (line.isEmpty())
+				return dispatch();
+
+			if (line.startsWith(":"))
+				return null;
+
+			int colon = line.indexOf(':');
+
+			String name = colon == -1 ? line : line.substring(0, colon);
+			String value = colon == -1 ? "" : line.substring(value(line, colon));
+
+			switch (name) {
+				case "event":
+					event = value;
+					break;
+
+				case "data":
+					data = data == null ? new StringBuilder(value) : data.append('\n').append(value);
+					break;
+
+				case "id":
+					if (value.indexOf('\0') == -1) lastEventId = value;
+					break;
+
+				case "retry":
+					retry(value).ifPresent(r -> retry = reconnectionTime = r);
+					break;
+
+				default:
+			}
+
+			return null;
+		}
+
+		private Optional<Duration> retry(String value) {
+			if (value.isEmpty() || !value.chars().allMatch(Character::isDigit))
+				return Optional.empty();
+
+			try {
+				return Optional.of(Duration.ofMillis(Long.parseLong(value)));
+			} catch (NumberFormatException e) {
+				return Optional.empty();
+			}
+		}
+
+		private int value(String line, int colon) {
+			return line.length() > colon + 1 && line.charAt(colon + 1) == ' ' ? colon + 2 : colon + 1;
+		}
+
+		private Event<String> dispatch() {
+			if (data == null) {
+				event = null;
+				return null;
+			}
+
+			Event<String> dispatched = new Event<>(lastEventId, event, data.toString(), retry);
+
+			event = null;
+			data = null;
+			retry = null;
+
+			return dispatched;
+		}
+	}
+}
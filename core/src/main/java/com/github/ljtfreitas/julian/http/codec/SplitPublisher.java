@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http.codec;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class SplitPublisher<T> implements Publisher<T> {
+
+	private final Publisher<List<ByteBuffer>> source;
+	private final Supplier<ByteBufferSplitter> splitter;
+	private final Supplier<Function<ByteBuffer, T>> decoder;
+
+	private SplitPublisher(Publisher<List<ByteBuffer>> source, Supplier<ByteBufferSplitter> splitter, Supplier<Function<ByteBuffer, T>> decoder) {
+		this.source = source;
+		this.splitter = splitter;
+		this.decoder = decoder;
+	}
+
+	@Override
+	public void subscribe(Subscriber<? super T> subscriber) {
+		source.subscribe(new SplitSubscription(subscriber, splitter.get(), decoder.get()));
+	}
+
+	private class SplitSubscription implements Subscriber<List<ByteBuffer>>, Subscription {
+
+		private final Subscriber<? super T> subscriber;
+		private final ByteBufferSplitter splitter;
+		private final Function<ByteBuffer, T> decoder;
+
+		private final Queue<List<ByteBuffer>> received = new ConcurrentLinkedQueue<>();
+
+		private final AtomicLong demand = new AtomicLong(0);
+		private final AtomicInteger wip = new AtomicInteger(0);
+
+		private volatile Subscription upstream;
+		private volatile boolean done = false;
+		private volatile boolean cancelled = false;
+		private volatile Throwable failure;
+
+		private ByteBuffer next = null;
+		private boolean pulling = false;
+
+		private SplitSubscription(Subscriber<? super T> subscriber, ByteBufferSplitter splitter, Function<ByteBuffer, T> decoder) {
+			this.subscriber = subscriber;
+			this.splitter = splitter;
+			this.decoder = decoder;
+		}
+
+		@Override
+		public void onSubscribe(Subscription subscription) {
+			this.upstream = subscription;
+			subscriber.onSubscribe(this);
+		}
+
+		@Override
+		public void onNext(List<ByteBuffer> item) {
+			received.add(item);
+			drain();
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			failure = throwable;
+			done = true;
+			drain();
+		}
+
+		@Override
+		public void onComplete() {
+			done = true;
+			drain();
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				cancel();
+				subscriber.onError(new IllegalArgumentException("Subscription request must be positive: " + n));
+				return;
+			}
+
+			demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			if (!cancelled) {
+				cancelled = true;
+				upstream.cancel();
+			}
+		}
+
+		private void drain() {
+			if (wip.getAndIncrement() != 0)
+				return;
+
+			int missed = 1;
+
+			do {
+				long requested = demand.get();
+				long emitted = 0;
+
+				while (!cancelled) {
+					if (failure != null) {
+						cancelled = true;
+						subscriber.onError(failure);
+						return;
+					}
+
+					boolean completed = done;
+
+					if (next == null)
+						next = splitter.next();
+
+					if (next == null) {
+						List<ByteBuffer> chunk = received.poll();
+
+						if (chunk != null) {
+							pulling = false;
+							splitter.add(chunk);
+							continue;
+						}
+
+						if (completed && (next = splitter.last()) == null) {
+							cancelled = true;
+							subscriber.onComplete();
+							return;
+						}
+					}
+
+					if (next == null) {
+						if (!pulling) {
+							pulling = true;
+							upstream.request(1);
+						}
+						break;
+					}
+
+					if (emitted == requested)
+						break;
+
+					T element;
+
+					try {
+						element = decoder.apply(next);
+						next = null;
+
+					} catch (Throwable e) {
+						cancel();
+						subscriber.onError(e);
+						return;
+					}
+
+					if (element != null) {
+						subscriber.onNext(element);
+						emitted++;
+					}
+				}
+
+				if (emitted > 0)
+					demand.addAndGet(-emitted);
+
+				missed = wip.addAndGet(-missed);
+
+			} while (missed != 0 && !cancelled);
+		}
+	}
+
+	public static <T> Publisher<T> lines(Publisher<List<ByteBuffer>> source, Function<ByteBuffer, T> decoder) {
+		return lines(source, () -> decoder);
+	}
+
+	static <T> Publisher<T> lines(Publisher<List<ByteBuffer>> source, Supplier<Function<ByteBuffer, T>> decoder) {
+		return new SplitPublisher<>(source, ByteBufferSplitter::lines, decoder);
+	}
+
+	public static <T> Publisher<T> arrayElements(Publisher<List<ByteBuffer>> source, Function<ByteBuffer, T> decoder) {
+		return new SplitPublisher<>(source, ByteBufferSplitter::arrayElements, () -> decoder);
+	}
+}
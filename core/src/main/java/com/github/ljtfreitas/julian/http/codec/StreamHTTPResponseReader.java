@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http.codec;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.http.HTTPResponseBody;
+import com.github.ljtfreitas.julian.http.MediaType;
+
+class StreamHTTPResponseReader implements HTTPResponseReader<Stream<Object>> {
+
+	private final HTTPMessageCodec codec;
+	private final BiFunction<HTTPResponseBody, JavaType, Optional<CompletableFuture<Stream<Object>>>> fn;
+
+	private StreamHTTPResponseReader(HTTPMessageCodec codec, BiFunction<HTTPResponseBody, JavaType, Optional<CompletableFuture<Stream<Object>>>> fn) {
+		this.codec = codec;
+		this.fn = fn;
+	}
+
+	@Override
+	public Collection<MediaType> contentTypes() {
+		return codec.contentTypes();
+	}
+
+	@Override
+	public boolean readable(MediaType candidate, JavaType javaType) {
+		return codec.supports(candidate) && javaType.is(Stream.class);
+	}
+
+	@Override
+	public Optional<CompletableFuture<Stream<Object>>> read(HTTPResponseBody body, JavaType javaType) {
+		return fn.apply(body, elementType(javaType));
+	}
+
+	static JavaType elementType(JavaType javaType) {
+		return javaType.parameterized()
+				.map(JavaType.Parameterized::firstArg)
+				.map(JavaType::valueOf)
+				.orElseGet(JavaType::object);
+	}
+
+	static StreamHTTPResponseReader elements(StreamingHTTPResponseReader<?> reader) {
+		return new StreamHTTPResponseReader(reader, reader::stream);
+	}
+
+	@SuppressWarnings("unchecked")
+	static StreamHTTPResponseReader collection(HTTPResponseReader<?> reader) {
+		return new StreamHTTPResponseReader(reader, (body, elementType) -> reader.read(body, JavaType.parameterized(Collection.class, elementType))
+				.map(f -> f.thenApply(c -> c == null ? Stream.empty() : ((Collection<Object>) c).stream())));
+	}
+}
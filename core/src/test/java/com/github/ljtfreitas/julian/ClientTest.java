@@ -0,0 +1,54 @@
+package com.github.ljtfreitas.julian;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.github.ljtfreitas.julian.Endpoint.Path;
+import com.github.ljtfreitas.julian.http.HTTP;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClientTest {
+
+	@Mock
+	Responses responses;
+
+	@Mock
+	HTTP http;
+
+	@Mock
+	ResponseFn<Object, Object> responseFn;
+
+	@Test
+	void compile() {
+		Endpoint endpoint = new Endpoint(new Path("http://my.api.com"));
+
+		when(responses.select(endpoint)).then(a -> responseFn);
+
+		CompiledEndpoint<Object> compiled = new Client(responses, http, null).compile(endpoint);
+
+		assertSame(responseFn, compiled.responseFn());
+		assertSame(responseFn, compiled.responseFn());
+
+		verify(responses, times(1)).select(endpoint);
+	}
+
+	@Test
+	void unsupportedReturnTypeFailsOnlyWhenTheMethodIsCalled() {
+		Endpoint endpoint = new Endpoint(new Path("http://my.api.com"));
+
+		when(responses.select(endpoint)).thenThrow(new IllegalStateException("unsupported return type"));
+
+		CompiledEndpoint<Object> compiled = assertDoesNotThrow(() -> new Client(responses, http, null).<Object> compile(endpoint));
+
+		assertThrows(IllegalStateException.class, compiled::responseFn);
+	}
+}
@@ -16,6 +16,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.endsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -186,4 +187,79 @@ class DefaultPromiseTest {
             assertEquals("hello world", result);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class WithDirectExecution {
+
+        @Test
+        void continuationsRunOnCompletingThread() {
+            Executor executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "user-callbacks"));
+
+            CompletableFuture<String> future = new CompletableFuture<>();
+
+            CompletableFuture<String> threads = Promise.pending(future, executor, Promise.Execution.DIRECT)
+                    .then(value -> Thread.currentThread().getName())
+                    .bind(Promise::done)
+                    .future();
+
+            Thread completing = new Thread(() -> future.complete("hello"), "completing");
+            completing.start();
+
+            assertEquals("completing", threads.join());
+        }
+
+        @Test
+        void userContinuationsAreDispatched() {
+            Executor executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "user-callbacks"));
+
+            CompletableFuture<String> future = new CompletableFuture<>();
+
+            CompletableFuture<String> thread = DefaultPromise.async(Promise.pending(future, executor, Promise.Execution.DIRECT))
+                    .then(value -> Thread.currentThread().getName())
+                    .future();
+
+            new Thread(() -> future.complete("hello"), "completing").start();
+
+            assertEquals("user-callbacks", thread.join());
+        }
+
+        @Test
+        void callbacksAreDispatched() {
+            Executor executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "user-callbacks"));
+
+            CompletableFuture<String> thread = new CompletableFuture<>();
+
+            Promise.pending(CompletableFuture.completedFuture("hello"), executor, Promise.Execution.DIRECT)
+                    .onSuccess(value -> thread.complete(Thread.currentThread().getName()));
+
+            assertEquals("user-callbacks", thread.join());
+        }
+    }
+
+    @Nested
+    class WhenDisposed {
+
+        @Test
+        void disposeTheSourceOfADerivedPromise() {
+            CompletableFuture<String> source = new CompletableFuture<>();
+
+            Promise<String> derived = Promise.pending(source).then(value -> value + " world").recover(e -> "recovered");
+
+            derived.dispose();
+
+            assertTrue(source.isCancelled());
+        }
+
+        @Test
+        void disposeTheBoundPromise() {
+            CompletableFuture<String> bound = new CompletableFuture<>();
+
+            Promise<String> derived = Promise.pending(CompletableFuture.completedFuture("hello"), null, Promise.Execution.DIRECT)
+                    .bind(value -> Promise.pending(bound)).then(value -> value + " world");
+
+            derived.dispose();
+
+            assertTrue(bound.isCancelled());
+        }
+    }
+}
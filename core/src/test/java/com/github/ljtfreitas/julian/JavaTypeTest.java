@@ -304,6 +304,18 @@ class JavaTypeTest {
 					  () -> assertThat(parameterized.getActualTypeArguments(), arrayContaining(String.class)));
 		}
 
+		@Test
+		void parameterizedEquality() throws Exception {
+			JavaType javaType = JavaType.parameterized(Collection.class, String.class);
+			JavaType other = JavaType.parameterized(Collection.class, String.class);
+			JavaType reflected = JavaType.valueOf(SimpleParameterizedType.class.getMethod("strings").getGenericReturnType());
+
+			assertAll(() -> assertEquals(javaType, other),
+					  () -> assertEquals(javaType.hashCode(), other.hashCode()),
+					  () -> assertEquals(javaType, reflected),
+					  () -> assertEquals(javaType.hashCode(), reflected.hashCode()));
+		}
+
 		@Test
 		void array() {
 			JavaType javaType = JavaType.valueOf(String[].class);
@@ -321,6 +333,8 @@ class JavaTypeTest {
 		T get();
 
 		Collection<T> all();
+
+		Collection<String> strings();
 		
 		T[] array();
 
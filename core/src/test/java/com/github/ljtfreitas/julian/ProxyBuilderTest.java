@@ -69,10 +69,12 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockserver.model.HttpRequest.request;
@@ -217,6 +219,30 @@ class ProxyBuilderTest {
                 verify(httpClientRequest).execute();
             }
 
+            @Test
+            @DisplayName("Should cancel the HTTP client request when the proxy's promise is disposed")
+            void shouldCancelTheHTTPClientRequestWhenThePromiseIsDisposed(@Mock HTTPClient httpClient, @Mock HTTPClientRequest httpClientRequest) {
+                ResponsesApi responsesApi = new ProxyBuilder()
+                        .http()
+                            .client()
+                                .with(httpClient)
+                            .and()
+                        .build(ResponsesApi.class, "http://localhost:8090");
+
+                CompletableFuture<HTTPClientResponse> response = new CompletableFuture<>();
+
+                when(httpClient.request(any())).thenReturn(httpClientRequest);
+                when(httpClientRequest.execute()).thenReturn(Promise.pending(response));
+
+                Promise<String> promise = responsesApi.promise();
+
+                verify(httpClientRequest, timeout(5000)).execute();
+
+                promise.dispose();
+
+                assertTrue(response.isCancelled());
+            }
+
             @Nested
             @MockServerSettings(ports = 8090)
             class Interceptors {
@@ -1,10 +1,8 @@
 package com.github.ljtfreitas.julian;
 
-import java.lang.reflect.InvocationHandler;
-import java.util.Optional;
+import java.util.List;
 
 import org.hamcrest.MatcherAssert;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -12,11 +10,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.github.ljtfreitas.julian.Endpoint.Path;
 import com.github.ljtfreitas.julian.contract.Contract;
+import com.github.ljtfreitas.julian.contract.Endpoints;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,32 +26,27 @@ class ProxyFactoryTest {
 	@Mock
 	Client client;
 
-	InvocationHandler invocationHandler;
-
-	ProxyFactory<MyApiType> proxyFactory;
-
-	@BeforeEach
-	void setup() {		
-		this.proxyFactory = new ProxyFactory<>(MyApiType.class, new DefaultInvocationHandler(contract, client));
+	private ProxyFactory<MyApiType> proxyFactory() {
+		return new ProxyFactory<>(MyApiType.class, new DefaultInvocationHandler(contract, client));
 	}
 
 	@Test
-	void simple() {
-		Endpoint endpoint = new Endpoint(new Path("http://my.api.com"));
+	void simple() throws NoSuchMethodException {
+		MethodEndpoint endpoint = new MethodEndpoint(new Endpoint(new Path("http://my.api.com")), MyApiType.class.getMethod("method", String.class));
+		CompiledEndpoint<Object> compiled = new CompiledEndpoint<>(endpoint, null);
 
-		when(contract.endpoints().select(any())).then(a -> Optional.of(endpoint));
-		when(client.run(endpoint, Arguments.create("argument"))).thenReturn("expected");
+		when(contract.endpoints()).thenReturn(new Endpoints(List.of(endpoint)));
+		when(client.compile(endpoint)).then(a -> compiled);
+		when(client.run(compiled, Arguments.create("argument"))).thenReturn("expected");
 
-		MyApiType myApiType = proxyFactory.create();
+		MyApiType myApiType = proxyFactory().create();
 
 		assertEquals("expected", myApiType.method("argument"));
 	}
 
 	@Test
 	void defaultMethod() {
-		when(contract.endpoints().select(any())).thenReturn(Optional.empty());
-
-		MyApiType myApiType = proxyFactory.create();
+		MyApiType myApiType = proxyFactory().create();
 
 		assertEquals("default method", myApiType.defaultMethod());
 	}
@@ -65,9 +58,7 @@ class ProxyFactoryTest {
 
 	@Test
 	void objectMethod() {
-		when(contract.endpoints().select(any())).thenReturn(Optional.empty());
-
-		MyApiType myApiType = proxyFactory.create();
+		MyApiType myApiType = proxyFactory().create();
 
 		MatcherAssert.assertThat(myApiType.toString(), containsString("DefaultInvocationHandler"));
 	}
@@ -8,8 +8,6 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
-import java.util.Collection;
-import java.util.List;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Nested;
@@ -51,25 +49,36 @@ class StreamResponseTTest {
 		void parameterized() {
 			when(endpoint.returnType()).thenReturn(JavaType.parameterized(Stream.class, String.class));
 
-			assertEquals(JavaType.parameterized(Collection.class, String.class), responseT.adapted(endpoint));
+			assertEquals(JavaType.parameterized(Stream.class, String.class), responseT.adapted(endpoint));
 		}
 
 		@Test
 		void simple() {
 			when(endpoint.returnType()).thenReturn(JavaType.object());
 
-			assertEquals(JavaType.parameterized(Collection.class, Object.class), responseT.adapted(endpoint));
+			assertEquals(JavaType.parameterized(Stream.class, Object.class), responseT.adapted(endpoint));
 		}
 	}
 
 	@Test
-	void compose(@Mock ResponseFn<Collection<String>, Collection<Object>> fn, @Mock Promise<Response<Collection<String>, Throwable>> response) {
+	void compose(@Mock ResponseFn<Stream<String>, Stream<Object>> fn, @Mock Promise<Response<Stream<String>, Throwable>> response) {
 		Arguments arguments = Arguments.empty();
 
-		when(fn.run(response, arguments)).thenReturn(Promise.done(List.of("expected")));
+		when(fn.run(response, arguments)).thenReturn(Promise.done(Stream.of("expected")));
 
 		Stream<Object> stream = responseT.bind(endpoint, fn).join(response, arguments);
 
 		assertThat(stream.collect(toList()), hasItem("expected"));
 	}
+
+	@Test
+	void empty(@Mock ResponseFn<Stream<String>, Stream<Object>> fn, @Mock Promise<Response<Stream<String>, Throwable>> response) {
+		Arguments arguments = Arguments.empty();
+
+		when(fn.run(response, arguments)).thenReturn(Promise.done(null));
+
+		Stream<Object> stream = responseT.bind(endpoint, fn).join(response, arguments);
+
+		assertEquals(0, stream.count());
+	}
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.List;
+
+import com.github.ljtfreitas.julian.Endpoint.Parameter;
+import com.github.ljtfreitas.julian.contract.ParameterSerializer;
+import com.github.ljtfreitas.julian.contract.QueryParameterSerializer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class URITemplateTest {
+
+    private final ParameterSerializer<Object, String> pathParameterSerializer = ParameterSerializer.simple();
+    private final QueryParameterSerializer queryParameterSerializer = new QueryParameterSerializer();
+
+    @Nested
+    class Paths {
+
+        @Test
+        void literal() {
+            URITemplate template = new URITemplate("http://my.api.com/resource", QueryParameters.empty(), List.of());
+
+            assertThat(template.expand(Arguments.empty()), equalTo(URI.create("http://my.api.com/resource")));
+        }
+
+        @Test
+        void variables() {
+            URITemplate template = new URITemplate("http://my.api.com/{arg1}/{arg2}", QueryParameters.empty(),
+                    List.of(Parameter.path(0, "arg1", JavaType.valueOf(String.class), pathParameterSerializer),
+                            Parameter.path(1, "arg2", JavaType.valueOf(String.class), pathParameterSerializer)));
+
+            assertThat(template.expand(Arguments.create("value1", "value2")), equalTo(URI.create("http://my.api.com/value1/value2")));
+        }
+
+        @Test
+        void encodeIllegalCharacters() {
+            URITemplate template = new URITemplate("http://my.api.com/{arg}", QueryParameters.empty(),
+                    List.of(Parameter.path(0, "arg", JavaType.valueOf(String.class), pathParameterSerializer)));
+
+            assertThat(template.expand(Arguments.create("my value\u00e7")).toString(), equalTo("http://my.api.com/my%20value%C3%A7"));
+        }
+
+        @Test
+        void keepEscapedOctets() {
+            URITemplate template = new URITemplate("http://my.api.com/{arg}", QueryParameters.empty(),
+                    List.of(Parameter.path(0, "arg", JavaType.valueOf(String.class), pathParameterSerializer)));
+
+            assertThat(template.expand(Arguments.create("my%20value")).toString(), equalTo("http://my.api.com/my%20value"));
+        }
+
+        @Test
+        void rejectNullArguments() {
+            URITemplate template = new URITemplate("http://my.api.com/{arg}", QueryParameters.empty(),
+                    List.of(Parameter.path(0, "arg", JavaType.valueOf(String.class), pathParameterSerializer)));
+
+            assertThrows(IllegalArgumentException.class, () -> template.expand(Arguments.create(new Object[]{null})));
+        }
+    }
+
+    @Nested
+    class Queries {
+
+        @Test
+        void mergeStaticAndDynamicParameters() {
+            URITemplate template = new URITemplate("http://my.api.com?param1=value1", QueryParameters.create("param2", "value2"),
+                    List.of(Parameter.query(0, "param3", JavaType.valueOf(String.class), queryParameterSerializer)));
+
+            assertThat(template.expand(Arguments.create("value3")),
+                    equalTo(URI.create("http://my.api.com?param2=value2&param1=value1&param3=value3")));
+        }
+
+        @Test
+        void collectionArgument() {
+            URITemplate template = new URITemplate("http://my.api.com", QueryParameters.empty(),
+                    List.of(Parameter.query(0, "params", JavaType.parameterized(Collection.class, String.class), queryParameterSerializer)));
+
+            assertThat(template.expand(Arguments.create(List.of("value1", "value2"))),
+                    equalTo(URI.create("http://my.api.com?params=value1&params=value2")));
+        }
+
+        @Test
+        void encodeValuesOnlyOnce() {
+            URITemplate template = new URITemplate("http://my.api.com", QueryParameters.empty(),
+                    List.of(Parameter.query(0, "param", JavaType.valueOf(String.class), queryParameterSerializer)));
+
+            assertThat(template.expand(Arguments.create("my value&more")).toString(), equalTo("http://my.api.com?param=my+value%26more"));
+        }
+
+        @Test
+        void variablesOnQueryString() {
+            URITemplate template = new URITemplate("http://my.api.com/{id}?q={term}#fragment", QueryParameters.empty(),
+                    List.of(Parameter.path(0, "id", JavaType.valueOf(String.class), pathParameterSerializer),
+                            Parameter.path(1, "term", JavaType.valueOf(String.class), pathParameterSerializer)));
+
+            assertThat(template.expand(Arguments.create("1", "value")), equalTo(URI.create("http://my.api.com/1?q=value#fragment")));
+        }
+
+        @Test
+        void sameLiteralIsSentTheSameWayWithOrWithoutVariables() {
+            URITemplate literal = new URITemplate("http://my.api.com?path=a%2Fb&sum=1+1", QueryParameters.empty(), List.of());
+
+            URITemplate dynamic = new URITemplate("http://my.api.com?path=a%2Fb&sum=1+1&q={term}", QueryParameters.empty(),
+                    List.of(Parameter.path(0, "term", JavaType.valueOf(String.class), pathParameterSerializer)));
+
+            assertThat(literal.expand(Arguments.empty()).toString(), equalTo("http://my.api.com?path=a%2Fb&sum=1%2B1"));
+            assertThat(dynamic.expand(Arguments.create("a/b")).toString(), equalTo("http://my.api.com?path=a%2Fb&sum=1%2B1&q=a%2Fb"));
+        }
+    }
+}
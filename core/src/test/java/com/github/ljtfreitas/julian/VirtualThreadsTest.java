@@ -0,0 +1,19 @@
+package com.github.ljtfreitas.julian;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+class VirtualThreadsTest {
+
+    @Test
+    void fallbackToTheDefaultExecutorBeforeJava21() {
+        assumeFalse(VirtualThreads.available());
+
+        assertTrue(VirtualThreads.executor().isEmpty());
+
+        assertDoesNotThrow(() -> new ProxyBuilder().async().virtualThreads());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.contract;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.github.ljtfreitas.julian.Cookies;
+import com.github.ljtfreitas.julian.Endpoint;
+import com.github.ljtfreitas.julian.Endpoint.Parameters;
+import com.github.ljtfreitas.julian.Endpoint.Path;
+import com.github.ljtfreitas.julian.Headers;
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.MethodEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EndpointsTest {
+
+    @Test
+    void selectByMethod() throws NoSuchMethodException {
+        Method method1 = Whatever.class.getMethod("method1");
+        Method method2 = Whatever.class.getMethod("method2");
+
+        MethodEndpoint endpoint1 = new MethodEndpoint(new Endpoint(new Path("http://my.api.com/1"), "GET", Headers.empty(), Cookies.empty(), Parameters.empty(), JavaType.none()), method1);
+        MethodEndpoint endpoint2 = new MethodEndpoint(new Endpoint(new Path("http://my.api.com/2"), "GET", Headers.empty(), Cookies.empty(), Parameters.empty(), JavaType.none()), method2);
+
+        Endpoints endpoints = new Endpoints(List.of(endpoint1, endpoint2));
+
+        assertThat(endpoints.select(method1).get(), sameInstance(endpoint1));
+        assertThat(endpoints.select(method2).get(), sameInstance(endpoint2));
+    }
+
+    @Test
+    void selectByEqualMethodFromAnotherLookup() throws NoSuchMethodException {
+        MethodEndpoint endpoint = new MethodEndpoint(new Endpoint(new Path("http://my.api.com/1"), "GET", Headers.empty(), Cookies.empty(), Parameters.empty(), JavaType.none()),
+                Whatever.class.getMethod("method1"));
+
+        Endpoints endpoints = new Endpoints(List.of(endpoint));
+
+        Method method = Whatever.class.getDeclaredMethod("method1");
+
+        assertThat(endpoints.select(method).get(), sameInstance(endpoint));
+    }
+
+    @Test
+    void unknownMethod() throws NoSuchMethodException {
+        Endpoints endpoints = new Endpoints(List.of());
+
+        Optional<? extends Endpoint> endpoint = endpoints.select(Object.class.getMethod("toString"));
+
+        assertTrue(endpoint.isEmpty());
+    }
+
+    @Test
+    void compileFromTheIndex() throws NoSuchMethodException {
+        Method method1 = Whatever.class.getMethod("method1");
+        Method method2 = Whatever.class.getMethod("method2");
+
+        MethodEndpoint endpoint1 = new MethodEndpoint(new Endpoint(new Path("http://my.api.com/1"), "GET", Headers.empty(), Cookies.empty(), Parameters.empty(), JavaType.none()), method1);
+        MethodEndpoint endpoint2 = new MethodEndpoint(new Endpoint(new Path("http://my.api.com/2"), "GET", Headers.empty(), Cookies.empty(), Parameters.empty(), JavaType.none()), method2);
+
+        Endpoints endpoints = new Endpoints(List.of(endpoint1, endpoint2));
+
+        Map<Method, Path> compiled = endpoints.compile(Endpoint::path);
+
+        assertThat(compiled, allOf(hasEntry(method1, endpoint1.path()), hasEntry(method2, endpoint2.path())));
+    }
+
+    interface Whatever {
+
+        String method1();
+
+        String method2();
+    }
+}
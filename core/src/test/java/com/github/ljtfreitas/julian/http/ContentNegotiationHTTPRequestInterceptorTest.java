@@ -0,0 +1,247 @@
+package com.github.ljtfreitas.julian.http;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.Promise;
+import com.github.ljtfreitas.julian.ProxyBuilder;
+import com.github.ljtfreitas.julian.contract.GET;
+import com.github.ljtfreitas.julian.http.client.HTTPClient;
+import com.github.ljtfreitas.julian.http.client.HTTPClientResponse;
+import com.github.ljtfreitas.julian.http.codec.BinaryHTTPMessageCodec;
+import com.github.ljtfreitas.julian.http.codec.HTTPResponseReader;
+import com.github.ljtfreitas.julian.http.codec.HTTPResponseReaders;
+import com.github.ljtfreitas.julian.http.codec.JsonHTTPMessageCodec;
+import com.github.ljtfreitas.julian.http.codec.StringHTTPMessageCodec;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.github.ljtfreitas.julian.http.HTTPHeader.ACCEPT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContentNegotiationHTTPRequestInterceptorTest {
+
+    private final HTTPResponseReaders readers = new HTTPResponseReaders(List.of(new StringHTTPMessageCodec(), new FakeJsonCodec(), new FakeCBORCodec()));
+
+    private final ContentNegotiationHTTPRequestInterceptor interceptor = new ContentNegotiationHTTPRequestInterceptor(readers);
+
+    @Test
+    void preferBinaryContentWhenABinaryCodecIsAbleToReadTheResponse() {
+        HTTPRequest<Object> request = new SimpleHTTPRequest(HTTPHeaders.empty(), JavaType.valueOf(Person.class));
+
+        HTTPRequest<Object> newRequest = interceptor.intercepts(Promise.done(request)).join().unsafe();
+
+        assertThat(newRequest.headers(), contains(new HTTPHeader(ACCEPT, "application/cbor, application/json;q=0.9")));
+    }
+
+    @Test
+    void dontTouchTheAcceptHeaderWhenItIsPresent() {
+        HTTPHeader accept = new HTTPHeader(ACCEPT, "application/json");
+
+        HTTPRequest<Object> request = new SimpleHTTPRequest(HTTPHeaders.create(accept), JavaType.valueOf(Person.class));
+
+        HTTPRequest<Object> newRequest = interceptor.intercepts(Promise.done(request)).join().unsafe();
+
+        assertThat(newRequest.headers(), contains(accept));
+    }
+
+    @Test
+    void dontNegotiateWhenThereIsNoBinaryCodec() {
+        HTTPResponseReaders readers = new HTTPResponseReaders(List.of(new StringHTTPMessageCodec(), new FakeJsonCodec()));
+
+        ContentNegotiationHTTPRequestInterceptor interceptor = new ContentNegotiationHTTPRequestInterceptor(readers);
+
+        HTTPRequest<Object> request = new SimpleHTTPRequest(HTTPHeaders.empty(), JavaType.valueOf(Person.class));
+
+        HTTPRequest<Object> newRequest = interceptor.intercepts(Promise.done(request)).join().unsafe();
+
+        assertThat(newRequest.headers().all(), empty());
+    }
+
+    @Test
+    void dontNegotiateWhenTheResponseIsReadAsRawContent() {
+        HTTPRequest<Object> request = new SimpleHTTPRequest(HTTPHeaders.empty(), JavaType.valueOf(String.class));
+
+        HTTPRequest<Object> newRequest = interceptor.intercepts(Promise.done(request)).join().unsafe();
+
+        assertThat(newRequest.headers().all(), empty());
+    }
+
+    @Nested
+    class ProxyBuilderOption {
+
+        private final AtomicReference<HTTPHeaders> headers = new AtomicReference<>();
+
+        private final HTTPClient httpClient = request -> {
+            headers.set(request.headers());
+            return () -> Promise.done(HTTPClientResponse.empty(HTTPStatus.valueOf(HTTPStatusCode.NO_CONTENT), HTTPHeaders.empty()));
+        };
+
+        @Test
+        void disabledByDefault() {
+            PersonApi personApi = new ProxyBuilder()
+                    .codecs()
+                        .add(new FakeJsonCodec(), new FakeCBORCodec())
+                        .and()
+                    .http()
+                        .client()
+                            .with(httpClient)
+                        .and()
+                    .build(PersonApi.class, "http://localhost:8090");
+
+            personApi.get();
+
+            assertTrue(headers.get().select(ACCEPT).isEmpty());
+        }
+
+        @Test
+        void enabled() {
+            PersonApi personApi = new ProxyBuilder()
+                    .codecs()
+                        .add(new FakeJsonCodec(), new FakeCBORCodec())
+                        .and()
+                    .http()
+                        .client()
+                            .with(httpClient)
+                        .negotiation()
+                            .enabled()
+                            .and()
+                        .and()
+                    .build(PersonApi.class, "http://localhost:8090");
+
+            personApi.get();
+
+            assertThat(headers.get(), contains(new HTTPHeader(ACCEPT, "application/cbor, application/json;q=0.9")));
+        }
+    }
+
+    interface PersonApi {
+
+        @GET("/person")
+        Person get();
+    }
+
+    private static class Person {
+    }
+
+    private static class FakeJsonCodec implements JsonHTTPMessageCodec<Object> {
+
+        @Override
+        public boolean readable(MediaType candidate, JavaType javaType) {
+            return supports(candidate) && javaType.is(Person.class);
+        }
+
+        @Override
+        public Optional<CompletableFuture<Object>> read(HTTPResponseBody body, JavaType javaType) {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean writable(MediaType candidate, JavaType javaType) {
+            return false;
+        }
+
+        @Override
+        public HTTPRequestBody write(Object body, Charset encoding) {
+            return null;
+        }
+    }
+
+    private static class FakeCBORCodec implements BinaryHTTPMessageCodec<Object> {
+
+        @Override
+        public Collection<MediaType> contentTypes() {
+            return List.of(MediaType.APPLICATION_CBOR);
+        }
+
+        @Override
+        public boolean readable(MediaType candidate, JavaType javaType) {
+            return supports(candidate) && (javaType.is(Person.class) || javaType.is(String.class));
+        }
+
+        @Override
+        public Optional<CompletableFuture<Object>> read(HTTPResponseBody body, JavaType javaType) {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean writable(MediaType candidate, JavaType javaType) {
+            return false;
+        }
+
+        @Override
+        public HTTPRequestBody write(Object body, Charset encoding) {
+            return null;
+        }
+    }
+
+    private static class SimpleHTTPRequest implements HTTPRequest<Object> {
+
+        private final HTTPHeaders headers;
+        private final JavaType returnType;
+
+        private SimpleHTTPRequest(HTTPHeaders headers, JavaType returnType) {
+            this.headers = headers;
+            this.returnType = returnType;
+        }
+
+        @Override
+        public JavaType returnType() {
+            return returnType;
+        }
+
+        @Override
+        public HTTPRequest<Object> path(URI path) {
+            return null;
+        }
+
+        @Override
+        public HTTPRequest<Object> method(HTTPMethod method) {
+            return null;
+        }
+
+        @Override
+        public HTTPRequest<Object> headers(HTTPHeaders headers) {
+            return new SimpleHTTPRequest(headers, returnType);
+        }
+
+        @Override
+        public HTTPRequest<Object> body(HTTPRequestBody body) {
+            return null;
+        }
+
+        @Override
+        public URI path() {
+            return null;
+        }
+
+        @Override
+        public HTTPMethod method() {
+            return null;
+        }
+
+        @Override
+        public HTTPHeaders headers() {
+            return headers;
+        }
+
+        @Override
+        public Optional<HTTPRequestBody> body() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Promise<HTTPResponse<Object>> execute() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.github.ljtfreitas.julian.http;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.Promise;
+import com.github.ljtfreitas.julian.http.client.HTTPClient;
+import com.github.ljtfreitas.julian.http.client.HTTPClientResponse;
+import com.github.ljtfreitas.julian.http.codec.HTTPMessageCodecs;
+import com.github.ljtfreitas.julian.http.codec.HTTPResponseReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscription;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultHTTPRequestIOTest {
+
+    private final ExecutorService eventLoop = Executors.newSingleThreadExecutor();
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @Mock
+    private HTTPRequest<String> request;
+
+    @Mock
+    private HTTPClient httpClient;
+
+    @AfterEach
+    void shutdown() {
+        eventLoop.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void blockingReadersAreDispatchedInDirectExecution() {
+        when(request.returnType()).thenReturn(JavaType.valueOf(String.class));
+
+        when(httpClient.request(any())).thenReturn(() -> Promise.pending(CompletableFuture.supplyAsync(
+                () -> HTTPClientResponse.create(HTTPStatus.valueOf(HTTPStatusCode.OK), HTTPHeaders.empty(), HTTPResponseBody.lazy(eventLoop("hello"))),
+                eventLoop)));
+
+        DefaultHTTPRequestIO<String> io = new DefaultHTTPRequestIO<>(request, httpClient, new HTTPMessageCodecs(List.of(new BlockingStringReader())),
+                HTTPResponseFailure.empty(), executor, Promise.Execution.DIRECT);
+
+        String body = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> io.execute().join().unsafe().body().unsafe());
+
+        assertEquals("hello", body);
+    }
+
+    @Test
+    void releaseTheRequestBodyWhenTheExchangeIsOver(@Mock HTTPRequestBody body) {
+        when(request.body()).thenReturn(Optional.of(body));
+
+        CompletableFuture<HTTPClientResponse> response = new CompletableFuture<>();
+
+        when(httpClient.request(any())).thenReturn(() -> Promise.pending(response));
+
+        DefaultHTTPRequestIO<String> io = new DefaultHTTPRequestIO<>(request, httpClient, new HTTPMessageCodecs(List.of()),
+                HTTPResponseFailure.empty(), null, Promise.Execution.ASYNC);
+
+        io.execute();
+
+        verify(body, never()).release();
+
+        response.complete(HTTPClientResponse.empty(HTTPStatus.valueOf(HTTPStatusCode.NO_CONTENT), HTTPHeaders.empty()));
+
+        verify(body).release();
+    }
+
+    private Publisher<List<ByteBuffer>> eventLoop(String content) {
+        return subscriber -> subscriber.onSubscribe(new Subscription() {
+
+            private boolean done = false;
+
+            @Override
+            public void request(long n) {
+                eventLoop.execute(() -> {
+                    if (done) return;
+                    done = true;
+                    subscriber.onNext(List.of(ByteBuffer.wrap(content.getBytes(UTF_8))));
+                    subscriber.onComplete();
+                });
+            }
+
+            @Override
+            public void cancel() {}
+        });
+    }
+
+    private static class BlockingStringReader implements HTTPResponseReader<String> {
+
+        @Override
+        public Collection<MediaType> contentTypes() {
+            return List.of(MediaType.ALL);
+        }
+
+        @Override
+        public boolean readable(MediaType candidate, JavaType javaType) {
+            return javaType.is(String.class);
+        }
+
+        @Override
+        public Optional<CompletableFuture<String>> read(HTTPResponseBody body, JavaType javaType) {
+            return body.readAsInputStream(this::read);
+        }
+
+        private String read(InputStream stream) {
+            try (stream) {
+                return new String(stream.readAllBytes(), UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.github.ljtfreitas.julian.http;
+
+import com.github.ljtfreitas.julian.Arguments;
+import com.github.ljtfreitas.julian.Endpoint;
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.ObjectResponseT;
+import com.github.ljtfreitas.julian.Promise;
+import com.github.ljtfreitas.julian.Response;
+import com.github.ljtfreitas.julian.ResponseFn;
+import com.github.ljtfreitas.julian.StreamingPublisher;
+import com.github.ljtfreitas.julian.http.codec.HTTPResponseReaders;
+import com.github.ljtfreitas.julian.http.codec.ServerSentEventHTTPResponseReader;
+import com.github.ljtfreitas.julian.http.codec.StringHTTPMessageCodec;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventPublisherResponseTTest {
+
+    @Mock
+    private Endpoint endpoint;
+
+    private final EventPublisherResponseT responseT = new EventPublisherResponseT();
+
+    @Nested
+    class Predicates {
+
+        @Test
+        void supported() {
+            when(endpoint.returnType()).thenReturn(JavaType.parameterized(Publisher.class, JavaType.parameterized(Event.class, String.class).get()));
+
+            assertTrue(responseT.test(endpoint));
+        }
+
+        @Test
+        void unsupported() {
+            when(endpoint.returnType()).thenReturn(JavaType.parameterized(Publisher.class, String.class));
+
+            assertFalse(responseT.test(endpoint));
+        }
+    }
+
+    @Test
+    void adapted() {
+        JavaType eventType = JavaType.parameterized(Event.class, String.class);
+
+        when(endpoint.returnType()).thenReturn(JavaType.parameterized(Publisher.class, eventType.get()));
+
+        assertEquals(JavaType.parameterized(StreamingPublisher.class, eventType.get()), responseT.adapted(endpoint));
+    }
+
+    @Test
+    void compose() throws Exception {
+        Promise<Response<StreamingPublisher<Object>, Throwable>> response = Promise.done(Response.done(events("id: 1\ndata: one\n\nid: 2\ndata: two\n\n")));
+
+        ResponseFn<StreamingPublisher<Object>, StreamingPublisher<Object>> fn = new ObjectResponseT<StreamingPublisher<Object>>().bind(endpoint, null);
+
+        Publisher<Object> publisher = responseT.bind(endpoint, fn).join(response, Arguments.empty());
+
+        List<Object> events = new ArrayList<>();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+
+        publisher.subscribe(new Subscriber<>() {
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Object item) {
+                events.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(null);
+            }
+        });
+
+        done.get(1, TimeUnit.SECONDS);
+
+        assertThat(events, contains(new Event<>("1", "message", "one", null), new Event<>("2", "message", "two", null)));
+    }
+
+    @Test
+    void failure() {
+        RuntimeException failure = new RuntimeException("oops");
+
+        Promise<Response<StreamingPublisher<Object>, Throwable>> response = Promise.failed(failure);
+
+        ResponseFn<StreamingPublisher<Object>, StreamingPublisher<Object>> fn = new ObjectResponseT<StreamingPublisher<Object>>().bind(endpoint, null);
+
+        Publisher<Object> publisher = responseT.bind(endpoint, fn).join(response, Arguments.empty());
+
+        CompletableFuture<Throwable> received = new CompletableFuture<>();
+        publisher.subscribe(new NoopSubscriber(received));
+
+        assertThat(received.join(), sameInstance(failure));
+    }
+
+    @Test
+    void singleSubscriber() {
+        Promise<Response<StreamingPublisher<Object>, Throwable>> response = Promise.done(Response.done(events("")));
+
+        ResponseFn<StreamingPublisher<Object>, StreamingPublisher<Object>> fn = new ObjectResponseT<StreamingPublisher<Object>>().bind(endpoint, null);
+
+        Publisher<Object> publisher = responseT.bind(endpoint, fn).join(response, Arguments.empty());
+
+        publisher.subscribe(new NoopSubscriber(new CompletableFuture<>()));
+
+        CompletableFuture<Throwable> failure = new CompletableFuture<>();
+        publisher.subscribe(new NoopSubscriber(failure));
+
+        assertThat(failure.join(), instanceOf(IllegalStateException.class));
+    }
+
+    private StreamingPublisher<Object> events(String content) {
+        ServerSentEventHTTPResponseReader reader = new ServerSentEventHTTPResponseReader(new HTTPResponseReaders(List.of(StringHTTPMessageCodec.get())));
+
+        return StreamingPublisher.of(reader.publisher(HTTPResponseBody.some(content.getBytes(UTF_8)), JavaType.parameterized(Event.class, String.class)).orElseThrow());
+    }
+
+    private static class NoopSubscriber implements Subscriber<Object> {
+
+        private final CompletableFuture<Throwable> failure;
+
+        private NoopSubscriber(CompletableFuture<Throwable> failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {}
+
+        @Override
+        public void onNext(Object item) {}
+
+        @Override
+        public void onError(Throwable throwable) {
+            failure.complete(throwable);
+        }
+
+        @Override
+        public void onComplete() {}
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.ljtfreitas.julian.http;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HTTPHeadersTest {
+
+	@Test
+	void selectIgnoringCase() {
+		HTTPHeaders headers = HTTPHeaders.create(new HTTPHeader("Content-Type", "application/json"));
+
+		assertAll(() -> assertEquals("application/json", headers.select("Content-Type").map(HTTPHeader::value).orElseThrow()),
+				  () -> assertEquals("application/json", headers.select("content-type").map(HTTPHeader::value).orElseThrow()),
+				  () -> assertEquals("application/json", headers.select("CONTENT-TYPE").map(HTTPHeader::value).orElseThrow()),
+				  () -> assertTrue(headers.select("Accept").isEmpty()));
+	}
+
+	@Test
+	void joinReplacesIgnoringCase() {
+		HTTPHeaders headers = HTTPHeaders.create(new HTTPHeader("Content-Type", "application/json"))
+				.join(new HTTPHeader("content-type", "text/plain"));
+
+		assertAll(() -> assertThat(headers.all(), contains(new HTTPHeader("content-type", "text/plain"))),
+				  () -> assertEquals("text/plain", headers.select(HTTPHeader.CONTENT_TYPE).map(HTTPHeader::value).orElseThrow()));
+	}
+
+	@Test
+	void mergeValuesFromCollection() {
+		HTTPHeaders headers = new HTTPHeaders(List.of(new HTTPHeader("X-Header", "one"), new HTTPHeader("x-header", "two")));
+
+		assertThat(headers.select("x-header").map(HTTPHeader::values).orElseThrow(), contains("one", "two"));
+	}
+
+	@Nested
+	class Builder {
+
+		@Test
+		void addValues() {
+			HTTPHeaders headers = HTTPHeaders.builder()
+					.add("Accept", "application/json")
+					.add("accept", "text/plain")
+					.add("X-Header", List.of("one", "two"))
+					.build();
+
+			assertAll(() -> assertThat(headers.all(), contains(new HTTPHeader("Accept", List.of("application/json", "text/plain")),
+															  new HTTPHeader("X-Header", List.of("one", "two")))),
+					  () -> assertThat(headers.asMap().keySet(), containsInAnyOrder("Accept", "X-Header")));
+		}
+
+		@Test
+		void putReplacesValues() {
+			HTTPHeaders headers = HTTPHeaders.builder()
+					.add("Accept", "application/json")
+					.put("ACCEPT", List.of("text/plain"))
+					.build();
+
+			assertThat(headers.all(), contains(new HTTPHeader("ACCEPT", "text/plain")));
+		}
+
+		@Test
+		void fromExistingHeaders() {
+			HTTPHeaders source = HTTPHeaders.create(new HTTPHeader("Accept", "application/json"));
+
+			HTTPHeaders headers = source.toBuilder()
+					.add("Accept", "text/plain")
+					.add("X-Header", "value")
+					.build();
+
+			assertAll(() -> assertThat(source.all(), contains(new HTTPHeader("Accept", "application/json"))),
+					  () -> assertThat(headers.all(), contains(new HTTPHeader("Accept", List.of("application/json", "text/plain")),
+															  new HTTPHeader("X-Header", "value"))));
+		}
+
+		@Test
+		void empty() {
+			assertSame(HTTPHeaders.empty(), HTTPHeaders.builder().build());
+		}
+	}
+}
@@ -5,9 +5,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MediaTypeTest {
@@ -122,4 +127,45 @@ class MediaTypeTest {
 			}
 		}
 	}
+
+	@Nested
+	class Parsing {
+
+		@Test
+		void interned() {
+			assertAll(() -> assertSame(MediaType.APPLICATION_JSON, MediaType.valueOf("application/json")),
+					  () -> assertSame(MediaType.valueOf("application/vnd.whatever+json"), MediaType.valueOf("application/vnd.whatever+json")));
+		}
+
+		@Test
+		void parameterizedValuesAreInterned() {
+			assertAll(() -> assertSame(MediaType.valueOf("application/json; charset=utf-8"), MediaType.valueOf("application/json; charset=utf-8")),
+					  () -> assertEquals("utf-8", MediaType.valueOf("application/json; charset=utf-8").parameter("charset").orElse(null)));
+		}
+
+		@Test
+		void valuesWithBoundaryAreNotInterned() {
+			String boundary = "multipart/form-data; boundary=" + UUID.randomUUID();
+
+			MediaType first = MediaType.valueOf(boundary);
+			MediaType second = MediaType.valueOf(boundary);
+
+			assertAll(() -> assertNotSame(first, second),
+					  () -> assertEquals(first, second),
+					  () -> assertEquals(boundary, second.toString()));
+		}
+
+		@Test
+		void normalized() {
+			MediaType mediaType = MediaType.valueOf(" Text/HTML ; charset = UTF-8 ");
+
+			assertAll(() -> assertEquals("text/html", mediaType.mime()),
+					  () -> assertEquals("UTF-8", mediaType.parameter("charset").get()));
+		}
+
+		@Test
+		void invalid() {
+			assertThrows(IllegalArgumentException.class, () -> MediaType.valueOf("json"));
+		}
+	}
 }
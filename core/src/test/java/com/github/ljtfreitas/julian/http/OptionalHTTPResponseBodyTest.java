@@ -0,0 +1,33 @@
+package com.github.ljtfreitas.julian.http;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class OptionalHTTPResponseBodyTest {
+
+    private final HTTPResponseBody source = HTTPResponseBody.some("response body".getBytes());
+
+    @Test
+    void contentLength() {
+        HTTPResponseBody body = HTTPResponseBody.optional(HTTPStatus.valueOf(HTTPStatusCode.OK),
+                HTTPHeaders.create(new HTTPHeader(HTTPHeader.CONTENT_LENGTH, " 13 ")), () -> source);
+
+        assertThat(body.contentLength(), equalTo(OptionalLong.of(13)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "abc", "-1", "99999999999999999999"})
+    void malformedContentLengthIsIgnored(String contentLength) {
+        HTTPResponseBody body = HTTPResponseBody.optional(HTTPStatus.valueOf(HTTPStatusCode.OK),
+                HTTPHeaders.create(new HTTPHeader(HTTPHeader.CONTENT_LENGTH, contentLength)), () -> source);
+
+        assertThat(body.contentLength(), equalTo(OptionalLong.empty()));
+        assertThat(body.readAsBytes(String::new).isPresent(), equalTo(true));
+    }
+}
@@ -0,0 +1,221 @@
+package com.github.ljtfreitas.julian.http;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.Promise;
+import com.github.ljtfreitas.julian.StreamingPublisher;
+import com.github.ljtfreitas.julian.http.codec.HTTPResponseReaders;
+import com.github.ljtfreitas.julian.http.codec.ServerSentEventHTTPResponseReader;
+import com.github.ljtfreitas.julian.http.codec.StringHTTPMessageCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReconnectEventStreamHTTPRequestInterceptorTest {
+
+    private final ReconnectEventStreamHTTPRequestInterceptor interceptor = new ReconnectEventStreamHTTPRequestInterceptor(Duration.ZERO, 1);
+
+    private final HTTPHeaders eventStream = HTTPHeaders.create(new HTTPHeader(HTTPHeader.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM.toString()));
+
+    private final ServerSentEventHTTPResponseReader reader = new ServerSentEventHTTPResponseReader(new HTTPResponseReaders(List.of(StringHTTPMessageCodec.get())));
+
+    @Test
+    void ignoreNonStreamingRequests(@Mock HTTPRequest<String> request) {
+        when(request.returnType()).thenReturn(JavaType.valueOf(String.class));
+
+        HTTPRequest<String> intercepted = interceptor.intercepts(Promise.done(request)).join().unsafe();
+
+        assertThat(intercepted, sameInstance(request));
+    }
+
+    @Test
+    void reconnectWithLastEventId(@Mock HTTPRequest<Stream<Object>> request, @Mock HTTPRequest<Stream<Object>> reconnection) {
+        JavaType eventType = JavaType.parameterized(Event.class, String.class);
+
+        when(request.returnType()).thenReturn(JavaType.parameterized(Stream.class, eventType.get()));
+        when(request.headers()).thenReturn(HTTPHeaders.empty());
+        when(request.headers(any(HTTPHeaders.class))).thenReturn(reconnection);
+        when(request.execute()).thenReturn(response(stream("id: 1\ndata: one\n\n", eventType)));
+        when(reconnection.execute()).thenReturn(response(stream("id: 2\ndata: two\n\n", eventType)))
+                .thenReturn(closed());
+
+        HTTPRequest<Stream<Object>> intercepted = interceptor.intercepts(Promise.done(request)).join().unsafe();
+
+        Stream<Object> events = intercepted.execute().join().unsafe().body().unsafe();
+
+        List<Object> all = events.collect(toList());
+
+        assertThat(all, contains(new Event<>("1", "message", "one", null), new Event<>("2", "message", "two", null)));
+
+        verify(request).headers(argThat(lastEventId("1")));
+        verify(request).headers(argThat(lastEventId("2")));
+    }
+
+    @Test
+    void reconnectDataStreamsWithTheLastEventIdSeenByTheReader(@Mock HTTPRequest<Stream<Object>> request, @Mock HTTPRequest<Stream<Object>> reconnection) {
+        JavaType dataType = JavaType.valueOf(String.class);
+
+        when(request.returnType()).thenReturn(JavaType.parameterized(Stream.class, String.class));
+        when(request.headers()).thenReturn(HTTPHeaders.empty());
+        when(request.headers(argThat(lastEventId("1")))).thenReturn(reconnection);
+        when(request.execute()).thenReturn(response(stream("id: 1\ndata: one\n\n", dataType)));
+        when(reconnection.execute()).thenReturn(response(stream("data: two\n\n", dataType)))
+                .thenReturn(closed());
+
+        HTTPRequest<Stream<Object>> intercepted = interceptor.intercepts(Promise.done(request)).join().unsafe();
+
+        List<Object> all = intercepted.execute().join().unsafe().body().unsafe().collect(toList());
+
+        assertThat(all, contains("one", "two"));
+    }
+
+    @Test
+    void failWhenReconnectionAttemptsAreExhausted(@Mock HTTPRequest<Stream<Object>> request) {
+        IllegalStateException failure = new IllegalStateException("reconnection failed");
+
+        when(request.returnType()).thenReturn(JavaType.parameterized(Stream.class, String.class));
+        when(request.execute()).thenReturn(response(stream("data: one\n\n", JavaType.valueOf(String.class))))
+                .thenReturn(Promise.failed(failure));
+
+        HTTPRequest<Stream<Object>> intercepted = interceptor.intercepts(Promise.done(request)).join().unsafe();
+
+        Iterator<Object> events = intercepted.execute().join().unsafe().body().unsafe().iterator();
+
+        assertThat(events.next(), is("one"));
+
+        Exception exception = assertThrows(Exception.class, events::hasNext);
+
+        assertThat(exception, anyOf(sameInstance(failure), hasProperty("cause", sameInstance(failure))));
+    }
+
+    @Test
+    void restoreTheAttemptsWhenAReconnectionDeliversEvents(@Mock HTTPRequest<Stream<Object>> request) {
+        JavaType dataType = JavaType.valueOf(String.class);
+
+        IllegalStateException failure = new IllegalStateException("reconnection failed");
+
+        when(request.returnType()).thenReturn(JavaType.parameterized(Stream.class, String.class));
+        when(request.execute()).thenReturn(response(stream("data: one\n\n", dataType)))
+                .thenReturn(response(stream("data: two\n\n", dataType)))
+                .thenReturn(response(stream("data: three\n\n", dataType)))
+                .thenReturn(Promise.failed(failure));
+
+        HTTPRequest<Stream<Object>> intercepted = interceptor.intercepts(Promise.done(request)).join().unsafe();
+
+        Iterator<Object> events = intercepted.execute().join().unsafe().body().unsafe().iterator();
+
+        assertThat(events.next(), is("one"));
+        assertThat(events.next(), is("two"));
+        assertThat(events.next(), is("three"));
+
+        Exception exception = assertThrows(Exception.class, events::hasNext);
+
+        assertThat(exception, anyOf(sameInstance(failure), hasProperty("cause", sameInstance(failure))));
+    }
+
+    @Test
+    void reconnectPublishersWithoutBlockingTheSubscriber(@Mock HTTPRequest<StreamingPublisher<Object>> request) throws Exception {
+        JavaType dataType = JavaType.valueOf(String.class);
+
+        ReconnectEventStreamHTTPRequestInterceptor interceptor = new ReconnectEventStreamHTTPRequestInterceptor(Duration.ofMillis(100), 1);
+
+        when(request.returnType()).thenReturn(JavaType.parameterized(StreamingPublisher.class, String.class));
+        when(request.execute()).thenReturn(response(publisher("data: one\n\n", dataType)))
+                .thenReturn(response(publisher("data: two\n\n", dataType)))
+                .thenReturn(closed());
+
+        HTTPRequest<StreamingPublisher<Object>> intercepted = interceptor.intercepts(Promise.done(request)).join().unsafe();
+
+        StreamingPublisher<Object> events = intercepted.execute().join().unsafe().body().unsafe();
+
+        List<Object> signals = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+
+        events.subscribe(new Subscriber<>() {
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Object item) {
+                signals.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(null);
+            }
+        });
+
+        signals.add("subscribed");
+
+        done.get(1, TimeUnit.SECONDS);
+
+        assertThat(signals, contains("one", "subscribed", "two"));
+    }
+
+    @Test
+    void ignoreResponsesThatAreNotEventStreams(@Mock HTTPRequest<Stream<Object>> request) {
+        Stream<Object> body = Stream.of("one");
+
+        when(request.returnType()).thenReturn(JavaType.parameterized(Stream.class, String.class));
+        when(request.execute()).thenReturn(Promise.done(HTTPResponse.success(HTTPStatus.valueOf(200), HTTPHeaders.empty(), body)));
+
+        HTTPRequest<Stream<Object>> intercepted = interceptor.intercepts(Promise.done(request)).join().unsafe();
+
+        assertThat(intercepted.execute().join().unsafe().body().unsafe(), sameInstance(body));
+    }
+
+    private <T> Promise<HTTPResponse<T>> response(T body) {
+        return Promise.done(HTTPResponse.success(HTTPStatus.valueOf(200), eventStream, body));
+    }
+
+    private <T> Promise<HTTPResponse<T>> closed() {
+        return Promise.done(HTTPResponse.success(HTTPStatus.valueOf(204), HTTPHeaders.empty(), null));
+    }
+
+    private Stream<Object> stream(String content, JavaType elementType) {
+        return reader.stream(HTTPResponseBody.some(content.getBytes(UTF_8)), elementType).orElseThrow().join();
+    }
+
+    private StreamingPublisher<Object> publisher(String content, JavaType elementType) {
+        return StreamingPublisher.of(reader.publisher(HTTPResponseBody.some(content.getBytes(UTF_8)), elementType).orElseThrow());
+    }
+
+    private ArgumentMatcher<HTTPHeaders> lastEventId(String id) {
+        return headers -> headers.select(HTTPHeader.LAST_EVENT_ID).map(HTTPHeader::value).filter(id::equals).isPresent();
+    }
+}
@@ -0,0 +1,289 @@
+package com.github.ljtfreitas.julian.http;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.Promise;
+import com.github.ljtfreitas.julian.http.codec.DownloadHTTPResponseReader;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.when;
+
+class SegmentedDownloadHTTPRequestInterceptorTest {
+
+    private final SegmentedDownloadHTTPRequestInterceptor interceptor = new SegmentedDownloadHTTPRequestInterceptor(4, 10, 2);
+
+    private final String content = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    @Nested
+    @ExtendWith(MockitoExtension.class)
+    class Intercepts {
+
+        @Test
+        void ignoreRequestsThatAreNotDownloads(@Mock HTTPRequest<String> request) {
+            when(request.returnType()).thenReturn(JavaType.valueOf(String.class));
+
+            HTTPRequest<String> intercepted = interceptor.intercepts(Promise.done(request)).join().unsafe();
+
+            assertThat(intercepted, sameInstance(request));
+        }
+
+        @Test
+        void ignoreRangeRequests(@Mock HTTPRequest<Download> request) {
+            when(request.returnType()).thenReturn(JavaType.valueOf(Download.class));
+            when(request.method()).thenReturn(HTTPMethod.GET);
+            when(request.headers()).thenReturn(HTTPHeaders.create(new HTTPHeader(HTTPHeader.RANGE, "bytes=0-10")));
+
+            HTTPRequest<Download> intercepted = interceptor.intercepts(Promise.done(request)).join().unsafe();
+
+            assertThat(intercepted, sameInstance(request));
+        }
+    }
+
+    @Nested
+    class Segmented {
+
+        @Test
+        void writeEachRangeAtItsOffset() throws IOException {
+            RangeHTTPRequest request = new RangeHTTPRequest(content, true);
+
+            Path file = Files.createTempFile("segmented", ".txt");
+
+            AtomicLong transferred = new AtomicLong();
+
+            Download download = execute(request);
+
+            download.writeTo(file, new Download.Options().progress((bytes, length) -> transferred.set(bytes))).join().unsafe();
+
+            assertThat(Files.readString(file), equalTo(content));
+            assertThat(transferred.get(), equalTo((long) content.length()));
+            assertThat(request.ranges, containsInAnyOrder("bytes=0-15", "bytes=16-31", "bytes=32-47", "bytes=48-61"));
+        }
+
+        @Test
+        void resumeFailedSegmentsFromTheLastWrittenByte() throws IOException {
+            RangeHTTPRequest request = new RangeHTTPRequest(content, true);
+            request.failures.add("bytes=16-31");
+
+            Path file = Files.createTempFile("segmented", ".txt");
+
+            Download download = execute(request);
+
+            download.writeTo(file).join().unsafe();
+
+            assertThat(Files.readString(file), equalTo(content));
+            assertThat(request.ranges, hasItems("bytes=16-31", "bytes=24-31"));
+        }
+
+        @Test
+        void sendStrongETagsAsRangeValidators() throws IOException {
+            RangeHTTPRequest request = new RangeHTTPRequest(content, true);
+            request.validators.add(new HTTPHeader(HTTPHeader.ETAG, "\"abc\""));
+            request.validators.add(new HTTPHeader(HTTPHeader.LAST_MODIFIED, "Wed, 21 Oct 2015 07:28:00 GMT"));
+
+            execute(request).writeTo(Files.createTempFile("segmented", ".txt")).join().unsafe();
+
+            assertThat(request.ifRanges, everyItem(equalTo("\"abc\"")));
+        }
+
+        @Test
+        void skipWeakETagsAsRangeValidators() throws IOException {
+            RangeHTTPRequest request = new RangeHTTPRequest(content, true);
+            request.validators.add(new HTTPHeader(HTTPHeader.ETAG, "W/\"abc\""));
+            request.validators.add(new HTTPHeader(HTTPHeader.LAST_MODIFIED, "Wed, 21 Oct 2015 07:28:00 GMT"));
+
+            execute(request).writeTo(Files.createTempFile("segmented", ".txt")).join().unsafe();
+
+            assertThat(request.ifRanges, hasSize(4));
+            assertThat(request.ifRanges, everyItem(equalTo("Wed, 21 Oct 2015 07:28:00 GMT")));
+        }
+
+        @Test
+        void singleRequestWhenTheServerDoesNotAcceptRanges() throws IOException {
+            RangeHTTPRequest request = new RangeHTTPRequest(content, false);
+
+            Path file = Files.createTempFile("segmented", ".txt");
+
+            Download download = execute(request);
+
+            download.writeTo(file).join().unsafe();
+
+            assertThat(Files.readString(file), equalTo(content));
+            assertThat(request.ranges, empty());
+        }
+
+        @Test
+        void readTheWholeContentWithASingleRequest() {
+            RangeHTTPRequest request = new RangeHTTPRequest(content, true);
+
+            Download download = execute(request);
+
+            String bytes = download.readAsBytes().then(b -> new String(b, UTF_8)).join().unsafe();
+
+            assertThat(bytes, equalTo(content));
+            assertThat(request.ranges, empty());
+        }
+
+        private Download execute(RangeHTTPRequest request) {
+            HTTPRequest<Download> intercepted = interceptor.intercepts(Promise.<HTTPRequest<Download>> done(request)).join().unsafe();
+
+            return intercepted.execute().join().unsafe().body().unsafe();
+        }
+    }
+
+    private static class RangeHTTPRequest implements HTTPRequest<Download> {
+
+        private final byte[] content;
+        private final boolean acceptRanges;
+        private final HTTPMethod method;
+        private final HTTPHeaders headers;
+
+        private final List<String> ranges;
+        private final List<String> failures;
+        private final List<HTTPHeader> validators;
+        private final List<String> ifRanges;
+
+        RangeHTTPRequest(String content, boolean acceptRanges) {
+            this(content.getBytes(UTF_8), acceptRanges, HTTPMethod.GET, HTTPHeaders.empty(), Collections.synchronizedList(new ArrayList<>()), Collections.synchronizedList(new ArrayList<>()),
+                    new ArrayList<>(), Collections.synchronizedList(new ArrayList<>()));
+        }
+
+        private RangeHTTPRequest(byte[] content, boolean acceptRanges, HTTPMethod method, HTTPHeaders headers, List<String> ranges, List<String> failures,
+                                 List<HTTPHeader> validators, List<String> ifRanges) {
+            this.content = content;
+            this.acceptRanges = acceptRanges;
+            this.method = method;
+            this.headers = headers;
+            this.ranges = ranges;
+            this.failures = failures;
+            this.validators = validators;
+            this.ifRanges = ifRanges;
+        }
+
+        @Override
+        public JavaType returnType() {
+            return JavaType.valueOf(Download.class);
+        }
+
+        @Override
+        public HTTPRequest<Download> path(URI path) {
+            return this;
+        }
+
+        @Override
+        public HTTPRequest<Download> method(HTTPMethod method) {
+            return new RangeHTTPRequest(content, acceptRanges, method, headers, ranges, failures, validators, ifRanges);
+        }
+
+        @Override
+        public HTTPRequest<Download> headers(HTTPHeaders headers) {
+            return new RangeHTTPRequest(content, acceptRanges, method, headers, ranges, failures, validators, ifRanges);
+        }
+
+        @Override
+        public HTTPRequest<Download> body(HTTPRequestBody body) {
+            return this;
+        }
+
+        @Override
+        public URI path() {
+            return URI.create("http://localhost:8080/download");
+        }
+
+        @Override
+        public HTTPMethod method() {
+            return method;
+        }
+
+        @Override
+        public HTTPHeaders headers() {
+            return headers;
+        }
+
+        @Override
+        public Optional<HTTPRequestBody> body() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Promise<HTTPResponse<Download>> execute() {
+            HTTPHeaders responseHeaders = HTTPHeaders.create(new HTTPHeader(HTTPHeader.CONTENT_LENGTH, String.valueOf(content.length)));
+            if (acceptRanges)
+                responseHeaders = responseHeaders.join(new HTTPHeader(HTTPHeader.ACCEPT_RANGES, "bytes"));
+
+            if (method == HTTPMethod.HEAD)
+                return Promise.done(HTTPResponse.success(HTTPStatus.valueOf(HTTPStatusCode.OK), responseHeaders.join(HTTPHeaders.create(validators.toArray(HTTPHeader[]::new))), download(HTTPResponseBody.empty())));
+
+            Optional<String> range = headers.select(HTTPHeader.RANGE).map(HTTPHeader::value);
+
+            if (range.isEmpty())
+                return Promise.done(HTTPResponse.success(HTTPStatus.valueOf(HTTPStatusCode.OK), responseHeaders, download(HTTPResponseBody.some(content))));
+
+            ranges.add(range.get());
+            headers.select(HTTPHeader.IF_RANGE).map(HTTPHeader::value).ifPresent(ifRanges::add);
+
+            String[] bounds = range.get().substring("bytes=".length()).split("-");
+            int start = Integer.parseInt(bounds[0]);
+            int end = Integer.parseInt(bounds[1]);
+
+            byte[] slice = Arrays.copyOfRange(content, start, end + 1);
+
+            HTTPHeaders partialHeaders = HTTPHeaders.create(new HTTPHeader(HTTPHeader.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + content.length));
+
+            HTTPResponseBody body = failures.remove(range.get()) ? failing(slice) : HTTPResponseBody.some(slice);
+
+            return Promise.done(HTTPResponse.success(HTTPStatus.valueOf(HTTPStatusCode.PARTIAL_CONTENT), partialHeaders, download(body)));
+        }
+
+        private HTTPResponseBody failing(byte[] slice) {
+            ByteBuffer half = ByteBuffer.wrap(slice, 0, slice.length / 2);
+            return HTTPResponseBody.lazy(subscriber -> subscriber.onSubscribe(new Flow.Subscription() {
+
+                private boolean sent = false;
+
+                @Override
+                public void request(long n) {
+                    if (sent) {
+                        subscriber.onError(new IOException("connection reset"));
+                    } else {
+                        sent = true;
+                        subscriber.onNext(List.of(half));
+                    }
+                }
+
+                @Override
+                public void cancel() {}
+            }));
+        }
+
+        private Download download(HTTPResponseBody body) {
+            return DownloadHTTPResponseReader.get().read(body, JavaType.valueOf(Download.class))
+                    .map(f -> f.join())
+                    .orElse(null);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.ljtfreitas.julian.http.client;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.github.ljtfreitas.julian.http.HTTPRequestDefinition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ComposedHTTPClientTest {
+
+    @Mock
+    private HTTPClient client;
+
+    @Test
+    void composeOnce(@Mock HTTPRequestDefinition request, @Mock HTTPClientRequest httpClientRequest) {
+        AtomicInteger constructions = new AtomicInteger();
+
+        Function<HTTPClient, HTTPClient> decorator = c -> {
+            constructions.incrementAndGet();
+            return c;
+        };
+
+        when(client.request(request)).thenReturn(httpClientRequest);
+
+        ComposedHTTPClient composed = new ComposedHTTPClient(client, List.of(decorator));
+
+        assertAll(() -> assertSame(httpClientRequest, composed.request(request)),
+                  () -> assertSame(httpClientRequest, composed.request(request)),
+                  () -> assertEquals(1, constructions.get()));
+    }
+
+    @Test
+    void applyInOrder(@Mock HTTPRequestDefinition request, @Mock HTTPClientRequest httpClientRequest) {
+        HTTPClient first = mock(HTTPClient.class);
+        HTTPClient second = mock(HTTPClient.class);
+
+        when(second.request(request)).thenAnswer(i -> first.request(request));
+        when(first.request(request)).thenAnswer(i -> client.request(request));
+        when(client.request(request)).thenReturn(httpClientRequest);
+
+        ComposedHTTPClient composed = new ComposedHTTPClient(client, List.of(c -> first, c -> second));
+
+        assertSame(httpClientRequest, composed.request(request));
+
+        InOrder inOrder = inOrder(second, first, client);
+        inOrder.verify(second).request(request);
+        inOrder.verify(first).request(request);
+        inOrder.verify(client).request(request);
+    }
+}
@@ -2,8 +2,11 @@ package com.github.ljtfreitas.julian.http.client;
 
 import java.net.URI;
 import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,13 +16,18 @@ import org.mockserver.client.MockServerClient;
 import org.mockserver.junit.jupiter.MockServerExtension;
 import org.mockserver.junit.jupiter.MockServerSettings;
 
+import com.github.ljtfreitas.julian.Promise;
 import com.github.ljtfreitas.julian.http.DefaultHTTPRequestBody;
 import com.github.ljtfreitas.julian.http.HTTPHeader;
 import com.github.ljtfreitas.julian.http.HTTPHeaders;
 import com.github.ljtfreitas.julian.http.HTTPMethod;
 import com.github.ljtfreitas.julian.http.HTTPRequest;
+import com.github.ljtfreitas.julian.http.HTTPResponseBody;
+import com.github.ljtfreitas.julian.http.HTTPStatus;
+import com.github.ljtfreitas.julian.http.HTTPStatusCode;
 import com.github.ljtfreitas.julian.http.MediaType;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -65,4 +73,29 @@ class DebugHTTPClientTest {
         verify(httpRequest, atLeastOnce()).headers();
         verify(httpRequest, atLeastOnce()).method();
     }
-}
\ No newline at end of file
+
+    @Test
+    void keepCharsetAndContentLengthOfTheResponse(@Mock HTTPClient client, @Mock HTTPClientRequest request, @Mock HTTPClientResponse response,
+                                                  @Mock HTTPRequest<String> httpRequest) {
+        byte[] content = "ol\u00e1, voc\u00ea".getBytes(StandardCharsets.ISO_8859_1);
+
+        HTTPHeaders headers = HTTPHeaders.create(new HTTPHeader(HTTPHeader.CONTENT_TYPE, "text/plain; charset=ISO-8859-1"),
+                new HTTPHeader(HTTPHeader.CONTENT_LENGTH, Integer.toString(content.length)));
+
+        when(httpRequest.path()).thenReturn(URI.create("http://localhost:8090/debug"));
+        when(httpRequest.method()).thenReturn(HTTPMethod.GET);
+        when(httpRequest.headers()).thenReturn(HTTPHeaders.empty());
+        when(httpRequest.body()).thenReturn(Optional.empty());
+        when(client.request(httpRequest)).thenReturn(request);
+        when(request.execute()).thenReturn(Promise.done(response));
+        when(response.status()).thenReturn(HTTPStatus.valueOf(HTTPStatusCode.OK));
+        when(response.headers()).thenReturn(headers);
+        when(response.body()).thenReturn(HTTPResponseBody.optional(HTTPStatus.valueOf(HTTPStatusCode.OK), headers, () -> HTTPResponseBody.some(content)));
+
+        HTTPResponseBody body = new DebugHTTPClient(client).request(httpRequest).execute().join().unsafe().body();
+
+        assertEquals(Optional.of(StandardCharsets.ISO_8859_1), body.charset());
+        assertEquals(OptionalLong.of(content.length), body.contentLength());
+        assertEquals("ol\u00e1, voc\u00ea", body.readAsBytes(b -> new String(b, body.charset().orElseThrow())).map(CompletableFuture::join).orElse(null));
+    }
+}
@@ -5,22 +5,30 @@ import com.github.ljtfreitas.julian.Bracket;
 import com.github.ljtfreitas.julian.JavaType;
 import com.github.ljtfreitas.julian.Subscriber;
 import com.github.ljtfreitas.julian.http.Download;
+import com.github.ljtfreitas.julian.http.HTTPHeader;
+import com.github.ljtfreitas.julian.http.HTTPHeaders;
 import com.github.ljtfreitas.julian.http.HTTPResponseBody;
+import com.github.ljtfreitas.julian.http.HTTPStatus;
+import com.github.ljtfreitas.julian.http.HTTPStatusCode;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.CompletableFuture;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -74,6 +82,31 @@ class DownloadHTTPResponseReaderTest {
         assertThat(content, equalTo(expected));
     }
 
+    @Test
+    void downloadAsDirectBuffer() {
+        Optional<CompletableFuture<Download>> future = reader.read(body, JavaType.valueOf(Download.class));
+
+        Download download = future.map(CompletableFuture::join).orElseThrow();
+
+        ByteBuffer buffer = download.readAsDirectBuffer().join().unsafe();
+
+        assertThat(buffer.isDirect(), equalTo(true));
+        assertThat(UTF_8.decode(buffer).toString(), equalTo(expected));
+    }
+
+    @Test
+    void downloadAsMappedBuffer() throws IOException {
+        Optional<CompletableFuture<Download>> future = reader.read(body, JavaType.valueOf(Download.class));
+
+        Download download = future.map(CompletableFuture::join).orElseThrow();
+
+        Path file = Files.createTempFile("sample", ".txt").toAbsolutePath();
+
+        MappedByteBuffer buffer = download.readAsMappedBuffer(file).join().unsafe();
+
+        assertThat(UTF_8.decode(buffer).toString(), equalTo(expected));
+    }
+
     @Test
     void subscribeToListOfBuffers() {
         Optional<CompletableFuture<Download>> future = reader.read(body, JavaType.valueOf(Download.class));
@@ -126,4 +159,48 @@ class DownloadHTTPResponseReaderTest {
         assertThat(content, equalTo(expected));
     }
 
-}
\ No newline at end of file
+    @Test
+    void writeToFileWithOptions() throws IOException {
+        HTTPHeaders headers = HTTPHeaders.create(new HTTPHeader(HTTPHeader.CONTENT_LENGTH, String.valueOf(expected.length())));
+        HTTPResponseBody body = HTTPResponseBody.optional(HTTPStatus.valueOf(HTTPStatusCode.OK), headers, () -> this.body);
+
+        Optional<CompletableFuture<Download>> future = reader.read(body, JavaType.valueOf(Download.class));
+
+        Download download = future.map(CompletableFuture::join).orElseThrow();
+
+        Path file = Files.createTempFile("sample", ".txt").toAbsolutePath();
+
+        List<OptionalLong> lengths = new ArrayList<>();
+        List<Long> transferred = new ArrayList<>();
+
+        Download.Options options = new Download.Options()
+                .preallocate()
+                .force(Download.Force.ON_COMPLETE)
+                .progress((bytes, length) -> {
+                    transferred.add(bytes);
+                    lengths.add(length);
+                });
+
+        Path downloaded = download.writeTo(file, options, StandardOpenOption.WRITE).join().unsafe();
+
+        String content = Files.readString(downloaded);
+
+        assertThat(content, equalTo(expected));
+        assertThat(transferred.get(transferred.size() - 1), equalTo((long) expected.length()));
+        assertThat(lengths.get(0), equalTo(OptionalLong.of(expected.length())));
+    }
+
+    @Test
+    void writeToFileTruncatingExistingContent() throws IOException {
+        Optional<CompletableFuture<Download>> future = reader.read(body, JavaType.valueOf(Download.class));
+
+        Download download = future.map(CompletableFuture::join).orElseThrow();
+
+        Path file = Files.createTempFile("sample", ".txt").toAbsolutePath();
+        Files.writeString(file, expected.repeat(2));
+
+        Path downloaded = download.writeTo(file).join().unsafe();
+
+        assertThat(Files.readAllLines(downloaded), contains(expected));
+    }
+}
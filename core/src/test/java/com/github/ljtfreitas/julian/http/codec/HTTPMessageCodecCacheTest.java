@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http.codec;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.http.MediaType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HTTPMessageCodecCacheTest {
+
+    @Test
+    void cacheSelectedReaders(@Mock HTTPResponseReader<String> reader) {
+        HTTPResponseReaders readers = new HTTPResponseReaders(List.of(reader));
+
+        when(reader.readable(MediaType.TEXT_PLAIN, JavaType.valueOf(String.class))).thenReturn(true);
+
+        Optional<HTTPResponseReader<?>> first = readers.select(MediaType.TEXT_PLAIN, JavaType.valueOf(String.class));
+        Optional<HTTPResponseReader<?>> second = readers.select(MediaType.valueOf("text/plain; charset=UTF-8"), JavaType.valueOf(String.class));
+
+        assertAll(() -> assertSame(reader, first.orElseThrow()),
+                  () -> assertSame(reader, second.orElseThrow()),
+                  () -> assertEquals(1, readers.cache().misses()),
+                  () -> assertEquals(1, readers.cache().hits()),
+                  () -> assertEquals(1, readers.cache().size()));
+
+        verify(reader, times(1)).readable(MediaType.TEXT_PLAIN, JavaType.valueOf(String.class));
+    }
+
+    @Test
+    void cacheUnsupportedSelections(@Mock HTTPRequestWriter<Object> writer) {
+        HTTPRequestWriters writers = new HTTPRequestWriters(List.of(writer));
+
+        when(writer.writable(MediaType.APPLICATION_JSON, JavaType.valueOf(String.class))).thenReturn(false);
+
+        assertTrue(writers.select(MediaType.APPLICATION_JSON, JavaType.valueOf(String.class)).isEmpty());
+        assertTrue(writers.select(MediaType.APPLICATION_JSON, JavaType.valueOf(String.class)).isEmpty());
+
+        assertAll(() -> assertEquals(1, writers.cache().misses()),
+                  () -> assertEquals(1, writers.cache().hits()));
+
+        verify(writer, times(1)).writable(MediaType.APPLICATION_JSON, JavaType.valueOf(String.class));
+    }
+
+    @Test
+    void cacheEqualParameterizedTypes(@Mock HTTPResponseReader<List<String>> reader) throws NoSuchMethodException {
+        HTTPResponseReaders readers = new HTTPResponseReaders(List.of(reader));
+
+        JavaType listOfStrings = JavaType.parameterized(List.class, String.class);
+        JavaType anotherListOfStrings = JavaType.parameterized(List.class, String.class);
+        JavaType reflectedListOfStrings = JavaType.valueOf(Strings.class.getMethod("strings").getGenericReturnType());
+
+        when(reader.readable(MediaType.APPLICATION_JSON, listOfStrings)).thenReturn(true);
+
+        readers.select(MediaType.APPLICATION_JSON, listOfStrings);
+        readers.select(MediaType.APPLICATION_JSON, anotherListOfStrings);
+        readers.select(MediaType.APPLICATION_JSON, reflectedListOfStrings);
+
+        assertAll(() -> assertEquals(1, readers.cache().misses()),
+                  () -> assertEquals(2, readers.cache().hits()),
+                  () -> assertEquals(1, readers.cache().size()));
+
+        verify(reader, times(1)).readable(MediaType.APPLICATION_JSON, listOfStrings);
+    }
+
+    @Test
+    void bounded(@Mock HTTPResponseReader<String> reader) {
+        HTTPResponseReaders readers = new HTTPResponseReaders(List.of(reader), 1);
+
+        readers.select(MediaType.TEXT_PLAIN, JavaType.valueOf(String.class));
+        readers.select(MediaType.APPLICATION_JSON, JavaType.valueOf(String.class));
+        readers.select(MediaType.APPLICATION_JSON, JavaType.valueOf(String.class));
+
+        assertAll(() -> assertEquals(1, readers.cache().size()),
+                  () -> assertEquals(3, readers.cache().misses()));
+    }
+
+    interface Strings {
+
+        List<String> strings();
+    }
+}
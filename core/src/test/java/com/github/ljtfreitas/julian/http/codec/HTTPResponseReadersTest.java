@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http.codec;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.stream.Stream;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.StreamingPublisher;
+import com.github.ljtfreitas.julian.http.HTTPResponseBody;
+import com.github.ljtfreitas.julian.http.MediaType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HTTPResponseReadersTest {
+
+    private final JavaType streamOfStrings = JavaType.parameterized(Stream.class, String.class);
+
+    @Nested
+    class Streams {
+
+        @Test
+        void preferStreamingReaders(@Mock StreamingHTTPResponseReader<Object> streaming, @Mock HTTPResponseReader<Object> reader, @Mock HTTPResponseBody body) {
+            HTTPResponseReaders readers = new HTTPResponseReaders(List.of(reader, streaming));
+
+            when(streaming.streamable(MediaType.APPLICATION_JSON, JavaType.valueOf(String.class))).thenReturn(true);
+            when(streaming.stream(body, JavaType.valueOf(String.class))).thenReturn(Optional.of(CompletableFuture.completedFuture(Stream.of("one", "two"))));
+
+            HTTPResponseReader<?> selected = readers.select(MediaType.APPLICATION_JSON, streamOfStrings).orElseThrow();
+
+            Stream<?> stream = (Stream<?>) selected.read(body, streamOfStrings).map(CompletableFuture::join).orElseThrow();
+
+            assertThat(stream.collect(toList()), contains("one", "two"));
+
+            verify(reader, never()).readable(any(), any());
+        }
+
+        @Test
+        void fallbackToCollectionReaders(@Mock HTTPResponseReader<Object> reader, @Mock HTTPResponseBody body) {
+            HTTPResponseReaders readers = new HTTPResponseReaders(List.of(reader));
+
+            JavaType collectionOfStrings = JavaType.parameterized(Collection.class, String.class);
+
+            when(reader.readable(MediaType.APPLICATION_JSON, collectionOfStrings)).thenReturn(true);
+            when(reader.read(body, collectionOfStrings)).thenReturn(Optional.of(CompletableFuture.completedFuture(List.of("one", "two"))));
+
+            HTTPResponseReader<?> selected = readers.select(MediaType.APPLICATION_JSON, streamOfStrings).orElseThrow();
+
+            Stream<?> stream = (Stream<?>) selected.read(body, streamOfStrings).map(CompletableFuture::join).orElseThrow();
+
+            assertThat(stream.collect(toList()), contains("one", "two"));
+        }
+
+        @Test
+        void unsupported(@Mock HTTPResponseReader<Object> reader) {
+            HTTPResponseReaders readers = new HTTPResponseReaders(List.of(reader));
+
+            assertTrue(readers.select(MediaType.APPLICATION_JSON, streamOfStrings).isEmpty());
+        }
+    }
+
+    @Nested
+    class Publishers {
+
+        private final JavaType publisherOfStrings = JavaType.parameterized(StreamingPublisher.class, String.class);
+
+        @Test
+        void preferStreamingReaders(@Mock StreamingHTTPResponseReader<Object> streaming, @Mock HTTPResponseReader<Object> reader, @Mock HTTPResponseBody body) {
+            HTTPResponseReaders readers = new HTTPResponseReaders(List.of(reader, streaming));
+
+            when(streaming.streamable(MediaType.APPLICATION_JSON, JavaType.valueOf(String.class))).thenReturn(true);
+            when(streaming.publisher(body, JavaType.valueOf(String.class))).thenReturn(Optional.of(new IterablePublisher<>(List.of("one", "two"))));
+
+            HTTPResponseReader<?> selected = readers.select(MediaType.APPLICATION_JSON, publisherOfStrings).orElseThrow();
+
+            Publisher<?> publisher = (Publisher<?>) selected.read(body, publisherOfStrings).map(CompletableFuture::join).orElseThrow();
+
+            assertThat(collect(publisher), contains("one", "two"));
+
+            verify(streaming, never()).stream(any(), any());
+            verify(reader, never()).readable(any(), any());
+        }
+
+        @Test
+        void fallbackToCollectionReaders(@Mock HTTPResponseReader<Object> reader, @Mock HTTPResponseBody body) {
+            HTTPResponseReaders readers = new HTTPResponseReaders(List.of(reader));
+
+            JavaType collectionOfStrings = JavaType.parameterized(Collection.class, String.class);
+
+            when(reader.readable(MediaType.APPLICATION_JSON, collectionOfStrings)).thenReturn(true);
+            when(reader.read(body, collectionOfStrings)).thenReturn(Optional.of(CompletableFuture.completedFuture(List.of("one", "two"))));
+
+            HTTPResponseReader<?> selected = readers.select(MediaType.APPLICATION_JSON, publisherOfStrings).orElseThrow();
+
+            Publisher<?> publisher = (Publisher<?>) selected.read(body, publisherOfStrings).map(CompletableFuture::join).orElseThrow();
+
+            assertThat(collect(publisher), contains("one", "two"));
+        }
+
+        private List<Object> collect(Publisher<?> publisher) {
+            List<Object> elements = new ArrayList<>();
+
+            publisher.subscribe(new Subscriber<Object>() {
+
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(Object item) {
+                    elements.add(item);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {}
+
+                @Override
+                public void onComplete() {}
+            });
+
+            return elements;
+        }
+    }
+}
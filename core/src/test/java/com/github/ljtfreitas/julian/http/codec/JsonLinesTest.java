@@ -0,0 +1,134 @@
+package com.github.ljtfreitas.julian.http.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscription;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonLinesTest {
+
+	@Test
+	void split() {
+		try (Stream<ByteBuffer> lines = JsonLines.split(chunks("{\"name\":\"Tiago\"}\n{\"name\":\"Fulano\"}\n"))) {
+			assertThat(lines.map(this::asString).collect(toList()), contains("{\"name\":\"Tiago\"}", "{\"name\":\"Fulano\"}"));
+		}
+	}
+
+	@Test
+	void splitAcrossChunks() {
+		try (Stream<ByteBuffer> lines = JsonLines.split(chunks("{\"na", "me\":\"Tiago\"}\n{\"name\"", ":", "\"Fulano\"}\n"))) {
+			assertThat(lines.map(this::asString).collect(toList()), contains("{\"name\":\"Tiago\"}", "{\"name\":\"Fulano\"}"));
+		}
+	}
+
+	@Test
+	void ignoreCarriageReturnsAndBlankLines() {
+		try (Stream<ByteBuffer> lines = JsonLines.split(chunks("\"one\"\r\n\r\n", "\n\"two\"\r", "\n"))) {
+			assertThat(lines.map(this::asString).collect(toList()), contains("\"one\"", "\"two\""));
+		}
+	}
+
+	@Test
+	void lastLineWithoutLineBreak() {
+		try (Stream<ByteBuffer> lines = JsonLines.split(chunks("\"one\"\n\"tw", "o\""))) {
+			assertThat(lines.map(this::asString).collect(toList()), contains("\"one\"", "\"two\""));
+		}
+	}
+
+	@Test
+	void emptyContent() {
+		try (Stream<ByteBuffer> lines = JsonLines.split(chunks())) {
+			assertThat(lines.collect(toList()), empty());
+		}
+	}
+
+	@Test
+	void sliceLinesInsideTheSameChunk() {
+		ByteBuffer chunk = ByteBuffer.wrap("\"one\"\n\"two\"\n".getBytes(UTF_8));
+
+		Publisher<List<ByteBuffer>> publisher = subscriber -> subscriber.onSubscribe(new Subscription() {
+
+			private boolean done = false;
+
+			@Override
+			public void request(long n) {
+				if (done) return;
+				done = true;
+				subscriber.onNext(List.of(chunk));
+				subscriber.onComplete();
+			}
+
+			@Override
+			public void cancel() {}
+		});
+
+		try (Stream<ByteBuffer> lines = JsonLines.split(publisher)) {
+			assertTrue(lines.allMatch(line -> line.hasArray() && line.array() == chunk.array()));
+		}
+	}
+
+	@Test
+	void failure() {
+		RuntimeException failure = new RuntimeException("oops");
+
+		Publisher<List<ByteBuffer>> publisher = subscriber -> subscriber.onSubscribe(new Subscription() {
+
+			private boolean done = false;
+
+			@Override
+			public void request(long n) {
+				if (done) return;
+				done = true;
+				subscriber.onNext(List.of(ByteBuffer.wrap("\"one\"\n\"tw".getBytes(UTF_8))));
+				subscriber.onError(failure);
+			}
+
+			@Override
+			public void cancel() {}
+		});
+
+		try (Stream<ByteBuffer> lines = JsonLines.split(publisher)) {
+			HTTPResponseReaderException exception = assertThrows(HTTPResponseReaderException.class, () -> lines.map(this::asString).collect(toList()));
+
+			assertThat(exception.getCause(), sameInstance(failure));
+		}
+	}
+
+	private String asString(ByteBuffer buffer) {
+		return UTF_8.decode(buffer).toString();
+	}
+
+	private Publisher<List<ByteBuffer>> chunks(String... chunks) {
+		Deque<ByteBuffer> buffers = new ArrayDeque<>();
+		Arrays.stream(chunks).map(c -> ByteBuffer.wrap(c.getBytes(UTF_8))).forEach(buffers::add);
+
+		return subscriber -> subscriber.onSubscribe(new Subscription() {
+
+			@Override
+			public void request(long n) {
+				if (buffers.isEmpty())
+					subscriber.onComplete();
+				else
+					subscriber.onNext(List.of(buffers.poll()));
+			}
+
+			@Override
+			public void cancel() {}
+		});
+	}
+}
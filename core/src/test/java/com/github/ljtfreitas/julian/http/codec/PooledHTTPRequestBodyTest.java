@@ -0,0 +1,266 @@
+package com.github.ljtfreitas.julian.http.codec;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.http.HTTPHeaders;
+import com.github.ljtfreitas.julian.http.HTTPMethod;
+import com.github.ljtfreitas.julian.http.HTTPRequestBody;
+import com.github.ljtfreitas.julian.http.HTTPRequestDefinition;
+import com.github.ljtfreitas.julian.http.MediaType;
+import com.github.ljtfreitas.julian.http.client.DefaultHTTPClient;
+import com.github.ljtfreitas.julian.http.client.HTTPClient;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PooledHTTPRequestBodyTest {
+
+    private final ByteBufferPool pool = new ByteBufferPool(1024, 16);
+
+    @Test
+    void serialize() {
+        byte[] content = content('a', 4000);
+
+        HTTPRequestBody body = new PooledHTTPRequestBody(MediaType.APPLICATION_OCTET_STREAM, pool, output -> write(output, content));
+
+        assertEquals(content.length, body.contentLength().orElse(-1));
+        assertArrayEquals(content, collect(body));
+        assertArrayEquals(content, collect(body));
+    }
+
+    @Test
+    void doNotReuseSegmentsHandedToTheSubscriber() {
+        HTTPRequestBody body = new PooledHTTPRequestBody(MediaType.APPLICATION_OCTET_STREAM, pool, output -> write(output, content('a', 4000)));
+
+        List<ByteBuffer> emitted = chunks(body);
+
+        emitted.forEach(segment -> assertNotSame(segment.array(), pool.acquire().array()));
+    }
+
+    @Test
+    void reuseSegmentsOnceTheExchangeIsOver() {
+        HTTPRequestBody body = new PooledHTTPRequestBody(MediaType.APPLICATION_OCTET_STREAM, pool, output -> write(output, content('a', 4000)));
+
+        List<ByteBuffer> emitted = chunks(body);
+
+        body.release();
+
+        List<byte[]> segments = emitted.stream().map(segment -> pool.acquire().array()).collect(Collectors.toList());
+
+        emitted.forEach(segment -> assertTrue(segments.stream().anyMatch(array -> array == segment.array())));
+    }
+
+    @Test
+    void keepSegmentsWhileTheSubscriptionIsRunning() {
+        HTTPRequestBody body = new PooledHTTPRequestBody(MediaType.APPLICATION_OCTET_STREAM, pool, output -> write(output, content('a', 4000)));
+
+        List<ByteBuffer> emitted = new ArrayList<>();
+        Subscription[] subscription = new Subscription[1];
+
+        body.serialize().subscribe(new Subscriber<>() {
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription[0] = s;
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                emitted.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {}
+
+            @Override
+            public void onComplete() {}
+        });
+
+        body.release();
+
+        assertNotSame(emitted.get(0).array(), pool.acquire().array());
+
+        subscription[0].cancel();
+
+        assertSame(emitted.get(0).array(), pool.acquire().array());
+    }
+
+    @Nested
+    class HTTP2 {
+
+        private Server server;
+        private HTTPClient client;
+
+        @BeforeEach
+        void start() throws Exception {
+            HttpConfiguration configuration = new HttpConfiguration();
+
+            server = new Server();
+
+            ServerConnector connector = new ServerConnector(server, new HttpConnectionFactory(configuration), new HTTP2CServerConnectionFactory(configuration));
+            server.addConnector(connector);
+
+            server.setHandler(new AbstractHandler() {
+
+                @Override
+                public void handle(String target, Request base, HttpServletRequest request, HttpServletResponse response) throws IOException {
+                    response.setStatus(200);
+                    response.setContentType(MediaType.APPLICATION_OCTET_STREAM.toString());
+                    request.getInputStream().transferTo(response.getOutputStream());
+                    base.setHandled(true);
+                }
+            });
+
+            server.start();
+
+            client = new DefaultHTTPClient(HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build());
+
+            // the first request upgrades the connection to h2c; the next ones are multiplexed on it
+            client.request(new EchoRequestDefinition(uri(), null)).execute().join().unsafe();
+        }
+
+        @AfterEach
+        void stop() throws Exception {
+            server.stop();
+        }
+
+        @Test
+        void concurrentRequestsKeepTheirPayloads() {
+            List<byte[]> contents = IntStream.range(0, 32)
+                    .mapToObj(i -> content((char) ('a' + (i % 26)), 1024 * 8 + i))
+                    .collect(Collectors.toList());
+
+            List<CompletableFuture<byte[]>> responses = contents.stream()
+                    .map(content -> new PooledHTTPRequestBody(MediaType.APPLICATION_OCTET_STREAM, pool, output -> write(output, content)))
+                    .map(body -> client.request(new EchoRequestDefinition(uri(), body)).execute()
+                            .then(r -> r.body().readAsBytes(b -> b).map(CompletableFuture::join).orElse(new byte[0]))
+                            .future())
+                    .collect(Collectors.toList());
+
+            for (int i = 0; i < contents.size(); i++)
+                assertArrayEquals(contents.get(i), responses.get(i).orTimeout(10, TimeUnit.SECONDS).join(), "payload " + i);
+        }
+
+        private URI uri() {
+            return server.getURI().resolve("/echo");
+        }
+    }
+
+    private byte[] content(char c, int length) {
+        byte[] content = new byte[length];
+        Arrays.fill(content, (byte) c);
+        return content;
+    }
+
+    private void write(OutputStream output, byte[] content) {
+        try {
+            output.write(content);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private byte[] collect(HTTPRequestBody body) {
+        List<ByteBuffer> chunks = chunks(body);
+
+        ByteBuffer all = ByteBuffer.allocate(chunks.stream().mapToInt(ByteBuffer::remaining).sum());
+        chunks.forEach(all::put);
+
+        return all.array();
+    }
+
+    private List<ByteBuffer> chunks(HTTPRequestBody body) {
+        List<ByteBuffer> chunks = new ArrayList<>();
+
+        body.serialize().subscribe(new Subscriber<>() {
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                // consume the emitted buffer, as a transport does
+                chunks.add(item.duplicate());
+                item.position(item.limit());
+            }
+
+            @Override
+            public void onError(Throwable throwable) {}
+
+            @Override
+            public void onComplete() {}
+        });
+
+        return chunks;
+    }
+
+    private static class EchoRequestDefinition implements HTTPRequestDefinition {
+
+        private final URI path;
+        private final HTTPRequestBody body;
+
+        private EchoRequestDefinition(URI path, HTTPRequestBody body) {
+            this.path = path;
+            this.body = body;
+        }
+
+        @Override
+        public URI path() {
+            return path;
+        }
+
+        @Override
+        public HTTPMethod method() {
+            return body == null ? HTTPMethod.GET : HTTPMethod.POST;
+        }
+
+        @Override
+        public HTTPHeaders headers() {
+            return HTTPHeaders.empty();
+        }
+
+        @Override
+        public Optional<HTTPRequestBody> body() {
+            return Optional.ofNullable(body);
+        }
+
+        @Override
+        public JavaType returnType() {
+            return JavaType.valueOf(byte[].class);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.github.ljtfreitas.julian.http.codec;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.http.Event;
+import com.github.ljtfreitas.julian.http.HTTPResponseBody;
+import com.github.ljtfreitas.julian.http.MediaType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServerSentEventHTTPResponseReaderTest {
+
+	private final HTTPResponseReaders readers = new HTTPResponseReaders(List.of(StringHTTPMessageCodec.get(), ScalarHTTPMessageCodec.get()));
+
+	private final ServerSentEventHTTPResponseReader reader = new ServerSentEventHTTPResponseReader(readers);
+
+	@Nested
+	class Streamable {
+
+		@Test
+		void supported() {
+			assertTrue(reader.streamable(MediaType.TEXT_EVENT_STREAM, JavaType.valueOf(String.class)));
+			assertTrue(reader.streamable(MediaType.TEXT_EVENT_STREAM, JavaType.parameterized(Event.class, String.class)));
+			assertTrue(reader.streamable(MediaType.TEXT_EVENT_STREAM, JavaType.valueOf(Integer.class)));
+		}
+
+		@Test
+		void unsupported() {
+			assertFalse(reader.streamable(MediaType.APPLICATION_JSON, JavaType.valueOf(String.class)));
+		}
+
+		@Test
+		void selectedByReaders() {
+			JavaType javaType = JavaType.parameterized(Stream.class, JavaType.parameterized(Event.class, String.class).get());
+
+			assertTrue(readers.select(MediaType.TEXT_EVENT_STREAM, javaType).isPresent());
+		}
+	}
+
+	@Nested
+	class Read {
+
+		@Test
+		void events() {
+			Publisher<List<ByteBuffer>> chunks = chunks(": comment\nretry: 1000\nid: 1\nevent: greeting\ndata: hello\n", "data:world\r\n\r\nid: 2\ndata: bye\n\n");
+
+			List<Object> events = stream(chunks, JavaType.parameterized(Event.class, String.class));
+
+			assertThat(events, contains(
+					new Event<>("1", "greeting", "hello\nworld", Duration.ofMillis(1000)),
+					new Event<>("2", "message", "bye", null)));
+		}
+
+		@Test
+		void data() {
+			List<Object> events = stream(chunks("data: 1\n\nid: 1\n\ndata: 2\n", "\n"), JavaType.valueOf(Integer.class));
+
+			assertThat(events, contains(1, 2));
+		}
+
+		@Test
+		void keepLastEventId() {
+			List<Object> events = stream(chunks("id: 1\ndata: one\n\ndata: two\n\n"), JavaType.parameterized(Event.class, String.class));
+
+			assertThat(events, contains(
+					new Event<>("1", "message", "one", null),
+					new Event<>("1", "message", "two", null)));
+		}
+
+		@Test
+		void ignoreInvalidRetry() {
+			List<Object> events = stream(chunks("retry: 99999999999999999999\ndata: one\n\nretry: 1s\ndata: two\n\n"), JavaType.parameterized(Event.class, String.class));
+
+			assertThat(events, contains(
+					new Event<>(null, "message", "one", null),
+					new Event<>(null, "message", "two", null)));
+		}
+
+		@Test
+		void discardIncompleteEvent() {
+			List<Object> events = stream(chunks("data: one\n\ndata: incomplete"), JavaType.valueOf(String.class));
+
+			assertThat(events, contains("one"));
+		}
+
+		@Test
+		void emptyContent() {
+			assertThat(stream(chunks(), JavaType.valueOf(String.class)), empty());
+		}
+
+		@Test
+		void collection() {
+			Object events = reader.read(HTTPResponseBody.some("data: one\n\ndata: two\n\n".getBytes(UTF_8)), JavaType.parameterized(List.class, String.class))
+					.map(CompletableFuture::join)
+					.orElse(null);
+
+			assertThat(events, instanceOf(List.class));
+			assertThat((List<?>) events, contains("one", "two"));
+		}
+
+		@Test
+		void exposeTheStateOfTheEventStream() {
+			Stream<Object> stream = reader.stream(HTTPResponseBody.lazy(chunks("retry: 1000\nid: 1\ndata: one\n\ndata: two\n\n")), JavaType.valueOf(String.class))
+					.map(CompletableFuture::join)
+					.orElseThrow();
+
+			assertThat(stream.collect(toList()), contains("one", "two"));
+
+			EventStream events = (EventStream) stream;
+
+			assertThat(events.lastEventId(), equalTo(Optional.of("1")));
+			assertThat(events.retry(), equalTo(Optional.of(Duration.ofMillis(1000))));
+		}
+
+		private List<Object> stream(Publisher<List<ByteBuffer>> chunks, JavaType elementType) {
+			return reader.stream(HTTPResponseBody.lazy(chunks), elementType)
+					.map(CompletableFuture::join)
+					.map(s -> s.collect(toList()))
+					.orElseGet(List::of);
+		}
+	}
+
+	@Nested
+	class Publish {
+
+		@Test
+		void events() {
+			Publisher<List<ByteBuffer>> chunks = chunks("retry: 1000\nid: 1\nevent: greeting\ndata: hel", "lo\n\nid: 2\ndata: bye\n\ndata: incomplete");
+
+			List<Object> events = publish(chunks, JavaType.parameterized(Event.class, String.class));
+
+			assertThat(events, contains(
+					new Event<>("1", "greeting", "hello", Duration.ofMillis(1000)),
+					new Event<>("2", "message", "bye", null)));
+		}
+
+		@Test
+		void data() {
+			List<Object> events = publish(chunks("data: 1\n\nid: 1\n\ndata: 2\n", "\n"), JavaType.valueOf(Integer.class));
+
+			assertThat(events, contains(1, 2));
+		}
+
+		@Test
+		void exposeTheStateOfTheEventStream() {
+			Publisher<Object> publisher = reader.publisher(HTTPResponseBody.lazy(chunks("id: 1\ndata: one\n\nid: 2\n", "data: two\n\n")), JavaType.valueOf(String.class))
+					.orElseThrow();
+
+			assertThat(publish(publisher), contains("one", "two"));
+
+			EventStream events = (EventStream) publisher;
+
+			assertThat(events.lastEventId(), equalTo(Optional.of("2")));
+			assertThat(events.retry(), equalTo(Optional.empty()));
+		}
+
+		private List<Object> publish(Publisher<List<ByteBuffer>> chunks, JavaType elementType) {
+			return publish(reader.publisher(HTTPResponseBody.lazy(chunks), elementType).orElseThrow());
+		}
+
+		private List<Object> publish(Publisher<Object> publisher) {
+			List<Object> events = new ArrayList<>();
+
+			publisher.subscribe(new Subscriber<>() {
+
+				@Override
+				public void onSubscribe(Subscription subscription) {
+					subscription.request(Long.MAX_VALUE);
+				}
+
+				@Override
+				public void onNext(Object item) {
+					events.add(item);
+				}
+
+				@Override
+				public void onError(Throwable throwable) {}
+
+				@Override
+				public void onComplete() {}
+			});
+
+			return events;
+		}
+	}
+
+	private Publisher<List<ByteBuffer>> chunks(String... chunks) {
+		List<ByteBuffer> buffers = Stream.of(chunks).map(c -> ByteBuffer.wrap(c.getBytes(UTF_8))).collect(toList());
+
+		return subscriber -> subscriber.onSubscribe(new Subscription() {
+
+			private int index = 0;
+
+			@Override
+			public void request(long n) {
+				if (index < buffers.size())
+					subscriber.onNext(List.of(buffers.get(index++)));
+				else
+					subscriber.onComplete();
+			}
+
+			@Override
+			public void cancel() {}
+		});
+	}
+}
@@ -0,0 +1,242 @@
+package com.github.ljtfreitas.julian.http.codec;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SplitPublisherTest {
+
+	@Nested
+	class Lines {
+
+		@Test
+		void splitAcrossChunks() {
+			Elements elements = subscribe(SplitPublisher.lines(chunks("\"one\"\r\n\"tw", "o\"\n", "\"three\""), SplitPublisherTest.this::asString));
+
+			elements.request(Long.MAX_VALUE);
+
+			assertThat(elements.values, contains("\"one\"", "\"two\"", "\"three\""));
+			assertTrue(elements.completed);
+		}
+
+		@Test
+		void skipLinesDecodedAsNull() {
+			Elements elements = subscribe(SplitPublisher.lines(chunks("one\n\n", "\ntwo\n"), line -> line.hasRemaining() ? asString(line) : null));
+
+			elements.request(2);
+
+			assertThat(elements.values, contains("one", "two"));
+			assertTrue(elements.completed);
+		}
+	}
+
+	@Nested
+	class ArrayElements {
+
+		@Test
+		void splitAcrossChunks() {
+			Elements elements = subscribe(SplitPublisher.arrayElements(chunks(" [{\"name\":\"Tia", "go\"}, {\"name\":", "\"Fulano\"} ]\n"), SplitPublisherTest.this::asString));
+
+			elements.request(Long.MAX_VALUE);
+
+			assertThat(elements.values, contains("{\"name\":\"Tiago\"}", "{\"name\":\"Fulano\"}"));
+			assertTrue(elements.completed);
+		}
+
+		@Test
+		void keepNestedValuesAndDelimitersInsideStrings() {
+			Elements elements = subscribe(SplitPublisher.arrayElements(chunks("[[1,2],{\"a\":[3,4],\"b\":\"x,]}\\\"", "[\"},\"y\\\\\",1]"), SplitPublisherTest.this::asString));
+
+			elements.request(Long.MAX_VALUE);
+
+			assertThat(elements.values, contains("[1,2]", "{\"a\":[3,4],\"b\":\"x,]}\\\"[\"}", "\"y\\\\\"", "1"));
+			assertTrue(elements.completed);
+		}
+
+		@Test
+		void emptyArray() {
+			Elements elements = subscribe(SplitPublisher.arrayElements(chunks("[ ", " ]"), SplitPublisherTest.this::asString));
+
+			elements.request(1);
+
+			assertThat(elements.values, empty());
+			assertTrue(elements.completed);
+		}
+
+		@Test
+		void singleValue() {
+			Elements elements = subscribe(SplitPublisher.arrayElements(chunks("{\"name\":", "\"Tiago\",\"age\":42}"), SplitPublisherTest.this::asString));
+
+			elements.request(1);
+
+			assertThat(elements.values, contains("{\"name\":\"Tiago\",\"age\":42}"));
+			assertTrue(elements.completed);
+		}
+	}
+
+	@Test
+	void readTheBodyOnlyAsFarAsTheDemand() {
+		AtomicInteger requested = new AtomicInteger();
+
+		Elements elements = subscribe(SplitPublisher.arrayElements(chunks(requested, "[1,", "2,", "3]"), SplitPublisherTest.this::asString));
+
+		assertThat(requested.get(), is(0));
+
+		elements.request(1);
+
+		assertThat(elements.values, contains("1"));
+		assertThat(requested.get(), is(2));
+
+		elements.request(1);
+
+		assertThat(elements.values, contains("1", "2"));
+		assertThat(requested.get(), is(3));
+		assertFalse(elements.completed);
+	}
+
+	@Test
+	void decodeFailure() {
+		RuntimeException failure = new RuntimeException("oops");
+		AtomicBoolean cancelled = new AtomicBoolean(false);
+
+		Publisher<List<ByteBuffer>> source = subscriber -> subscriber.onSubscribe(new Subscription() {
+
+			@Override
+			public void request(long n) {
+				subscriber.onNext(List.of(ByteBuffer.wrap("[1,2,3]".getBytes(UTF_8))));
+			}
+
+			@Override
+			public void cancel() {
+				cancelled.set(true);
+			}
+		});
+
+		Elements elements = subscribe(SplitPublisher.arrayElements(source, element -> { throw failure; }));
+
+		elements.request(1);
+
+		assertThat(elements.failure, sameInstance(failure));
+		assertTrue(cancelled.get());
+	}
+
+	@Test
+	void bodyFailure() {
+		RuntimeException failure = new RuntimeException("oops");
+
+		Publisher<List<ByteBuffer>> source = subscriber -> subscriber.onSubscribe(new Subscription() {
+
+			@Override
+			public void request(long n) {
+				subscriber.onError(failure);
+			}
+
+			@Override
+			public void cancel() {}
+		});
+
+		Elements elements = subscribe(SplitPublisher.lines(source, SplitPublisherTest.this::asString));
+
+		elements.request(1);
+
+		assertThat(elements.failure, sameInstance(failure));
+	}
+
+	@Test
+	void rejectNonPositiveRequests() {
+		Elements elements = subscribe(SplitPublisher.lines(chunks("one\n"), SplitPublisherTest.this::asString));
+
+		elements.request(0);
+
+		assertThat(elements.failure, instanceOf(IllegalArgumentException.class));
+	}
+
+	private String asString(ByteBuffer buffer) {
+		return UTF_8.decode(buffer).toString();
+	}
+
+	private Elements subscribe(Publisher<String> publisher) {
+		Elements elements = new Elements();
+		publisher.subscribe(elements);
+		return elements;
+	}
+
+	private Publisher<List<ByteBuffer>> chunks(String... chunks) {
+		return chunks(new AtomicInteger(), chunks);
+	}
+
+	private Publisher<List<ByteBuffer>> chunks(AtomicInteger requested, String... chunks) {
+		Deque<ByteBuffer> buffers = new ArrayDeque<>();
+		Arrays.stream(chunks).map(c -> ByteBuffer.wrap(c.getBytes(UTF_8))).forEach(buffers::add);
+
+		return subscriber -> subscriber.onSubscribe(new Subscription() {
+
+			@Override
+			public void request(long n) {
+				requested.incrementAndGet();
+
+				if (buffers.isEmpty())
+					subscriber.onComplete();
+				else
+					subscriber.onNext(List.of(buffers.poll()));
+			}
+
+			@Override
+			public void cancel() {}
+		});
+	}
+
+	private static class Elements implements Subscriber<String> {
+
+		private final List<String> values = new ArrayList<>();
+
+		private Subscription subscription;
+		private Throwable failure;
+		private boolean completed = false;
+
+		@Override
+		public void onSubscribe(Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(String item) {
+			values.add(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			this.failure = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			this.completed = true;
+		}
+
+		private void request(long n) {
+			subscription.request(n);
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.github.ljtfreitas.julian;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Java21VirtualThreadsTest {
+
+    @Test
+    void runOnVirtualThreads() {
+        assertTrue(VirtualThreads.available());
+
+        Executor executor = VirtualThreads.executor().orElseThrow();
+
+        Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, executor).join();
+
+        assertAll(() -> assertTrue(thread.isVirtual()),
+                  () -> assertThat(thread.getName(), startsWith("julian-http-client-")));
+    }
+}
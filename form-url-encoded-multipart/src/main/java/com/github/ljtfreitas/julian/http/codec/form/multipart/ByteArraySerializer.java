@@ -26,7 +26,7 @@ import com.github.ljtfreitas.julian.Message;
 import com.github.ljtfreitas.julian.http.MediaType;
 import com.github.ljtfreitas.julian.http.codec.HTTPRequestWriterException;
 
-import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 
 class ByteArraySerializer implements MultipartFormFieldSerializer<byte[]> {
@@ -41,13 +41,13 @@ class ByteArraySerializer implements MultipartFormFieldSerializer<byte[]> {
     }
 
     @Override
-    public void write(String boundary, MultipartFormField<byte[]> field, Charset charset, OutputStream output) {
+    public void write(String boundary, MultipartFormField<byte[]> field, Charset charset, MultipartFormDataContent output) {
         ContentDisposition contentDisposition = new ContentDisposition(field.name, field.fileName.orElse(null));
 
         MediaType mediaType = field.contentType.orElse(MEDIA_TYPE_OCTET_STREAM);
 
         new MultipartFormFieldWriter(output, boundary, contentDisposition, mediaType)
-                .write(o -> output.write(field.value))
+                .write(o -> o.write(ByteBuffer.wrap(field.value)))
                 .prop(e -> new HTTPRequestWriterException(Message.format("Cannot write multipart/form-data field {0}", field.name), e));
     }
 
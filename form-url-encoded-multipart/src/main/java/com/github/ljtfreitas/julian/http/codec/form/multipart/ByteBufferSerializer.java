@@ -26,7 +26,6 @@ import com.github.ljtfreitas.julian.Message;
 import com.github.ljtfreitas.julian.http.MediaType;
 import com.github.ljtfreitas.julian.http.codec.HTTPRequestWriterException;
 
-import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 
@@ -42,13 +41,13 @@ class ByteBufferSerializer implements MultipartFormFieldSerializer<ByteBuffer> {
     }
 
     @Override
-    public void write(String boundary, MultipartFormField<ByteBuffer> field, Charset charset, OutputStream output) {
+    public void write(String boundary, MultipartFormField<ByteBuffer> field, Charset charset, MultipartFormDataContent output) {
         ContentDisposition contentDisposition = new ContentDisposition(field.name, field.fileName.orElse(null));
 
         MediaType mediaType = field.contentType.orElse(MEDIA_TYPE_OCTET_STREAM);
 
         new MultipartFormFieldWriter(output, boundary, contentDisposition, mediaType)
-                .write(o -> output.write(field.value.array()))
+                .write(o -> o.write(field.value))
                 .prop(e -> new HTTPRequestWriterException(Message.format("Cannot write multipart/form-data field {0}", field.name), e));
     }
 
@@ -26,7 +26,6 @@ import com.github.ljtfreitas.julian.Message;
 import com.github.ljtfreitas.julian.http.MediaType;
 import com.github.ljtfreitas.julian.http.codec.HTTPRequestWriterException;
 
-import java.io.OutputStream;
 import java.nio.charset.Charset;
 
 class DefaultMultipartFormFieldSerializer implements MultipartFormFieldSerializer<Object> {
@@ -39,7 +38,7 @@ class DefaultMultipartFormFieldSerializer implements MultipartFormFieldSerialize
     }
 
     @Override
-    public void write(String boundary, MultipartFormField<Object> field, Charset charset, OutputStream output) {
+    public void write(String boundary, MultipartFormField<Object> field, Charset charset, MultipartFormDataContent output) {
         ContentDisposition contentDisposition = new ContentDisposition(field.name, field.fileName.orElse(null));
 
         new MultipartFormFieldWriter(output, boundary, contentDisposition, MEDIA_TYPE_TEXT_PLAIN)
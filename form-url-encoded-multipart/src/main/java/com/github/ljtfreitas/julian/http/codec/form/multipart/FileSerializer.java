@@ -28,7 +28,6 @@ import com.github.ljtfreitas.julian.http.MediaType;
 import com.github.ljtfreitas.julian.http.codec.HTTPRequestWriterException;
 
 import java.io.File;
-import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.util.Optional;
@@ -48,7 +47,7 @@ class FileSerializer implements MultipartFormFieldSerializer<File> {
     }
 
     @Override
-    public void write(String boundary, MultipartFormField<File> field, Charset charset, OutputStream output) {
+    public void write(String boundary, MultipartFormField<File> field, Charset charset, MultipartFormDataContent output) {
         File file = field.value;
         String fileName = field.fileName.filter(not(String::isEmpty)).orElseGet(file::getName);
 
@@ -60,7 +59,7 @@ class FileSerializer implements MultipartFormFieldSerializer<File> {
                         .recover(() -> MEDIA_TYPE_OCTET_STREAM));
 
         new MultipartFormFieldWriter(output, boundary, contentDisposition, mediaType)
-                .write(o -> Files.copy(file.toPath(), output))
+                .write(o -> o.write(file.toPath()))
                 .prop(e -> new HTTPRequestWriterException(Message.format("Cannot write multipart/form-data field {0}", field.name), e));
     }
 
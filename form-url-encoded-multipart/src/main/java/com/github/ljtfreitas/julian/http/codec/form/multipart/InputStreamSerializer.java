@@ -27,7 +27,6 @@ import com.github.ljtfreitas.julian.http.MediaType;
 import com.github.ljtfreitas.julian.http.codec.HTTPRequestWriterException;
 
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.charset.Charset;
 
 class InputStreamSerializer implements MultipartFormFieldSerializer<InputStream> {
@@ -42,13 +41,13 @@ class InputStreamSerializer implements MultipartFormFieldSerializer<InputStream>
     }
 
     @Override
-    public void write(String boundary, MultipartFormField<InputStream> field, Charset charset, OutputStream output) {
+    public void write(String boundary, MultipartFormField<InputStream> field, Charset charset, MultipartFormDataContent output) {
         ContentDisposition contentDisposition = new ContentDisposition(field.name, field.fileName.orElse(null));
 
         MediaType mediaType = field.contentType.orElse(MEDIA_TYPE_OCTET_STREAM);
 
         new MultipartFormFieldWriter(output, boundary, contentDisposition, mediaType)
-                .write(o -> field.value.transferTo(output))
+                .write(o -> o.write(field.value))
                 .prop(e -> new HTTPRequestWriterException(Message.format("Cannot write multipart/form-data field {0}", field.name), e));
     }
 
@@ -22,7 +22,6 @@
 
 package com.github.ljtfreitas.julian.http.codec.form.multipart;
 
-import java.io.OutputStream;
 import java.nio.charset.Charset;
 
 class IterableSerializer implements MultipartFormFieldSerializer<Iterable<Object>> {
@@ -40,7 +39,7 @@ class IterableSerializer implements MultipartFormFieldSerializer<Iterable<Object
 
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
-    public void write(String boundary, MultipartFormField<Iterable<Object>> field, Charset charset, OutputStream output) {
+    public void write(String boundary, MultipartFormField<Iterable<Object>> field, Charset charset, MultipartFormDataContent output) {
         field.value.forEach(v -> serializers.select(v.getClass()).write(boundary, new MultipartFormField(field.name, v), charset, output));
     }
 }
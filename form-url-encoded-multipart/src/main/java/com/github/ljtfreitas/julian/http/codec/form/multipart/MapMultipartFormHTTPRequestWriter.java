@@ -23,19 +23,12 @@
 package com.github.ljtfreitas.julian.http.codec.form.multipart;
 
 import com.github.ljtfreitas.julian.JavaType;
-import com.github.ljtfreitas.julian.http.DefaultHTTPRequestBody;
 import com.github.ljtfreitas.julian.http.HTTPRequestBody;
 import com.github.ljtfreitas.julian.http.MediaType;
-import com.github.ljtfreitas.julian.http.codec.HTTPRequestWriterException;
 import com.github.ljtfreitas.julian.http.codec.MultipartFormDataHTTPRequestWriter;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.net.http.HttpRequest.BodyPublishers;
-import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.Map;
-import java.util.concurrent.Flow.Publisher;
 
 public class MapMultipartFormHTTPRequestWriter implements MultipartFormDataHTTPRequestWriter<Map<String, ?>> {
 
@@ -63,26 +56,20 @@ public class MapMultipartFormHTTPRequestWriter implements MultipartFormDataHTTPR
 
         MediaType mediaType = MediaType.MULTIPART_FORM_DATA.parameter("boundary", boundary);
 
-        return new DefaultHTTPRequestBody(mediaType, () -> serialize(map, encoding, "--" + boundary));
+        return new MultipartFormDataHTTPRequestBody(mediaType, serialize(map, encoding, "--" + boundary));
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private Publisher<ByteBuffer> serialize(Map<String, ?> form, Charset encoding, String boundary) {
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+    private MultipartFormDataContent serialize(Map<String, ?> form, Charset encoding, String boundary) {
+        MultipartFormDataContent output = new MultipartFormDataContent();
 
-            form.forEach((name, value) -> serializers.select(value.getClass())
-                    .write(boundary, new MultipartFormField(name, value), encoding, output));
+        form.forEach((name, value) -> serializers.select(value.getClass())
+                .write(boundary, new MultipartFormField(name, value), encoding, output));
 
-            output.write((boundary + "--").getBytes());
+        output.write((boundary + "--").getBytes());
+        output.flush();
 
-            output.flush();
-            output.close();
-
-            return BodyPublishers.ofByteArray(output.toByteArray());
-
-        } catch (IOException e) {
-            throw new HTTPRequestWriterException("Multipart/form serialization failed.", e);
-        }
+        return output;
     }
 
     public static MapMultipartFormHTTPRequestWriter provider() {
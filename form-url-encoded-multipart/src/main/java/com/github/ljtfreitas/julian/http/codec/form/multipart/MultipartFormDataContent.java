@@ -0,0 +1,391 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.ljtfreitas.julian.http.codec.form.multipart;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class MultipartFormDataContent extends OutputStream {
+
+    private static final int CHUNK_SIZE = 1024 * 64; // 64kb
+
+    private final List<Source> sources = new ArrayList<>();
+
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+
+    private final Executor executor;
+
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    MultipartFormDataContent() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    MultipartFormDataContent(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void write(int b) {
+        pending.write(b);
+    }
+
+    @Override
+    public void write(byte[] b) {
+        pending.writeBytes(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        pending.write(b, off, len);
+    }
+
+    void write(ByteBuffer buffer) {
+        add(new BufferSource(buffer.duplicate()));
+    }
+
+    void write(Path path) {
+        add(new PathSource(path));
+    }
+
+    void write(InputStream stream) {
+        add(new InputStreamSource(stream));
+    }
+
+    private void add(Source source) {
+        flush();
+        sources.add(source);
+    }
+
+    @Override
+    public void flush() {
+        if (pending.size() > 0) {
+            sources.add(new BufferSource(ByteBuffer.wrap(pending.toByteArray())));
+            pending.reset();
+        }
+    }
+
+    OptionalLong length() {
+        flush();
+
+        long length = 0;
+        for (Source source : sources) {
+            long size = source.length();
+            if (size < 0) return OptionalLong.empty();
+            length += size;
+        }
+        return OptionalLong.of(length);
+    }
+
+    Publisher<ByteBuffer> publisher() {
+        flush();
+
+        List<Source> sources = List.copyOf(this.sources);
+
+        if (sources.stream().allMatch(Source::replayable))
+            return subscriber -> subscriber.onSubscribe(new SourcesSubscription(subscriber, sources.iterator(), executor));
+
+        // an InputStream can be read only once, and it is not buffered to be replayed
+        return subscriber -> {
+            if (subscribed.compareAndSet(false, true)) {
+                subscriber.onSubscribe(new SourcesSubscription(subscriber, sources.iterator(), executor));
+            } else {
+                subscriber.onSubscribe(new Subscription() {
+
+                    @Override
+                    public void request(long n) {}
+
+                    @Override
+                    public void cancel() {}
+                });
+                subscriber.onError(new IllegalStateException("a multipart body with an InputStream part can be subscribed only once."));
+            }
+        };
+    }
+
+    private interface Source {
+
+        long length();
+
+        default boolean replayable() {
+            return true;
+        }
+
+        Chunks open() throws IOException;
+    }
+
+    private interface Chunks extends Closeable {
+
+        ByteBuffer next() throws IOException;
+
+        @Override
+        default void close() throws IOException {}
+    }
+
+    private static class BufferSource implements Source {
+
+        private final ByteBuffer buffer;
+
+        private BufferSource(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public long length() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public Chunks open() {
+            return new Chunks() {
+
+                private boolean sent = !buffer.hasRemaining();
+
+                @Override
+                public ByteBuffer next() {
+                    if (sent) return null;
+                    sent = true;
+                    return buffer.duplicate();
+                }
+            };
+        }
+    }
+
+    private static class PathSource implements Source {
+
+        private final Path path;
+
+        private PathSource(Path path) {
+            this.path = path;
+        }
+
+        @Override
+        public long length() {
+            try {
+                return Files.size(path);
+            } catch (IOException e) {
+                return -1;
+            }
+        }
+
+        @Override
+        public Chunks open() throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+
+            return new Chunks() {
+
+                @Override
+                public ByteBuffer next() throws IOException {
+                    ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+
+                    while (buffer.hasRemaining()) {
+                        if (channel.read(buffer) < 0) break;
+                    }
+
+                    return buffer.position() == 0 ? null : buffer.flip();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    channel.close();
+                }
+            };
+        }
+    }
+
+    private static class InputStreamSource implements Source {
+
+        private final InputStream stream;
+
+        private InputStreamSource(InputStream stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public long length() {
+            return -1;
+        }
+
+        @Override
+        public boolean replayable() {
+            return false;
+        }
+
+        @Override
+        public Chunks open() {
+            return new Chunks() {
+
+                @Override
+                public ByteBuffer next() throws IOException {
+                    byte[] bytes = stream.readNBytes(CHUNK_SIZE);
+                    return bytes.length == 0 ? null : ByteBuffer.wrap(bytes);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    stream.close();
+                }
+            };
+        }
+    }
+
+    private static class SourcesSubscription implements Subscription {
+
+        private final Subscriber<? super ByteBuffer> subscriber;
+        private final Iterator<Source> sources;
+        private final Executor executor;
+
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private Chunks current = null;
+
+        private volatile boolean done = false;
+        private volatile Throwable failure = null;
+
+        private SourcesSubscription(Subscriber<? super ByteBuffer> subscriber, Iterator<Source> sources, Executor executor) {
+            this.subscriber = subscriber;
+            this.sources = sources;
+            this.executor = executor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (done) return;
+
+            if (n <= 0) {
+                failure = new IllegalArgumentException("non-positive subscription request: " + n);
+                schedule();
+                return;
+            }
+
+            demand.getAndAccumulate(n, (current, requested) -> current + requested < 0 ? Long.MAX_VALUE : current + requested);
+
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+            schedule();
+        }
+
+        // file and stream reads block, so the chunks are read on the executor instead of the thread that requested them
+        private void schedule() {
+            if (wip.getAndIncrement() != 0) return;
+
+            try {
+                executor.execute(this::drain);
+
+            } catch (RuntimeException e) {
+                done = true;
+                release();
+                subscriber.onError(e);
+            }
+        }
+
+        private void drain() {
+            do {
+                if (done) {
+                    release();
+                    return;
+                }
+
+                if (failure != null) {
+                    done = true;
+                    release();
+                    subscriber.onError(failure);
+                    return;
+                }
+
+                while (!done && demand.get() > 0) {
+                    ByteBuffer next;
+                    try {
+                        next = next();
+
+                    } catch (IOException | RuntimeException e) {
+                        done = true;
+                        release();
+                        subscriber.onError(e);
+                        return;
+                    }
+
+                    if (next == null) {
+                        done = true;
+                        subscriber.onComplete();
+                        return;
+                    }
+
+                    demand.decrementAndGet();
+                    subscriber.onNext(next);
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        private ByteBuffer next() throws IOException {
+            while (true) {
+                if (current == null) {
+                    if (!sources.hasNext()) return null;
+                    current = sources.next().open();
+                }
+
+                ByteBuffer chunk = current.next();
+                if (chunk != null) return chunk;
+
+                current.close();
+                current = null;
+            }
+        }
+
+        private void release() {
+            if (current == null) return;
+
+            try {
+                current.close();
+            } catch (IOException e) {
+                // the subscription is finished; there is nobody left to report to
+            } finally {
+                current = null;
+            }
+        }
+    }
+}
@@ -22,12 +22,11 @@
 
 package com.github.ljtfreitas.julian.http.codec.form.multipart;
 
-import java.io.OutputStream;
 import java.nio.charset.Charset;
 
 interface MultipartFormFieldSerializer<T> {
 
     boolean supports(Class<?> candidate);
 
-    void write(String boundary, MultipartFormField<T> field, Charset charset, OutputStream output);
+    void write(String boundary, MultipartFormField<T> field, Charset charset, MultipartFormDataContent output);
 }
@@ -23,7 +23,6 @@
 package com.github.ljtfreitas.julian.http.codec.form.multipart;
 
 import java.io.IOException;
-import java.io.OutputStream;
 
 import com.github.ljtfreitas.julian.Attempt;
 import com.github.ljtfreitas.julian.Attempt.ThrowableConsumer;
@@ -34,19 +33,19 @@ class MultipartFormFieldWriter {
 
     private static final String CONTENT_TYPE_HEADER_NAME = HTTPHeader.CONTENT_TYPE + ": ";
 
-    private final OutputStream output;
+    private final MultipartFormDataContent output;
     private final String boundary;
     private final ContentDisposition contentDisposition;
     private final MediaType mediaType;
 
-    MultipartFormFieldWriter(OutputStream output, String boundary, ContentDisposition contentDisposition, MediaType mediaType) {
+    MultipartFormFieldWriter(MultipartFormDataContent output, String boundary, ContentDisposition contentDisposition, MediaType mediaType) {
         this.output = output;
         this.boundary = boundary;
         this.contentDisposition = contentDisposition;
         this.mediaType = mediaType;
     }
 
-    Attempt<Void> write(ThrowableConsumer<OutputStream> content) {
+    Attempt<Void> write(ThrowableConsumer<MultipartFormDataContent> content) {
         return Attempt.just(() -> {
             output.write(boundary.getBytes());
             output.write('\r');
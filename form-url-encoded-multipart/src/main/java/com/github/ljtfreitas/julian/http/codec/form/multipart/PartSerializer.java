@@ -24,7 +24,6 @@ package com.github.ljtfreitas.julian.http.codec.form.multipart;
 
 import com.github.ljtfreitas.julian.multipart.MultipartForm;
 
-import java.io.OutputStream;
 import java.nio.charset.Charset;
 
 class PartSerializer implements MultipartFormFieldSerializer<MultipartForm.Part> {
@@ -42,7 +41,7 @@ class PartSerializer implements MultipartFormFieldSerializer<MultipartForm.Part>
 
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
-    public void write(String boundary, MultipartFormField<MultipartForm.Part> field, Charset charset, OutputStream output) {
+    public void write(String boundary, MultipartFormField<MultipartForm.Part> field, Charset charset, MultipartFormDataContent output) {
         MultipartForm.Part part = field.value;
 
         part.values().forEach(v -> serializers.select(v.getClass())
@@ -27,7 +27,6 @@ import com.github.ljtfreitas.julian.Message;
 import com.github.ljtfreitas.julian.http.MediaType;
 import com.github.ljtfreitas.julian.http.codec.HTTPRequestWriterException;
 
-import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -46,7 +45,7 @@ class PathSerializer implements MultipartFormFieldSerializer<Path> {
     }
 
     @Override
-    public void write(String boundary, MultipartFormField<Path> field, Charset charset, OutputStream output) {
+    public void write(String boundary, MultipartFormField<Path> field, Charset charset, MultipartFormDataContent output) {
         Path path = field.value;
         String fileName = field.fileName.filter(not(String::isEmpty)).orElseGet(() -> path.getFileName().toString());
 
@@ -59,7 +58,7 @@ class PathSerializer implements MultipartFormFieldSerializer<Path> {
                 .orElse(MEDIA_TYPE_OCTET_STREAM);
 
         new MultipartFormFieldWriter(output, boundary, contentDisposition, mediaType)
-                .write(o -> Files.copy(path, output))
+                .write(o -> o.write(path))
                 .prop(e -> new HTTPRequestWriterException(Message.format("Cannot write multipart/form-data field {0}", field.name), e));
     }
 
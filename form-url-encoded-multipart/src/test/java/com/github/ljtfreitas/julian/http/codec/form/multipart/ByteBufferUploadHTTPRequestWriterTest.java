@@ -4,12 +4,9 @@ import com.github.ljtfreitas.julian.http.HTTPRequestBody;
 import org.junit.jupiter.api.Test;
 
 import java.nio.ByteBuffer;
-import java.util.concurrent.Flow;
-import java.util.concurrent.Flow.Subscriber;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.fail;
 
 class ByteBufferUploadHTTPRequestWriterTest {
 
@@ -34,29 +31,6 @@ class ByteBufferUploadHTTPRequestWriterTest {
 
         assertEquals("multipart/form-data; boundary=abc1234", httpRequestBody.contentType().map(Object::toString).orElse(""));
 
-        httpRequestBody.serialize().subscribe(new Subscriber<>() {
-
-            private ByteBuffer item = ByteBuffer.allocate(0);
-
-            @Override
-            public void onSubscribe(Flow.Subscription subscription) {
-                subscription.request(1);
-            }
-
-            @Override
-            public void onNext(ByteBuffer item) {
-                this.item = item;
-            }
-
-            @Override
-            public void onError(Throwable throwable) {
-                fail(throwable);
-            }
-
-            @Override
-            public void onComplete() {
-                assertEquals(expected, new String(item.array()));
-            }
-        });
+        assertEquals(expected, new String(RequestBodyCollector.collect(httpRequestBody)));
     }
 }
\ No newline at end of file
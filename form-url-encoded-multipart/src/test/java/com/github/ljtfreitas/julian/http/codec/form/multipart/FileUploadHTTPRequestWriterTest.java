@@ -6,14 +6,10 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.ByteBuffer;
 import java.nio.file.Files;
-import java.util.concurrent.Flow;
-import java.util.concurrent.Flow.Subscriber;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.fail;
 
 class FileUploadHTTPRequestWriterTest {
 
@@ -40,29 +36,6 @@ class FileUploadHTTPRequestWriterTest {
 
         assertEquals("multipart/form-data; boundary=abc1234", httpRequestBody.contentType().map(Object::toString).orElse(""));
 
-        httpRequestBody.serialize().subscribe(new Subscriber<>() {
-
-            private ByteBuffer item = ByteBuffer.allocate(0);
-
-            @Override
-            public void onSubscribe(Flow.Subscription subscription) {
-                subscription.request(1);
-            }
-
-            @Override
-            public void onNext(ByteBuffer item) {
-                this.item = item;
-            }
-
-            @Override
-            public void onError(Throwable throwable) {
-                fail(throwable);
-            }
-
-            @Override
-            public void onComplete() {
-                assertEquals(expected, new String(item.array()));
-            }
-        });
+        assertEquals(expected, new String(RequestBodyCollector.collect(httpRequestBody)));
     }
 }
\ No newline at end of file
@@ -7,14 +7,16 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.ByteBuffer;
 import java.nio.file.Files;
-import java.util.concurrent.Flow;
-import java.util.concurrent.Flow.Subscriber;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletionException;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class InputStreamUploadHTTPRequestWriterTest {
 
@@ -46,30 +48,22 @@ class InputStreamUploadHTTPRequestWriterTest {
         HTTPRequestBody httpRequestBody = writer.write(new ByteArrayInputStream(contentAsBytes), UTF_8);
 
         assertEquals("multipart/form-data; boundary=abc1234", httpRequestBody.contentType().map(Object::toString).orElse(""));
+        assertEquals(OptionalLong.empty(), httpRequestBody.contentLength());
 
-        httpRequestBody.serialize().subscribe(new Subscriber<>() {
+        assertEquals(expected, new String(RequestBodyCollector.collect(httpRequestBody)));
+    }
 
-            private ByteBuffer item = ByteBuffer.allocate(0);
+    @Test
+    void serializeOnlyOnce() {
+        byte[] content = "0123456789".repeat(1024 * 20).getBytes();
 
-            @Override
-            public void onSubscribe(Flow.Subscription subscription) {
-                subscription.request(1);
-            }
+        HTTPRequestBody httpRequestBody = writer.write(new ByteArrayInputStream(content), UTF_8);
 
-            @Override
-            public void onNext(ByteBuffer item) {
-                this.item = item;
-            }
+        byte[] first = RequestBodyCollector.collect(httpRequestBody);
 
-            @Override
-            public void onError(Throwable throwable) {
-                fail(throwable);
-            }
+        assertTrue(first.length > content.length);
 
-            @Override
-            public void onComplete() {
-                assertEquals(expected, new String(item.array()));
-            }
-        });
+        CompletionException e = assertThrows(CompletionException.class, () -> RequestBodyCollector.collect(httpRequestBody));
+        assertThat(e.getCause(), instanceOf(IllegalStateException.class));
     }
-}
\ No newline at end of file
+}
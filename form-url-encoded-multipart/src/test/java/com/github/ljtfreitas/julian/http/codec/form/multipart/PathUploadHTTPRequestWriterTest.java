@@ -9,12 +9,12 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.concurrent.Flow;
-import java.util.concurrent.Flow.Subscriber;
+import java.util.List;
+import java.util.OptionalLong;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PathUploadHTTPRequestWriterTest {
 
@@ -42,30 +42,23 @@ class PathUploadHTTPRequestWriterTest {
         HTTPRequestBody httpRequestBody = writer.write(path, UTF_8);
 
         assertEquals("multipart/form-data; boundary=abc1234", httpRequestBody.contentType().map(Object::toString).orElse(""));
+        assertEquals(OptionalLong.of(expected.getBytes().length), httpRequestBody.contentLength());
 
-        httpRequestBody.serialize().subscribe(new Subscriber<>() {
+        assertEquals(expected, new String(RequestBodyCollector.collect(httpRequestBody)));
+    }
 
-            private ByteBuffer item = ByteBuffer.allocate(0);
+    @Test
+    void serializeLargeFilesInChunks() throws IOException {
+        Path large = Files.createTempFile("large-file", ".bin");
+        Files.write(large, "0123456789".repeat(1024 * 20).getBytes());
 
-            @Override
-            public void onSubscribe(Flow.Subscription subscription) {
-                subscription.request(1);
-            }
+        HTTPRequestBody httpRequestBody = writer.write(large, UTF_8);
 
-            @Override
-            public void onNext(ByteBuffer item) {
-                this.item = item;
-            }
+        List<ByteBuffer> chunks = RequestBodyCollector.chunks(httpRequestBody);
 
-            @Override
-            public void onError(Throwable throwable) {
-                fail(throwable);
-            }
+        long size = chunks.stream().mapToLong(ByteBuffer::remaining).sum();
 
-            @Override
-            public void onComplete() {
-                assertEquals(expected, new String(item.array()));
-            }
-        });
+        assertEquals(OptionalLong.of(size), httpRequestBody.contentLength());
+        assertTrue(chunks.size() > 3);
     }
-}
\ No newline at end of file
+}
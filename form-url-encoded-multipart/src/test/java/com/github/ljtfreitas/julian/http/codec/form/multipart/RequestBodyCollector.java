@@ -0,0 +1,59 @@
+package com.github.ljtfreitas.julian.http.codec.form.multipart;
+
+import com.github.ljtfreitas.julian.http.HTTPRequestBody;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.TimeUnit;
+
+class RequestBodyCollector implements Subscriber<ByteBuffer> {
+
+    private final Collection<ByteBuffer> received = new ArrayList<>();
+    private final CompletableFuture<List<ByteBuffer>> done = new CompletableFuture<>();
+
+    private Subscription subscription;
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(ByteBuffer item) {
+        received.add(item);
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        done.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        done.complete(List.copyOf(received));
+    }
+
+    static List<ByteBuffer> chunks(HTTPRequestBody body) {
+        RequestBodyCollector collector = new RequestBodyCollector();
+
+        body.serialize().subscribe(collector);
+
+        return collector.done.orTimeout(5, TimeUnit.SECONDS).join();
+    }
+
+    static byte[] collect(HTTPRequestBody body) {
+        List<ByteBuffer> chunks = chunks(body);
+
+        ByteBuffer bytes = ByteBuffer.allocate(chunks.stream().mapToInt(ByteBuffer::remaining).sum());
+        chunks.forEach(bytes::put);
+
+        return bytes.array();
+    }
+}
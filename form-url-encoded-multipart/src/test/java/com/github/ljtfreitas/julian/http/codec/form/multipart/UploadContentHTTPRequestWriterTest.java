@@ -15,15 +15,10 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
-import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Map;
-import java.util.concurrent.Flow.Subscriber;
-import java.util.concurrent.Flow.Subscription;
 
 import static com.github.ljtfreitas.julian.http.MediaType.MULTIPART_FORM_DATA;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -31,7 +26,6 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.junit.jupiter.api.Assertions.fail;
 
 class UploadContentHTTPRequestWriterTest {
 
@@ -71,7 +65,7 @@ class UploadContentHTTPRequestWriterTest {
 
             assertEquals("multipart/form-data; boundary=abc1234", httpRequestBody.contentType().map(Object::toString).orElse(""));
 
-            httpRequestBody.serialize().subscribe(new MultipartFormBodySubscriber(expected));
+            assertEquals(expected, new String(RequestBodyCollector.collect(httpRequestBody)));
         }
 
         @Test
@@ -95,7 +89,7 @@ class UploadContentHTTPRequestWriterTest {
 
             assertEquals("multipart/form-data; boundary=abc1234", httpRequestBody.contentType().map(Object::toString).orElse(""));
 
-            httpRequestBody.serialize().subscribe(new MultipartFormBodySubscriber(expected));
+            assertEquals(expected, new String(RequestBodyCollector.collect(httpRequestBody)));
         }
 
         @Test
@@ -122,10 +116,7 @@ class UploadContentHTTPRequestWriterTest {
 
             assertEquals("multipart/form-data; boundary=abc1234", httpRequestBody.contentType().map(Object::toString).orElse(""));
 
-            MultipartFormBodyCollector collector = new MultipartFormBodyCollector();
-            httpRequestBody.serialize().subscribe(collector);
-
-            assertArrayEquals(output.toByteArray(), collector.all);
+            assertArrayEquals(output.toByteArray(), RequestBodyCollector.collect(httpRequestBody));
         }
 
         @Test
@@ -154,11 +145,7 @@ class UploadContentHTTPRequestWriterTest {
 
             assertEquals("multipart/form-data; boundary=abc1234", httpRequestBody.contentType().map(Object::toString).orElse(""));
 
-            MultipartFormBodyCollector collector = new MultipartFormBodyCollector();
-
-            httpRequestBody.serialize().subscribe(collector);
-
-            assertArrayEquals(output.toByteArray(), collector.all);
+            assertArrayEquals(output.toByteArray(), RequestBodyCollector.collect(httpRequestBody));
         }
 
         @Test
@@ -187,87 +174,7 @@ class UploadContentHTTPRequestWriterTest {
 
             assertEquals("multipart/form-data; boundary=abc1234", httpRequestBody.contentType().map(Object::toString).orElse(""));
 
-            MultipartFormBodyCollector collector = new MultipartFormBodyCollector();
-
-            httpRequestBody.serialize().subscribe(collector);
-
-            assertArrayEquals(output.toByteArray(), collector.all);
-        }
-    }
-
-    private class MultipartFormBodySubscriber implements Subscriber<ByteBuffer> {
-
-        private final Collection<ByteBuffer> received = new ArrayList<>();
-        private final String expected;
-
-        private Subscription subscription;
-
-        private MultipartFormBodySubscriber(String expected) {
-            this.expected = expected;
-        }
-
-        @Override
-        public void onSubscribe(Subscription subscription) {
-            this.subscription = subscription;
-            subscription.request(1);
-        }
-
-        @Override
-        public void onNext(ByteBuffer item) {
-            received.add(item);
-            subscription.request(1);
-        }
-
-        @Override
-        public void onError(Throwable throwable) {
-            fail(throwable);
-        }
-
-        @Override
-        public void onComplete() {
-            int size = received.stream().mapToInt(Buffer::remaining).sum();
-
-            ByteBuffer bytes = ByteBuffer.allocate(size);
-            received.forEach(bytes::put);
-
-            String bodyAsString = new String(bytes.array());
-
-            assertEquals(expected, bodyAsString);
-        }
-    }
-
-    private class MultipartFormBodyCollector implements Subscriber<ByteBuffer> {
-
-        private final Collection<ByteBuffer> received = new ArrayList<>();
-
-        private Subscription subscription;
-        private byte[] all = null;
-
-        @Override
-        public void onSubscribe(Subscription subscription) {
-            this.subscription = subscription;
-            subscription.request(1);
-        }
-
-        @Override
-        public void onNext(ByteBuffer item) {
-            received.add(item);
-            subscription.request(1);
-        }
-
-        @Override
-        public void onError(Throwable throwable) {
-            fail(throwable);
-        }
-
-        @Override
-        public void onComplete() {
-            int size = received.stream().mapToInt(Buffer::remaining).sum();
-
-            ByteBuffer bytes = ByteBuffer.allocate(size);
-            received.forEach(bytes::put);
-
-            this.all = bytes.array();
+            assertArrayEquals(output.toByteArray(), RequestBodyCollector.collect(httpRequestBody));
         }
     }
-}
\ No newline at end of file
+}
@@ -36,7 +36,6 @@ import com.github.ljtfreitas.julian.http.client.HTTPClientRequest
 import com.github.ljtfreitas.julian.http.client.HTTPClientResponse
 import io.ktor.client.HttpClient
 import io.ktor.client.HttpClientConfig
-import io.ktor.client.call.body
 import io.ktor.client.call.receive
 import io.ktor.client.engine.HttpClientEngine
 import io.ktor.client.engine.HttpClientEngineConfig
@@ -44,32 +43,47 @@ import io.ktor.client.engine.HttpClientEngineFactory
 import io.ktor.client.engine.cio.CIO
 import io.ktor.client.request.headers
 import io.ktor.client.request.post
+import io.ktor.client.request.prepareRequest
 import io.ktor.client.request.request
 import io.ktor.client.statement.HttpResponse
+import io.ktor.client.statement.bodyAsChannel
+import io.ktor.client.statement.request
 import io.ktor.client.utils.EmptyContent
 import io.ktor.http.ContentType
 import io.ktor.http.HttpMethod
+import io.ktor.http.HttpStatusCode
+import io.ktor.http.contentLength
 import io.ktor.http.content.OutgoingContent
 import io.ktor.util.InternalAPI
 import io.ktor.util.toMap
 import io.ktor.utils.io.ByteWriteChannel
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.CompletableDeferred
 import kotlinx.coroutines.CoroutineDispatcher
-import kotlinx.coroutines.DelicateCoroutinesApi
-import kotlinx.coroutines.GlobalScope
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.async
 import kotlinx.coroutines.asExecutor
-import kotlinx.coroutines.future.future
+import kotlinx.coroutines.cancel
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.onCompletion
 import kotlinx.coroutines.jdk9.asFlow
+import kotlinx.coroutines.jdk9.asPublisher
 import java.io.Closeable
+import java.nio.ByteBuffer
 import java.util.Optional
+import java.util.concurrent.CompletableFuture
 import java.util.concurrent.Executor
 import kotlin.coroutines.ContinuationInterceptor
 import kotlin.coroutines.CoroutineContext
 
-@DelicateCoroutinesApi
 class KtorHTTPClient private constructor(private val client: HttpClient): HTTPClient, Closeable {
 
     companion object {
 
+        private const val CHUNK_SIZE = 8192
+
         operator fun invoke() = invoke(CIO)
 
         operator fun invoke(
@@ -96,11 +110,18 @@ class KtorHTTPClient private constructor(private val client: HttpClient): HTTPCl
         })
     }
 
-    override fun close() = client.close()
+    private val scope = CoroutineScope(client.coroutineContext + SupervisorJob(client.coroutineContext[Job]))
+
+    override fun close() {
+        scope.cancel()
+        client.close()
+    }
 
     override fun request(request: HTTPRequestDefinition) = HTTPClientRequest {
-        val future = GlobalScope.future(context = client.coroutineContext) {
-            val response: HttpResponse = client.request(request.path().toURL()) {
+        val future = CompletableFuture<HTTPClientResponse>()
+
+        val call = scope.async {
+            client.prepareRequest(request.path().toURL()) {
                 method = HttpMethod.parse(request.method().name)
 
                 headers {
@@ -111,12 +132,20 @@ class KtorHTTPClient private constructor(private val client: HttpClient): HTTPCl
 
                 @OptIn(InternalAPI::class)
                 body = request.body().map { it.content(request.headers().contentType()) }.orElse(EmptyContent)
-            }
 
-            return@future response.asHTTPClientResponse()
+            }.execute { response ->
+                val released = CompletableDeferred<Unit>()
+
+                future.complete(response.asHTTPClientResponse(released))
 
+                released.await()
+            }
         }
 
+        call.invokeOnCompletion { cause -> cause?.let(future::completeExceptionally) }
+
+        future.whenComplete { _, e -> if (e is CancellationException) call.cancel(e) }
+
         val javaExecutor = client.coroutineContext.javaExecutor()
 
         return@HTTPClientRequest Promise.pending(future, javaExecutor)
@@ -129,26 +158,40 @@ class KtorHTTPClient private constructor(private val client: HttpClient): HTTPCl
         override suspend fun writeTo(channel: ByteWriteChannel) = serialize().asFlow().collect(channel::writeFully)
 
         override val contentType: ContentType? = contentType().or { mediaType }.map { ContentType.parse(it.toString()) }.orElse(null)
+
+        override val contentLength: Long? = contentLength().let { if (it.isPresent) it.asLong else null }
     }
 
-    private suspend fun HttpResponse.asHTTPClientResponse() : HTTPClientResponse {
+    private fun HttpResponse.asHTTPClientResponse(released: CompletableDeferred<Unit>) : HTTPClientResponse {
         val httpStatus = HTTPStatusCode.select(status.value).map { HTTPStatus(it) }
             .orElseGet { HTTPStatus(status.value, status.description) }
 
-        val httpHeaders = headers.toMap().entries.fold(HTTPHeaders.empty()) { acc, (name, values) ->
-            acc.join(HTTPHeader.create(name, values))
+        val httpHeaders = HTTPHeaders.builder().apply {
+            headers.forEach { name, values -> add(name, values) }
+        }.build()
+
+        if (!readable()) {
+            released.complete(Unit)
+            return HTTPClientResponse.empty(httpStatus, httpHeaders)
         }
 
-        val bodyAsBytes: ByteArray = body()
+        val content = flow {
+            val channel = bodyAsChannel()
+            while (true) {
+                val buffer = ByteBuffer.allocate(CHUNK_SIZE)
+                if (channel.readAvailable(buffer) == -1) break
+                emit(listOf(buffer.flip()))
+            }
+        }.onCompletion { released.complete(Unit) }
 
-        return if (bodyAsBytes.isEmpty())
-            HTTPClientResponse.empty(httpStatus, httpHeaders)
-        else
-            HTTPClientResponse.create(httpStatus, httpHeaders, HTTPResponseBody.optional(httpStatus, httpHeaders) {
-                HTTPResponseBody.some(bodyAsBytes)
-            })
+        return HTTPClientResponse.create(httpStatus, httpHeaders, HTTPResponseBody.optional(httpStatus, httpHeaders) {
+            HTTPResponseBody.lazy(content.asPublisher(client.coroutineContext.minusKey(Job)))
+        })
     }
 
+    private fun HttpResponse.readable() = !(status.value in 100..199 || status == HttpStatusCode.NoContent
+            || status == HttpStatusCode.NotModified || request.method == HttpMethod.Head || contentLength() == 0L)
+
     private fun CoroutineContext.javaExecutor(): Executor = (get(ContinuationInterceptor) as CoroutineDispatcher).asExecutor()
 }
 
@@ -1,6 +1,9 @@
 package com.github.ljtfreitas.julian.k.http.client.ktor
 
 import com.github.ljtfreitas.julian.JavaType
+import com.github.ljtfreitas.julian.Promise
+import com.github.ljtfreitas.julian.ProxyBuilder as JulianProxyBuilder
+import com.github.ljtfreitas.julian.contract.GET
 import com.github.ljtfreitas.julian.http.DefaultHTTPRequestBody
 import com.github.ljtfreitas.julian.http.HTTPHeader
 import com.github.ljtfreitas.julian.http.HTTPHeaders
@@ -10,11 +13,15 @@ import com.github.ljtfreitas.julian.http.HTTPRequestDefinition
 import com.github.ljtfreitas.julian.http.HTTPResponseBody
 import com.github.ljtfreitas.julian.http.HTTPStatusCode
 import com.github.ljtfreitas.julian.http.MediaType.TEXT_PLAIN
+import com.github.ljtfreitas.julian.http.client.HTTPClient
+import com.github.ljtfreitas.julian.http.client.HTTPClientRequest
+import com.github.ljtfreitas.julian.http.client.HTTPClientResponse
 import io.kotest.assertions.fail
 import io.kotest.core.spec.style.DescribeSpec
 import io.kotest.extensions.mockserver.MockServerListener
 import io.kotest.matchers.collections.shouldContain
 import io.kotest.matchers.collections.shouldContainAll
+import io.kotest.matchers.ints.shouldBeGreaterThan
 import io.kotest.matchers.shouldBe
 import io.kotest.matchers.types.shouldBeInstanceOf
 import io.ktor.client.engine.ProxyBuilder
@@ -26,6 +33,8 @@ import io.ktor.client.plugins.logging.LogLevel
 import io.ktor.client.plugins.logging.Logging
 import io.ktor.network.tls.addKeyStore
 import kotlinx.coroutines.DelicateCoroutinesApi
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.jdk9.asFlow
 import org.mockserver.client.MockServerClient
 import org.mockserver.logging.MockServerLogger
 import org.mockserver.model.HttpRequest.request
@@ -37,6 +46,7 @@ import java.io.IOException
 import java.net.URI
 import java.net.http.HttpRequest.BodyPublishers
 import java.util.Optional
+import java.util.concurrent.CancellationException
 import java.util.concurrent.CompletableFuture
 import java.util.concurrent.TimeUnit
 
@@ -196,6 +206,31 @@ class KtorHTTPClientTest : DescribeSpec({
 
 				response.body().readAsString() shouldBe expectedResponse
 			}
+
+			it("streaming HTTP response body") {
+				val expectedResponse = "it works!".repeat(64 * 1024)
+
+				mockServer.`when`(
+					request("/streaming-response-body")
+						.withMethod("GET")
+				).respond(
+					response(expectedResponse)
+						.withContentType(MediaType.TEXT_PLAIN)
+				)
+
+				val definition = Request(
+					path = URI("http://localhost:8090/streaming-response-body"),
+					httpMethod = HTTPMethod.GET
+				)
+
+				val response = client.request(definition).execute().join().unsafe()
+
+				val chunks = response.body().content().orElseThrow().asFlow().toList()
+
+				chunks.size shouldBeGreaterThan 1
+
+				chunks.flatten().joinToString("") { Charsets.UTF_8.decode(it).toString() } shouldBe expectedResponse
+			}
 		}
 
 		describe("Failures") {
@@ -230,6 +265,60 @@ class KtorHTTPClientTest : DescribeSpec({
 					}
 			}
 
+			it("cancelled requests") {
+				mockServer.`when`(
+					request("/cancelled").withMethod("GET")
+				).respond(
+					response("it works!")
+						.withDelay(TimeUnit.MILLISECONDS, 5000)
+				)
+
+				val definition = Request(path = URI("http://localhost:8090/cancelled"), httpMethod = HTTPMethod.GET)
+
+				val promise = client.request(definition).execute()
+
+				promise.dispose()
+
+				promise.join()
+					.onSuccess { fail("a cancellation was expected here...") }
+					.onFailure { it.shouldBeInstanceOf<CancellationException>() }
+			}
+
+			it("requests cancelled through a proxy") {
+				mockServer.`when`(
+					request("/cancelled-by-proxy").withMethod("GET")
+				).respond(
+					response("it works!")
+						.withDelay(TimeUnit.MILLISECONDS, 5000)
+				)
+
+				val sent = CompletableFuture<Promise<HTTPClientResponse>>()
+
+				val recording = HTTPClient { definition ->
+					val request = client.request(definition)
+					HTTPClientRequest { request.execute().also { sent.complete(it) } }
+				}
+
+				val proxy = JulianProxyBuilder()
+					.http()
+						.client()
+							.with(recording)
+						.and()
+					.build(CancellableClient::class.java, "http://localhost:8090")
+
+				val promise = proxy.cancelled()
+
+				sent.get(5, TimeUnit.SECONDS)
+
+				promise.dispose()
+
+				promise.join()
+					.onSuccess { fail("a cancellation was expected here...") }
+					.onFailure { it.shouldBeInstanceOf<CancellationException>() }
+
+				sent.join().future().isCancelled shouldBe true
+			}
+
 			it("connection failures") {
 				val definition = Request(path = URI("http://localhost:8099/hello"), httpMethod = HTTPMethod.GET)
 
@@ -322,6 +411,12 @@ class KtorHTTPClientTest : DescribeSpec({
 
 }) {
 
+	interface CancellableClient {
+
+		@GET("/cancelled-by-proxy")
+		fun cancelled(): Promise<String>
+	}
+
 	private data class Request(
 		val path: URI,
 		val httpMethod: HTTPMethod,
@@ -35,7 +35,7 @@ class OkHTTPClientRequest implements HTTPClientRequest {
 
             @Override
             public void onResponse(Call call, Response response) {
-                responseAsFuture.complete(OkHTTPClientResponse.valueOf(response));
+                responseAsFuture.complete(OkHTTPClientResponse.valueOf(response, client.dispatcher().executorService()));
             }
         });
 
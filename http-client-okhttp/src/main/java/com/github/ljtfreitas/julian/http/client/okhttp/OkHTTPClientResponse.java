@@ -1,17 +1,14 @@
 package com.github.ljtfreitas.julian.http.client.okhttp;
 
-import com.github.ljtfreitas.julian.Bracket;
 import com.github.ljtfreitas.julian.Response;
-import com.github.ljtfreitas.julian.http.HTTPHeader;
 import com.github.ljtfreitas.julian.http.HTTPHeaders;
 import com.github.ljtfreitas.julian.http.HTTPResponseBody;
 import com.github.ljtfreitas.julian.http.HTTPStatus;
 import com.github.ljtfreitas.julian.http.HTTPStatusCode;
 import com.github.ljtfreitas.julian.http.client.HTTPClientResponse;
-import com.github.ljtfreitas.julian.http.codec.HTTPResponseReaderException;
-import okhttp3.ResponseBody;
 
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -48,18 +45,15 @@ class OkHTTPClientResponse implements HTTPClientResponse {
         return response.failure(fn);
     }
 
-    static OkHTTPClientResponse valueOf(okhttp3.Response response) {
+    static OkHTTPClientResponse valueOf(okhttp3.Response response, Executor executor) {
         HTTPStatus status = HTTPStatusCode.select(response.code()).map(HTTPStatus::new)
                 .orElseGet(() -> new HTTPStatus(response.code(), response.message()));
 
-        HTTPHeaders headers = response.headers().names().stream()
-                .map(name -> HTTPHeader.create(name, response.headers().values(name)))
-                .reduce(HTTPHeaders.empty(), HTTPHeaders::join, (a, b) -> b);
+        HTTPHeaders.Builder builder = HTTPHeaders.builder();
+        response.headers().forEach(header -> builder.add(header.getFirst(), header.getSecond()));
+        HTTPHeaders headers = builder.build();
 
-        Supplier<HTTPResponseBody> responseBody = () -> Bracket.acquire(response::body)
-                .map(ResponseBody::bytes)
-                .map(HTTPResponseBody::some)
-                .prop(HTTPResponseReaderException::new);
+        Supplier<HTTPResponseBody> responseBody = () -> HTTPResponseBody.lazy(new OkHTTPResponseBodyPublisher(response.body(), executor));
 
         return new OkHTTPClientResponse(HTTPClientResponse.create(status, headers,
                 HTTPResponseBody.optional(status, headers, responseBody)));
@@ -1,17 +1,22 @@
 package com.github.ljtfreitas.julian.http.client.okhttp;
 
-import com.github.ljtfreitas.julian.Attempt;
 import com.github.ljtfreitas.julian.http.HTTPRequestBody;
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
 import okio.BufferedSink;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.ByteBuffer;
-import java.util.concurrent.Flow;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.LinkedBlockingQueue;
 
 class OkHTTPRequestBody extends RequestBody {
 
+    private static final int CHUNKS = 16;
+
     private final MediaType mediaType;
     private final HTTPRequestBody source;
 
@@ -26,27 +31,88 @@ class OkHTTPRequestBody extends RequestBody {
     }
 
     @Override
-    public void writeTo(BufferedSink bufferedSink) {
-        source.serialize().subscribe(new Subscriber<>() {
-            @Override
-            public void onSubscribe(Flow.Subscription subscription) {
-                subscription.request(1);
-            }
+    public long contentLength() {
+        return source.contentLength().orElse(-1);
+    }
 
-            @Override
-            public void onNext(ByteBuffer item) {
-                Attempt.just(() -> bufferedSink.write(item)).prop();
-            }
+    @Override
+    public void writeTo(BufferedSink bufferedSink) throws IOException {
+        BufferedSinkSubscriber subscriber = new BufferedSinkSubscriber();
 
-            @Override
-            public void onError(Throwable throwable) {
-                throw new IllegalStateException(throwable);
-            }
+        source.serialize().subscribe(subscriber);
+
+        subscriber.drainTo(bufferedSink);
+    }
+
+    private static class BufferedSinkSubscriber implements Subscriber<ByteBuffer> {
+
+        private static final Object COMPLETE = new Object();
+
+        private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+
+        private volatile Subscription subscription;
 
-            @Override
-            public void onComplete() {
-                Attempt.just(bufferedSink::flush).prop();
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(CHUNKS);
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            signals.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            signals.add(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            signals.add(COMPLETE);
+        }
+
+        void drainTo(BufferedSink sink) throws IOException {
+            int consumed = 0;
+
+            try {
+                while (true) {
+                    Object signal = signals.take();
+
+                    if (signal == COMPLETE) {
+                        sink.flush();
+                        return;
+
+                    } else if (signal instanceof Throwable) {
+                        Throwable failure = (Throwable) signal;
+                        throw failure instanceof IOException ? (IOException) failure : new IOException(failure);
+                    }
+
+                    ByteBuffer chunk = (ByteBuffer) signal;
+                    while (chunk.hasRemaining())
+                        sink.write(chunk);
+
+                    if (++consumed == CHUNKS / 2) {
+                        subscription.request(consumed);
+                        consumed = 0;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new InterruptedIOException(e.getMessage());
+
+            } catch (IOException | RuntimeException e) {
+                cancel();
+                throw e;
             }
-        });
+        }
+
+        private void cancel() {
+            Subscription s = subscription;
+            if (s != null)
+                s.cancel();
+        }
     }
 }
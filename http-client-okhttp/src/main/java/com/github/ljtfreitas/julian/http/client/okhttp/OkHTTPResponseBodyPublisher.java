@@ -0,0 +1,157 @@
+package com.github.ljtfreitas.julian.http.client.okhttp;
+
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class OkHTTPResponseBodyPublisher implements Publisher<List<ByteBuffer>> {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final ResponseBody body;
+    private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    OkHTTPResponseBodyPublisher(ResponseBody body, Executor executor) {
+        this.body = body;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super List<ByteBuffer>> subscriber) {
+        if (subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new BufferedSourceSubscription(subscriber, body, executor));
+
+        } else {
+            subscriber.onSubscribe(new Subscription() {
+
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+            });
+            subscriber.onError(new IllegalStateException("The response body can be consumed just once."));
+        }
+    }
+
+    private static class BufferedSourceSubscription implements Subscription {
+
+        private final Subscriber<? super List<ByteBuffer>> subscriber;
+        private final ResponseBody body;
+        private final BufferedSource source;
+        private final Executor executor;
+
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean done = false;
+        private volatile Throwable failure = null;
+
+        private BufferedSourceSubscription(Subscriber<? super List<ByteBuffer>> subscriber, ResponseBody body, Executor executor) {
+            this.subscriber = subscriber;
+            this.body = body;
+            this.source = body.source();
+            this.executor = executor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (done)
+                return;
+
+            if (n <= 0) {
+                failure = new IllegalArgumentException("Subscription demand must be positive, but was " + n);
+                schedule();
+                return;
+            }
+
+            demand.getAndAccumulate(n, (current, requested) -> current + requested < 0 ? Long.MAX_VALUE : current + requested);
+
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+            schedule();
+        }
+
+        // reads from the socket block, so they run on the executor instead of the thread that requested them
+        private void schedule() {
+            if (wip.getAndIncrement() != 0)
+                return;
+
+            try {
+                executor.execute(this::drain);
+
+            } catch (RejectedExecutionException e) {
+                done = true;
+                body.close();
+                subscriber.onError(e);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (done) {
+                    body.close();
+                    return;
+                }
+
+                if (failure != null) {
+                    done = true;
+                    body.close();
+                    subscriber.onError(failure);
+                    return;
+                }
+
+                while (!done && demand.get() > 0)
+                    read();
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void read() {
+            try {
+                if (!source.request(1)) {
+                    done = true;
+                    body.close();
+                    subscriber.onComplete();
+                    return;
+                }
+
+                // the subscriber owns the emitted buffer (readers may keep it until the body is complete), so it can't be
+                // recycled; the bytes are copied once, straight from the Okio segments (which are pooled), to a buffer of the exact size
+                Buffer buffered = source.getBuffer();
+                ByteBuffer buffer = ByteBuffer.wrap(buffered.readByteArray(Math.min(buffered.size(), CHUNK_SIZE)));
+
+                if (demand.get() != Long.MAX_VALUE)
+                    demand.decrementAndGet();
+
+                subscriber.onNext(List.of(buffer));
+
+            } catch (IOException e) {
+                if (!done) {
+                    done = true;
+                    body.close();
+                    subscriber.onError(e);
+                }
+            }
+        }
+    }
+}
@@ -38,6 +38,7 @@ import java.net.ConnectException;
 import java.net.InetSocketAddress;
 import java.net.Proxy;
 import java.net.URI;
+import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.security.KeyManagementException;
 import java.security.KeyStore;
@@ -149,6 +150,29 @@ class OkHTTPClientTest {
 
                     assertEquals(expectedResponse, response.body().readAsBytes(String::new).map(CompletableFuture::join).orElse(""));
                 }
+
+                @Test
+                void shouldWriteAMultiChunkContentToHTTPRequestBody() {
+                    List<String> chunks = IntStream.range(0, 100).mapToObj(i -> "chunk-" + i + ";").collect(Collectors.toUnmodifiableList());
+                    String expectedResponse = "it works!";
+
+                    mockServer.when(request("/hello")
+                            .withMethod("POST")
+                            .withBody(String.join("", chunks)))
+                            .respond(response(expectedResponse)
+                                    .withContentType(TEXT_PLAIN));
+
+                    HTTPRequestDefinition request = new SimpleHTTPRequestDefinition("http://localhost:8090/hello", "POST",
+                            HTTPHeaders.create(new HTTPHeader("Content-Type", "text/plain")),
+                            new DefaultHTTPRequestBody(MediaType.TEXT_PLAIN, () -> BodyPublishers.concat(chunks.stream()
+                                    .map(BodyPublishers::ofString)
+                                    .toArray(BodyPublisher[]::new))),
+                            JavaType.valueOf(String.class));
+
+                    HTTPClientResponse response = client.request(request).execute().join().unsafe();
+
+                    assertEquals(expectedResponse, response.body().readAsBytes(String::new).map(CompletableFuture::join).orElse(""));
+                }
             }
         }
 
@@ -176,6 +200,28 @@ class OkHTTPClientTest {
 
                     assertEquals(expectedResponse, response.body().readAsBytes(String::new).map(CompletableFuture::join).orElse(""));
                 }
+
+                @Test
+                void shouldStreamTheHTTPResponseBody() {
+                    String expectedResponse = "response".repeat(64 * 1024);
+
+                    HttpRequest requestSpec = request("/stream").withMethod("GET");
+
+                    mockServer.clear(requestSpec)
+                            .when(requestSpec)
+                            .respond(response(expectedResponse)
+                                    .withContentType(TEXT_PLAIN));
+
+                    HTTPRequestDefinition request = new SimpleHTTPRequestDefinition("http://localhost:8090/stream", "GET");
+
+                    HTTPClientResponse response = client.request(request).execute().join().unsafe();
+
+                    String actual = response.body().readAsInputStream(s -> Attempt.run(s::readAllBytes).map(String::new).unsafe())
+                            .map(CompletableFuture::join)
+                            .orElse("");
+
+                    assertEquals(expectedResponse, actual);
+                }
             }
         }
     }
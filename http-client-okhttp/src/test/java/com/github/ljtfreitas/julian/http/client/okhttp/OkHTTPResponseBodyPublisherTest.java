@@ -0,0 +1,106 @@
+package com.github.ljtfreitas.julian.http.client.okhttp;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpResponse.BodySubscriber;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OkHTTPResponseBodyPublisherTest {
+
+    @Test
+    void publishTheWholeContent() {
+        byte[] content = new byte[100_000];
+        for (int i = 0; i < content.length; i++) content[i] = (byte) i;
+
+        OkHTTPResponseBodyPublisher publisher = new OkHTTPResponseBodyPublisher(body(content), Runnable::run);
+
+        BodySubscriber<byte[]> subscriber = BodySubscribers.ofByteArray();
+        publisher.subscribe(subscriber);
+
+        assertArrayEquals(content, subscriber.getBody().toCompletableFuture().join());
+    }
+
+    @Test
+    void chunksAreSizedByTheBufferedContent() {
+        OkHTTPResponseBodyPublisher publisher = new OkHTTPResponseBodyPublisher(body("hello".getBytes()), Runnable::run);
+
+        List<Integer> capacities = new ArrayList<>();
+
+        publisher.subscribe(new Subscriber<>() {
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(List<ByteBuffer> item) {
+                item.forEach(b -> capacities.add(b.capacity()));
+            }
+
+            @Override
+            public void onError(Throwable throwable) {}
+
+            @Override
+            public void onComplete() {}
+        });
+
+        assertEquals(List.of(5), capacities);
+    }
+
+    @Test
+    void readOnTheExecutorInsteadOfTheRequestingThread() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+
+        OkHTTPResponseBodyPublisher publisher = new OkHTTPResponseBodyPublisher(body("hello".getBytes()), tasks::add);
+
+        List<String> received = new ArrayList<>();
+
+        publisher.subscribe(new Subscriber<>() {
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(List<ByteBuffer> item) {
+                item.forEach(b -> received.add(UTF_8.decode(b).toString()));
+            }
+
+            @Override
+            public void onError(Throwable throwable) {}
+
+            @Override
+            public void onComplete() {
+                received.add("done");
+            }
+        });
+
+        assertTrue(received.isEmpty());
+        assertEquals(1, tasks.size());
+
+        tasks.poll().run();
+
+        assertEquals(List.of("hello", "done"), received);
+    }
+
+    private ResponseBody body(byte[] content) {
+        return ResponseBody.create(new Buffer().write(content), MediaType.get("application/octet-stream"), content.length);
+    }
+}
@@ -30,6 +30,9 @@ import reactor.netty.ByteBufFlux;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.http.client.HttpClient.ResponseReceiver;
 
+import java.util.OptionalLong;
+
+import com.github.ljtfreitas.julian.http.HTTPHeader;
 import com.github.ljtfreitas.julian.http.HTTPRequestBody;
 import com.github.ljtfreitas.julian.http.HTTPRequestDefinition;
 import com.github.ljtfreitas.julian.http.client.HTTPClient;
@@ -50,7 +53,13 @@ public class ReactorNettyHTTPClient implements HTTPClient {
     @Override
     public HTTPClientRequest request(HTTPRequestDefinition request) {
         ResponseReceiver<?> receiver = client
-                .headers(headers -> request.headers().forEach(h -> headers.add(h.name(), h.values())))
+                .headers(headers -> {
+                    request.headers().forEach(h -> headers.add(h.name(), h.values()));
+                    request.body().map(HTTPRequestBody::contentLength)
+                            .filter(OptionalLong::isPresent)
+                            .filter(length -> !headers.contains(HTTPHeader.CONTENT_LENGTH))
+                            .ifPresent(length -> headers.set(HTTPHeader.CONTENT_LENGTH, length.getAsLong()));
+                })
                 .request(HttpMethod.valueOf(request.method().name()))
                 .uri(request.path())
                 .send(ByteBufFlux.fromInbound(request.body()
@@ -38,7 +38,8 @@ class ReactorNettyHTTPClientRequest implements HTTPClientRequest {
 
     @Override
     public Promise<HTTPClientResponse> execute() {
-        return new MonoPromise<>(receiver.responseSingle(ReactorNettyHTTPClientResponse::valueOf)
+        return new MonoPromise<>(receiver.responseConnection(ReactorNettyHTTPClientResponse::valueOf)
+                .single()
                 .cast(HTTPClientResponse.class));
     }
 }
@@ -22,15 +22,19 @@
 
 package com.github.ljtfreitas.julian.http.client.reactor;
 
+import io.netty.buffer.ByteBuf;
+import reactor.adapter.JdkFlowAdapter;
 import reactor.core.publisher.Mono;
-import reactor.netty.ByteBufMono;
+import reactor.netty.Connection;
 import reactor.netty.http.client.HttpClientResponse;
 
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Flow.Publisher;
 import java.util.function.Function;
 
 import com.github.ljtfreitas.julian.Response;
-import com.github.ljtfreitas.julian.http.HTTPHeader;
 import com.github.ljtfreitas.julian.http.HTTPHeaders;
 import com.github.ljtfreitas.julian.http.HTTPResponseBody;
 import com.github.ljtfreitas.julian.http.HTTPStatus;
@@ -70,17 +74,28 @@ class ReactorNettyHTTPClientResponse implements HTTPClientResponse {
         return response.success(fn);
     }
 
-    static Mono<ReactorNettyHTTPClientResponse> valueOf(HttpClientResponse response, ByteBufMono bodyAsBuffer) {
+    static Mono<ReactorNettyHTTPClientResponse> valueOf(HttpClientResponse response, Connection connection) {
         HTTPStatus status = HTTPStatusCode.select(response.status().code()).map(HTTPStatus::new)
                 .orElseGet(() -> new HTTPStatus(response.status().code(), response.status().reasonPhrase()));
 
-        HTTPHeaders headers = response.responseHeaders().names().stream()
-                .map(name -> HTTPHeader.create(name, response.responseHeaders().getAll(name)))
-                .reduce(HTTPHeaders.empty(), HTTPHeaders::join, (a, b) -> b);
+        HTTPHeaders.Builder builder = HTTPHeaders.builder();
+        response.responseHeaders().forEach(header -> builder.add(header.getKey(), header.getValue()));
+        HTTPHeaders headers = builder.build();
 
-        return bodyAsBuffer.asByteArray()
-                .map(bodyAsBytes -> HTTPResponseBody.optional(status, headers, () -> HTTPResponseBody.some(bodyAsBytes)))
-                .map(body -> new ReactorNettyHTTPClientResponse(HTTPClientResponse.create(status, headers, body)))
-                .switchIfEmpty(Mono.fromCallable(() -> new ReactorNettyHTTPClientResponse(HTTPClientResponse.empty(status, headers))));
+        HTTPResponseBody body = HTTPResponseBody.optional(status, headers, () -> HTTPResponseBody.lazy(content(connection)));
+
+        return Mono.just(new ReactorNettyHTTPClientResponse(HTTPClientResponse.create(status, headers, body)));
+    }
+
+    private static Publisher<List<ByteBuffer>> content(Connection connection) {
+        return JdkFlowAdapter.publisherToFlowPublisher(connection.inbound().receive()
+                .map(ReactorNettyHTTPClientResponse::copy));
+    }
+
+    // inbound buffers are released by Reactor Netty as soon as onNext returns, so each chunk is copied before it leaves here
+    private static List<ByteBuffer> copy(ByteBuf buffer) {
+        ByteBuffer bytes = ByteBuffer.allocate(buffer.readableBytes());
+        buffer.readBytes(bytes);
+        return List.of(bytes.flip());
     }
 }
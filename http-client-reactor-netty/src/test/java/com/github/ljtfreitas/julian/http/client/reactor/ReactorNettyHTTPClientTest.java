@@ -24,10 +24,13 @@ import org.mockserver.junit.jupiter.MockServerSettings;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
 import org.mockserver.model.NottableString;
+import reactor.adapter.JdkFlowAdapter;
 
 import java.net.ConnectException;
 import java.net.URI;
 import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -158,6 +161,35 @@ class ReactorNettyHTTPClientTest {
 
                     assertEquals(expectedResponse, response.body().readAsBytes(String::new).map(CompletableFuture::join).orElse(""));
                 }
+
+                @Test
+                void shouldStreamTheHTTPResponseBody() {
+                    String expectedResponse = "response".repeat(64 * 1024);
+
+                    HttpRequest requestSpec = request("/stream").withMethod("GET");
+
+                    mockServer.clear(requestSpec)
+                            .when(requestSpec)
+                            .respond(response(expectedResponse)
+                                    .withContentType(TEXT_PLAIN));
+
+                    HTTPRequestDefinition request = new SimpleHTTPRequestDefinition("http://localhost:8090/stream", "GET");
+
+                    HTTPClientResponse response = client.request(request).execute().join().unsafe();
+
+                    List<List<ByteBuffer>> chunks = response.body().content()
+                            .map(JdkFlowAdapter::flowPublisherToFlux)
+                            .map(f -> f.collectList().block())
+                            .orElseGet(List::of);
+
+                    String actual = chunks.stream()
+                            .flatMap(List::stream)
+                            .map(b -> StandardCharsets.UTF_8.decode(b).toString())
+                            .collect(Collectors.joining());
+
+                    assertAll(() -> assertTrue(chunks.size() > 1),
+                              () -> assertEquals(expectedResponse, actual));
+                }
             }
         }
     }
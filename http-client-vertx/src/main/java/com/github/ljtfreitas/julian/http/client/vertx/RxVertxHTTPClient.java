@@ -22,6 +22,7 @@
 
 package com.github.ljtfreitas.julian.http.client.vertx;
 
+import io.netty.buffer.Unpooled;
 import io.reactivex.rxjava3.core.Flowable;
 import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpMethod;
@@ -31,9 +32,12 @@ import io.vertx.rxjava3.core.http.HttpClient;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.OptionalLong;
 
 import org.reactivestreams.FlowAdapters;
 
+import com.github.ljtfreitas.julian.http.HTTPHeader;
+import com.github.ljtfreitas.julian.http.HTTPRequestBody;
 import com.github.ljtfreitas.julian.http.HTTPRequestDefinition;
 import com.github.ljtfreitas.julian.http.client.HTTPClient;
 import com.github.ljtfreitas.julian.http.client.HTTPClientRequest;
@@ -54,11 +58,16 @@ class RxVertxHTTPClient implements HTTPClient, Closeable {
                 .setHeaders(request.headers().all().stream().reduce(MultiMap.caseInsensitiveMultiMap(),
                         (m, h) -> m.add(h.name(), h.values()), (a, b) -> b));
 
+        request.body().map(HTTPRequestBody::contentLength)
+                .filter(OptionalLong::isPresent)
+                .filter(length -> !options.getHeaders().contains(HTTPHeader.CONTENT_LENGTH))
+                .ifPresent(length -> options.putHeader(HTTPHeader.CONTENT_LENGTH, String.valueOf(length.getAsLong())));
+
         Flowable<Buffer> bodyAsFlowable = request.body()
                 .map(b -> FlowAdapters.toPublisher(b.serialize()))
                 .map(Flowable::fromPublisher)
                 .orElseGet(Flowable::empty)
-                .map(buf -> Buffer.buffer(buf.array()));
+                .map(buf -> Buffer.newInstance(io.vertx.core.buffer.Buffer.buffer(Unpooled.wrappedBuffer(buf))));
 
         return new VertxHTTPClientRequest(client, options, bodyAsFlowable);
     }
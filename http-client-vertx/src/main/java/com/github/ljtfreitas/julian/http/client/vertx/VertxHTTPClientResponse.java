@@ -22,16 +22,19 @@
 
 package com.github.ljtfreitas.julian.http.client.vertx;
 
-import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Single;
 import io.vertx.rxjava3.core.buffer.Buffer;
 import io.vertx.rxjava3.core.http.HttpClientResponse;
 
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 
+import org.reactivestreams.FlowAdapters;
+
 import com.github.ljtfreitas.julian.Response;
-import com.github.ljtfreitas.julian.http.HTTPHeader;
 import com.github.ljtfreitas.julian.http.HTTPHeaders;
 import com.github.ljtfreitas.julian.http.HTTPResponseBody;
 import com.github.ljtfreitas.julian.http.HTTPStatus;
@@ -75,15 +78,20 @@ class VertxHTTPClientResponse implements HTTPClientResponse {
         HTTPStatus status = HTTPStatusCode.select(response.statusCode()).map(HTTPStatus::new)
                 .orElseGet(() -> new HTTPStatus(response.statusCode(), response.statusMessage()));
 
-        HTTPHeaders headers = response.headers().names().stream()
-                .map(name -> HTTPHeader.create(name, response.headers().getAll(name)))
-                .reduce(HTTPHeaders.empty(), HTTPHeaders::join, (a, b) -> b);
+        HTTPHeaders.Builder builder = HTTPHeaders.builder();
+        response.headers().forEach(header -> builder.add(header.getKey(), header.getValue()));
+        HTTPHeaders headers = builder.build();
+
+        response.pause();
+
+        Flowable<List<ByteBuffer>> content = response.toFlowable().map(VertxHTTPClientResponse::nio);
 
-        Maybe<byte[]> bodyAsBytes = response.body().map(Buffer::getBytes).toMaybe();
+        HTTPResponseBody body = HTTPResponseBody.optional(status, headers, () -> HTTPResponseBody.lazy(FlowAdapters.toFlowPublisher(content)));
+
+        return Single.just(new VertxHTTPClientResponse(HTTPClientResponse.create(status, headers, body)));
+    }
 
-        return bodyAsBytes
-                .map(body -> HTTPResponseBody.optional(status, headers, () -> HTTPResponseBody.some(body)))
-                .map(body -> new VertxHTTPClientResponse(HTTPClientResponse.create(status, headers, body)))
-                .switchIfEmpty(Single.fromCallable(() -> new VertxHTTPClientResponse(HTTPClientResponse.empty(status, headers))));
+    private static List<ByteBuffer> nio(Buffer buffer) {
+        return List.of(buffer.getDelegate().getByteBuf().nioBuffer());
     }
 }
@@ -1,11 +1,14 @@
 package com.github.ljtfreitas.julian.http.client.vertx;
 
 import com.github.ljtfreitas.julian.Attempt;
+import io.reactivex.rxjava3.core.Flowable;
 import io.vertx.core.Vertx;
 
 import java.net.ConnectException;
 import java.net.URI;
 import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -27,6 +30,7 @@ import org.mockserver.junit.jupiter.MockServerSettings;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
 import org.mockserver.model.NottableString;
+import org.reactivestreams.FlowAdapters;
 
 import com.github.ljtfreitas.julian.JavaType;
 import com.github.ljtfreitas.julian.http.DefaultHTTPRequestBody;
@@ -140,6 +144,30 @@ class VertxHTTPClientTest {
 
                     assertEquals(expectedResponse, response.body().readAsBytes(String::new).map(CompletableFuture::join).orElse(""));
                 }
+
+                @Test
+                void shouldWriteDirectAndReadOnlyBuffersToHTTPRequestBody() {
+                    String requestBodyAsString = "{\"message\":\"hello\"}";
+                    String expectedResponse = "it works!";
+
+                    mockServer.when(request("/hello")
+                            .withMethod("POST")
+                            .withBody(requestBodyAsString))
+                            .respond(response(expectedResponse)
+                                    .withContentType(TEXT_PLAIN));
+
+                    byte[] requestBodyAsBytes = requestBodyAsString.getBytes(StandardCharsets.UTF_8);
+                    ByteBuffer direct = ByteBuffer.allocateDirect(requestBodyAsBytes.length).put(requestBodyAsBytes).flip();
+
+                    HTTPRequestDefinition request = new SimpleHTTPRequestDefinition("http://localhost:8090/hello", "POST",
+                            HTTPHeaders.create(new HTTPHeader("Content-Type", "text/plain")),
+                            new DefaultHTTPRequestBody(MediaType.TEXT_PLAIN, () -> BodyPublishers.fromPublisher(FlowAdapters.toFlowPublisher(Flowable.just(direct.asReadOnlyBuffer())))),
+                            JavaType.valueOf(String.class));
+
+                    HTTPClientResponse response = client.request(request).execute().join().unsafe();
+
+                    assertEquals(expectedResponse, response.body().readAsBytes(String::new).map(CompletableFuture::join).orElse(""));
+                }
             }
         }
 
@@ -167,6 +195,35 @@ class VertxHTTPClientTest {
 
                     assertEquals(expectedResponse, response.body().readAsBytes(String::new).map(CompletableFuture::join).orElse(""));
                 }
+
+                @Test
+                void shouldStreamTheHTTPResponseBody() {
+                    String expectedResponse = "response".repeat(64 * 1024);
+
+                    HttpRequest requestSpec = request("/stream").withMethod("GET");
+
+                    mockServer.clear(requestSpec)
+                            .when(requestSpec)
+                            .respond(response(expectedResponse)
+                                    .withContentType(TEXT_PLAIN));
+
+                    HTTPRequestDefinition request = new SimpleHTTPRequestDefinition("http://localhost:8090/stream", "GET");
+
+                    HTTPClientResponse response = client.request(request).execute().join().unsafe();
+
+                    List<List<ByteBuffer>> chunks = response.body().content()
+                            .map(FlowAdapters::toPublisher)
+                            .map(p -> Flowable.fromPublisher(p).toList().blockingGet())
+                            .orElseGet(List::of);
+
+                    String actual = chunks.stream()
+                            .flatMap(List::stream)
+                            .map(b -> StandardCharsets.UTF_8.decode(b).toString())
+                            .collect(Collectors.joining());
+
+                    assertAll(() -> assertTrue(chunks.size() > 1),
+                              () -> assertEquals(expectedResponse, actual));
+                }
             }
         }
     }
@@ -27,7 +27,6 @@ import com.github.ljtfreitas.julian.Promise;
 import com.github.ljtfreitas.julian.http.FailureHTTPResponse;
 import com.github.ljtfreitas.julian.http.HTTPException;
 import com.github.ljtfreitas.julian.http.HTTPFailureResponseException;
-import com.github.ljtfreitas.julian.http.HTTPHeader;
 import com.github.ljtfreitas.julian.http.HTTPHeaders;
 import com.github.ljtfreitas.julian.http.HTTPRequestIO;
 import com.github.ljtfreitas.julian.http.HTTPResponse;
@@ -87,8 +86,9 @@ class WebClientHTTPRequest<T> implements HTTPRequestIO<T> {
     Mono<HTTPResponse<T>> read(ClientResponse response) {
         HTTPStatus status = new HTTPStatus(response.rawStatusCode(), response.statusCode().getReasonPhrase());
 
-        HTTPHeaders headers = response.headers().asHttpHeaders().entrySet().stream()
-                .reduce(HTTPHeaders.empty(), (h, e) -> h.join(new HTTPHeader(e.getKey(), e.getValue())), (a, b) -> b);
+        HTTPHeaders.Builder builder = HTTPHeaders.builder();
+        response.headers().asHttpHeaders().forEach(builder::add);
+        HTTPHeaders headers = builder.build();
 
         if (response.statusCode().isError()) {
             return response.createException().map(e -> failure(status, headers, e));
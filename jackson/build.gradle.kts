@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+plugins {
+    modules
+}
+
+description = "julian-http-client shared support for Jackson based codecs"
+
+tasks.jar.configure {
+    archiveBaseName.set("julian-http-client-jackson")
+}
+
+dependencies {
+    implementation(project(":core"))
+    api("com.fasterxml.jackson.core:jackson-databind:2.13.4")
+
+    testImplementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor:2.13.4")
+    testImplementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile:2.13.4")
+    testImplementation("org.msgpack:jackson-dataformat-msgpack:0.9.3")
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http.codec.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.http.HTTPRequestBody;
+import com.github.ljtfreitas.julian.http.HTTPResponseBody;
+import com.github.ljtfreitas.julian.http.MediaType;
+import com.github.ljtfreitas.julian.http.codec.BinaryHTTPMessageCodec;
+import com.github.ljtfreitas.julian.http.codec.ByteBufferPool;
+import com.github.ljtfreitas.julian.http.codec.HTTPRequestWriterException;
+import com.github.ljtfreitas.julian.http.codec.HTTPResponseReaderException;
+import com.github.ljtfreitas.julian.http.codec.PooledHTTPRequestBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static com.github.ljtfreitas.julian.Preconditions.nonNull;
+
+public class JacksonBinaryHTTPMessageCodec implements BinaryHTTPMessageCodec<Object> {
+
+    private final MediaType mediaType;
+    private final Collection<MediaType> mediaTypes;
+    private final ObjectMapperCache objects;
+    private final ByteBufferPool pool;
+
+    public JacksonBinaryHTTPMessageCodec(ObjectMapper mapper, MediaType mediaType) {
+        this(mapper, mediaType, ByteBufferPool.get());
+    }
+
+    public JacksonBinaryHTTPMessageCodec(ObjectMapper mapper, MediaType mediaType, ByteBufferPool pool) {
+        this.objects = new ObjectMapperCache(nonNull(mapper));
+        this.mediaType = nonNull(mediaType);
+        this.mediaTypes = List.of(mediaType);
+        this.pool = nonNull(pool);
+    }
+
+    @Override
+    public Collection<MediaType> contentTypes() {
+        return mediaTypes;
+    }
+
+    @Override
+    public boolean writable(MediaType candidate, JavaType javaType) {
+        return supports(candidate) && objects.writable(javaType.rawClassType());
+    }
+
+    @Override
+    public HTTPRequestBody write(Object body, Charset encoding) {
+        return new PooledHTTPRequestBody(mediaType, pool, output -> serialize(body, output));
+    }
+
+    private void serialize(Object body, OutputStream output) {
+        try {
+            objects.writer(body.getClass()).writeValue(output, body);
+        } catch (IOException e) {
+            throw new HTTPRequestWriterException(mediaType + " serialization failed. Source: " + body, e);
+        }
+    }
+
+    @Override
+    public boolean readable(MediaType candidate, JavaType javaType) {
+        return supports(candidate) && objects.readable(javaType);
+    }
+
+    @Override
+    public Optional<CompletableFuture<Object>> read(HTTPResponseBody body, JavaType javaType) {
+        return body.readAsInputStream(s -> deserialize(s, javaType));
+    }
+
+    private Object deserialize(InputStream bodyAsStream, JavaType javaType) {
+        try (bodyAsStream) {
+            return objects.reader(javaType).readValue(bodyAsStream);
+        } catch (IOException e) {
+            throw new HTTPResponseReaderException(mediaType + " deserialization failed. The target type was: " + javaType, e);
+        }
+    }
+}
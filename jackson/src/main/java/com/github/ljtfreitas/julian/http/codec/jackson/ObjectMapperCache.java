@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http.codec.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.github.ljtfreitas.julian.JavaType;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ObjectMapperCache {
+
+    static final int DEFAULT_MAX_SIZE = 256;
+
+    private final ObjectMapper mapper;
+    private final TypeFactory typeFactory;
+    private final int maxSize;
+
+    private final ConcurrentHashMap<JavaType, Optional<ObjectReader>> readers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Class<?>, Optional<ObjectWriter>> writers = new ConcurrentHashMap<>();
+
+    public ObjectMapperCache(ObjectMapper mapper) {
+        this(mapper, DEFAULT_MAX_SIZE);
+    }
+
+    public ObjectMapperCache(ObjectMapper mapper, int maxSize) {
+        this.mapper = mapper;
+        this.typeFactory = mapper.getTypeFactory();
+        this.maxSize = maxSize;
+    }
+
+    public boolean readable(JavaType javaType) {
+        return lookup(javaType).isPresent();
+    }
+
+    public ObjectReader reader(JavaType javaType) {
+        return lookup(javaType).orElseGet(() -> mapper.readerFor(typeFactory.constructType(javaType.get())));
+    }
+
+    private Optional<ObjectReader> lookup(JavaType javaType) {
+        Optional<ObjectReader> reader = readers.get(javaType);
+
+        if (reader != null) return reader;
+
+        com.fasterxml.jackson.databind.JavaType type = typeFactory.constructType(javaType.get());
+
+        Optional<ObjectReader> created = mapper.canDeserialize(type) ? Optional.of(mapper.readerFor(type)) : Optional.empty();
+
+        if (readers.size() < maxSize) readers.putIfAbsent(javaType, created);
+
+        return created;
+    }
+
+    public boolean writable(Class<?> javaClass) {
+        return lookup(javaClass).isPresent();
+    }
+
+    public ObjectWriter writer(Class<?> javaClass) {
+        return lookup(javaClass).orElseGet(() -> mapper.writerFor(javaClass));
+    }
+
+    private Optional<ObjectWriter> lookup(Class<?> javaClass) {
+        Optional<ObjectWriter> writer = writers.get(javaClass);
+
+        if (writer != null) return writer;
+
+        Optional<ObjectWriter> created = mapper.canSerialize(javaClass) ? Optional.of(mapper.writerFor(javaClass)) : Optional.empty();
+
+        if (writers.size() < maxSize) writers.putIfAbsent(javaClass, created);
+
+        return created;
+    }
+}
@@ -0,0 +1,202 @@
+package com.github.ljtfreitas.julian.http.codec.jackson;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.http.HTTPRequestBody;
+import com.github.ljtfreitas.julian.http.HTTPResponseBody;
+import com.github.ljtfreitas.julian.http.MediaType;
+import com.github.ljtfreitas.julian.http.codec.HTTPResponseReaderException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class JacksonBinaryHTTPMessageCodecTest {
+
+    private final MediaType mediaType = MediaType.valueOf("application/x-jackson");
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final JacksonBinaryHTTPMessageCodec codec = new JacksonBinaryHTTPMessageCodec(mapper, mediaType);
+
+    @Test
+    void contentTypes() {
+        assertEquals(List.of(mediaType), codec.contentTypes());
+    }
+
+    @Nested
+    class Readable {
+
+        @Test
+        void unsupported() {
+            assertFalse(codec.readable(MediaType.APPLICATION_JSON, JavaType.valueOf(Person.class)));
+        }
+
+        @Test
+        void supported() {
+            assertTrue(codec.readable(mediaType, JavaType.valueOf(Person.class)));
+        }
+
+        @Nested
+        class Read {
+
+            @Test
+            void read() throws Exception {
+                byte[] value = mapper.writeValueAsBytes(Map.of("name", "Tiago", "age", 35));
+
+                Person person = (Person) codec.read(HTTPResponseBody.some(value), JavaType.valueOf(Person.class))
+                        .map(CompletableFuture::join)
+                        .orElse(null);
+
+                assertAll(() -> assertEquals("Tiago", person.name),
+                          () -> assertEquals(35, person.age));
+            }
+
+            @Test
+            void generic() throws Exception {
+                byte[] value = mapper.writeValueAsBytes(List.of(Map.of("name", "Tiago", "age", 35)));
+
+                Object persons = codec.read(HTTPResponseBody.some(value), JavaType.parameterized(List.class, Person.class))
+                        .map(CompletableFuture::join)
+                        .orElse(null);
+
+                assertEquals("Tiago", ((Person) ((List<?>) persons).get(0)).name);
+            }
+
+            @Test
+            void failure() {
+                CompletableFuture<Object> future = codec.read(HTTPResponseBody.some(new byte[]{ 0x01, 0x02 }), JavaType.valueOf(Person.class))
+                        .orElseThrow();
+
+                CompletionException e = assertThrows(CompletionException.class, future::join);
+
+                assertTrue(e.getCause() instanceof HTTPResponseReaderException);
+            }
+        }
+    }
+
+    @Nested
+    class Writable {
+
+        @Test
+        void unsupported() {
+            assertFalse(codec.writable(MediaType.APPLICATION_JSON, JavaType.valueOf(Person.class)));
+        }
+
+        @Test
+        void supported() {
+            assertTrue(codec.writable(mediaType, JavaType.valueOf(Person.class)));
+        }
+
+        @Nested
+        class Write {
+
+            @Test
+            void write() throws Exception {
+                Person person = new Person("Tiago", 35);
+
+                HTTPRequestBody output = codec.write(person, StandardCharsets.UTF_8);
+
+                assertAll(() -> assertEquals(mediaType, output.contentType().orElseThrow()),
+                          () -> assertArrayEquals(mapper.writeValueAsBytes(person), bytes(output)));
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("formats")
+    void roundTrip(ObjectMapper mapper, MediaType mediaType) throws Exception {
+        JacksonBinaryHTTPMessageCodec codec = new JacksonBinaryHTTPMessageCodec(mapper, mediaType);
+
+        byte[] written = bytes(codec.write(new Person("Tiago", 35), StandardCharsets.UTF_8));
+
+        Person fromMapper = mapper.readValue(written, Person.class);
+
+        Person fromCodec = (Person) codec.read(HTTPResponseBody.some(written), JavaType.valueOf(Person.class))
+                .map(CompletableFuture::join)
+                .orElse(null);
+
+        assertAll(() -> assertEquals("Tiago", fromMapper.name),
+                  () -> assertEquals(35, fromMapper.age),
+                  () -> assertEquals("Tiago", fromCodec.name),
+                  () -> assertEquals(35, fromCodec.age));
+    }
+
+    static Stream<Arguments> formats() {
+        return Stream.of(arguments(new CBORMapper(), MediaType.APPLICATION_CBOR),
+                         arguments(new SmileMapper(), MediaType.APPLICATION_SMILE),
+                         arguments(new ObjectMapper(new MessagePackFactory()), MediaType.APPLICATION_MSGPACK));
+    }
+
+    private byte[] bytes(HTTPRequestBody body) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CompletableFuture<byte[]> done = new CompletableFuture<>();
+
+        body.serialize().subscribe(new Subscriber<>() {
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                byte[] segment = new byte[item.remaining()];
+                item.get(segment);
+                bytes.writeBytes(segment);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(bytes.toByteArray());
+            }
+        });
+
+        return done.join();
+    }
+
+    private static class Person {
+
+        @JsonProperty
+        final String name;
+
+        @JsonProperty
+        final int age;
+
+        @JsonCreator
+        private Person(@JsonProperty("name") String name, @JsonProperty("age") int age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+}
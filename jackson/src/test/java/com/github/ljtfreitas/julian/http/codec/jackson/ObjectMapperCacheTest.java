@@ -0,0 +1,59 @@
+package com.github.ljtfreitas.julian.http.codec.jackson;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.ljtfreitas.julian.JavaType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ObjectMapperCacheTest {
+
+    private final ObjectMapperCache objects = new ObjectMapperCache(new ObjectMapper());
+
+    @Test
+    void reuseReadersBuiltWhenTheTypeIsChecked() throws Exception {
+        JavaType javaType = JavaType.parameterized(List.class, Person.class);
+
+        assertTrue(objects.readable(javaType));
+
+        ObjectReader reader = objects.reader(javaType);
+
+        List<Person> persons = reader.readValue("[{\"name\":\"Tiago\",\"age\":35}]");
+
+        assertAll(() -> assertSame(reader, objects.reader(JavaType.parameterized(List.class, Person.class))),
+                  () -> assertEquals("Tiago", persons.get(0).name));
+    }
+
+    @Test
+    void reuseWritersByClass() throws Exception {
+        assertTrue(objects.writable(Person.class));
+
+        assertAll(() -> assertSame(objects.writer(Person.class), objects.writer(Person.class)),
+                  () -> assertNotSame(objects.writer(Person.class), objects.writer(Object.class)),
+                  () -> assertEquals("{\"name\":\"Tiago\",\"age\":35}", objects.writer(Person.class).writeValueAsString(new Person("Tiago", 35))));
+    }
+
+    private static class Person {
+
+        @JsonProperty
+        final String name;
+
+        @JsonProperty
+        final int age;
+
+        @JsonCreator
+        private Person(@JsonProperty("name") String name, @JsonProperty("age") int age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+}
@@ -22,45 +22,65 @@
 
 package com.github.ljtfreitas.julian.http.codec.json.gson;
 
+import com.github.ljtfreitas.julian.Attempt;
 import com.github.ljtfreitas.julian.JavaType;
-import com.github.ljtfreitas.julian.http.DefaultHTTPRequestBody;
 import com.github.ljtfreitas.julian.http.HTTPRequestBody;
 import com.github.ljtfreitas.julian.http.HTTPResponseBody;
 import com.github.ljtfreitas.julian.http.MediaType;
+import com.github.ljtfreitas.julian.http.codec.ByteBufferPool;
 import com.github.ljtfreitas.julian.http.codec.HTTPRequestWriterException;
 import com.github.ljtfreitas.julian.http.codec.HTTPResponseReaderException;
 import com.github.ljtfreitas.julian.http.codec.JsonHTTPMessageCodec;
+import com.github.ljtfreitas.julian.http.codec.JsonLines;
+import com.github.ljtfreitas.julian.http.codec.PooledHTTPRequestBody;
+import com.github.ljtfreitas.julian.http.codec.SplitPublisher;
+import com.github.ljtfreitas.julian.http.codec.StreamingHTTPResponseReader;
 import com.google.gson.Gson;
 import com.google.gson.JsonIOException;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
-import java.io.BufferedReader;
-import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.net.http.HttpRequest.BodyPublisher;
-import java.net.http.HttpRequest.BodyPublishers;
 import java.nio.charset.Charset;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Publisher;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.github.ljtfreitas.julian.http.MediaType.APPLICATION_JSON;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
-public class GsonJsonHTTPMessageCodec implements JsonHTTPMessageCodec<Object> {
+public class GsonJsonHTTPMessageCodec implements JsonHTTPMessageCodec<Object>, StreamingHTTPResponseReader<Object> {
 
     private static final GsonJsonHTTPMessageCodec SINGLE_INSTANCE = new GsonJsonHTTPMessageCodec();
 
     private final Gson gson;
+    private final ByteBufferPool pool;
 
     public GsonJsonHTTPMessageCodec() {
         this(new Gson());
     }
 
     public GsonJsonHTTPMessageCodec(Gson gson) {
+        this(gson, ByteBufferPool.get());
+    }
+
+    public GsonJsonHTTPMessageCodec(Gson gson, ByteBufferPool pool) {
         this.gson = gson;
+        this.pool = pool;
     }
 
     @Override
@@ -70,17 +90,15 @@ public class GsonJsonHTTPMessageCodec implements JsonHTTPMessageCodec<Object> {
 
     @Override
     public HTTPRequestBody write(Object body, Charset encoding) {
-        return new DefaultHTTPRequestBody(APPLICATION_JSON, () -> serialize(body, encoding));
+        return new PooledHTTPRequestBody(APPLICATION_JSON, pool, output -> serialize(body, encoding, output));
     }
 
-    private BodyPublisher serialize(Object body, Charset encoding) {
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream();
-             OutputStreamWriter writer = new OutputStreamWriter(output, encoding)) {
+    private void serialize(Object body, Charset encoding, OutputStream output) {
+        try (OutputStreamWriter writer = new OutputStreamWriter(output, encoding)) {
 
             gson.toJson(body, writer);
             writer.flush();
 
-            return BodyPublishers.ofByteArray(output.toByteArray());
         } catch (JsonIOException | IOException e) {
             throw new HTTPRequestWriterException("JSON serialization failed. Source: " + body, e);
         }
@@ -93,21 +111,98 @@ public class GsonJsonHTTPMessageCodec implements JsonHTTPMessageCodec<Object> {
 
     @Override
     public Optional<CompletableFuture<Object>> read(HTTPResponseBody body, JavaType javaType) {
-        return body.readAsInputStream(s -> deserialize(s, javaType));
+        Charset charset = body.charset().orElse(UTF_8);
+        return body.readAsInputStream(s -> deserialize(s, charset, javaType));
     }
 
-    private Object deserialize(InputStream bodyAsStream, JavaType javaType) {
-        try (InputStreamReader reader = new InputStreamReader(bodyAsStream);
-             BufferedReader buffered = new BufferedReader(reader)) {
-
+    private Object deserialize(InputStream bodyAsStream, Charset charset, JavaType javaType) {
+        try (InputStreamReader reader = new InputStreamReader(bodyAsStream, charset)) {
             TypeToken<?> token = TypeToken.get(javaType.get());
-            return gson.fromJson(buffered, token.getType());
+            return gson.fromJson(reader, token.getType());
 
         } catch (JsonIOException | JsonSyntaxException | IOException e) {
             throw new HTTPResponseReaderException("JSON deserialization failed. The target type was: " + javaType, e);
         }
     }
 
+    @Override
+    public boolean streamable(MediaType candidate, JavaType elementType) {
+        return supports(candidate);
+    }
+
+    @Override
+    public Optional<CompletableFuture<Stream<Object>>> stream(HTTPResponseBody body, JavaType elementType) {
+        Charset charset = body.charset().orElse(UTF_8);
+        return body.readAsInputStream(s -> elements(s, charset, elementType));
+    }
+
+    private Stream<Object> elements(InputStream bodyAsStream, Charset charset, JavaType elementType) {
+        JsonReader reader = gson.newJsonReader(new InputStreamReader(bodyAsStream, charset));
+
+        return StreamSupport.stream(new JsonReaderSpliterator(reader, gson.getAdapter(TypeToken.get(elementType.get()))), false)
+                .onClose(() -> Attempt.just(reader::close));
+    }
+
+    @Override
+    public Optional<Publisher<Object>> publisher(HTTPResponseBody body, JavaType elementType) {
+        Charset charset = body.charset().orElse(UTF_8);
+        return body.content().map(content -> SplitPublisher.arrayElements(content, element -> deserialize(JsonLines.asInputStream(element), charset, elementType)));
+    }
+
+    private static class JsonReaderSpliterator extends Spliterators.AbstractSpliterator<Object> {
+
+        private final JsonReader reader;
+        private final TypeAdapter<?> adapter;
+
+        private boolean started = false;
+        private boolean array = false;
+
+        private JsonReaderSpliterator(JsonReader reader, TypeAdapter<?> adapter) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.reader = reader;
+            this.adapter = adapter;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Object> action) {
+            try {
+                if (!started) {
+                    started = true;
+
+                    JsonToken token = peek();
+                    if (token == JsonToken.END_DOCUMENT) return false;
+
+                    if (token == JsonToken.BEGIN_ARRAY) {
+                        array = true;
+                        reader.beginArray();
+
+                    } else {
+                        action.accept(adapter.read(reader));
+                        return true;
+                    }
+                }
+
+                if (array && reader.hasNext()) {
+                    action.accept(adapter.read(reader));
+                    return true;
+                }
+
+                return false;
+
+            } catch (IOException | JsonParseException e) {
+                throw new HTTPResponseReaderException("JSON deserialization failed.", e);
+            }
+        }
+
+        private JsonToken peek() throws IOException {
+            try {
+                return reader.peek();
+            } catch (EOFException e) {
+                return JsonToken.END_DOCUMENT;
+            }
+        }
+    }
+
     public static GsonJsonHTTPMessageCodec provider() {
         return SINGLE_INSTANCE;
     }
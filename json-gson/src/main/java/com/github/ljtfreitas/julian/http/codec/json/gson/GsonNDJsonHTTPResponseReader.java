@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http.codec.json.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.http.codec.HTTPResponseReaderException;
+import com.github.ljtfreitas.julian.http.codec.JsonLines;
+import com.github.ljtfreitas.julian.http.codec.NDJsonHTTPResponseReader;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class GsonNDJsonHTTPResponseReader implements NDJsonHTTPResponseReader {
+
+    private static final GsonNDJsonHTTPResponseReader SINGLE_INSTANCE = new GsonNDJsonHTTPResponseReader();
+
+    private final Gson gson;
+
+    public GsonNDJsonHTTPResponseReader() {
+        this(new Gson());
+    }
+
+    public GsonNDJsonHTTPResponseReader(Gson gson) {
+        this.gson = gson;
+    }
+
+    @Override
+    public boolean decodable(JavaType elementType) {
+        return true;
+    }
+
+    @Override
+    public Object decode(ByteBuffer line, JavaType elementType) {
+        try (Reader reader = new InputStreamReader(JsonLines.asInputStream(line), UTF_8)) {
+            return gson.getAdapter(TypeToken.get(elementType.get())).fromJson(reader);
+
+        } catch (IOException | JsonParseException e) {
+            throw new HTTPResponseReaderException("JSON deserialization failed. The target type was: " + elementType, e);
+        }
+    }
+
+    public static GsonNDJsonHTTPResponseReader provider() {
+        return SINGLE_INSTANCE;
+    }
+}
@@ -24,7 +24,8 @@ module com.github.ljtfreitas.julian.json.gson {
     exports com.github.ljtfreitas.julian.http.codec.json.gson;
 
     provides com.github.ljtfreitas.julian.http.codec.HTTPMessageCodec
-        with com.github.ljtfreitas.julian.http.codec.json.gson.GsonJsonHTTPMessageCodec;
+        with com.github.ljtfreitas.julian.http.codec.json.gson.GsonJsonHTTPMessageCodec,
+             com.github.ljtfreitas.julian.http.codec.json.gson.GsonNDJsonHTTPResponseReader;
 
     requires com.github.ljtfreitas.julian;
     requires com.google.gson;
@@ -1,17 +1,23 @@
 package com.github.ljtfreitas.julian.http.codec.json.gson;
 
 import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.http.HTTPHeader;
+import com.github.ljtfreitas.julian.http.HTTPHeaders;
 import com.github.ljtfreitas.julian.http.HTTPRequestBody;
 import com.github.ljtfreitas.julian.http.HTTPResponseBody;
+import com.github.ljtfreitas.julian.http.HTTPStatus;
+import com.github.ljtfreitas.julian.http.HTTPStatusCode;
 import com.github.ljtfreitas.julian.http.MediaType;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Subscriber;
+import java.util.stream.Collectors;
 
 import static com.github.ljtfreitas.julian.http.MediaType.APPLICATION_JSON;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -51,6 +57,56 @@ class GsonJsonHTTPMessageCodecTest {
                 assertAll(() -> assertEquals("Tiago", person.name),
                           () -> assertEquals(35, person.age));
             }
+
+            @Test
+            void readWithCharset() {
+                String value = "{\"name\":\"Tião\",\"age\":35}";
+
+                HTTPHeaders headers = HTTPHeaders.create(new HTTPHeader(HTTPHeader.CONTENT_TYPE, "application/json; charset=ISO-8859-1"));
+                HTTPResponseBody body = HTTPResponseBody.optional(HTTPStatus.valueOf(HTTPStatusCode.OK), headers,
+                        () -> HTTPResponseBody.some(value.getBytes(StandardCharsets.ISO_8859_1)));
+
+                Person person = (Person) codec.read(body, JavaType.valueOf(Person.class))
+                        .map(CompletableFuture::join)
+                        .orElse(null);
+
+                assertAll(() -> assertEquals("Tião", person.name),
+                          () -> assertEquals(35, person.age));
+            }
+        }
+    }
+
+    @Nested
+    class Streamable {
+
+        @Test
+        void unsupported() {
+            assertFalse(codec.streamable(MediaType.valueOf("text/plain"), JavaType.valueOf(Person.class)));
+        }
+
+        @Test
+        void supported() {
+            assertTrue(codec.streamable(MediaType.valueOf("application/json"), JavaType.valueOf(Person.class)));
+        }
+
+        @Nested
+        class Read {
+
+            @Test
+            void elements() {
+                String value = "[{\"name\":\"Tiago\",\"age\":35},{\"name\":\"Fulano\",\"age\":30}]";
+
+                List<Person> persons = codec.stream(HTTPResponseBody.some(value.getBytes()), JavaType.valueOf(Person.class))
+                        .map(CompletableFuture::join)
+                        .map(s -> s.map(Person.class::cast).collect(Collectors.toUnmodifiableList()))
+                        .orElseGet(List::of);
+
+                assertAll(() -> assertEquals(2, persons.size()),
+                          () -> assertEquals("Tiago", persons.get(0).name),
+                          () -> assertEquals(35, persons.get(0).age),
+                          () -> assertEquals("Fulano", persons.get(1).name),
+                          () -> assertEquals(30, persons.get(1).age));
+            }
         }
     }
 
@@ -85,7 +141,7 @@ class GsonJsonHTTPMessageCodecTest {
 
                     @Override
                     public void onNext(ByteBuffer item) {
-                        assertEquals("{\"name\":\"Tiago\",\"age\":35}", new String(item.array()));
+                        assertEquals("{\"name\":\"Tiago\",\"age\":35}", StandardCharsets.UTF_8.decode(item).toString());
                     }
 
                     @Override
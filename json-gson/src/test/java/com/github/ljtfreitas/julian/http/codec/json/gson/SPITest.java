@@ -15,7 +15,7 @@ public class SPITest {
 
     @Test
     void shouldRegisterAllServices() {
-        Collection<Class<? extends HTTPMessageCodec>> expected = List.of(GsonJsonHTTPMessageCodec.class);
+        Collection<Class<? extends HTTPMessageCodec>> expected = List.of(GsonJsonHTTPMessageCodec.class, GsonNDJsonHTTPResponseReader.class);
 
         Plugins plugins = new Plugins();
         Collection<? extends Class<?>> founded = plugins.all(HTTPMessageCodec.class).map(Object::getClass).collect(toList());
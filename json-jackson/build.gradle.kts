@@ -32,6 +32,7 @@ tasks.jar.configure {
 
 dependencies {
     implementation(project(":core"))
+    implementation(project(":jackson"))
     api("com.fasterxml.jackson.core:jackson-databind:2.13.4")
 }
 
@@ -25,81 +25,95 @@ package com.github.ljtfreitas.julian.http.codec.json.jackson;
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.ljtfreitas.julian.Attempt;
 import com.github.ljtfreitas.julian.JavaType;
-import com.github.ljtfreitas.julian.http.DefaultHTTPRequestBody;
 import com.github.ljtfreitas.julian.http.HTTPRequestBody;
 import com.github.ljtfreitas.julian.http.HTTPResponseBody;
 import com.github.ljtfreitas.julian.http.MediaType;
+import com.github.ljtfreitas.julian.http.codec.ByteBufferPool;
 import com.github.ljtfreitas.julian.http.codec.HTTPRequestWriterException;
 import com.github.ljtfreitas.julian.http.codec.HTTPResponseReaderException;
 import com.github.ljtfreitas.julian.http.codec.JsonHTTPMessageCodec;
+import com.github.ljtfreitas.julian.http.codec.PooledHTTPRequestBody;
+import com.github.ljtfreitas.julian.http.codec.SplitPublisher;
+import com.github.ljtfreitas.julian.http.codec.StreamingHTTPResponseReader;
+import com.github.ljtfreitas.julian.http.codec.jackson.ObjectMapperCache;
 
-import java.io.BufferedReader;
-import java.io.ByteArrayOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.lang.reflect.Type;
-import java.net.http.HttpRequest.BodyPublisher;
-import java.net.http.HttpRequest.BodyPublishers;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Publisher;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.github.ljtfreitas.julian.Preconditions.nonNull;
 import static com.github.ljtfreitas.julian.http.MediaType.APPLICATION_JSON;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
-public class JacksonJsonHTTPMessageCodec implements JsonHTTPMessageCodec<Object> {
+public class JacksonJsonHTTPMessageCodec implements JsonHTTPMessageCodec<Object>, StreamingHTTPResponseReader<Object> {
 
     private static final JacksonJsonHTTPMessageCodec SINGLE_INSTANCE = new JacksonJsonHTTPMessageCodec();
 
-    private final ObjectMapper jsonMapper;
-    private final TypeFactory typeFactory;
+    private final ObjectMapperCache objects;
     private final JsonFactory jsonFactory;
+    private final ByteBufferPool pool;
 
     public JacksonJsonHTTPMessageCodec() {
         this(configure(new ObjectMapper()));
     }
 
-    private static ObjectMapper configure(ObjectMapper objectMapper) {
+    static ObjectMapper configure(ObjectMapper objectMapper) {
         objectMapper.configure(DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES, false);
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         return objectMapper.findAndRegisterModules();
     }
 
     public JacksonJsonHTTPMessageCodec(ObjectMapper jsonMapper) {
-        this.jsonMapper = nonNull(jsonMapper);
-        this.typeFactory = jsonMapper.getTypeFactory();
+        this(jsonMapper, ByteBufferPool.get());
+    }
+
+    public JacksonJsonHTTPMessageCodec(ObjectMapper jsonMapper, ByteBufferPool pool) {
+        this.objects = new ObjectMapperCache(nonNull(jsonMapper));
         this.jsonFactory = jsonMapper.getFactory();
+        this.pool = nonNull(pool);
     }
 
     @Override
     public boolean writable(MediaType candidate, JavaType javaType) {
-        return supports(candidate) && jsonMapper.canSerialize(javaType.rawClassType());
+        return supports(candidate) && objects.writable(javaType.rawClassType());
     }
 
     @Override
     public HTTPRequestBody write(Object body, Charset encoding) {
-        return new DefaultHTTPRequestBody(APPLICATION_JSON, () -> serialize(body, encoding));
+        return new PooledHTTPRequestBody(APPLICATION_JSON, pool, output -> serialize(body, encoding, output));
     }
 
-    private BodyPublisher serialize(Object body, Charset encoding) {
+    private void serialize(Object body, Charset encoding, OutputStream output) {
         JsonEncoding jsonEncoding = Stream.of(JsonEncoding.values()).filter(e -> e.getJavaName().equalsIgnoreCase(encoding.name()))
                 .findFirst()
                 .orElse(JsonEncoding.UTF8);
 
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream();
-             JsonGenerator generator = jsonFactory.createGenerator(output, jsonEncoding)) {
+        ObjectWriter writer = objects.writer(body.getClass());
 
-            jsonMapper.writeValue(generator, body);
+        try (JsonGenerator generator = writer.createGenerator(output, jsonEncoding)) {
 
-            output.flush();
+            writer.writeValue(generator, body);
 
-            return BodyPublishers.ofByteArray(output.toByteArray());
         } catch (IOException e) {
             throw new HTTPRequestWriterException("JSON serialization failed. Source: " + body, e);
         }
@@ -107,28 +121,82 @@ public class JacksonJsonHTTPMessageCodec implements JsonHTTPMessageCodec<Object>
 
     @Override
     public boolean readable(MediaType candidate, JavaType javaType) {
-        return supports(candidate) && readable(javaType.get());
-    }
-
-    private boolean readable(Type type) {
-        return jsonMapper.canDeserialize(typeFactory.constructType(type));
+        return supports(candidate) && objects.readable(javaType);
     }
 
     @Override
     public Optional<CompletableFuture<Object>> read(HTTPResponseBody body, JavaType javaType) {
-        return body.readAsInputStream(s -> deserialize(s, javaType));
+        Optional<Charset> charset = body.charset().filter(c -> !UTF_8.equals(c));
+
+        return charset.isEmpty() && jsonFactory.canParseAsync() ?
+                body.content().map(publisher -> deserialize(publisher, javaType)) :
+                body.readAsBytes(b -> deserialize(b, charset, javaType));
+    }
+
+    private CompletableFuture<Object> deserialize(Publisher<List<ByteBuffer>> publisher, JavaType javaType) {
+        try {
+            NonBlockingJsonSubscriber subscriber = new NonBlockingJsonSubscriber(objects.reader(javaType), jsonFactory.createNonBlockingByteArrayParser(), javaType);
+
+            publisher.subscribe(subscriber);
+
+            return subscriber.future();
+        } catch (IOException e) {
+            throw new HTTPResponseReaderException("JSON deserialization failed. The target type was: " + javaType, e);
+        }
     }
 
-    private Object deserialize(InputStream bodyAsStream, JavaType javaType) {
-        try (InputStreamReader reader = new InputStreamReader(bodyAsStream);
-             BufferedReader buffered = new BufferedReader(reader)) {
+    private Object deserialize(byte[] bodyAsBytes, Optional<Charset> charset, JavaType javaType) {
+        ObjectReader reader = objects.reader(javaType);
 
-            return jsonMapper.readValue(buffered, typeFactory.constructType(javaType.get()));
+        try (JsonParser parser = charset.isPresent() ?
+                reader.createParser(new InputStreamReader(new ByteArrayInputStream(bodyAsBytes), charset.get())) :
+                reader.createParser(bodyAsBytes)) {
+
+            return reader.readValue(parser);
         } catch (IOException e) {
             throw new HTTPResponseReaderException("JSON deserialization failed. The target type was: " + javaType, e);
         }
     }
 
+    @Override
+    public boolean streamable(MediaType candidate, JavaType elementType) {
+        return readable(candidate, elementType);
+    }
+
+    @Override
+    public Optional<CompletableFuture<Stream<Object>>> stream(HTTPResponseBody body, JavaType elementType) {
+        Optional<Charset> charset = body.charset().filter(c -> !UTF_8.equals(c));
+        return body.readAsInputStream(s -> elements(s, charset, elementType));
+    }
+
+    private Stream<Object> elements(InputStream bodyAsStream, Optional<Charset> charset, JavaType elementType) {
+        try {
+            ObjectReader reader = objects.reader(elementType);
+
+            MappingIterator<Object> elements = charset.isPresent() ?
+                    reader.readValues(new InputStreamReader(bodyAsStream, charset.get())) :
+                    reader.readValues(bodyAsStream);
+
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(elements, Spliterator.ORDERED), false)
+                    .onClose(() -> Attempt.just(elements::close));
+
+        } catch (IOException e) {
+            throw new HTTPResponseReaderException("JSON deserialization failed. The target type was: " + elementType, e);
+        }
+    }
+
+    @Override
+    public Optional<Publisher<Object>> publisher(HTTPResponseBody body, JavaType elementType) {
+        Optional<Charset> charset = body.charset().filter(c -> !UTF_8.equals(c));
+        return body.content().map(content -> SplitPublisher.arrayElements(content, element -> element(element, charset, elementType)));
+    }
+
+    private Object element(ByteBuffer element, Optional<Charset> charset, JavaType elementType) {
+        byte[] elementAsBytes = new byte[element.remaining()];
+        element.get(elementAsBytes);
+        return deserialize(elementAsBytes, charset, elementType);
+    }
+
     public static JacksonJsonHTTPMessageCodec provider() {
         return SINGLE_INSTANCE;
     }
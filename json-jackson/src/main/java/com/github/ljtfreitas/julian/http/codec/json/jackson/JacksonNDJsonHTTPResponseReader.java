@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http.codec.json.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.http.codec.HTTPResponseReaderException;
+import com.github.ljtfreitas.julian.http.codec.NDJsonHTTPResponseReader;
+import com.github.ljtfreitas.julian.http.codec.jackson.ObjectMapperCache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static com.github.ljtfreitas.julian.Preconditions.nonNull;
+
+public class JacksonNDJsonHTTPResponseReader implements NDJsonHTTPResponseReader {
+
+    private static final JacksonNDJsonHTTPResponseReader SINGLE_INSTANCE = new JacksonNDJsonHTTPResponseReader();
+
+    private final ObjectMapperCache objects;
+
+    public JacksonNDJsonHTTPResponseReader() {
+        this(JacksonJsonHTTPMessageCodec.configure(new ObjectMapper()));
+    }
+
+    public JacksonNDJsonHTTPResponseReader(ObjectMapper jsonMapper) {
+        this.objects = new ObjectMapperCache(nonNull(jsonMapper));
+    }
+
+    @Override
+    public boolean decodable(JavaType elementType) {
+        return objects.readable(elementType);
+    }
+
+    @Override
+    public Object decode(ByteBuffer line, JavaType elementType) {
+        ObjectReader reader = objects.reader(elementType);
+
+        try {
+            return line.hasArray() ?
+                    reader.readValue(line.array(), line.arrayOffset() + line.position(), line.remaining()) :
+                    reader.readValue(new ByteBufferBackedInputStream(line));
+
+        } catch (IOException e) {
+            throw new HTTPResponseReaderException("JSON deserialization failed. The target type was: " + elementType, e);
+        }
+    }
+
+    public static JacksonNDJsonHTTPResponseReader provider() {
+        return SINGLE_INSTANCE;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http.codec.json.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.github.ljtfreitas.julian.Attempt;
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.http.codec.HTTPResponseReaderException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+
+class NonBlockingJsonSubscriber implements Subscriber<List<ByteBuffer>> {
+
+    private final ObjectReader reader;
+    private final JavaType javaType;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final TokenBuffer tokens;
+
+    private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+    private Subscription subscription;
+    private int depth = 0;
+    private boolean root = false;
+
+    NonBlockingJsonSubscriber(ObjectReader reader, JsonParser parser, JavaType javaType) {
+        this.reader = reader;
+        this.javaType = javaType;
+        this.parser = parser;
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.tokens = new TokenBuffer(parser);
+        this.tokens.forceUseOfBigDecimal(reader.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS));
+    }
+
+    CompletableFuture<Object> future() {
+        return future;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> buffers) {
+        if (future.isDone()) return;
+
+        try {
+            for (ByteBuffer buffer : buffers) feed(buffer);
+
+        } catch (IOException e) {
+            subscription.cancel();
+            failed(e);
+        }
+    }
+
+    private void feed(ByteBuffer buffer) throws IOException {
+        if (root || !buffer.hasRemaining()) {
+            buffer.position(buffer.limit());
+            return;
+        }
+
+        if (buffer.hasArray()) {
+            int start = buffer.arrayOffset() + buffer.position();
+            feeder.feedInput(buffer.array(), start, start + buffer.remaining());
+            buffer.position(buffer.limit());
+
+        } else {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            feeder.feedInput(bytes, 0, bytes.length);
+        }
+
+        tokens();
+    }
+
+    private void tokens() throws IOException {
+        JsonToken token;
+        while (!root && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            tokens.copyCurrentEvent(parser);
+
+            if (token.isStructStart()) depth++;
+            else if (token.isStructEnd()) depth--;
+
+            root = depth == 0;
+        }
+    }
+
+    @Override
+    public void onError(Throwable failure) {
+        close();
+        future.completeExceptionally(failure);
+    }
+
+    @Override
+    public void onComplete() {
+        if (future.isDone()) return;
+
+        try {
+            feeder.endOfInput();
+            tokens();
+
+            try (JsonParser buffered = tokens.asParser(reader)) {
+                future.complete(reader.readValue(buffered));
+            }
+
+        } catch (IOException e) {
+            failed(e);
+        } finally {
+            close();
+        }
+    }
+
+    private void failed(IOException e) {
+        close();
+        future.completeExceptionally(new HTTPResponseReaderException("JSON deserialization failed. The target type was: " + javaType, e));
+    }
+
+    private void close() {
+        Attempt.just(parser::close);
+    }
+}
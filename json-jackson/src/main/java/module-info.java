@@ -24,8 +24,10 @@ module com.github.ljtfreitas.julian.json.jackson {
     exports com.github.ljtfreitas.julian.http.codec.json.jackson;
 
     provides com.github.ljtfreitas.julian.http.codec.HTTPMessageCodec
-        with com.github.ljtfreitas.julian.http.codec.json.jackson.JacksonJsonHTTPMessageCodec;
+        with com.github.ljtfreitas.julian.http.codec.json.jackson.JacksonJsonHTTPMessageCodec,
+             com.github.ljtfreitas.julian.http.codec.json.jackson.JacksonNDJsonHTTPResponseReader;
 
     requires com.fasterxml.jackson.databind;
+    requires com.github.ljtfreitas.julian.jackson;
     requires com.github.ljtfreitas.julian;
 }
\ No newline at end of file
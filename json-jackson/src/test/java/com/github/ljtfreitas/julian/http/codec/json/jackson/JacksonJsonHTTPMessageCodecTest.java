@@ -2,23 +2,38 @@ package com.github.ljtfreitas.julian.http.codec.json.jackson;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.http.HTTPHeader;
+import com.github.ljtfreitas.julian.http.HTTPHeaders;
 import com.github.ljtfreitas.julian.http.HTTPRequestBody;
 import com.github.ljtfreitas.julian.http.HTTPResponseBody;
+import com.github.ljtfreitas.julian.http.HTTPStatus;
+import com.github.ljtfreitas.julian.http.HTTPStatusCode;
 import com.github.ljtfreitas.julian.http.MediaType;
+import com.github.ljtfreitas.julian.http.codec.ByteBufferPool;
+import com.github.ljtfreitas.julian.http.codec.HTTPResponseReaderException;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Subscriber;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.github.ljtfreitas.julian.http.MediaType.APPLICATION_JSON;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -53,6 +68,106 @@ class JacksonJsonHTTPMessageCodecTest {
                 assertAll(() -> assertEquals("Tiago", person.name),
                           () -> assertEquals(35, person.age));
             }
+
+            @Test
+            void readWithCharset() {
+                String value = "{\"name\":\"Tião\",\"age\":35}";
+
+                HTTPHeaders headers = HTTPHeaders.create(new HTTPHeader(HTTPHeader.CONTENT_TYPE, "application/json; charset=ISO-8859-1"));
+                HTTPResponseBody body = HTTPResponseBody.optional(HTTPStatus.valueOf(HTTPStatusCode.OK), headers,
+                        () -> HTTPResponseBody.some(value.getBytes(StandardCharsets.ISO_8859_1)));
+
+                Person person = (Person) codec.read(body, JavaType.valueOf(Person.class))
+                        .map(CompletableFuture::join)
+                        .orElse(null);
+
+                assertAll(() -> assertEquals("Tião", person.name),
+                          () -> assertEquals(35, person.age));
+            }
+
+            @Test
+            void readFromChunks() {
+                HTTPResponseBody body = HTTPResponseBody.lazy(chunks("{\"na", "me\":\"Tia", "go\",\"age\":3", "5}"));
+
+                Person person = (Person) codec.read(body, JavaType.valueOf(Person.class))
+                        .map(CompletableFuture::join)
+                        .orElse(null);
+
+                assertAll(() -> assertEquals("Tiago", person.name),
+                          () -> assertEquals(35, person.age));
+            }
+
+            @Test
+            void readIncompleteJson() {
+                HTTPResponseBody body = HTTPResponseBody.lazy(chunks("{\"name\":\"Tiago\",", "\"age\":35"));
+
+                CompletableFuture<Object> future = codec.read(body, JavaType.valueOf(Person.class)).orElseThrow();
+
+                CompletionException e = assertThrows(CompletionException.class, future::join);
+
+                assertTrue(e.getCause() instanceof HTTPResponseReaderException);
+            }
+        }
+    }
+
+    @Nested
+    class Streamable {
+
+        @Test
+        void unsupported() {
+            assertFalse(codec.streamable(MediaType.valueOf("text/plain"), JavaType.valueOf(Person.class)));
+        }
+
+        @Test
+        void supported() {
+            assertTrue(codec.streamable(MediaType.valueOf("application/json"), JavaType.valueOf(Person.class)));
+        }
+
+        @Nested
+        class Read {
+
+            @Test
+            void elements() {
+                String value = "[{\"name\":\"Tiago\",\"age\":35},{\"name\":\"Fulano\",\"age\":30}]";
+
+                List<Person> persons = codec.stream(HTTPResponseBody.some(value.getBytes()), JavaType.valueOf(Person.class))
+                        .map(CompletableFuture::join)
+                        .map(s -> s.map(Person.class::cast).collect(Collectors.toUnmodifiableList()))
+                        .orElseGet(List::of);
+
+                assertAll(() -> assertEquals(2, persons.size()),
+                          () -> assertEquals("Tiago", persons.get(0).name),
+                          () -> assertEquals("Fulano", persons.get(1).name));
+            }
+
+            @Test
+            void emitElementsBeforeTheEndOfTheArray() {
+                String first = "[{\"name\":\"Tiago\",\"age\":35},";
+
+                Flow.Publisher<List<ByteBuffer>> incomplete = subscriber -> subscriber.onSubscribe(new Flow.Subscription() {
+
+                    private boolean sent = false;
+
+                    @Override
+                    public void request(long n) {
+                        if (!sent) {
+                            sent = true;
+                            subscriber.onNext(List.of(ByteBuffer.wrap(first.getBytes())));
+                        }
+                    }
+
+                    @Override
+                    public void cancel() {}
+                });
+
+                Person person = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> codec.stream(HTTPResponseBody.lazy(incomplete), JavaType.valueOf(Person.class))
+                        .map(CompletableFuture::join)
+                        .flatMap(Stream::findFirst)
+                        .map(Person.class::cast)
+                        .orElse(null));
+
+                assertEquals("Tiago", person.name);
+            }
         }
     }
 
@@ -86,7 +201,43 @@ class JacksonJsonHTTPMessageCodecTest {
 
                     @Override
                     public void onNext(ByteBuffer item) {
-                        assertEquals("{\"name\":\"Tiago\",\"age\":35}", new String(item.array()));
+                        assertEquals("{\"name\":\"Tiago\",\"age\":35}", StandardCharsets.UTF_8.decode(item).toString());
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        fail(throwable);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                    }
+                });
+            }
+
+            @Test
+            void writeInPooledSegments() {
+                JacksonJsonHTTPMessageCodec codec = new JacksonJsonHTTPMessageCodec(new ObjectMapper(), new ByteBufferPool(8, 4));
+
+                HTTPRequestBody output = codec.write(new Person("Tiago", 35), StandardCharsets.UTF_8);
+
+                String expected = "{\"name\":\"Tiago\",\"age\":35}";
+
+                assertEquals(expected.length(), output.contentLength().orElseThrow());
+
+                StringBuilder content = new StringBuilder();
+                List<Integer> sizes = new ArrayList<>();
+
+                output.serialize().subscribe(new Subscriber<>() {
+                    @Override
+                    public void onSubscribe(Flow.Subscription subscription) {
+                        subscription.request(Long.MAX_VALUE);
+                    }
+
+                    @Override
+                    public void onNext(ByteBuffer item) {
+                        sizes.add(item.remaining());
+                        content.append(StandardCharsets.UTF_8.decode(item));
                     }
 
                     @Override
@@ -98,10 +249,32 @@ class JacksonJsonHTTPMessageCodecTest {
                     public void onComplete() {
                     }
                 });
+
+                assertAll(() -> assertEquals(expected, content.toString()),
+                          () -> assertEquals(List.of(8, 8, 8, 1), sizes));
             }
         }
     }
 
+    private static Flow.Publisher<List<ByteBuffer>> chunks(String... chunks) {
+        return subscriber -> subscriber.onSubscribe(new Flow.Subscription() {
+
+            private boolean sent = false;
+
+            @Override
+            public void request(long n) {
+                if (!sent) {
+                    sent = true;
+                    Stream.of(chunks).map(c -> ByteBuffer.wrap(c.getBytes(StandardCharsets.UTF_8))).map(List::of).forEach(subscriber::onNext);
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {}
+        });
+    }
+
     private static class Person {
 
         @JsonProperty
@@ -15,7 +15,7 @@ public class SPITest {
 
     @Test
     void shouldRegisterAllServices() {
-        Collection<Class<? extends HTTPMessageCodec>> expected = List.of(JacksonJsonHTTPMessageCodec.class);
+        Collection<Class<? extends HTTPMessageCodec>> expected = List.of(JacksonJsonHTTPMessageCodec.class, JacksonNDJsonHTTPResponseReader.class);
 
         Plugins plugins = new Plugins();
         Collection<? extends Class<?>> founded = plugins.all(HTTPMessageCodec.class).map(Object::getClass).collect(toList());
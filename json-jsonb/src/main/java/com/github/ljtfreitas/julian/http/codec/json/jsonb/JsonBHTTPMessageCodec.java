@@ -30,11 +30,17 @@ import com.github.ljtfreitas.julian.http.MediaType;
 import com.github.ljtfreitas.julian.http.codec.HTTPRequestWriterException;
 import com.github.ljtfreitas.julian.http.codec.HTTPResponseReaderException;
 import com.github.ljtfreitas.julian.http.codec.JsonHTTPMessageCodec;
+import com.github.ljtfreitas.julian.http.codec.JsonLines;
+import com.github.ljtfreitas.julian.http.codec.SplitPublisher;
+import com.github.ljtfreitas.julian.http.codec.StreamingHTTPResponseReader;
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonValue;
 import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
 import jakarta.json.bind.JsonbException;
+import jakarta.json.stream.JsonParser;
 
-import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -45,10 +51,13 @@ import java.net.http.HttpRequest.BodyPublishers;
 import java.nio.charset.Charset;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Publisher;
+import java.util.stream.Stream;
 
 import static com.github.ljtfreitas.julian.http.MediaType.APPLICATION_JSON;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
-public class JsonBHTTPMessageCodec implements JsonHTTPMessageCodec<Object> {
+public class JsonBHTTPMessageCodec implements JsonHTTPMessageCodec<Object>, StreamingHTTPResponseReader<Object> {
 
     private static final JsonBHTTPMessageCodec SINGLE_INSTANCE = new JsonBHTTPMessageCodec();
 
@@ -94,19 +103,62 @@ public class JsonBHTTPMessageCodec implements JsonHTTPMessageCodec<Object> {
 
     @Override
     public Optional<CompletableFuture<Object>> read(HTTPResponseBody body, JavaType javaType) {
-        return body.readAsInputStream(s -> deserialize(s, javaType));
+        Optional<Charset> charset = body.charset().filter(c -> !UTF_8.equals(c));
+        return body.readAsInputStream(s -> deserialize(s, charset, javaType));
     }
 
-    private Object deserialize(InputStream bodyAsStream, JavaType javaType) {
-        try (InputStreamReader reader = new InputStreamReader(bodyAsStream);
-            BufferedReader buffered = new BufferedReader(reader)) {
+    private Object deserialize(InputStream bodyAsStream, Optional<Charset> charset, JavaType javaType) {
+        try (InputStream stream = bodyAsStream) {
 
-            return jsonb.fromJson(buffered, javaType.get());
+            return charset.isPresent() ?
+                    jsonb.fromJson(new InputStreamReader(stream, charset.get()), javaType.get()) :
+                    jsonb.fromJson(stream, javaType.get());
         } catch (JsonbException | IOException e) {
             throw new HTTPResponseReaderException("JSON deserialization failed. The target type was: " + javaType, e);
         }
     }
 
+    @Override
+    public boolean streamable(MediaType candidate, JavaType elementType) {
+        return supports(candidate);
+    }
+
+    @Override
+    public Optional<CompletableFuture<Stream<Object>>> stream(HTTPResponseBody body, JavaType elementType) {
+        Optional<Charset> charset = body.charset().filter(c -> !UTF_8.equals(c));
+        return body.readAsInputStream(s -> elements(s, charset, elementType));
+    }
+
+    private Stream<Object> elements(InputStream bodyAsStream, Optional<Charset> charset, JavaType elementType) {
+        JsonParser parser = charset.isPresent() ?
+                Json.createParser(new InputStreamReader(bodyAsStream, charset.get())) :
+                Json.createParser(bodyAsStream);
+
+        try {
+            Stream<JsonValue> values = parser.next() == JsonParser.Event.START_ARRAY ? parser.getArrayStream() : Stream.of(parser.getValue());
+
+            return values.map(value -> element(value, elementType)).onClose(parser::close);
+
+        } catch (JsonException e) {
+            parser.close();
+            throw new HTTPResponseReaderException("JSON deserialization failed. The target type was: " + elementType, e);
+        }
+    }
+
+    private Object element(JsonValue value, JavaType elementType) {
+        try {
+            return jsonb.fromJson(value.toString(), elementType.get());
+        } catch (JsonbException e) {
+            throw new HTTPResponseReaderException("JSON deserialization failed. The target type was: " + elementType, e);
+        }
+    }
+
+    @Override
+    public Optional<Publisher<Object>> publisher(HTTPResponseBody body, JavaType elementType) {
+        Optional<Charset> charset = body.charset().filter(c -> !UTF_8.equals(c));
+        return body.content().map(content -> SplitPublisher.arrayElements(content, element -> deserialize(JsonLines.asInputStream(element), charset, elementType)));
+    }
+
     public static JsonBHTTPMessageCodec provider() {
         return SINGLE_INSTANCE;
     }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http.codec.json.jsonb;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.http.codec.HTTPResponseReaderException;
+import com.github.ljtfreitas.julian.http.codec.JsonLines;
+import com.github.ljtfreitas.julian.http.codec.NDJsonHTTPResponseReader;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbException;
+
+import java.nio.ByteBuffer;
+
+public class JsonBNDJsonHTTPResponseReader implements NDJsonHTTPResponseReader {
+
+    private static final JsonBNDJsonHTTPResponseReader SINGLE_INSTANCE = new JsonBNDJsonHTTPResponseReader();
+
+    private final Jsonb jsonb;
+
+    public JsonBNDJsonHTTPResponseReader() {
+        this(JsonbBuilder.create());
+    }
+
+    public JsonBNDJsonHTTPResponseReader(Jsonb jsonb) {
+        this.jsonb = jsonb;
+    }
+
+    @Override
+    public boolean decodable(JavaType elementType) {
+        return true;
+    }
+
+    @Override
+    public Object decode(ByteBuffer line, JavaType elementType) {
+        try {
+            return jsonb.fromJson(JsonLines.asInputStream(line), elementType.get());
+        } catch (JsonbException e) {
+            throw new HTTPResponseReaderException("JSON deserialization failed. The target type was: " + elementType, e);
+        }
+    }
+
+    public static JsonBNDJsonHTTPResponseReader provider() {
+        return SINGLE_INSTANCE;
+    }
+}
@@ -24,8 +24,10 @@ module com.github.ljtfreitas.julian.json.jsonb {
     exports com.github.ljtfreitas.julian.http.codec.json.jsonb;
 
     provides com.github.ljtfreitas.julian.http.codec.HTTPMessageCodec
-        with com.github.ljtfreitas.julian.http.codec.json.jsonb.JsonBHTTPMessageCodec;
+        with com.github.ljtfreitas.julian.http.codec.json.jsonb.JsonBHTTPMessageCodec,
+             com.github.ljtfreitas.julian.http.codec.json.jsonb.JsonBNDJsonHTTPResponseReader;
 
     requires com.github.ljtfreitas.julian;
+    requires jakarta.json;
     requires jakarta.json.bind;
 }
\ No newline at end of file
@@ -31,9 +31,11 @@ import org.junit.jupiter.api.Test;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Subscriber;
+import java.util.stream.Collectors;
 
 import static com.github.ljtfreitas.julian.http.MediaType.APPLICATION_JSON;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -76,6 +78,40 @@ class JsonBHTTPMessageCodecTest {
         }
     }
 
+    @Nested
+    class Streamable {
+
+        @Test
+        void unsupported() {
+            assertFalse(codec.streamable(MediaType.valueOf("text/plain"), JavaType.valueOf(Person.class)));
+        }
+
+        @Test
+        void supported() {
+            assertTrue(codec.streamable(MediaType.valueOf("application/json"), JavaType.valueOf(Person.class)));
+        }
+
+        @Nested
+        class Read {
+
+            @Test
+            void elements() {
+                String value = "[{\"name\":\"Tiago\",\"age\":35},{\"name\":\"Fulano\",\"age\":30}]";
+
+                List<Person> persons = codec.stream(HTTPResponseBody.some(value.getBytes()), JavaType.valueOf(Person.class))
+                        .map(CompletableFuture::join)
+                        .map(s -> s.map(Person.class::cast).collect(Collectors.toUnmodifiableList()))
+                        .orElseGet(List::of);
+
+                assertAll(() -> assertEquals(2, persons.size()),
+                          () -> assertEquals("Tiago", persons.get(0).name),
+                          () -> assertEquals(35, persons.get(0).age),
+                          () -> assertEquals("Fulano", persons.get(1).name),
+                          () -> assertEquals(30, persons.get(1).age));
+            }
+        }
+    }
+
     @Nested
     class Writable {
 
@@ -30,43 +30,52 @@ import com.github.ljtfreitas.julian.http.MediaType;
 import com.github.ljtfreitas.julian.http.codec.HTTPRequestWriterException;
 import com.github.ljtfreitas.julian.http.codec.HTTPResponseReaderException;
 import com.github.ljtfreitas.julian.http.codec.JsonHTTPMessageCodec;
+import com.github.ljtfreitas.julian.http.codec.JsonLines;
+import com.github.ljtfreitas.julian.http.codec.SplitPublisher;
+import com.github.ljtfreitas.julian.http.codec.StreamingHTTPResponseReader;
 import jakarta.json.Json;
 import jakarta.json.JsonException;
 import jakarta.json.JsonReader;
 import jakarta.json.JsonReaderFactory;
 import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
 import jakarta.json.JsonWriter;
 import jakarta.json.JsonWriterFactory;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
 
-import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Publisher;
+import java.util.stream.Stream;
 
 import static com.github.ljtfreitas.julian.http.MediaType.APPLICATION_JSON;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyMap;
 
-public class JsonPHTTPMessageCodec implements JsonHTTPMessageCodec<JsonStructure> {
+public class JsonPHTTPMessageCodec implements JsonHTTPMessageCodec<JsonStructure>, StreamingHTTPResponseReader<JsonStructure> {
 
     private static final JsonPHTTPMessageCodec SINGLE_INSTANCE = new JsonPHTTPMessageCodec();
 
     private final JsonReaderFactory jsonReaderFactory;
     private final JsonWriterFactory jsonWriterFactory;
+    private final JsonParserFactory jsonParserFactory;
 
     public JsonPHTTPMessageCodec() {
         this(emptyMap());
     }
 
     public JsonPHTTPMessageCodec(Map<String, ?> jsonConfiguration) {
-        this(Json.createReaderFactory(jsonConfiguration), Json.createWriterFactory(jsonConfiguration));
+        this(Json.createReaderFactory(jsonConfiguration), Json.createWriterFactory(jsonConfiguration), Json.createParserFactory(jsonConfiguration));
     }
 
     public JsonPHTTPMessageCodec(JsonReaderFactory jsonReaderFactory) {
@@ -78,8 +87,13 @@ public class JsonPHTTPMessageCodec implements JsonHTTPMessageCodec<JsonStructure
     }
 
     public JsonPHTTPMessageCodec(JsonReaderFactory jsonReaderFactory, JsonWriterFactory jsonWriterFactory) {
+        this(jsonReaderFactory, jsonWriterFactory, Json.createParserFactory(emptyMap()));
+    }
+
+    public JsonPHTTPMessageCodec(JsonReaderFactory jsonReaderFactory, JsonWriterFactory jsonWriterFactory, JsonParserFactory jsonParserFactory) {
         this.jsonReaderFactory = jsonReaderFactory;
         this.jsonWriterFactory = jsonWriterFactory;
+        this.jsonParserFactory = jsonParserFactory;
     }
 
     @Override
@@ -115,13 +129,13 @@ public class JsonPHTTPMessageCodec implements JsonHTTPMessageCodec<JsonStructure
 
     @Override
     public Optional<CompletableFuture<JsonStructure>> read(HTTPResponseBody body, JavaType javaType) {
-        return body.readAsInputStream(this::deserialize);
+        Charset charset = body.charset().orElse(UTF_8);
+        return body.readAsInputStream(s -> deserialize(s, charset));
     }
 
-    private JsonStructure deserialize(InputStream bodyAsStream) {
-        try (InputStreamReader reader = new InputStreamReader(bodyAsStream);
-             BufferedReader buffered = new BufferedReader(reader);
-             JsonReader jsonReader = jsonReaderFactory.createReader(buffered)) {
+    private JsonStructure deserialize(InputStream bodyAsStream, Charset charset) {
+        try (InputStream stream = bodyAsStream;
+             JsonReader jsonReader = jsonReaderFactory.createReader(stream, charset)) {
 
             return jsonReader.read();
         } catch (JsonException | IOException e) {
@@ -129,6 +143,45 @@ public class JsonPHTTPMessageCodec implements JsonHTTPMessageCodec<JsonStructure
         }
     }
 
+    @Override
+    public boolean streamable(MediaType candidate, JavaType elementType) {
+        return supports(candidate) && elementType.classType().map(JsonValue.class::isAssignableFrom).orElse(false);
+    }
+
+    @Override
+    public Optional<CompletableFuture<Stream<Object>>> stream(HTTPResponseBody body, JavaType elementType) {
+        Charset charset = body.charset().orElse(UTF_8);
+        return body.readAsInputStream(s -> elements(s, charset));
+    }
+
+    private Stream<Object> elements(InputStream bodyAsStream, Charset charset) {
+        JsonParser parser = jsonParserFactory.createParser(bodyAsStream, charset);
+
+        try {
+            Stream<JsonValue> values = parser.next() == JsonParser.Event.START_ARRAY ? parser.getArrayStream() : Stream.of(parser.getValue());
+
+            return values.map(Object.class::cast).onClose(parser::close);
+
+        } catch (JsonException e) {
+            parser.close();
+            throw new HTTPResponseReaderException("JSON deserialization failed.", e);
+        }
+    }
+
+    @Override
+    public Optional<Publisher<Object>> publisher(HTTPResponseBody body, JavaType elementType) {
+        Charset charset = body.charset().orElse(UTF_8);
+        return body.content().map(content -> SplitPublisher.arrayElements(content, element -> element(element, charset)));
+    }
+
+    private JsonValue element(ByteBuffer element, Charset charset) {
+        try (JsonReader jsonReader = jsonReaderFactory.createReader(JsonLines.asInputStream(element), charset)) {
+            return jsonReader.readValue();
+        } catch (JsonException e) {
+            throw new HTTPResponseReaderException("JSON deserialization failed.", e);
+        }
+    }
+
     public static JsonPHTTPMessageCodec provider() {
         return SINGLE_INSTANCE;
     }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http.codec.json.jsonp;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.http.codec.HTTPResponseReaderException;
+import com.github.ljtfreitas.julian.http.codec.JsonLines;
+import com.github.ljtfreitas.julian.http.codec.NDJsonHTTPResponseReader;
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonValue;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+
+public class JsonPNDJsonHTTPResponseReader implements NDJsonHTTPResponseReader {
+
+    private static final JsonPNDJsonHTTPResponseReader SINGLE_INSTANCE = new JsonPNDJsonHTTPResponseReader();
+
+    private final JsonReaderFactory jsonReaderFactory;
+
+    public JsonPNDJsonHTTPResponseReader() {
+        this(Json.createReaderFactory(emptyMap()));
+    }
+
+    public JsonPNDJsonHTTPResponseReader(JsonReaderFactory jsonReaderFactory) {
+        this.jsonReaderFactory = jsonReaderFactory;
+    }
+
+    @Override
+    public boolean decodable(JavaType elementType) {
+        return elementType.classType().map(JsonValue.class::isAssignableFrom).orElse(false);
+    }
+
+    @Override
+    public Object decode(ByteBuffer line, JavaType elementType) {
+        try (JsonReader reader = jsonReaderFactory.createReader(JsonLines.asInputStream(line), UTF_8)) {
+            return reader.readValue();
+        } catch (JsonException e) {
+            throw new HTTPResponseReaderException("JSON deserialization failed.", e);
+        }
+    }
+
+    public static JsonPNDJsonHTTPResponseReader provider() {
+        return SINGLE_INSTANCE;
+    }
+}
@@ -24,7 +24,8 @@ module com.github.ljtfreitas.julian.json.jsonp {
     exports com.github.ljtfreitas.julian.http.codec.json.jsonp;
 
     provides com.github.ljtfreitas.julian.http.codec.HTTPMessageCodec
-        with com.github.ljtfreitas.julian.http.codec.json.jsonp.JsonPHTTPMessageCodec;
+        with com.github.ljtfreitas.julian.http.codec.json.jsonp.JsonPHTTPMessageCodec,
+             com.github.ljtfreitas.julian.http.codec.json.jsonp.JsonPNDJsonHTTPResponseReader;
 
     requires com.github.ljtfreitas.julian;
     requires jakarta.json;
@@ -41,9 +41,11 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Subscriber;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.github.ljtfreitas.julian.http.MediaType.APPLICATION_JSON;
@@ -114,6 +116,31 @@ class JsonPHTTPMessageCodecTest {
         }
     }
 
+    @Nested
+    class AsStreamingReader {
+
+        @Test
+        @DisplayName("It should not stream elements that are not JsonValue instances")
+        void shouldNotStreamElementsThatAreNotJsonValues() {
+            assertFalse(codec.streamable(MediaType.valueOf("application/json"), JavaType.valueOf(String.class)));
+        }
+
+        @Test
+        @DisplayName("It should be able to stream the elements of a JsonArray")
+        void shouldBeAbleToStreamTheElementsOfJsonArray() {
+            String value = "[{\"name\":\"Tiago\",\"age\":35},{\"name\":\"Fulano\",\"age\":30}]";
+
+            List<JsonObject> elements = codec.stream(HTTPResponseBody.some(value.getBytes()), JavaType.valueOf(JsonObject.class))
+                    .map(CompletableFuture::join)
+                    .map(s -> s.map(JsonObject.class::cast).collect(Collectors.toUnmodifiableList()))
+                    .orElseGet(List::of);
+
+            assertAll(() -> assertThat(elements, hasSize(2)),
+                      () -> assertEquals("Tiago", elements.get(0).getString("name")),
+                      () -> assertEquals("Fulano", elements.get(1).getString("name")));
+        }
+    }
+
     @Nested
     class AsWriter {
 
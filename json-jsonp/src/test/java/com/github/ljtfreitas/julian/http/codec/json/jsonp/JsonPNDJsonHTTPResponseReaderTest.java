@@ -0,0 +1,99 @@
+package com.github.ljtfreitas.julian.http.codec.json.jsonp;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.http.HTTPResponseBody;
+import com.github.ljtfreitas.julian.http.MediaType;
+import jakarta.json.JsonObject;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscription;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonPNDJsonHTTPResponseReaderTest {
+
+    private final JsonPNDJsonHTTPResponseReader reader = new JsonPNDJsonHTTPResponseReader();
+
+    @Nested
+    class Streamable {
+
+        @Test
+        void unsupported() {
+            assertFalse(reader.streamable(MediaType.APPLICATION_JSON, JavaType.valueOf(JsonObject.class)));
+        }
+
+        @Test
+        void supported() {
+            assertAll(() -> assertTrue(reader.streamable(MediaType.APPLICATION_NDJSON, JavaType.valueOf(JsonObject.class))),
+                      () -> assertTrue(reader.streamable(MediaType.APPLICATION_STREAM_JSON, JavaType.valueOf(JsonObject.class))));
+        }
+
+        @Test
+        void stream() {
+            Publisher<List<ByteBuffer>> chunks = chunks("{\"name\":\"Tiago\",\"age\":35}\n{\"name\":", "\"Fulano\",\"age\":36}\r\n\n");
+
+            List<Object> elements = reader.stream(HTTPResponseBody.lazy(chunks), JavaType.valueOf(JsonObject.class))
+                    .map(CompletableFuture::join)
+                    .map(s -> s.collect(Collectors.toList()))
+                    .orElseGet(List::of);
+
+            assertAll(() -> assertEquals(2, elements.size()),
+                      () -> assertEquals("Tiago", ((JsonObject) elements.get(0)).getString("name")),
+                      () -> assertEquals(36, ((JsonObject) elements.get(1)).getInt("age")));
+        }
+    }
+
+    @Nested
+    class Readable {
+
+        @Test
+        void supported() {
+            assertTrue(reader.readable(MediaType.APPLICATION_NDJSON, JavaType.parameterized(List.class, JsonObject.class)));
+        }
+
+        @Test
+        void unsupported() {
+            assertFalse(reader.readable(MediaType.APPLICATION_NDJSON, JavaType.valueOf(JsonObject.class)));
+        }
+
+        @Test
+        void read() {
+            Object elements = reader.read(HTTPResponseBody.some("{\"name\":\"Tiago\",\"age\":35}\n".getBytes(UTF_8)), JavaType.parameterized(List.class, JsonObject.class))
+                    .map(CompletableFuture::join)
+                    .orElse(null);
+
+            assertEquals(1, ((List<?>) elements).size());
+        }
+    }
+
+    private Publisher<List<ByteBuffer>> chunks(String... chunks) {
+        List<ByteBuffer> buffers = Stream.of(chunks).map(c -> ByteBuffer.wrap(c.getBytes(UTF_8))).collect(Collectors.toList());
+
+        return subscriber -> subscriber.onSubscribe(new Subscription() {
+
+            private int index = 0;
+
+            @Override
+            public void request(long n) {
+                if (index < buffers.size())
+                    subscriber.onNext(List.of(buffers.get(index++)));
+                else
+                    subscriber.onComplete();
+            }
+
+            @Override
+            public void cancel() {}
+        });
+    }
+}
@@ -34,7 +34,7 @@ class KJsonHTTPMessageCodec(private val json: Json = Json) : JsonHTTPMessageCode
     override fun readable(candidate: MediaType?, javaType: JavaType?) = supports(candidate)
 
     override fun read(body: HTTPResponseBody, javaType: JavaType): Optional<CompletableFuture<Any>> = body.content().map { publisher ->
-        BodySubscribers.mapping(BodySubscribers.ofString(UTF_8)) { bodyAsString ->
+        BodySubscribers.mapping(BodySubscribers.ofString(body.charset().orElse(UTF_8))) { bodyAsString ->
             decode(bodyAsString, javaType)
         }.apply(publisher::subscribe)
         .body
@@ -1,7 +1,6 @@
 package com.github.ljtfreitas.julian.k.coroutines
 
 import com.github.ljtfreitas.julian.Arguments
-import com.github.ljtfreitas.julian.CollectionResponseT
 import com.github.ljtfreitas.julian.Endpoint
 import com.github.ljtfreitas.julian.JavaType
 import com.github.ljtfreitas.julian.JavaType.Wildcard
@@ -53,12 +52,11 @@ class FlowResponseTTest : DescribeSpec({
         describe("bind") {
 
             it("bind a Stream<T> to a Flow<T>") {
-                val fn = subject.bind<Collection<Any>>(endpoint, next = StreamResponseT()
-                    .bind(endpoint, CollectionResponseT()
-                        .bind(endpoint, ObjectResponseT<Collection<Any>>()
-                            .bind(endpoint, null))))
+                val fn = subject.bind<Stream<Any>>(endpoint, next = StreamResponseT()
+                    .bind(endpoint, ObjectResponseT<Stream<Any>>()
+                        .bind(endpoint, null)))
 
-                val flow = fn.join(Promise.done(Response.done(listOf("one", "two", "three"))), Arguments.empty())
+                val flow = fn.join(Promise.done(Response.done(Stream.of<Any>("one", "two", "three"))), Arguments.empty())
 
                 flow.toList(mutableListOf()) shouldContainExactly listOf("one", "two", "three")
             }
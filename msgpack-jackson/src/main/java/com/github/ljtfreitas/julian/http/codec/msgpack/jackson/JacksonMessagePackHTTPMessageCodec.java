@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http.codec.msgpack.jackson;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.ljtfreitas.julian.http.codec.ByteBufferPool;
+import com.github.ljtfreitas.julian.http.codec.jackson.JacksonBinaryHTTPMessageCodec;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import static com.github.ljtfreitas.julian.http.MediaType.APPLICATION_MSGPACK;
+
+public class JacksonMessagePackHTTPMessageCodec extends JacksonBinaryHTTPMessageCodec {
+
+    private static final JacksonMessagePackHTTPMessageCodec SINGLE_INSTANCE = new JacksonMessagePackHTTPMessageCodec();
+
+    public JacksonMessagePackHTTPMessageCodec() {
+        this(new ObjectMapper(new MessagePackFactory())
+                .configure(DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES, false)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .findAndRegisterModules());
+    }
+
+    public JacksonMessagePackHTTPMessageCodec(ObjectMapper messagePackMapper) {
+        this(messagePackMapper, ByteBufferPool.get());
+    }
+
+    public JacksonMessagePackHTTPMessageCodec(ObjectMapper messagePackMapper, ByteBufferPool pool) {
+        super(messagePackMapper, APPLICATION_MSGPACK, pool);
+    }
+
+    public static JacksonMessagePackHTTPMessageCodec provider() {
+        return SINGLE_INSTANCE;
+    }
+}
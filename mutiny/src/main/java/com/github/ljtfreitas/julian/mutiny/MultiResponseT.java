@@ -29,25 +29,23 @@ import com.github.ljtfreitas.julian.Promise;
 import com.github.ljtfreitas.julian.Response;
 import com.github.ljtfreitas.julian.ResponseFn;
 import com.github.ljtfreitas.julian.ResponseT;
+import com.github.ljtfreitas.julian.StreamingPublisher;
 import io.smallrye.mutiny.Multi;
+import org.reactivestreams.FlowAdapters;
 
-import java.util.Collection;
-
-import static java.util.function.Function.identity;
-
-public class MultiResponseT implements ResponseT<Collection<Object>, Multi<Object>> {
+public class MultiResponseT implements ResponseT<StreamingPublisher<Object>, Multi<Object>> {
 
     private static final MultiResponseT SINGLE_INSTANCE = new MultiResponseT();
 
     @Override
-    public <A> ResponseFn<A, Multi<Object>> bind(Endpoint endpoint, ResponseFn<A, Collection<Object>> next) {
+    public <A> ResponseFn<A, Multi<Object>> bind(Endpoint endpoint, ResponseFn<A, StreamingPublisher<Object>> next) {
         return new ResponseFn<>() {
 
             @Override
             public Multi<Object> join(Promise<? extends Response<A, ? extends Throwable>> response, Arguments arguments) {
                 return Multi.createFrom()
                         .completionStage(next.run(response, arguments).future())
-                        .onItem().transformToIterable(identity());
+                        .onItem().transformToMultiAndConcatenate(p -> Multi.createFrom().publisher(FlowAdapters.toPublisher(p)));
             }
 
             @Override
@@ -59,7 +57,7 @@ public class MultiResponseT implements ResponseT<Collection<Object>, Multi<Objec
 
     @Override
     public JavaType adapted(Endpoint endpoint) {
-        return JavaType.parameterized(Collection.class, endpoint.returnType().parameterized().map(JavaType.Parameterized::firstArg).orElse(Object.class));
+        return JavaType.parameterized(StreamingPublisher.class, endpoint.returnType().parameterized().map(JavaType.Parameterized::firstArg).orElse(Object.class));
     }
 
     @Override
@@ -29,4 +29,5 @@ module com.github.ljtfreitas.julian.mutiny {
 
     requires com.github.ljtfreitas.julian;
     requires io.smallrye.mutiny;
+    requires org.reactivestreams;
 }
\ No newline at end of file
@@ -1,13 +1,13 @@
 package com.github.ljtfreitas.julian.mutiny;
 
 import com.github.ljtfreitas.julian.Arguments;
-import com.github.ljtfreitas.julian.CollectionResponseT;
 import com.github.ljtfreitas.julian.Endpoint;
 import com.github.ljtfreitas.julian.JavaType;
 import com.github.ljtfreitas.julian.ObjectResponseT;
 import com.github.ljtfreitas.julian.Promise;
 import com.github.ljtfreitas.julian.Response;
 import com.github.ljtfreitas.julian.ResponseFn;
+import com.github.ljtfreitas.julian.StreamingPublisher;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.test.AssertSubscriber;
 import org.junit.jupiter.api.Nested;
@@ -15,9 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
-import java.util.Collection;
-import java.util.List;
+import org.reactivestreams.FlowAdapters;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -60,27 +58,26 @@ class MultiResponseTTest {
 
             JavaType adapted = subject.adapted(endpoint);
 
-            assertEquals(JavaType.parameterized(Collection.class, String.class), adapted);
+            assertEquals(JavaType.parameterized(StreamingPublisher.class, String.class), adapted);
         }
 
         @Test
-        void adaptToCollectionWhenTypeArgumentIsMissing() {
+        void adaptToPublisherWhenTypeArgumentIsMissing() {
             when(endpoint.returnType()).thenReturn(JavaType.valueOf(Multi.class));
 
             JavaType adapted = subject.adapted(endpoint);
 
-            assertEquals(JavaType.parameterized(Collection.class, Object.class), adapted);
+            assertEquals(JavaType.parameterized(StreamingPublisher.class, Object.class), adapted);
         }
     }
 
     @Test
     void bind() {
-        Promise<Response<Collection<String>, Throwable>> response = Promise.done(Response.done(List.of("one", "two", "three")));
+        Promise<Response<StreamingPublisher<Object>, Throwable>> response = Promise.done(Response.done(StreamingPublisher.of(FlowAdapters.toFlowPublisher(Multi.createFrom().items("one", "two", "three")))));
 
-        when(endpoint.returnType()).thenReturn(JavaType.parameterized(Collection.class, String.class));
+        when(endpoint.returnType()).thenReturn(JavaType.parameterized(StreamingPublisher.class, String.class));
 
-        ResponseFn<Collection<String>, Collection<Object>> fn = new CollectionResponseT().bind(endpoint,
-                new ObjectResponseT<Collection<Object>>().bind(endpoint, null));
+        ResponseFn<StreamingPublisher<Object>, StreamingPublisher<Object>> fn = new ObjectResponseT<StreamingPublisher<Object>>().bind(endpoint, null);
 
         Multi<Object> multi = subject.bind(endpoint, fn).join(response, Arguments.empty());
 
@@ -94,10 +91,9 @@ class MultiResponseTTest {
     void failure() {
         RuntimeException exception = new RuntimeException("oops");
 
-        Promise<Response<Collection<String>, Throwable>> response = Promise.failed(exception);
+        Promise<Response<StreamingPublisher<Object>, Throwable>> response = Promise.failed(exception);
 
-        ResponseFn<Collection<String>, Collection<Object>> fn = new CollectionResponseT().bind(endpoint,
-                new ObjectResponseT<Collection<Object>>().bind(endpoint, null));
+        ResponseFn<StreamingPublisher<Object>, StreamingPublisher<Object>> fn = new ObjectResponseT<StreamingPublisher<Object>>().bind(endpoint, null);
 
         Multi<Object> multi = subject.bind(endpoint, fn).join(response, Arguments.empty());
 
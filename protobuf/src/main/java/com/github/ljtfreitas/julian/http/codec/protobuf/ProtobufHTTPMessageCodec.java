@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http.codec.protobuf;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.http.HTTPRequestBody;
+import com.github.ljtfreitas.julian.http.HTTPResponseBody;
+import com.github.ljtfreitas.julian.http.MediaType;
+import com.github.ljtfreitas.julian.http.codec.BinaryHTTPMessageCodec;
+import com.github.ljtfreitas.julian.http.codec.ByteBufferPool;
+import com.github.ljtfreitas.julian.http.codec.HTTPRequestWriterException;
+import com.github.ljtfreitas.julian.http.codec.HTTPResponseReaderException;
+import com.github.ljtfreitas.julian.http.codec.PooledHTTPRequestBody;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.ljtfreitas.julian.Preconditions.nonNull;
+import static com.github.ljtfreitas.julian.http.MediaType.APPLICATION_PROTOBUF;
+
+public class ProtobufHTTPMessageCodec implements BinaryHTTPMessageCodec<MessageLite> {
+
+    private static final Collection<MediaType> PROTOBUF_MEDIA_TYPES = List.of(APPLICATION_PROTOBUF);
+
+    private static final ProtobufHTTPMessageCodec SINGLE_INSTANCE = new ProtobufHTTPMessageCodec();
+
+    private final Map<Class<?>, Optional<Parser<? extends MessageLite>>> parsers = new ConcurrentHashMap<>();
+    private final ByteBufferPool pool;
+
+    public ProtobufHTTPMessageCodec() {
+        this(ByteBufferPool.get());
+    }
+
+    public ProtobufHTTPMessageCodec(ByteBufferPool pool) {
+        this.pool = nonNull(pool);
+    }
+
+    @Override
+    public Collection<MediaType> contentTypes() {
+        return PROTOBUF_MEDIA_TYPES;
+    }
+
+    @Override
+    public boolean writable(MediaType candidate, JavaType javaType) {
+        return supports(candidate) && javaType.compatible(MessageLite.class);
+    }
+
+    @Override
+    public HTTPRequestBody write(MessageLite body, Charset encoding) {
+        return new PooledHTTPRequestBody(APPLICATION_PROTOBUF, pool, output -> serialize(body, output));
+    }
+
+    private void serialize(MessageLite body, OutputStream output) {
+        try {
+            body.writeTo(output);
+        } catch (IOException e) {
+            throw new HTTPRequestWriterException("Protobuf serialization failed. Source: " + body, e);
+        }
+    }
+
+    @Override
+    public boolean readable(MediaType candidate, JavaType javaType) {
+        return supports(candidate) && javaType.classType().flatMap(this::parser).isPresent();
+    }
+
+    @Override
+    public Optional<CompletableFuture<MessageLite>> read(HTTPResponseBody body, JavaType javaType) {
+        Parser<? extends MessageLite> parser = javaType.classType().flatMap(this::parser)
+                .orElseThrow(() -> new HTTPResponseReaderException("Protobuf deserialization failed. The target type must be a generated message class, but it was: " + javaType));
+
+        return body.readAsBytes(b -> deserialize(b, parser, javaType));
+    }
+
+    private MessageLite deserialize(byte[] bodyAsBytes, Parser<? extends MessageLite> parser, JavaType javaType) {
+        try {
+            return parser.parseFrom(bodyAsBytes);
+        } catch (InvalidProtocolBufferException e) {
+            throw new HTTPResponseReaderException("Protobuf deserialization failed. The target type was: " + javaType, e);
+        }
+    }
+
+    private Optional<Parser<? extends MessageLite>> parser(Class<?> candidate) {
+        return parsers.computeIfAbsent(candidate, this::generated);
+    }
+
+    private Optional<Parser<? extends MessageLite>> generated(Class<?> candidate) {
+        if (!MessageLite.class.isAssignableFrom(candidate))
+            return Optional.empty();
+
+        try {
+            Method defaultInstance = candidate.getMethod("getDefaultInstance");
+
+            if (!Modifier.isStatic(defaultInstance.getModifiers()))
+                return Optional.empty();
+
+            MessageLite message = (MessageLite) defaultInstance.invoke(null);
+
+            return Optional.of(message.getParserForType());
+
+        } catch (ReflectiveOperationException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static ProtobufHTTPMessageCodec provider() {
+        return SINGLE_INSTANCE;
+    }
+}
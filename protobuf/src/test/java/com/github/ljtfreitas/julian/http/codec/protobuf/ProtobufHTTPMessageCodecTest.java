@@ -0,0 +1,118 @@
+package com.github.ljtfreitas.julian.http.codec.protobuf;
+
+import com.github.ljtfreitas.julian.JavaType;
+import com.github.ljtfreitas.julian.http.HTTPRequestBody;
+import com.github.ljtfreitas.julian.http.HTTPResponseBody;
+import com.github.ljtfreitas.julian.http.MediaType;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.StringValue;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Flow.Subscriber;
+
+import static com.github.ljtfreitas.julian.http.MediaType.APPLICATION_PROTOBUF;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class ProtobufHTTPMessageCodecTest {
+
+    private final ProtobufHTTPMessageCodec codec = new ProtobufHTTPMessageCodec();
+
+    @Nested
+    class Readable {
+
+        @Test
+        void unsupported() {
+            assertFalse(codec.readable(MediaType.valueOf("application/json"), JavaType.valueOf(StringValue.class)));
+        }
+
+        @Test
+        void supported() {
+            assertTrue(codec.readable(MediaType.valueOf("application/x-protobuf"), JavaType.valueOf(StringValue.class)));
+        }
+
+        @Test
+        void notAGeneratedMessage() {
+            assertFalse(codec.readable(MediaType.valueOf("application/x-protobuf"), JavaType.valueOf(String.class)));
+            assertFalse(codec.readable(MediaType.valueOf("application/x-protobuf"), JavaType.valueOf(MessageLite.class)));
+        }
+
+        @Nested
+        class Read {
+
+            @Test
+            void read() {
+                byte[] value = StringValue.of("Tiago").toByteArray();
+
+                StringValue message = (StringValue) codec.read(HTTPResponseBody.some(value), JavaType.valueOf(StringValue.class))
+                        .map(CompletableFuture::join)
+                        .orElse(null);
+
+                assertEquals("Tiago", message.getValue());
+            }
+        }
+    }
+
+    @Nested
+    class Writable {
+
+        @Test
+        void unsupported() {
+            assertFalse(codec.writable(MediaType.valueOf("application/x-protobuf"), JavaType.valueOf(String.class)));
+        }
+
+        @Test
+        void supported() {
+            assertTrue(codec.writable(MediaType.valueOf("application/x-protobuf"), JavaType.valueOf(StringValue.class)));
+        }
+
+        @Nested
+        class Write {
+
+            @Test
+            void write() {
+                StringValue message = StringValue.of("Tiago");
+
+                HTTPRequestBody output = codec.write(message, StandardCharsets.UTF_8);
+
+                assertEquals(APPLICATION_PROTOBUF, output.contentType().orElseThrow());
+
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+                output.serialize().subscribe(new Subscriber<>() {
+                    @Override
+                    public void onSubscribe(Flow.Subscription subscription) {
+                        subscription.request(Long.MAX_VALUE);
+                    }
+
+                    @Override
+                    public void onNext(ByteBuffer item) {
+                        byte[] segment = new byte[item.remaining()];
+                        item.get(segment);
+                        bytes.writeBytes(segment);
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        fail(throwable);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                    }
+                });
+
+                assertArrayEquals(message.toByteArray(), bytes.toByteArray());
+            }
+        }
+    }
+}
@@ -22,11 +22,10 @@
 
 package com.github.ljtfreitas.julian.reactor;
 
+import reactor.adapter.JdkFlowAdapter;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.Collection;
-
 import com.github.ljtfreitas.julian.Arguments;
 import com.github.ljtfreitas.julian.Endpoint;
 import com.github.ljtfreitas.julian.JavaType;
@@ -35,25 +34,24 @@ import com.github.ljtfreitas.julian.Promise;
 import com.github.ljtfreitas.julian.Response;
 import com.github.ljtfreitas.julian.ResponseFn;
 import com.github.ljtfreitas.julian.ResponseT;
+import com.github.ljtfreitas.julian.StreamingPublisher;
 
-import static java.util.function.Function.identity;
-
-public class FluxResponseT implements ResponseT<Collection<Object>, Flux<Object>> {
+public class FluxResponseT implements ResponseT<StreamingPublisher<Object>, Flux<Object>> {
 
     private static final FluxResponseT SINGLE_INSTANCE = new FluxResponseT();
 
     @Override
-    public <A> ResponseFn<A, Flux<Object>> bind(Endpoint endpoint, ResponseFn<A, Collection<Object>> next) {
+    public <A> ResponseFn<A, Flux<Object>> bind(Endpoint endpoint, ResponseFn<A, StreamingPublisher<Object>> next) {
         return new ResponseFn<>() {
 
             @Override
             public Flux<Object> join(Promise<? extends Response<A, ? extends Throwable>> response, Arguments arguments) {
-                Promise<Collection<Object>> promise = next.run(response, arguments);
+                Promise<StreamingPublisher<Object>> promise = next.run(response, arguments);
 
-                return promise.cast(new Kind<MonoPromise<Collection<Object>>>() {})
+                return promise.cast(new Kind<MonoPromise<StreamingPublisher<Object>>>() {})
                         .map(MonoPromise::mono)
                         .orElseGet(() -> Mono.fromFuture(promise.future()))
-                        .flatMapIterable(identity());
+                        .flatMapMany(JdkFlowAdapter::flowPublisherToFlux);
             }
 
             @Override
@@ -65,7 +63,7 @@ public class FluxResponseT implements ResponseT<Collection<Object>, Flux<Object>
 
     @Override
     public JavaType adapted(Endpoint endpoint) {
-        return JavaType.parameterized(Collection.class, endpoint.returnType().parameterized().map(JavaType.Parameterized::firstArg).orElse(Object.class));
+        return JavaType.parameterized(StreamingPublisher.class, endpoint.returnType().parameterized().map(JavaType.Parameterized::firstArg).orElse(Object.class));
     }
 
     @Override
@@ -1,17 +1,25 @@
 package com.github.ljtfreitas.julian.reactor;
 
 import com.github.ljtfreitas.julian.*;
+import com.github.ljtfreitas.julian.http.HTTPResponseBody;
+import com.github.ljtfreitas.julian.http.codec.NDJsonHTTPResponseReader;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.adapter.JdkFlowAdapter;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
-import java.util.Collection;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Flow.Publisher;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
@@ -52,16 +60,16 @@ class FluxResponseTTest {
 
             JavaType adapted = subject.adapted(endpoint);
 
-            assertEquals(JavaType.parameterized(Collection.class, String.class), adapted);
+            assertEquals(JavaType.parameterized(StreamingPublisher.class, String.class), adapted);
         }
 
         @Test
-        void adaptToCollectionWhenTypeArgumentIsMissing() {
+        void adaptToPublisherWhenTypeArgumentIsMissing() {
             when(endpoint.returnType()).thenReturn(JavaType.valueOf(Flux.class));
 
             JavaType adapted = subject.adapted(endpoint);
 
-            assertEquals(JavaType.parameterized(Collection.class, Object.class), adapted);
+            assertEquals(JavaType.parameterized(StreamingPublisher.class, Object.class), adapted);
         }
     }
 
@@ -69,10 +77,9 @@ class FluxResponseTTest {
     void bind() {
         when(endpoint.returnType()).thenReturn(JavaType.parameterized(Flux.class, String.class));
 
-        Promise<Response<Collection<String>, Throwable>> response = Promise.done(Response.done(List.of("one", "two", "three")));
+        Promise<Response<StreamingPublisher<Object>, Throwable>> response = Promise.done(Response.done(StreamingPublisher.of(JdkFlowAdapter.publisherToFlowPublisher(Flux.just("one", "two", "three")))));
 
-        ResponseFn<Collection<String>, Collection<Object>> fn = new CollectionResponseT().bind(endpoint,
-                new ObjectResponseT<Collection<Object>>().bind(endpoint, null));
+        ResponseFn<StreamingPublisher<Object>, StreamingPublisher<Object>> fn = new ObjectResponseT<StreamingPublisher<Object>>().bind(endpoint, null);
 
         Flux<Object> flux = subject.bind(endpoint, fn).join(response, Arguments.empty());
 
@@ -85,11 +92,10 @@ class FluxResponseTTest {
     void bindAsMono() {
         when(endpoint.returnType()).thenReturn(JavaType.parameterized(Flux.class, String.class));
 
-        Promise<Response<Collection<String>, Throwable>> response = new MonoPromise<>(
-                Mono.just(Response.done(List.of("one", "two", "three"))));
+        Promise<Response<StreamingPublisher<Object>, Throwable>> response = new MonoPromise<>(
+                Mono.just(Response.done(StreamingPublisher.of(JdkFlowAdapter.publisherToFlowPublisher(Flux.just("one", "two", "three"))))));
 
-        ResponseFn<Collection<String>, Collection<Object>> fn = new CollectionResponseT().bind(endpoint,
-                new ObjectResponseT<Collection<Object>>().bind(endpoint, null));
+        ResponseFn<StreamingPublisher<Object>, StreamingPublisher<Object>> fn = new ObjectResponseT<StreamingPublisher<Object>>().bind(endpoint, null);
 
         Flux<Object> flux = subject.bind(endpoint, fn).join(response, Arguments.empty());
 
@@ -99,14 +105,58 @@ class FluxResponseTTest {
                 .verify();
     }
 
+    @Test
+    void emitElementsAsTheBodyArrivesOnASingleThreadedScheduler() {
+        Scheduler scheduler = Schedulers.newSingle("flux-response-t");
+
+        try {
+            Flux<List<ByteBuffer>> chunks = Flux.just("one\ntw", "o\nthr", "ee\n")
+                    .map(chunk -> List.of(ByteBuffer.wrap(chunk.getBytes(StandardCharsets.UTF_8))))
+                    .subscribeOn(scheduler);
+
+            HTTPResponseBody body = HTTPResponseBody.lazy(JdkFlowAdapter.publisherToFlowPublisher(chunks));
+
+            Publisher<Object> lines = new TextLinesHTTPResponseReader().publisher(body, JavaType.valueOf(String.class)).orElseThrow();
+
+            Promise<Response<StreamingPublisher<Object>, Throwable>> response = Promise.done(Response.done(StreamingPublisher.of(lines)));
+
+            ResponseFn<StreamingPublisher<Object>, StreamingPublisher<Object>> fn = new ObjectResponseT<StreamingPublisher<Object>>().bind(endpoint, null);
+
+            Flux<Object> flux = subject.bind(endpoint, fn).join(response, Arguments.empty())
+                    .subscribeOn(scheduler);
+
+            StepVerifier.create(flux, 1)
+                    .expectNext("one")
+                    .thenRequest(2)
+                    .expectNext("two", "three")
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(5));
+
+        } finally {
+            scheduler.dispose();
+        }
+    }
+
+    private static class TextLinesHTTPResponseReader implements NDJsonHTTPResponseReader {
+
+        @Override
+        public boolean decodable(JavaType elementType) {
+            return elementType.is(String.class);
+        }
+
+        @Override
+        public Object decode(ByteBuffer line, JavaType elementType) {
+            return StandardCharsets.UTF_8.decode(line).toString();
+        }
+    }
+
     @Test
     void failure() {
         RuntimeException exception = new RuntimeException("oops");
 
-        Promise<Response<Collection<String>, Throwable>> response = Promise.failed(exception);
+        Promise<Response<StreamingPublisher<Object>, Throwable>> response = Promise.failed(exception);
 
-        ResponseFn<Collection<String>, Collection<Object>> fn = new CollectionResponseT().bind(endpoint,
-                new ObjectResponseT<Collection<Object>>().bind(endpoint, null));
+        ResponseFn<StreamingPublisher<Object>, StreamingPublisher<Object>> fn = new ObjectResponseT<StreamingPublisher<Object>>().bind(endpoint, null);
 
         Flux<Object> flux = subject.bind(endpoint, fn).join(response, Arguments.empty());
 
@@ -119,10 +169,9 @@ class FluxResponseTTest {
     void failureAsMono() {
         RuntimeException exception = new RuntimeException("oops");
 
-        Promise<Response<Collection<String>, Throwable>> response = new MonoPromise<>(Mono.error(exception));
+        Promise<Response<StreamingPublisher<Object>, Throwable>> response = new MonoPromise<>(Mono.error(exception));
 
-        ResponseFn<Collection<String>, Collection<Object>> fn = new CollectionResponseT().bind(endpoint,
-                new ObjectResponseT<Collection<Object>>().bind(endpoint, null));
+        ResponseFn<StreamingPublisher<Object>, StreamingPublisher<Object>> fn = new ObjectResponseT<StreamingPublisher<Object>>().bind(endpoint, null);
 
         Flux<Object> flux = subject.bind(endpoint, fn).join(response, Arguments.empty());
 
@@ -23,9 +23,9 @@
 package com.github.ljtfreitas.julian.rxjava3;
 
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Maybe;
 import io.reactivex.rxjava3.core.Single;
-
-import java.util.Collection;
+import org.reactivestreams.FlowAdapters;
 
 import com.github.ljtfreitas.julian.Arguments;
 import com.github.ljtfreitas.julian.Endpoint;
@@ -35,21 +35,22 @@ import com.github.ljtfreitas.julian.Promise;
 import com.github.ljtfreitas.julian.Response;
 import com.github.ljtfreitas.julian.ResponseFn;
 import com.github.ljtfreitas.julian.ResponseT;
+import com.github.ljtfreitas.julian.StreamingPublisher;
 
-public class FlowableResponseT implements ResponseT<Collection<Object>, Flowable<Object>> {
+public class FlowableResponseT implements ResponseT<StreamingPublisher<Object>, Flowable<Object>> {
 
     @Override
-    public <A> ResponseFn<A, Flowable<Object>> bind(Endpoint endpoint, ResponseFn<A, Collection<Object>> next) {
+    public <A> ResponseFn<A, Flowable<Object>> bind(Endpoint endpoint, ResponseFn<A, StreamingPublisher<Object>> next) {
         return new ResponseFn<>() {
 
             @Override
             public Flowable<Object> join(Promise<? extends Response<A, ? extends Throwable>> response, Arguments arguments) {
-                Promise<Collection<Object>> promise = next.run(response, arguments);
-                return promise.cast(new Kind<SinglePromise<Collection<Object>>>() {})
+                Promise<StreamingPublisher<Object>> promise = next.run(response, arguments);
+                return promise.cast(new Kind<SinglePromise<StreamingPublisher<Object>>>() {})
                         .map(SinglePromise::single)
                         .map(Single::toFlowable)
-                        .orElseGet(() -> Flowable.fromCompletionStage(promise.future()))
-                        .flatMapIterable(c -> c);
+                        .orElseGet(() -> Maybe.fromCompletionStage(promise.future()).toFlowable())
+                        .flatMap(FlowAdapters::toPublisher);
             }
 
             @Override
@@ -61,7 +62,7 @@ public class FlowableResponseT implements ResponseT<Collection<Object>, Flowable
 
     @Override
     public JavaType adapted(Endpoint endpoint) {
-        return JavaType.parameterized(Collection.class, endpoint.returnType().parameterized().map(JavaType.Parameterized::firstArg).orElse(Object.class));
+        return JavaType.parameterized(StreamingPublisher.class, endpoint.returnType().parameterized().map(JavaType.Parameterized::firstArg).orElse(Object.class));
     }
 
     @Override
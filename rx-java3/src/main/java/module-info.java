@@ -32,4 +32,5 @@ module com.github.ljtfreitas.julian.rxjava3 {
 
     requires com.github.ljtfreitas.julian;
     requires io.reactivex.rxjava3;
+    requires org.reactivestreams;
 }
\ No newline at end of file
@@ -1,13 +1,13 @@
 package com.github.ljtfreitas.julian.rxjava3;
 
 import com.github.ljtfreitas.julian.Arguments;
-import com.github.ljtfreitas.julian.CollectionResponseT;
 import com.github.ljtfreitas.julian.Endpoint;
 import com.github.ljtfreitas.julian.JavaType;
 import com.github.ljtfreitas.julian.ObjectResponseT;
 import com.github.ljtfreitas.julian.Promise;
 import com.github.ljtfreitas.julian.Response;
 import com.github.ljtfreitas.julian.ResponseFn;
+import com.github.ljtfreitas.julian.StreamingPublisher;
 import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.subscribers.TestSubscriber;
@@ -16,9 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
-import java.util.Collection;
-import java.util.List;
+import org.reactivestreams.FlowAdapters;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -61,27 +59,26 @@ class FlowableResponseTTest {
 
             JavaType adapted = subject.adapted(endpoint);
 
-            assertEquals(JavaType.parameterized(Collection.class, String.class), adapted);
+            assertEquals(JavaType.parameterized(StreamingPublisher.class, String.class), adapted);
         }
 
         @Test
-        void adaptToCollectionWhenTypeArgumentIsMissing() {
+        void adaptToPublisherWhenTypeArgumentIsMissing() {
             when(endpoint.returnType()).thenReturn(JavaType.valueOf(Flowable.class));
 
             JavaType adapted = subject.adapted(endpoint);
 
-            assertEquals(JavaType.parameterized(Collection.class, Object.class), adapted);
+            assertEquals(JavaType.parameterized(StreamingPublisher.class, Object.class), adapted);
         }
     }
 
     @Test
     void bind() {
-        Promise<Response<Collection<String>, Throwable>> response = new SinglePromise<>(Single.just(Response.done(List.of("one", "two", "three"))));
+        Promise<Response<StreamingPublisher<Object>, Throwable>> response = new SinglePromise<>(Single.just(Response.done(StreamingPublisher.of(FlowAdapters.toFlowPublisher(Flowable.just("one", "two", "three"))))));
 
-        ResponseFn<Collection<String>, Collection<Object>> fn = new CollectionResponseT().bind(endpoint,
-                new ObjectResponseT<Collection<Object>>().bind(endpoint, null));
+        ResponseFn<StreamingPublisher<Object>, StreamingPublisher<Object>> fn = new ObjectResponseT<StreamingPublisher<Object>>().bind(endpoint, null);
 
-        when(endpoint.returnType()).thenReturn(JavaType.parameterized(Collection.class, String.class));
+        when(endpoint.returnType()).thenReturn(JavaType.parameterized(StreamingPublisher.class, String.class));
 
         Flowable<Object> flowable = subject.bind(endpoint, fn).join(response, Arguments.empty());
 
@@ -23,12 +23,17 @@
 rootProject.name = "julian-http-client-parent"
 include("core")
 include("form-url-encoded-multipart")
+include("jackson")
 include("json-jackson")
 include("json-gson")
 include("json-jsonb")
 include("json-jsonp")
 include("json-kotlin")
 include("xml-jackson")
+include("cbor-jackson")
+include("smile-jackson")
+include("msgpack-jackson")
+include("protobuf")
 include("http-client-reactor-netty")
 include("http-client-vertx")
 include("http-client-ktor")
@@ -42,4 +47,5 @@ include("vavr")
 include("kotlin")
 include("resilience4j")
 include("opentracing")
-include("arrow")
\ No newline at end of file
+include("arrow")
+include("benchmarks")
\ No newline at end of file
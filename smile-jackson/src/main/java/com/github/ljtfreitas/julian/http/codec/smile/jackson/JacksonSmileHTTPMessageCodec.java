@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2021 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.ljtfreitas.julian.http.codec.smile.jackson;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.github.ljtfreitas.julian.http.codec.ByteBufferPool;
+import com.github.ljtfreitas.julian.http.codec.jackson.JacksonBinaryHTTPMessageCodec;
+
+import static com.github.ljtfreitas.julian.http.MediaType.APPLICATION_SMILE;
+
+public class JacksonSmileHTTPMessageCodec extends JacksonBinaryHTTPMessageCodec {
+
+    private static final JacksonSmileHTTPMessageCodec SINGLE_INSTANCE = new JacksonSmileHTTPMessageCodec();
+
+    public JacksonSmileHTTPMessageCodec() {
+        this(SmileMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .findAndAddModules()
+                .build());
+    }
+
+    public JacksonSmileHTTPMessageCodec(SmileMapper smileMapper) {
+        this(smileMapper, ByteBufferPool.get());
+    }
+
+    public JacksonSmileHTTPMessageCodec(SmileMapper smileMapper, ByteBufferPool pool) {
+        super(smileMapper, APPLICATION_SMILE, pool);
+    }
+
+    public static JacksonSmileHTTPMessageCodec provider() {
+        return SINGLE_INSTANCE;
+    }
+}
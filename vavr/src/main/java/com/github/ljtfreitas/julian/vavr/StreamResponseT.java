@@ -29,26 +29,20 @@ import com.github.ljtfreitas.julian.Promise;
 import com.github.ljtfreitas.julian.Response;
 import com.github.ljtfreitas.julian.ResponseFn;
 import com.github.ljtfreitas.julian.ResponseT;
-import io.vavr.collection.List;
-import io.vavr.collection.Seq;
 import io.vavr.collection.Stream;
 
-import java.util.Collection;
 import java.util.Optional;
 
-import static java.util.function.Predicate.not;
-
-public class StreamResponseT implements ResponseT<Collection<Object>, Stream<Object>> {
+public class StreamResponseT implements ResponseT<java.util.stream.Stream<Object>, Stream<Object>> {
 
     @Override
-    public <A> ResponseFn<A, Stream<Object>> bind(Endpoint endpoint, ResponseFn<A, Collection<Object>> next) {
+    public <A> ResponseFn<A, Stream<Object>> bind(Endpoint endpoint, ResponseFn<A, java.util.stream.Stream<Object>> next) {
         return new ResponseFn<>() {
 
             @Override
             public Promise<Stream<Object>> run(Promise<? extends Response<A, ? extends Throwable>> response, Arguments arguments) {
                 return next.run(response, arguments)
-                        .then(c -> Optional.ofNullable(c)
-                                .filter(not(Collection::isEmpty))
+                        .then(s -> Optional.ofNullable(s)
                                 .map(Stream::ofAll)
                                 .orElseGet(Stream::empty));
             }
@@ -62,7 +56,7 @@ public class StreamResponseT implements ResponseT<Collection<Object>, Stream<Obj
 
     @Override
     public JavaType adapted(Endpoint endpoint) {
-        return JavaType.parameterized(Collection.class, endpoint.returnType().parameterized().map(JavaType.Parameterized::firstArg).orElse(Object.class));
+        return JavaType.parameterized(java.util.stream.Stream.class, endpoint.returnType().parameterized().map(JavaType.Parameterized::firstArg).orElse(Object.class));
     }
 
     @Override
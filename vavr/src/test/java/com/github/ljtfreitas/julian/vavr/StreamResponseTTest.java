@@ -1,14 +1,12 @@
 package com.github.ljtfreitas.julian.vavr;
 
 import com.github.ljtfreitas.julian.Arguments;
-import com.github.ljtfreitas.julian.CollectionResponseT;
 import com.github.ljtfreitas.julian.Endpoint;
 import com.github.ljtfreitas.julian.JavaType;
 import com.github.ljtfreitas.julian.ObjectResponseT;
 import com.github.ljtfreitas.julian.Promise;
 import com.github.ljtfreitas.julian.Response;
 import com.github.ljtfreitas.julian.ResponseFn;
-import io.vavr.collection.Seq;
 import io.vavr.collection.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,8 +15,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Collection;
-
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -53,49 +49,47 @@ class StreamResponseTTest {
     class Adapt {
 
         @Test
-        void adaptToCollection() {
+        void adaptToJavaStream() {
             when(endpoint.returnType()).thenReturn(JavaType.parameterized(Stream.class, String.class));
 
             JavaType adapted = responseT.adapted(endpoint);
 
-            assertThat(adapted, equalTo(JavaType.parameterized(Collection.class, String.class)));
+            assertThat(adapted, equalTo(JavaType.parameterized(java.util.stream.Stream.class, String.class)));
         }
 
         @Test
-        @DisplayName("adapt to collection of Object when Seq is not parameterized")
-        void adaptToCollectionOfObjectWhenStreamIsNotParameterized() {
+        @DisplayName("adapt to java.util.stream.Stream of Object when Stream is not parameterized")
+        void adaptToJavaStreamOfObjectWhenStreamIsNotParameterized() {
             when(endpoint.returnType()).thenReturn(JavaType.valueOf(Stream.class));
 
             JavaType adapted = responseT.adapted(endpoint);
 
-            assertThat(adapted, equalTo(JavaType.parameterized(Collection.class, Object.class)));
+            assertThat(adapted, equalTo(JavaType.parameterized(java.util.stream.Stream.class, Object.class)));
         }
     }
 
     @Test
     void bind() {
-        when(endpoint.returnType()).thenReturn(JavaType.parameterized(Collection.class, String.class));
-
-        Collection<String> values = java.util.List.of("one", "two", "three");
+        when(endpoint.returnType()).thenReturn(JavaType.parameterized(java.util.stream.Stream.class, String.class));
 
-        Promise<Response<Collection<String>, Throwable>> promise = Promise.done(Response.done(values));
+        Promise<Response<java.util.stream.Stream<Object>, Throwable>> promise = Promise.done(Response.done(java.util.stream.Stream.of("one", "two", "three")));
 
-        ResponseFn<Collection<String>, Collection<Object>> fn = new CollectionResponseT().bind(endpoint,
-                new ObjectResponseT<Collection<Object>>().bind(endpoint, null));
+        ResponseFn<java.util.stream.Stream<Object>, java.util.stream.Stream<Object>> fn = new ObjectResponseT<java.util.stream.Stream<Object>>()
+                .bind(endpoint, null);
 
         Stream<Object> stream = responseT.bind(endpoint, fn).join(promise, Arguments.empty());
 
-        assertTrue(stream.containsAll(values));
+        assertThat(stream, equalTo(Stream.of("one", "two", "three")));
     }
 
     @Test
-    void bindNullCollection() {
-        when(endpoint.returnType()).thenReturn(JavaType.parameterized(Collection.class, String.class));
+    void bindNullStream() {
+        when(endpoint.returnType()).thenReturn(JavaType.parameterized(java.util.stream.Stream.class, String.class));
 
-        Promise<Response<Collection<String>, Throwable>> promise = Promise.done(Response.done(null));
+        Promise<Response<java.util.stream.Stream<Object>, Throwable>> promise = Promise.done(Response.done(null));
 
-        ResponseFn<Collection<String>, Collection<Object>> fn = new CollectionResponseT().bind(endpoint,
-                new ObjectResponseT<Collection<Object>>().bind(endpoint, null));
+        ResponseFn<java.util.stream.Stream<Object>, java.util.stream.Stream<Object>> fn = new ObjectResponseT<java.util.stream.Stream<Object>>()
+                .bind(endpoint, null);
 
         Stream<Object> stream = responseT.bind(endpoint, fn).join(promise, Arguments.empty());
 